@@ -0,0 +1,111 @@
+package bench;
+
+import model.Campeonato;
+import model.Equipo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas de solo lectura sobre un campeonato ya cargado: búsquedas, tabla de posiciones
+ * y estadísticas por equipo y por jugador.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ConsultasBenchmark {
+
+    @Param({"20", "200", "2000", "20000"})
+    int equipos;
+
+    Campeonato campeonato;
+    int partidos;
+
+    @Setup(Level.Trial)
+    public void crearCampeonato() {
+        campeonato = FixtureCampeonato.crear(equipos);
+        partidos = FixtureCampeonato.partidos(equipos);
+    }
+
+    /**
+     * Elección del objetivo de cada invocación; la semilla es fija por hilo para que las
+     * secuencias de consultas se repitan entre ejecuciones.
+     */
+    @State(Scope.Thread)
+    public static class Objetivo {
+        private final SplittableRandom random = new SplittableRandom(FixtureCampeonato.SEMILLA);
+
+        int equipo(ConsultasBenchmark b) {
+            return random.nextInt(b.equipos);
+        }
+
+        int partido(ConsultasBenchmark b) {
+            return random.nextInt(b.partidos);
+        }
+    }
+
+    @Benchmark
+    public Equipo buscarEquipoPorId(Objetivo objetivo) {
+        return campeonato.buscarEquipoPorId(FixtureCampeonato.idEquipo(objetivo.equipo(this)));
+    }
+
+    @Benchmark
+    public Equipo buscarEquipoPorNombre(Objetivo objetivo) {
+        return campeonato.buscarEquipoPorNombre(FixtureCampeonato.nombreEquipo(objetivo.equipo(this)));
+    }
+
+    @Benchmark
+    public Object buscarPartidoPorId(Objetivo objetivo) {
+        return campeonato.buscarPartidoPorId(FixtureCampeonato.idPartido(objetivo.partido(this)));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Object[]> tablaDePosiciones() {
+        return campeonato.getTablaDePosiciones();
+    }
+
+    @Benchmark
+    public int puntosEquipoIndexado(Objetivo objetivo) {
+        return campeonato.getPuntosEquipo(FixtureCampeonato.idEquipo(objetivo.equipo(this)));
+    }
+
+    /**
+     * Cálculo por recorrido de {@link Equipo#calculaPuntos()}, como referencia frente a {@link #puntosEquipoIndexado}.
+     */
+    @Benchmark
+    public int equipoCalculaPuntos(Objetivo objetivo) {
+        return campeonato.getEquipos().get(objetivo.equipo(this)).calculaPuntos();
+    }
+
+    @Benchmark
+    public int estadisticasJugador(Objetivo objetivo) {
+        String id = FixtureCampeonato.idJugador(objetivo.equipo(this), 1 + objetivo.random.nextInt(FixtureCampeonato.JUGADORES_POR_EQUIPO));
+        return campeonato.calculaGolesJugador(id)
+                + campeonato.calculaTarjetasJugador(id)
+                + campeonato.calculaFaltasJugador(id)
+                + campeonato.calculaPartidosJugadosJugador(id);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Object[]> tablaJugadores() {
+        return campeonato.getTablaJugadores();
+    }
+}
@@ -0,0 +1,111 @@
+package bench;
+
+import model.Campeonato;
+
+import java.util.Random;
+
+/**
+ * Construye campeonatos de prueba reproducibles para los benchmarks.
+ *
+ * <p>Todo sale de un {@link Random} con semilla fija, así que dos ejecuciones con el mismo tamaño
+ * producen exactamente el mismo campeonato y sus resultados se pueden comparar.
+ * Las densidades imitan una liga amateur: 16 jugadores por equipo, 10 partidos por equipo y,
+ * por partido, unos 2,7 goles, 4 tarjetas y 24 faltas.</p>
+ */
+final class FixtureCampeonato {
+
+    static final long SEMILLA = 20240601L;
+    static final int JUGADORES_POR_EQUIPO = 16;
+    static final int PARTIDOS_POR_EQUIPO = 10;
+    static final double GOLES_POR_PARTIDO = 2.7;
+    static final double TARJETAS_POR_PARTIDO = 4.0;
+    static final double FALTAS_POR_PARTIDO = 24.0;
+
+    private static final String[] POSICIONES = {"Arquero", "Defensa", "Mediocampista", "Delantero"};
+
+    private FixtureCampeonato() {
+    }
+
+    static String idEquipo(int i) {
+        return "E" + i;
+    }
+
+    static String nombreEquipo(int i) {
+        return "Equipo " + i;
+    }
+
+    static String idJugador(int equipo, int dorsal) {
+        return "J" + equipo + "-" + dorsal;
+    }
+
+    static String idPartido(int i) {
+        return "P" + i;
+    }
+
+    /**
+     * @param equipos Cantidad de equipos.
+     * @return La cantidad de partidos que genera {@link #crear(int)} para ese tamaño.
+     */
+    static int partidos(int equipos) {
+        return equipos * PARTIDOS_POR_EQUIPO / 2;
+    }
+
+    /**
+     * Crea el campeonato usando solo la API pública, igual que lo haría la aplicación.
+     * @param equipos Cantidad de equipos (al menos 2).
+     */
+    static Campeonato crear(int equipos) {
+        Random random = new Random(SEMILLA);
+        Campeonato campeonato = new Campeonato();
+        for (int e = 0; e < equipos; e++) {
+            campeonato.registrarEquipo(idEquipo(e), nombreEquipo(e), "Barrio " + (e % 50), "Entrenador " + e);
+            for (int d = 1; d <= JUGADORES_POR_EQUIPO; d++) {
+                campeonato.registrarJugador(idEquipo(e), idJugador(e, d), "Jugador " + e + "-" + d,
+                        POSICIONES[Math.min(d / 5, POSICIONES.length - 1)], d);
+            }
+        }
+
+        for (int p = 0, total = partidos(equipos); p < total; p++) {
+            int local = random.nextInt(equipos);
+            int visitante = (local + 1 + random.nextInt(equipos - 1)) % equipos;
+            String id = idPartido(p);
+            campeonato.crearPartido(id, idEquipo(local), idEquipo(visitante), "Estadio " + (local % 20), "Arbitro " + (p % 40));
+
+            for (int n = poisson(random, GOLES_POR_PARTIDO); n > 0; n--) {
+                int equipo = random.nextBoolean() ? local : visitante;
+                campeonato.registrarGol(id, jugadorAlAzar(random, equipo), 1 + random.nextInt(90));
+            }
+            for (int n = poisson(random, TARJETAS_POR_PARTIDO); n > 0; n--) {
+                int equipo = random.nextBoolean() ? local : visitante;
+                String tipo = random.nextInt(10) == 0 ? "Roja" : "Amarilla";
+                campeonato.registrarTarjeta(id, jugadorAlAzar(random, equipo), tipo, 1 + random.nextInt(90), "Juego brusco");
+            }
+            for (int n = poisson(random, FALTAS_POR_PARTIDO); n > 0; n--) {
+                boolean deLocal = random.nextBoolean();
+                campeonato.registrarFalta(id,
+                        jugadorAlAzar(random, deLocal ? local : visitante),
+                        jugadorAlAzar(random, deLocal ? visitante : local),
+                        1 + random.nextInt(90), "Centro", null);
+            }
+        }
+        return campeonato;
+    }
+
+    private static String jugadorAlAzar(Random random, int equipo) {
+        return idJugador(equipo, 1 + random.nextInt(JUGADORES_POR_EQUIPO));
+    }
+
+    /**
+     * Muestra de una distribución de Poisson (método de Knuth; basta para medias pequeñas).
+     */
+    private static int poisson(Random random, double media) {
+        double limite = Math.exp(-media);
+        double producto = random.nextDouble();
+        int n = 0;
+        while (producto > limite) {
+            producto *= random.nextDouble();
+            n++;
+        }
+        return n;
+    }
+}
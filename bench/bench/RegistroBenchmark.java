@@ -0,0 +1,86 @@
+package bench;
+
+import model.Campeonato;
+import model.Jugador;
+import model.Partido;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro de eventos y entidades sobre un campeonato ya poblado.
+ *
+ * <p>Los registros hacen crecer el campeonato, así que se reconstruye en cada iteración;
+ * con 20.000 equipos la preparación tarda unos segundos y no se cuenta en la medición.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class RegistroBenchmark {
+
+    @Param({"20", "200", "2000", "20000"})
+    int equipos;
+
+    Campeonato campeonato;
+    Partido partido;
+    Jugador goleador;
+    SplittableRandom random;
+    int registrados;
+
+    @Setup(Level.Iteration)
+    public void crearCampeonato() {
+        campeonato = FixtureCampeonato.crear(equipos);
+        partido = campeonato.buscarPartidoPorId(FixtureCampeonato.idPartido(0));
+        goleador = partido.getEquipoLocal().getJugadores().get(0);
+        random = new SplittableRandom(FixtureCampeonato.SEMILLA);
+        registrados = 0;
+    }
+
+    @Benchmark
+    public boolean campeonatoRegistrarGol() {
+        String idPartido = FixtureCampeonato.idPartido(random.nextInt(FixtureCampeonato.partidos(equipos)));
+        Partido destino = campeonato.buscarPartidoPorId(idPartido);
+        String jugador = destino.getEquipoLocal().getJugadores().get(random.nextInt(FixtureCampeonato.JUGADORES_POR_EQUIPO)).getId();
+        return campeonato.registrarGol(idPartido, jugador, 1 + random.nextInt(90));
+    }
+
+    /**
+     * {@link Partido#registrarGol(Jugador, int)} directo, sin la resolución de IDs del campeonato.
+     */
+    @Benchmark
+    public boolean partidoRegistrarGol() {
+        return partido.registrarGol(goleador, 1 + random.nextInt(90));
+    }
+
+    @Benchmark
+    public boolean campeonatoRegistrarFalta() {
+        String idPartido = FixtureCampeonato.idPartido(random.nextInt(FixtureCampeonato.partidos(equipos)));
+        Partido destino = campeonato.buscarPartidoPorId(idPartido);
+        int dorsal = 1 + random.nextInt(FixtureCampeonato.JUGADORES_POR_EQUIPO);
+        return campeonato.registrarFalta(idPartido,
+                destino.getEquipoLocal().getJugadores().get(dorsal - 1).getId(),
+                destino.getEquipoVisitante().getJugadores().get(dorsal - 1).getId(),
+                1 + random.nextInt(90), "Centro", null);
+    }
+
+    @Benchmark
+    public boolean registrarEquipo() {
+        int n = equipos + registrados++;
+        return campeonato.registrarEquipo(FixtureCampeonato.idEquipo(n), FixtureCampeonato.nombreEquipo(n), "Barrio", "Entrenador");
+    }
+}
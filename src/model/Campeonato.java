@@ -1,32 +1,316 @@
 // Archivo: model/Campeonato.java
 package model;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 
 
 /**
  * Representa un campeonato de fútbol, gestionando equipos y partidos.
  * Proporciona métodos para registrar entidades, crear partidos y obtener estadísticas generales.
+ *
+ * <p>Los métodos públicos se pueden usar desde varios hilos a la vez. Registrar equipos, jugadores
+ * y partidos toma la estructura en exclusiva; los goles, tarjetas y faltas la comparten y solo se
+ * excluyen dentro de un mismo partido, así que la búsqueda y validación de eventos de partidos distintos
+ * avanzan en paralelo. Cada evento actualiza después la tabla y las estadísticas de jugadores de una sola
+ * vez, y las consultas leen esos acumulados bajo el mismo candado, por lo que nunca ven un evento aplicado
+ * a medias. Ese tramo es común a todos los partidos e incluye el aviso a los {@link ObservadorCampeonato},
+ * que así reciben los cambios en el orden de su versión: los observadores deben ser breves y no esperar a
+ * otros hilos (el diario, por ejemplo, solo deja el registro en memoria).
+ * Las listas de {@link #getEquipos()} y {@link #getPartidos()} no están protegidas: para recorrerlas
+ * mientras otros hilos registran cambios hay que usar {@link #conAccesoExclusivo(Supplier)}.</p>
+ *
+ * <p>Cada equipo, jugador y partido recibe al indexarse un número denso ({@link DiccionarioIds});
+ * los IDs de texto de la API se traducen una vez y los índices y acumulados internos usan esos números.
+ * Por eso una misma instancia de equipo, jugador o partido no debe pertenecer a dos campeonatos a la vez.</p>
+ *
+ * <p>Los partidos pueden cargarse por particiones bajo demanda: ver
+ * {@link #cargarPartidosBajoDemanda(CargadorPartidos)}.</p>
  */
 public class Campeonato {
-    private List<Equipo> equipos;
-    private List<Partido> partidos;
+    // Llamadas, errores (false) y duración de cada operación pública salvo las búsquedas; se miden al tomar y
+    // soltar el candado (ver leer y soltarLectura) y se publican con Metricas
+    private static final Metricas.Operacion METRICA_REGISTRAR_EQUIPO = Metricas.operacion("Campeonato.registrarEquipo");
+    private static final Metricas.Operacion METRICA_REGISTRAR_JUGADOR = Metricas.operacion("Campeonato.registrarJugador");
+    private static final Metricas.Operacion METRICA_CREAR_PARTIDO = Metricas.operacion("Campeonato.crearPartido");
+    private static final Metricas.Operacion METRICA_REGISTRAR_GOL = Metricas.operacion("Campeonato.registrarGol");
+    private static final Metricas.Operacion METRICA_REGISTRAR_TARJETA = Metricas.operacion("Campeonato.registrarTarjeta");
+    private static final Metricas.Operacion METRICA_REGISTRAR_FALTA = Metricas.operacion("Campeonato.registrarFalta");
+    private static final Metricas.Operacion METRICA_REGISTRAR_EVENTOS = Metricas.operacion("Campeonato.registrarEventos");
+    private static final Metricas.Operacion METRICA_GET_PUNTOS_EQUIPO = Metricas.operacion("Campeonato.getPuntosEquipo");
+    private static final Metricas.Operacion METRICA_CONTAR_FALTAS_EQUIPO = Metricas.operacion("Campeonato.contarFaltasEquipo");
+    private static final Metricas.Operacion METRICA_GET_GANADOR_PARTIDO = Metricas.operacion("Campeonato.getGanadorPartido");
+    private static final Metricas.Operacion METRICA_GET_ESTADISTICAS_EQUIPO = Metricas.operacion("Campeonato.getEstadisticasEquipo");
+    private static final Metricas.Operacion METRICA_GET_ESTADISTICAS_JUGADOR = Metricas.operacion("Campeonato.getEstadisticasJugador");
+    private static final Metricas.Operacion METRICA_GET_TABLA_DE_POSICIONES = Metricas.operacion("Campeonato.getTablaDePosiciones");
+    private static final Metricas.Operacion METRICA_GET_TABLA_DE_POSICIONES_RANGO = Metricas.operacion("Campeonato.getTablaDePosicionesRango");
+    private static final Metricas.Operacion METRICA_GET_POSICION_EQUIPO = Metricas.operacion("Campeonato.getPosicionEquipo");
+    private static final Metricas.Operacion METRICA_GET_TABLA_ALREDEDOR_DE = Metricas.operacion("Campeonato.getTablaAlrededorDe");
+    private static final Metricas.Operacion METRICA_CALCULA_GOLES_JUGADOR = Metricas.operacion("Campeonato.calculaGolesJugador");
+    private static final Metricas.Operacion METRICA_CALCULA_TARJETAS_JUGADOR = Metricas.operacion("Campeonato.calculaTarjetasJugador");
+    private static final Metricas.Operacion METRICA_CALCULA_FALTAS_JUGADOR = Metricas.operacion("Campeonato.calculaFaltasJugador");
+    private static final Metricas.Operacion METRICA_CALCULA_PARTIDOS_JUGADOS_JUGADOR = Metricas.operacion("Campeonato.calculaPartidosJugadosJugador");
+    private static final Metricas.Operacion METRICA_GET_TABLA_JUGADORES = Metricas.operacion("Campeonato.getTablaJugadores");
+    private static final Metricas.Operacion METRICA_GET_MAXIMOS_GOLEADORES = Metricas.operacion("Campeonato.getMaximosGoleadores");
+    private static final Metricas.Operacion METRICA_GET_JUGADORES_CON_MAS_TARJETAS = Metricas.operacion("Campeonato.getJugadoresConMasTarjetas");
+    private static final Metricas.Operacion METRICA_GET_JUGADORES_CON_MAS_FALTAS = Metricas.operacion("Campeonato.getJugadoresConMasFaltas");
+    private static final Metricas.Operacion METRICA_GET_HISTOGRAMA_EQUIPO = Metricas.operacion("Campeonato.getHistogramaEquipo");
+    private static final Metricas.Operacion METRICA_GET_HISTOGRAMA_JUGADOR = Metricas.operacion("Campeonato.getHistogramaJugador");
+    private static final Metricas.Operacion METRICA_GET_HISTOGRAMA_CAMPEONATO = Metricas.operacion("Campeonato.getHistogramaCampeonato");
+    private static final Metricas.Operacion METRICA_GET_JUGADORES_HABILITADOS = Metricas.operacion("Campeonato.getJugadoresHabilitados");
+    private static final Metricas.Operacion METRICA_ESTA_SUSPENDIDO = Metricas.operacion("Campeonato.estaSuspendido");
+    private static final Metricas.Operacion METRICA_GET_AMARILLAS_ACUMULADAS = Metricas.operacion("Campeonato.getAmarillasAcumuladas");
+
+    private volatile ListaVigilada<Equipo> equipos;
+    private volatile ListaVigilada<Partido> partidos;
+    // Se incrementa con cada cambio registrado; permite saber qué cambios ya incluye una copia guardada
+    private volatile long version;
+    // Se incrementa con cada cambio de la tabla o las estadísticas, también con las reconstrucciones y los
+    // marcadores modificados directamente en el partido. A diferencia de la versión, nunca se restaura ni retrocede.
+    private volatile long modificaciones;
+    private final List<ObservadorCampeonato> observadores = new CopyOnWriteArrayList<>();
+
+    // Exclusivo para cambios de estructura y reconstrucciones; compartido para eventos y consultas
+    private final ReentrantReadWriteLock estructura = new ReentrantReadWriteLock();
+    // Protege los acumulados (tabla y estadísticas de jugadores) y la versión
+    private final Object candadoEstadisticas = new Object();
+
+    // Diccionarios de IDs e índices para las búsquedas. Se reconstruyen cuando la lista correspondiente
+    // se reemplaza o cambia sin pasar por registrarEquipo/crearPartido (p. ej. tras cargar el JSON).
+    private final DiccionarioIds<Equipo> equiposPorId = new DiccionarioIds<>();
+    private final DiccionarioIds<Jugador> jugadoresPorId = new DiccionarioIds<>();
+    private final DiccionarioIds<Partido> partidosPorId = new DiccionarioIds<>();
+    private final Map<String, Equipo> equiposPorNombre = new HashMap<>();
+    // Firma de cada lista (ver ListaVigilada) al indexarla; -1 para volver a indexarla. Volátiles porque
+    // sincronizar() las compara sin candado
+    private volatile long equiposIndexados = -1;
+    private volatile long partidosIndexados = -1;
+
+    // Acumulados por equipo, actualizados con cada evento de los partidos
+    private final TablaPosiciones tablaPosiciones = new TablaPosiciones();
+    private final EstadisticasJugadores estadisticasJugadores = new EstadisticasJugadores(jugadoresPorId);
+    // Goles, tarjetas y faltas por tramo de minutos, de los partidos cargados
+    private final HistogramasMinutos histogramasMinutos = new HistogramasMinutos(estadisticasJugadores::ordinal);
+    // Amarillas acumuladas y partidos de suspensión de cada jugador
+    private final Suspensiones suspensiones = new Suspensiones(estadisticasJugadores::ordinal);
+    // Número del equipo en cuya plantilla aparece cada jugador, por número de jugador; -1 si no está en ninguna
+    private int[] equipoDeJugador = new int[0];
+
+    // Partidos que todavía están en el cargador; la tabla y las estadísticas incluyen sus resúmenes
+    private CargadorPartidos cargador;
+    private int[] partidosCargados = new int[0];
+    private boolean[] particionCargada = new boolean[0];
+    private final Map<String, Integer> particionPendiente = new ConcurrentHashMap<>();
+    private volatile int particionesPendientes;
+
+    // Resultados ya calculados, válidos mientras no cambien las modificaciones, que cuentan también los
+    // cambios hechos directamente en las plantillas (ver plantillaCambiada)
+    // Algún partido reemplazó sus eventos con los setters desde la última reconstrucción
+    private volatile boolean estadisticasDesactualizadas;
+
+    private List<Object[]> tablaMemorizada;
+    private long tablaMemorizadaEn = -1;
+    private List<Object[]> jugadoresMemorizados;
+    private long jugadoresMemorizadosEn = -1;
+
+    private final ObservadorPartido observador = new ObservadorPartido() {
+        @Override
+        public void golRegistrado(Partido partido, Gol gol, Equipo equipo) {
+            // El marcador del partido ya incluye el gol
+            boolean local = equipo == partido.getEquipoLocal();
+            synchronized (candadoEstadisticas) {
+                tablaPosiciones.marcadorCambiado(partido,
+                        partido.getGolesLocal() - (local ? 1 : 0),
+                        partido.getGolesVisitante() - (local ? 0 : 1));
+                estadisticasJugadores.golRegistrado(gol.getJugador());
+                histogramasMinutos.sumar(equipo, gol.getJugador(), HistogramasMinutos.GOLES, gol.getMinuto());
+                notificar(o -> o.golRegistrado(partido, gol));
+            }
+        }
+
+        @Override
+        public void tarjetaRegistrada(Partido partido, Tarjeta tarjeta, Equipo equipo) {
+            synchronized (candadoEstadisticas) {
+                tablaPosiciones.tarjetaRegistrada(equipo);
+                estadisticasJugadores.tarjetaRegistrada(tarjeta.getJugador());
+                histogramasMinutos.sumar(equipo, tarjeta.getJugador(), HistogramasMinutos.TARJETAS, tarjeta.getMinuto());
+                suspensiones.tarjetaRegistrada(partido, equipo, tarjeta.getJugador(), esRoja(tarjeta.getTipo()));
+                notificar(o -> o.tarjetaRegistrada(partido, tarjeta));
+            }
+        }
+
+        @Override
+        public void faltaRegistrada(Partido partido, Falta falta, Equipo equipo) {
+            synchronized (candadoEstadisticas) {
+                tablaPosiciones.faltaRegistrada(equipo);
+                estadisticasJugadores.faltaRegistrada(falta.getJugadorQueCometio());
+                histogramasMinutos.sumar(equipo, falta.getJugadorQueCometio(), HistogramasMinutos.FALTAS, falta.getMinuto());
+                notificar(o -> o.faltaRegistrada(partido, falta));
+            }
+        }
+
+        @Override
+        public void marcadorCambiado(Partido partido, int golesLocalAnterior, int golesVisitanteAnterior) {
+            synchronized (candadoEstadisticas) {
+                tablaPosiciones.marcadorCambiado(partido, golesLocalAnterior, golesVisitanteAnterior);
+                int golesLocal = partido.getGolesLocal();
+                int golesVisitante = partido.getGolesVisitante();
+                notificar(o -> o.marcadorCambiado(partido, golesLocal, golesVisitante));
+            }
+        }
+
+        @Override
+        public void eventosReemplazados(Partido partido) {
+            synchronized (candadoEstadisticas) {
+                // Lo que aportaban los eventos anteriores ya no se conoce: las estadísticas se rehacen antes de
+                // la próxima operación, con el candado exclusivo (ver sincronizar)
+                estadisticasDesactualizadas = true;
+                notificar(o -> o.eventosReemplazados(partido));
+            }
+        }
+    };
 
     /**
      * Constructor para crear una nueva instancia de Campeonato.
      * Inicializa las listas de equipos y partidos vacías.
      */
     public Campeonato() {
-        this.equipos = new ArrayList<>();
-        this.partidos = new ArrayList<>();
+        this.equipos = new ListaVigilada<>();
+        this.partidos = new ListaVigilada<>();
     }
 
     // Getters y Setters
     public List<Equipo> getEquipos() { return equipos; }
-    public void setEquipos(List<Equipo> equipos) { this.equipos = equipos; }
-    public List<Partido> getPartidos() { return partidos; }
-    public void setPartidos(List<Partido> partidos) { this.partidos = partidos; }
+    public void setEquipos(List<Equipo> equipos) {
+        this.equipos = new ListaVigilada<>(equipos);
+        this.equiposIndexados = -1;
+    }
+    /**
+     * @return Los partidos del campeonato. Si se cargan bajo demanda, antes se cargan todas las particiones pendientes.
+     */
+    public List<Partido> getPartidos() {
+        if (particionesPendientes > 0) {
+            cargarParticionesPendientes();
+        }
+        return partidos;
+    }
+    public void setPartidos(List<Partido> partidos) {
+        this.partidos = new ListaVigilada<>(partidos);
+        this.partidosIndexados = -1;
+        // La lista nueva reemplaza también a los partidos que faltaba cargar
+        this.cargador = null;
+        this.partidosCargados = new int[0];
+        this.particionCargada = new boolean[0];
+        this.particionPendiente.clear();
+        this.particionesPendientes = 0;
+    }
+    public long getVersion() { return version; }
+
+    /**
+     * Cuenta los cambios de la tabla de posiciones y las estadísticas: cada equipo, jugador, partido o evento
+     * registrado, cada marcador modificado en un partido y cada reconstrucción tras modificar las listas
+     * directamente. A diferencia de {@link #getVersion()}, no se guarda con el campeonato y nunca retrocede,
+     * así que mientras no cambie cualquier resultado calculado antes sigue siendo válido.
+     *
+     * @return La cantidad de cambios desde que se creó esta instancia.
+     */
+    public long getModificaciones() {
+        sincronizar();
+        return modificaciones;
+    }
+    public void setVersion(long version) { this.version = version; }
+
+    /**
+     * Ejecuta una operación sin que ningún otro hilo registre cambios mientras tanto,
+     * por ejemplo para recorrer las listas o copiar el campeonato para guardarlo después (ver JsonDataManager).
+     * La operación no debe esperar a otros hilos que usen este campeonato.
+     *
+     * @param operacion La operación a ejecutar.
+     * @return El resultado de la operación.
+     */
+    public <T> T conAccesoExclusivo(Supplier<T> operacion) {
+        estructura.writeLock().lock();
+        try {
+            return operacion.get();
+        } finally {
+            estructura.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Toma los partidos de un cargador por particiones en lugar de tenerlos todos en memoria.
+     * La tabla de posiciones y las estadísticas de jugadores se arman con los resúmenes de las particiones,
+     * sin leer sus eventos. Cada partición se carga la primera vez que se busca uno de sus partidos o se
+     * registra un evento en él, y {@link #getPartidos()} carga todas las que falten. Mientras tanto, la lista
+     * de partidos de cada equipo solo incluye los partidos ya cargados.
+     *
+     * @param cargador El cargador; los equipos y jugadores de sus partidos ya deben estar en el campeonato.
+     * @throws IllegalStateException Si el campeonato ya tiene partidos.
+     */
+    public void cargarPartidosBajoDemanda(CargadorPartidos cargador) {
+        estructura.writeLock().lock();
+        try {
+            if (!partidos.isEmpty() || particionesPendientes > 0) {
+                throw new IllegalStateException("El campeonato ya tiene partidos");
+            }
+            sincronizar();
+            int cantidad = cargador.contarParticiones();
+            this.cargador = cargador;
+            partidosCargados = new int[cantidad];
+            particionCargada = new boolean[cantidad];
+            for (int particion = 0; particion < cantidad; particion++) {
+                for (String id : cargador.idsPartidos(particion)) {
+                    particionPendiente.putIfAbsent(id, particion);
+                }
+            }
+            particionesPendientes = cantidad;
+            synchronized (candadoEstadisticas) {
+                sumarResumenesPendientes();
+                reconstruirSuspensiones();
+                modificaciones++;
+            }
+        } finally {
+            estructura.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return La cantidad de particiones de partidos que todavía no se cargaron.
+     */
+    public int contarParticionesPendientes() {
+        return particionesPendientes;
+    }
+
+    /**
+     * Añade un observador que será avisado de cada cambio registrado con éxito.
+     * Los avisos se reciben en el hilo que registró el cambio, de a uno por vez y en orden de versión;
+     * el observador no debe registrar cambios en el campeonato ni esperar a otros hilos que lo hagan.
+     * @param observador El observador a añadir.
+     */
+    public void agregarObservador(ObservadorCampeonato observador) {
+        observadores.add(observador);
+    }
+
+    /**
+     * Quita un observador añadido con {@link #agregarObservador(ObservadorCampeonato)}.
+     * @param observador El observador a quitar.
+     */
+    public void quitarObservador(ObservadorCampeonato observador) {
+        observadores.remove(observador);
+    }
 
     /**
      * Registra un nuevo equipo en el campeonato.
@@ -43,7 +327,70 @@ public class Campeonato {
      * @return true si el equipo se registra correctamente, false si el ID o nombre ya existen, o si los parámetros son inválidos.
      */
     public boolean registrarEquipo(String id, String nombre, String barrio, String nombreEntrenador) {
-        return true;
+        long inicio = escribir(METRICA_REGISTRAR_EQUIPO);
+        boolean exito = false;
+        try {
+            if (esVacio(id) || esVacio(nombre) || esVacio(barrio) || esVacio(nombreEntrenador)) {
+                return false;
+            }
+            sincronizar();
+            if (equiposPorId.ordinal(id) >= 0 || equiposPorNombre.containsKey(normalizarNombre(nombre))) {
+                return false;
+            }
+
+            Equipo equipo = new Equipo(id, nombre, barrio, nombreEntrenador);
+            equipos.add(equipo);
+            indexarEquipo(equipo);
+            equiposIndexados = equipos.firma();
+            synchronized (candadoEstadisticas) {
+                tablaPosiciones.agregarEquipo(equipo);
+                notificar(o -> o.equipoRegistrado(equipo));
+            }
+            exito = true;
+            return true;
+        } finally {
+            soltarEscritura(METRICA_REGISTRAR_EQUIPO, inicio, exito);
+        }
+    }
+
+    /**
+     * Registra un nuevo jugador en la plantilla de un equipo del campeonato.
+     * Si ya existe un jugador con el mismo ID en cualquier equipo, se retorna false.
+     *
+     * @param idEquipo El ID del equipo al que pertenece el jugador. Debe corresponder a un equipo ya registrado.
+     * @param id El identificador único del jugador. No debe ser nulo ni vacío.
+     * @param nombreCompleto El nombre completo del jugador. No debe ser nulo ni vacío.
+     * @param posicion La posición del jugador. No debe ser nula ni vacía.
+     * @param numeroCamiseta El número de camiseta del jugador.
+     * @return true si el jugador se registra correctamente, false si el equipo no existe, el ID ya existe
+     * o los parámetros son inválidos.
+     */
+    public boolean registrarJugador(String idEquipo, String id, String nombreCompleto, String posicion, int numeroCamiseta) {
+        long inicio = escribir(METRICA_REGISTRAR_JUGADOR);
+        boolean exito = false;
+        try {
+            if (esVacio(idEquipo) || esVacio(id) || esVacio(nombreCompleto) || esVacio(posicion)) {
+                return false;
+            }
+            sincronizar();
+            Equipo equipo = equiposPorId.buscar(idEquipo);
+            // Sin recorrer todas las plantillas: basta el índice y la plantilla destino,
+            // que es donde suelen añadirse jugadores sin pasar por este método
+            if (equipo == null || equipoDeJugador(jugadoresPorId.ordinal(id)) >= 0 || tieneJugador(equipo, id)) {
+                return false;
+            }
+
+            Jugador jugador = new Jugador(id, nombreCompleto, posicion, numeroCamiseta, equipo);
+            equipo.getJugadores().add(jugador);
+            indexarJugador(jugador, equipo);
+            synchronized (candadoEstadisticas) {
+                notificar(o -> o.jugadorRegistrado(jugador));
+            }
+            exito = true;
+            return true;
+        } finally {
+            soltarEscritura(METRICA_REGISTRAR_JUGADOR, inicio, exito);
+        }
     }
 
     /**
@@ -61,7 +408,40 @@ public class Campeonato {
      * si los equipos no se encuentran, o si el equipo local es el mismo que el visitante.
      */
     public boolean crearPartido(String id, String idEquipoLocal, String idEquipoVisitante, String estadio, String arbitro) {
-        return true;
+        long inicio = escribir(METRICA_CREAR_PARTIDO);
+        boolean exito = false;
+        try {
+            if (esVacio(id) || esVacio(idEquipoLocal) || esVacio(idEquipoVisitante) || esVacio(estadio) || esVacio(arbitro)) {
+                return false;
+            }
+            sincronizar();
+            if (partidosPorId.ordinal(id) >= 0 || particionPendiente.containsKey(id)) {
+                return false;
+            }
+
+            Equipo local = equiposPorId.buscar(idEquipoLocal);
+            Equipo visitante = equiposPorId.buscar(idEquipoVisitante);
+            if (local == null || visitante == null || local == visitante) {
+                return false;
+            }
+
+            Partido partido = new Partido(id, local, visitante, estadio, arbitro, LocalDateTime.now());
+            partidos.add(partido);
+            local.getPartidos().add(partido);
+            visitante.getPartidos().add(partido);
+            partido.asignarOrdinal(partidosPorId.asignar(id, partido));
+            partidosIndexados = partidos.firma();
+            partido.observar(observador);
+            synchronized (candadoEstadisticas) {
+                tablaPosiciones.agregarPartido(partido);
+                suspensiones.agregarPartido(partido);
+                notificar(o -> o.partidoCreado(partido));
+            }
+            exito = true;
+            return true;
+        } finally {
+            soltarEscritura(METRICA_CREAR_PARTIDO, inicio, exito);
+        }
     }
 
     /**
@@ -78,7 +458,29 @@ public class Campeonato {
      * @return true si el gol se registra correctamente, false si el ID del partido o jugador no se encuentra, o si el minuto es inválido.
      */
     public boolean registrarGol(String idPartido, String idJugador, int minuto) {
-       return true;
+        long inicio = leer(METRICA_REGISTRAR_GOL, idPartido, Campeonato::cargarParticionDe);
+        boolean exito = false;
+        try {
+            if (esVacio(idPartido) || esVacio(idJugador) || minuto <= 0 || !EventosPartido.minutoValido(minuto)) {
+                return false;
+            }
+            Partido partido = partidosPorId.buscar(idPartido);
+            if (partido == null) {
+                return false;
+            }
+            int ordinal = jugadoresPorId.ordinal(idJugador);
+            Equipo equipo = equipoEnPartido(partido, ordinal);
+            if (equipo != null) {
+                exito = partido.anotarGol(jugadoresPorId.entidad(ordinal), equipo, minuto);
+            } else {
+                // Plantillas modificadas sin pasar por el campeonato: se busca en las del partido
+                Jugador jugador = partido.obtenerJugador(idJugador);
+                exito = jugador != null && partido.registrarGol(jugador, minuto);
+            }
+            return exito;
+        } finally {
+            soltarLectura(METRICA_REGISTRAR_GOL, inicio, exito);
+        }
     }
 
     /**
@@ -98,7 +500,29 @@ public class Campeonato {
      * @return true si la tarjeta se registra correctamente, false si el ID del partido o jugador no se encuentra, o si el tipo o minuto son inválidos.
      */
     public boolean registrarTarjeta(String idPartido, String idJugador, String tipo, int minuto, String motivo) {
-        return true;
+        long inicio = leer(METRICA_REGISTRAR_TARJETA, idPartido, Campeonato::cargarParticionDe);
+        boolean exito = false;
+        try {
+            if (esVacio(idPartido) || esVacio(idJugador) || !Partido.esTipoTarjetaValido(tipo) || minuto <= 0
+                    || !EventosPartido.minutoValido(minuto) || esVacio(motivo)) {
+                return false;
+            }
+            Partido partido = partidosPorId.buscar(idPartido);
+            if (partido == null) {
+                return false;
+            }
+            int ordinal = jugadoresPorId.ordinal(idJugador);
+            Equipo equipo = equipoEnPartido(partido, ordinal);
+            if (equipo != null) {
+                exito = partido.anotarTarjeta(jugadoresPorId.entidad(ordinal), equipo, tipo, minuto, motivo);
+            } else {
+                Jugador jugador = partido.obtenerJugador(idJugador);
+                exito = jugador != null && partido.registrarTarjetaPorIdJugador(jugador, tipo, minuto, motivo);
+            }
+            return exito;
+        } finally {
+            soltarLectura(METRICA_REGISTRAR_TARJETA, inicio, exito);
+        }
     }
 
     /**
@@ -119,7 +543,146 @@ public class Campeonato {
      * @return true si la falta se registra correctamente, false si el ID del partido o de los jugadores no se encuentra, si la zona es inválida, o si el minuto es inválido.
      */
     public boolean registrarFalta(String idPartido, String idJugadorComete, String idJugadorAfectado, int minuto, String zona, String tarjeta) {
-        return true;
+        long inicio = leer(METRICA_REGISTRAR_FALTA, idPartido, Campeonato::cargarParticionDe);
+        boolean exito = false;
+        try {
+            if (esVacio(idPartido) || esVacio(idJugadorComete) || esVacio(idJugadorAfectado) || minuto <= 0
+                    || !EventosPartido.minutoValido(minuto) || esVacio(zona)) {
+                return false;
+            }
+            if (tarjeta != null && !Partido.esTipoTarjetaValido(tarjeta)) {
+                return false;
+            }
+            Partido partido = partidosPorId.buscar(idPartido);
+            if (partido == null) {
+                return false;
+            }
+            int ordinalComete = jugadoresPorId.ordinal(idJugadorComete);
+            int ordinalAfectado = jugadoresPorId.ordinal(idJugadorAfectado);
+            Equipo equipoComete = equipoEnPartido(partido, ordinalComete);
+            Equipo equipoAfectado = equipoEnPartido(partido, ordinalAfectado);
+            if (equipoComete != null && equipoAfectado != null) {
+                exito = partido.anotarFalta(jugadoresPorId.entidad(ordinalComete), equipoComete,
+                        jugadoresPorId.entidad(ordinalAfectado), equipoAfectado, minuto, zona, tarjeta);
+            } else {
+                Jugador comete = partido.obtenerJugador(idJugadorComete);
+                Jugador afectado = partido.obtenerJugador(idJugadorAfectado);
+                exito = comete != null && afectado != null
+                        && partido.registrarFaltaPorIdJugador(comete, afectado, minuto, zona, tarjeta);
+            }
+            return exito;
+        } finally {
+            soltarLectura(METRICA_REGISTRAR_FALTA, inicio, exito);
+        }
+    }
+
+    /**
+     * Registra varios eventos de un mismo partido de una vez, por ejemplo la planilla completa.
+     * El partido y los jugadores se resuelven una sola vez y se valida todo el lote antes de aplicarlo:
+     * si un evento no se podría registrar con {@link #registrarGol}, {@link #registrarTarjeta} o
+     * {@link #registrarFalta}, no se registra ninguno. Los eventos válidos se aplican juntos, sin que otro
+     * hilo vea el lote a medias, incrementan la versión una sola vez y generan un único aviso
+     * ({@link ObservadorCampeonato#eventosRegistrados}).
+     *
+     * @param idPartido El ID del partido. No debe ser nulo ni vacío.
+     * @param eventos Los eventos, en orden.
+     * @return true si se registró el lote completo (o estaba vacío), false si no se registró ninguno.
+     */
+    public boolean registrarEventos(String idPartido, List<Evento> eventos) {
+        long inicio = leer(METRICA_REGISTRAR_EVENTOS, idPartido, Campeonato::cargarParticionDe);
+        boolean exito = false;
+        try {
+            if (esVacio(idPartido) || eventos == null) {
+                return false;
+            }
+            for (Evento evento : eventos) {
+                if (!esEventoValido(evento)) {
+                    return false;
+                }
+            }
+            Partido partido = partidosPorId.buscar(idPartido);
+            if (partido == null) {
+                return false;
+            }
+            exito = eventos.isEmpty() || registrarLote(partido, eventos);
+            return exito;
+        } finally {
+            soltarLectura(METRICA_REGISTRAR_EVENTOS, inicio, exito);
+        }
+    }
+
+    /**
+     * Resuelve y aplica un lote ya validado; ver {@link #registrarEventos(String, List)}.
+     * Se invoca con el candado compartido.
+     */
+    private boolean registrarLote(Partido partido, List<Evento> eventos) {
+        synchronized (partido) {
+            List<Gol> goles = new ArrayList<>();
+            List<Equipo> equiposGoles = new ArrayList<>();
+            List<Tarjeta> tarjetas = new ArrayList<>();
+            List<Equipo> equiposTarjetas = new ArrayList<>();
+            List<Falta> faltas = new ArrayList<>();
+            List<Equipo> equiposFaltas = new ArrayList<>();
+            Equipo[] equipo = new Equipo[1];
+            Equipo[] equipoAfectado = new Equipo[1];
+            for (Evento evento : eventos) {
+                Jugador jugador = jugadorEnPartido(partido, evento.getIdJugador(), equipo);
+                if (jugador == null) {
+                    return false;
+                }
+                switch (evento.getTipo()) {
+                    case GOL:
+                        goles.add(new Gol(jugador, evento.getMinuto()));
+                        equiposGoles.add(equipo[0]);
+                        break;
+                    case TARJETA:
+                        tarjetas.add(new Tarjeta(jugador, evento.getTarjeta(), evento.getMinuto(), evento.getMotivo()));
+                        equiposTarjetas.add(equipo[0]);
+                        break;
+                    default:
+                        Jugador afectado = jugadorEnPartido(partido, evento.getIdJugadorAfectado(), equipoAfectado);
+                        if (afectado == null || afectado.equals(jugador) || equipoAfectado[0] == equipo[0]) {
+                            return false;
+                        }
+                        faltas.add(new Falta(jugador, evento.getMinuto(), evento.getZona(), afectado, evento.getTarjeta()));
+                        equiposFaltas.add(equipo[0]);
+                }
+            }
+
+            int golesLocalAnterior = partido.getGolesLocal();
+            int golesVisitanteAnterior = partido.getGolesVisitante();
+            if (!partido.agregarEventos(goles, equiposGoles, tarjetas, faltas)) {
+                return false;
+            }
+            synchronized (candadoEstadisticas) {
+                if (!goles.isEmpty()) {
+                    tablaPosiciones.marcadorCambiado(partido, golesLocalAnterior, golesVisitanteAnterior);
+                }
+                for (int i = 0; i < goles.size(); i++) {
+                    Gol gol = goles.get(i);
+                    estadisticasJugadores.golRegistrado(gol.getJugador());
+                    histogramasMinutos.sumar(equiposGoles.get(i), gol.getJugador(), HistogramasMinutos.GOLES, gol.getMinuto());
+                }
+                for (int i = 0; i < tarjetas.size(); i++) {
+                    Tarjeta tarjeta = tarjetas.get(i);
+                    tablaPosiciones.tarjetaRegistrada(equiposTarjetas.get(i));
+                    estadisticasJugadores.tarjetaRegistrada(tarjeta.getJugador());
+                    histogramasMinutos.sumar(equiposTarjetas.get(i), tarjeta.getJugador(), HistogramasMinutos.TARJETAS,
+                            tarjeta.getMinuto());
+                    suspensiones.tarjetaRegistrada(partido, equiposTarjetas.get(i), tarjeta.getJugador(),
+                            esRoja(tarjeta.getTipo()));
+                }
+                for (int i = 0; i < faltas.size(); i++) {
+                    Falta falta = faltas.get(i);
+                    tablaPosiciones.faltaRegistrada(equiposFaltas.get(i));
+                    estadisticasJugadores.faltaRegistrada(falta.getJugadorQueCometio());
+                    histogramasMinutos.sumar(equiposFaltas.get(i), falta.getJugadorQueCometio(), HistogramasMinutos.FALTAS,
+                            falta.getMinuto());
+                }
+                notificar(o -> o.eventosRegistrados(partido, goles, tarjetas, faltas));
+            }
+            return true;
+        }
     }
 
     /**
@@ -133,7 +696,15 @@ public class Campeonato {
      * @throws IllegalArgumentException Si el ID del equipo es nulo o vacío.
      */
     public int getPuntosEquipo(String idEquipo) {
-       return 0;
+        long inicio = leer(METRICA_GET_PUNTOS_EQUIPO);
+        try {
+            synchronized (candadoEstadisticas) {
+                TablaPosiciones.Fila fila = filaEquipo(idEquipo);
+                return fila != null ? fila.getPuntos() : -1;
+            }
+        } finally {
+            soltarLectura(METRICA_GET_PUNTOS_EQUIPO, inicio, true);
+        }
     }
 
 
@@ -147,7 +718,15 @@ public class Campeonato {
      * @throws IllegalArgumentException Si el ID del equipo es nulo o vacío.
      */
     public int contarFaltasEquipo(String idEquipo) {
-       return 0;
+        long inicio = leer(METRICA_CONTAR_FALTAS_EQUIPO);
+        try {
+            synchronized (candadoEstadisticas) {
+                TablaPosiciones.Fila fila = filaEquipo(idEquipo);
+                return fila != null ? fila.getFaltas() : -1;
+            }
+        } finally {
+            soltarLectura(METRICA_CONTAR_FALTAS_EQUIPO, inicio, true);
+        }
     }
 
     /**
@@ -160,76 +739,211 @@ public class Campeonato {
      * @throws IllegalArgumentException Si el ID del partido es nulo o vacío.
      */
     public String getGanadorPartido(String idPartido) {
-        return "";
+        long inicio = leer(METRICA_GET_GANADOR_PARTIDO, idPartido, Campeonato::cargarParticionDe);
+        try {
+            if (esVacio(idPartido)) {
+                return "Parámetro inválido";
+            }
+            Partido partido = partidosPorId.buscar(idPartido);
+            if (partido == null) {
+                return "Partido no encontrado";
+            }
+            Equipo ganador = partido.calcularGanador();
+            return ganador != null ? ganador.getNombre() : "Empate";
+        } finally {
+            soltarLectura(METRICA_GET_GANADOR_PARTIDO, inicio, true);
+        }
+    }
+
+    /**
+     * Obtiene la fila de un equipo en la tabla de posiciones, sin ordenar la tabla completa.
+     * @param idEquipo El ID del equipo.
+     * @return Los datos del equipo con el mismo formato que cada fila de {@link #getTablaDePosiciones()},
+     * o null si el equipo no existe.
+     */
+    public Object[] getEstadisticasEquipo(String idEquipo) {
+        long inicio = leer(METRICA_GET_ESTADISTICAS_EQUIPO);
+        try {
+            synchronized (candadoEstadisticas) {
+                TablaPosiciones.Fila fila = filaEquipo(idEquipo);
+                return fila != null ? fila.comoArreglo() : null;
+            }
+        } finally {
+            soltarLectura(METRICA_GET_ESTADISTICAS_EQUIPO, inicio, true);
+        }
+    }
+
+    /**
+     * Obtiene la fila de un jugador de la tabla de jugadores, sin generar la tabla completa.
+     * @param idJugador El ID del jugador.
+     * @return Los datos del jugador con el mismo formato que cada fila de {@link #getTablaJugadores()},
+     * o null si el jugador no está en ningún equipo.
+     */
+    public Object[] getEstadisticasJugador(String idJugador) {
+        long inicio = leer(METRICA_GET_ESTADISTICAS_JUGADOR, idJugador, Campeonato::ubicarJugador);
+        try {
+            Equipo equipo = equipoIndexado(idJugador);
+            if (equipo == null) {
+                return null;
+            }
+            synchronized (candadoEstadisticas) {
+                int ordinal = jugadoresPorId.ordinal(idJugador);
+                Jugador jugador = jugadoresPorId.entidad(ordinal);
+                if (jugador == null) {
+                    return null;
+                }
+                TablaPosiciones.Fila fila = tablaPosiciones.fila(equipo);
+                return new Object[]{
+                        jugador.getId(),
+                        jugador.getNombreCompleto(),
+                        equipo.getNombre(),
+                        estadisticasJugadores.goles(ordinal),
+                        estadisticasJugadores.tarjetas(ordinal),
+                        estadisticasJugadores.faltas(ordinal),
+                        fila != null ? fila.getJugados() : 0
+                };
+            }
+        } finally {
+            soltarLectura(METRICA_GET_ESTADISTICAS_JUGADOR, inicio, true);
+        }
     }
 
     /**
      * Genera la tabla de posiciones actual del campeonato.
      * Los equipos se ordenan primero por puntos (descendente), luego por goles a favor (descendente),
-     * y finalmente por goles en contra (ascendente) para desempate.
+     * y finalmente por goles en contra (ascendente) para desempate, salvo que se configuren otros
+     * criterios con {@link #desempatarPor(CriterioDesempate...)}.
      *
      * @return Una lista de arrays de objetos, donde cada array representa una fila de la tabla de posiciones
      * con los datos del equipo (Nombre, Puntos, Ganados, Empatados, Perdidos, Goles Favor, Goles Contra, Tarjetas, Faltas).
+     * La lista se calcula una vez por cada cambio ({@link #getModificaciones()}) y se comparte entre las llamadas
+     * hasta el siguiente, así que no se puede modificar, y sus filas tampoco deben modificarse.
      */
     public List<Object[]> getTablaDePosiciones() {
-        List<Object[]> tabla = new ArrayList<>();
-        // Note: The previous logic uses Java 8 Streams for sorting.
-        // Reimplementing with for-loop for sorting can be complex (e.g., Bubble Sort, Insertion Sort).
-        // For simplicity and to maintain current functionality, I will use a temporary list and Collections.sort
-        // or a custom loop-based sort if truly necessary, but sorting with Comparator is generally preferred.
-        // Assuming 'Collections.sort' is acceptable even without Streams as it still uses basic loop internally.
-
-        // Create a mutable copy to sort
-        List<Equipo> equiposOrdenados = new ArrayList<>(equipos);
-
-        // Manual sorting using nested loops (Bubble Sort for demonstration as requested)
-        for (int i = 0; i < equiposOrdenados.size() - 1; i++) {
-            for (int j = 0; j < equiposOrdenados.size() - i - 1; j++) {
-                Equipo eq1 = equiposOrdenados.get(j);
-                Equipo eq2 = equiposOrdenados.get(j + 1);
-
-                // Primary sort: Puntos (descending)
-                if (eq1.calculaPuntos() < eq2.calculaPuntos()) {
-                    // Swap
-                    Equipo temp = equiposOrdenados.get(j);
-                    equiposOrdenados.set(j, equiposOrdenados.get(j + 1));
-                    equiposOrdenados.set(j + 1, temp);
-                } else if (eq1.calculaPuntos() == eq2.calculaPuntos()) {
-                    // Secondary sort: Goles a Favor (descending)
-                    if (eq1.calculaGolesAFavor() < eq2.calculaGolesAFavor()) {
-                        // Swap
-                        Equipo temp = equiposOrdenados.get(j);
-                        equiposOrdenados.set(j, equiposOrdenados.get(j + 1));
-                        equiposOrdenados.set(j + 1, temp);
-                    } else if (eq1.calculaGolesAFavor() == eq2.calculaGolesAFavor()) {
-                        // Tertiary sort: Goles en Contra (ascending)
-                        if (eq1.calculaGolesEnContra() > eq2.calculaGolesEnContra()) {
-                            // Swap
-                            Equipo temp = equiposOrdenados.get(j);
-                            equiposOrdenados.set(j, equiposOrdenados.get(j + 1));
-                            equiposOrdenados.set(j + 1, temp);
-                        }
-                    }
+        long inicio = leer(METRICA_GET_TABLA_DE_POSICIONES, null, (campeonato, id) -> campeonato.prepararTabla());
+        try {
+            synchronized (candadoEstadisticas) {
+                if (tablaMemorizadaEn == modificaciones) {
+                    return tablaMemorizada;
+                }
+                // Los acumulados ya están al día, solo hace falta ordenarlos
+                List<TablaPosiciones.Fila> filas = tablaPosiciones.ordenadas();
+                List<Object[]> tabla = new ArrayList<>(filas.size());
+                for (TablaPosiciones.Fila fila : filas) {
+                    tabla.add(fila.comoArreglo());
                 }
+                tablaMemorizada = Collections.unmodifiableList(tabla);
+                tablaMemorizadaEn = modificaciones;
+                return tablaMemorizada;
             }
+        } finally {
+            soltarLectura(METRICA_GET_TABLA_DE_POSICIONES, inicio, true);
         }
+    }
 
+    /**
+     * Configura cómo se ordenan en la tabla de posiciones los equipos con los mismos puntos. Por defecto,
+     * por goles a favor y luego por goles en contra; p. ej. las reglas de la federación son
+     * {@code desempatarPor(ENFRENTAMIENTOS_DIRECTOS, DIFERENCIA_DE_GOLES, JUEGO_LIMPIO)}.
+     * Si sigue el empate, queda primero el equipo registrado antes.
+     *
+     * @param criterios Los criterios, en orden de aplicación; ninguno para desempatar solo por orden de registro.
+     * @throws IllegalArgumentException Si algún criterio es nulo.
+     */
+    public void desempatarPor(CriterioDesempate... criterios) {
+        List<CriterioDesempate> lista = Arrays.asList(criterios.clone());
+        if (lista.contains(null)) {
+            throw new IllegalArgumentException("Criterio de desempate nulo");
+        }
+        estructura.writeLock().lock();
+        try {
+            synchronized (candadoEstadisticas) {
+                tablaPosiciones.setCriterios(lista);
+                modificaciones++;
+            }
+        } finally {
+            estructura.writeLock().unlock();
+        }
+    }
 
-        for (int i = 0; i < equiposOrdenados.size(); i++) {
-            Equipo equipo = equiposOrdenados.get(i);
-            tabla.add(new Object[]{
-                    equipo.getNombre(),
-                    equipo.calculaPuntos(),
-                    equipo.calcularPartidosGanados(),
-                    equipo.calculaPartidosEmpatados(),
-                    equipo.calculaPartidosPerdidos(),
-                    equipo.calculaGolesAFavor(),
-                    equipo.calculaGolesEnContra(),
-                    equipo.calculaTotalTarjetas(),
-                    equipo.contarFaltas()
-            });
+    /**
+     * @return Los criterios de desempate actuales, en orden de aplicación (ver {@link #desempatarPor(CriterioDesempate...)}).
+     */
+    public List<CriterioDesempate> criteriosDesempate() {
+        synchronized (candadoEstadisticas) {
+            return tablaPosiciones.getCriterios();
+        }
+    }
+
+    /**
+     * Obtiene un tramo de la tabla de posiciones sin ordenar ni copiar la tabla completa: el costo
+     * depende de la cantidad de filas devueltas, no de la cantidad de equipos.
+     *
+     * @param desde La primera posición, desde 1.
+     * @param hasta La última posición, incluida. Las posiciones fuera de la tabla se ignoran.
+     * @return Las filas de esas posiciones, en orden y con el formato de {@link #getTablaDePosiciones()};
+     * vacía si el tramo no tiene posiciones de la tabla.
+     */
+    public List<Object[]> getTablaDePosiciones(int desde, int hasta) {
+        long inicio = leer(METRICA_GET_TABLA_DE_POSICIONES_RANGO, null, (campeonato, id) -> campeonato.prepararTabla());
+        try {
+            synchronized (candadoEstadisticas) {
+                return tramoTabla(desde, hasta);
+            }
+        } finally {
+            soltarLectura(METRICA_GET_TABLA_DE_POSICIONES_RANGO, inicio, true);
+        }
+    }
+
+    /**
+     * @param cantidad La cantidad de equipos.
+     * @return Las primeras filas de la tabla de posiciones, igual que {@code getTablaDePosiciones(1, cantidad)}.
+     */
+    public List<Object[]> getPrimerosDeLaTabla(int cantidad) {
+        return getTablaDePosiciones(1, cantidad);
+    }
+
+    /**
+     * Obtiene la posición de un equipo en la tabla, con el mismo orden que {@link #getTablaDePosiciones()}.
+     * @param idEquipo El ID del equipo.
+     * @return La posición, desde 1; 0 si el equipo no existe.
+     */
+    public int getPosicionEquipo(String idEquipo) {
+        long inicio = leer(METRICA_GET_POSICION_EQUIPO, null, (campeonato, id) -> campeonato.prepararTabla());
+        try {
+            synchronized (candadoEstadisticas) {
+                TablaPosiciones.Fila fila = filaEquipo(idEquipo);
+                return fila != null ? tablaPosiciones.posicion(fila) + 1 : 0;
+            }
+        } finally {
+            soltarLectura(METRICA_GET_POSICION_EQUIPO, inicio, true);
+        }
+    }
+
+    /**
+     * Obtiene la fila de un equipo en la tabla junto con las de sus vecinos, p. ej. para mostrar
+     * "su zona" de la tabla. La posición del equipo se obtiene con {@link #getPosicionEquipo(String)}.
+     *
+     * @param idEquipo El ID del equipo.
+     * @param margen La cantidad de posiciones por encima y por debajo del equipo.
+     * @return Las filas desde la posición del equipo menos el margen hasta la posición más el margen
+     * (recortadas a la tabla), con el formato de {@link #getTablaDePosiciones()}; vacía si el equipo no existe.
+     */
+    public List<Object[]> getTablaAlrededorDe(String idEquipo, int margen) {
+        long inicio = leer(METRICA_GET_TABLA_ALREDEDOR_DE, null, (campeonato, id) -> campeonato.prepararTabla());
+        try {
+            synchronized (candadoEstadisticas) {
+                TablaPosiciones.Fila fila = filaEquipo(idEquipo);
+                if (fila == null) {
+                    return new ArrayList<Object[]>();
+                }
+                int posicion = tablaPosiciones.posicion(fila) + 1;
+                int alcance = Math.max(0, Math.min(margen, tablaPosiciones.cantidad()));
+                return tramoTabla(posicion - alcance, posicion + alcance);
+            }
+        } finally {
+            soltarLectura(METRICA_GET_TABLA_ALREDEDOR_DE, inicio, true);
         }
-        return tabla;
     }
 
     /**
@@ -242,8 +956,7 @@ public class Campeonato {
      * @throws IllegalArgumentException Si el ID del jugador es nulo o vacío.
      */
     public int calculaGolesJugador(String idJugador) {
-
-        return 0;
+        return contadorJugador(METRICA_CALCULA_GOLES_JUGADOR, idJugador, HistogramasMinutos.GOLES);
     }
 
     /**
@@ -257,7 +970,7 @@ public class Campeonato {
      * @throws IllegalArgumentException Si el ID del jugador es nulo o vacío.
      */
     public int calculaTarjetasJugador(String idJugador) {
-       return  0;
+        return contadorJugador(METRICA_CALCULA_TARJETAS_JUGADOR, idJugador, HistogramasMinutos.TARJETAS);
     }
 
     /**
@@ -271,8 +984,7 @@ public class Campeonato {
      * @throws IllegalArgumentException Si el ID del jugador es nulo o vacío.
      */
     public int calculaFaltasJugador(String idJugador) {
-
-        return 0;
+        return contadorJugador(METRICA_CALCULA_FALTAS_JUGADOR, idJugador, HistogramasMinutos.FALTAS);
     }
 
     /**
@@ -286,7 +998,442 @@ public class Campeonato {
      * @throws IllegalArgumentException Si el ID del jugador es nulo o vacío.
      */
     public int calculaPartidosJugadosJugador(String idJugador) {
-        return 0;
+        long inicio = leer(METRICA_CALCULA_PARTIDOS_JUGADOS_JUGADOR, idJugador, Campeonato::ubicarJugador);
+        try {
+            Equipo equipo = equipoIndexado(idJugador);
+            if (equipo == null) {
+                return 0;
+            }
+            synchronized (candadoEstadisticas) {
+                // Los partidos del jugador son los de su equipo, que ya lleva la tabla de posiciones
+                TablaPosiciones.Fila fila = tablaPosiciones.fila(equipo);
+                return fila != null ? fila.getJugados() : 0;
+            }
+        } finally {
+            soltarLectura(METRICA_CALCULA_PARTIDOS_JUGADOS_JUGADOR, inicio, true);
+        }
+    }
+
+    /**
+     * Genera la tabla de estadísticas de todos los jugadores del campeonato en una sola pasada.
+     *
+     * @return Una lista de arrays de objetos, uno por jugador, con
+     * (ID, Nombre, Equipo, Goles, Tarjetas, Faltas, Partidos Jugados), en el orden de los equipos y sus plantillas.
+     * Igual que {@link #getTablaDePosiciones()}, se comparte entre las llamadas hasta el siguiente cambio
+     * y no se debe modificar.
+     */
+    public List<Object[]> getTablaJugadores() {
+        long inicio = leer(METRICA_GET_TABLA_JUGADORES);
+        try {
+            synchronized (candadoEstadisticas) {
+                if (jugadoresMemorizadosEn == modificaciones) {
+                    return jugadoresMemorizados;
+                }
+                List<Object[]> tabla = new ArrayList<>(jugadoresPorId.tamano());
+                for (Equipo equipo : equipos) {
+                    TablaPosiciones.Fila fila = tablaPosiciones.fila(equipo);
+                    int jugados = fila != null ? fila.getJugados() : 0;
+                    for (Jugador jugador : equipo.getJugadores()) {
+                        int ordinal = estadisticasJugadores.ordinal(jugador);
+                        tabla.add(new Object[]{
+                                jugador.getId(),
+                                jugador.getNombreCompleto(),
+                                equipo.getNombre(),
+                                estadisticasJugadores.goles(ordinal),
+                                estadisticasJugadores.tarjetas(ordinal),
+                                estadisticasJugadores.faltas(ordinal),
+                                jugados
+                        });
+                    }
+                }
+                jugadoresMemorizados = Collections.unmodifiableList(tabla);
+                jugadoresMemorizadosEn = modificaciones;
+                return jugadoresMemorizados;
+            }
+        } finally {
+            soltarLectura(METRICA_GET_TABLA_JUGADORES, inicio, true);
+        }
+    }
+
+    /**
+     * Obtiene los jugadores con más goles, sin recorrer a los demás: el ranking se mantiene ordenado
+     * con cada evento, así que el costo depende solo de la cantidad pedida.
+     *
+     * @param cantidad La cantidad máxima de jugadores (p. ej. 20).
+     * @return Una fila por jugador con (ID, Nombre, Equipo, Goles), de más a menos goles y, a igual cantidad,
+     * por ID. Solo aparecen jugadores con al menos un gol.
+     */
+    public List<Object[]> getMaximosGoleadores(int cantidad) {
+        return clasificacion(METRICA_GET_MAXIMOS_GOLEADORES, HistogramasMinutos.GOLES, cantidad);
+    }
+
+    /**
+     * Igual que {@link #getMaximosGoleadores(int)}, por tarjetas recibidas.
+     * @return Filas con (ID, Nombre, Equipo, Tarjetas).
+     */
+    public List<Object[]> getJugadoresConMasTarjetas(int cantidad) {
+        return clasificacion(METRICA_GET_JUGADORES_CON_MAS_TARJETAS, HistogramasMinutos.TARJETAS, cantidad);
+    }
+
+    /**
+     * Igual que {@link #getMaximosGoleadores(int)}, por faltas cometidas.
+     * @return Filas con (ID, Nombre, Equipo, Faltas).
+     */
+    public List<Object[]> getJugadoresConMasFaltas(int cantidad) {
+        return clasificacion(METRICA_GET_JUGADORES_CON_MAS_FALTAS, HistogramasMinutos.FALTAS, cantidad);
+    }
+
+    /**
+     * Obtiene la distribución por tramo de minutos de los goles, tarjetas y faltas de un equipo en todos sus partidos.
+     * Si los partidos se cargan bajo demanda, la primera consulta carga las particiones pendientes.
+     *
+     * @param idEquipo El ID del equipo.
+     * @return Una copia de la distribución, con el formato de {@link HistogramasMinutos}; null si el equipo no existe.
+     */
+    public int[][] getHistogramaEquipo(String idEquipo) {
+        long inicio = leer(METRICA_GET_HISTOGRAMA_EQUIPO, null, Campeonato::prepararHistograma);
+        try {
+            synchronized (candadoEstadisticas) {
+                int ordinal = esVacio(idEquipo) ? -1 : equiposPorId.ordinal(idEquipo);
+                return ordinal >= 0 ? histogramasMinutos.equipo(ordinal) : null;
+            }
+        } finally {
+            soltarLectura(METRICA_GET_HISTOGRAMA_EQUIPO, inicio, true);
+        }
+    }
+
+    /**
+     * Igual que {@link #getHistogramaEquipo(String)}, para los eventos de un jugador (las faltas son las cometidas).
+     * @param idJugador El ID del jugador.
+     * @return Una copia de la distribución; null si el jugador no está en ninguna plantilla ni tiene eventos.
+     */
+    public int[][] getHistogramaJugador(String idJugador) {
+        long inicio = leer(METRICA_GET_HISTOGRAMA_JUGADOR, idJugador, Campeonato::prepararHistograma);
+        try {
+            synchronized (candadoEstadisticas) {
+                int ordinal = esVacio(idJugador) ? -1 : jugadoresPorId.ordinal(idJugador);
+                return ordinal >= 0 ? histogramasMinutos.jugador(ordinal) : null;
+            }
+        } finally {
+            soltarLectura(METRICA_GET_HISTOGRAMA_JUGADOR, inicio, true);
+        }
+    }
+
+    /**
+     * Igual que {@link #getHistogramaEquipo(String)}, para todos los eventos del campeonato.
+     * @return Una copia de la distribución.
+     */
+    public int[][] getHistogramaCampeonato() {
+        long inicio = leer(METRICA_GET_HISTOGRAMA_CAMPEONATO, null, Campeonato::prepararHistograma);
+        try {
+            synchronized (candadoEstadisticas) {
+                return histogramasMinutos.campeonato();
+            }
+        } finally {
+            soltarLectura(METRICA_GET_HISTOGRAMA_CAMPEONATO, inicio, true);
+        }
+    }
+
+    /**
+     * Cambia las reglas de suspensión (por defecto {@link ReglasSuspension#POR_DEFECTO}) y recalcula las
+     * suspensiones de toda la temporada con las tarjetas ya registradas.
+     * @param reglas Las reglas nuevas.
+     * @throws IllegalArgumentException Si las reglas son nulas.
+     */
+    public void aplicarReglasSuspension(ReglasSuspension reglas) {
+        if (reglas == null) {
+            throw new IllegalArgumentException("Reglas de suspensión nulas");
+        }
+        estructura.writeLock().lock();
+        try {
+            synchronized (candadoEstadisticas) {
+                suspensiones.setReglas(reglas);
+            }
+        } finally {
+            estructura.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Las reglas de suspensión actuales.
+     */
+    public ReglasSuspension reglasSuspension() {
+        synchronized (candadoEstadisticas) {
+            return suspensiones.getReglas();
+        }
+    }
+
+    /**
+     * Obtiene los jugadores que pueden jugar un partido: los de las plantillas de los dos equipos que no
+     * cumplen una suspensión en ese partido. Cada equipo juega sus partidos en el orden de {@link #getPartidos()},
+     * y una suspensión abarca los siguientes partidos de su equipo tras el de la tarjeta.
+     *
+     * @param idPartido El ID del partido.
+     * @return Los jugadores habilitados, primero los del local; vacía si el partido no existe.
+     */
+    public List<Jugador> getJugadoresHabilitados(String idPartido) {
+        long inicio = leer(METRICA_GET_JUGADORES_HABILITADOS, idPartido, Campeonato::prepararSuspensiones);
+        try {
+            List<Jugador> habilitados = new ArrayList<>();
+            Partido partido = esVacio(idPartido) ? null : partidosPorId.buscar(idPartido);
+            if (partido == null) {
+                return habilitados;
+            }
+            synchronized (candadoEstadisticas) {
+                for (Equipo equipo : Arrays.asList(partido.getEquipoLocal(), partido.getEquipoVisitante())) {
+                    if (equipo == null) {
+                        continue;
+                    }
+                    for (Jugador jugador : equipo.getJugadores()) {
+                        if (!suspensiones.estaSuspendido(jugador, equipo, partido)) {
+                            habilitados.add(jugador);
+                        }
+                    }
+                }
+            }
+            return habilitados;
+        } finally {
+            soltarLectura(METRICA_GET_JUGADORES_HABILITADOS, inicio, true);
+        }
+    }
+
+    /**
+     * @param idJugador El ID del jugador.
+     * @param idPartido El ID de un partido de su equipo.
+     * @return true si el jugador cumple una suspensión en ese partido; false si no, o si no juega ese partido.
+     */
+    public boolean estaSuspendido(String idJugador, String idPartido) {
+        long inicio = leer(METRICA_ESTA_SUSPENDIDO, idPartido, Campeonato::prepararSuspensiones);
+        try {
+            if (esVacio(idJugador) || esVacio(idPartido)) {
+                return false;
+            }
+            Partido partido = partidosPorId.buscar(idPartido);
+            if (partido == null) {
+                return false;
+            }
+            Equipo equipo = partido.obtenerEquipoJugador(idJugador);
+            if (equipo == null) {
+                return false;
+            }
+            int ordinal = jugadoresPorId.ordinal(idJugador);
+            Jugador jugador = ordinal >= 0 ? jugadoresPorId.entidad(ordinal) : null;
+            synchronized (candadoEstadisticas) {
+                return jugador != null && suspensiones.estaSuspendido(jugador, equipo, partido);
+            }
+        } finally {
+            // false es una respuesta, no un error
+            soltarLectura(METRICA_ESTA_SUSPENDIDO, inicio, true);
+        }
+    }
+
+    /**
+     * @param idJugador El ID del jugador.
+     * @return Las amarillas del jugador desde su última suspensión por acumulación; 0 si no existe.
+     */
+    public int getAmarillasAcumuladas(String idJugador) {
+        long inicio = leer(METRICA_GET_AMARILLAS_ACUMULADAS, null, Campeonato::prepararSuspensiones);
+        try {
+            int ordinal = esVacio(idJugador) ? -1 : jugadoresPorId.ordinal(idJugador);
+            Jugador jugador = ordinal >= 0 ? jugadoresPorId.entidad(ordinal) : null;
+            synchronized (candadoEstadisticas) {
+                return jugador != null ? suspensiones.amarillasAcumuladas(jugador) : 0;
+            }
+        } finally {
+            soltarLectura(METRICA_GET_AMARILLAS_ACUMULADAS, inicio, true);
+        }
+    }
+
+    /**
+     * Lo que una operación medida hace antes de tomar el candado compartido, como cargar una partición.
+     * Se pasa como referencia a un método de Campeonato, que no captura nada y por eso no crea objetos.
+     */
+    private interface Preparacion {
+        void preparar(Campeonato campeonato, String id);
+    }
+
+    /**
+     * Empieza a medir una operación pública y toma el candado compartido, después de la preparación y de
+     * {@link #sincronizar()}. Las operaciones medidas entran por aquí o por {@link #escribir} y salen por
+     * {@link #soltarLectura} o {@link #soltarEscritura}, que terminan la medición; ver {@link Metricas}.
+     * Si la preparación falla, la llamada se cuenta como error.
+     *
+     * @param operacion La operación.
+     * @param id El ID que recibe la preparación.
+     * @param preparacion Lo que hay que hacer antes de tomar el candado, o null.
+     * @return El inicio de la medición.
+     */
+    private long leer(Metricas.Operacion operacion, String id, Preparacion preparacion) {
+        long inicio = operacion.iniciar();
+        try {
+            if (preparacion != null) {
+                preparacion.preparar(this, id);
+            }
+            sincronizar();
+        } catch (RuntimeException | Error e) {
+            operacion.terminar(inicio, false);
+            throw e;
+        }
+        estructura.readLock().lock();
+        return inicio;
+    }
+
+    private long leer(Metricas.Operacion operacion) {
+        return leer(operacion, null, null);
+    }
+
+    /**
+     * Igual que {@link #leer(Metricas.Operacion, String, Preparacion)}, con el candado exclusivo y sin preparación.
+     */
+    private long escribir(Metricas.Operacion operacion) {
+        long inicio = operacion.iniciar();
+        estructura.writeLock().lock();
+        return inicio;
+    }
+
+    /**
+     * Suelta el candado compartido y termina la medición.
+     * @param exito false si la operación devolvió false.
+     */
+    private void soltarLectura(Metricas.Operacion operacion, long inicio, boolean exito) {
+        estructura.readLock().unlock();
+        operacion.terminar(inicio, exito);
+    }
+
+    private void soltarEscritura(Metricas.Operacion operacion, long inicio, boolean exito) {
+        estructura.writeLock().unlock();
+        operacion.terminar(inicio, exito);
+    }
+
+    /**
+     * Igual que {@link #sincronizar()}; además carga la partición del partido consultado, porque el resto del
+     * calendario está en los resúmenes. Si algún resumen no trae el calendario (un catálogo anterior), carga
+     * todas las particiones pendientes y reconstruye las suspensiones.
+     * @param idPartido El ID del partido consultado, o null.
+     */
+    private void prepararSuspensiones(String idPartido) {
+        cargarParticionDe(idPartido);
+        sincronizar();
+        synchronized (candadoEstadisticas) {
+            if (!suspensiones.isDesactualizadas()) {
+                return;
+            }
+        }
+        if (estructura.getReadHoldCount() > 0 && !estructura.isWriteLockedByCurrentThread()) {
+            return;
+        }
+        // Reconstruir recorre los partidos, así que necesita el candado exclusivo
+        estructura.writeLock().lock();
+        try {
+            if (particionesPendientes > 0) {
+                cargarParticionesPendientes();
+            }
+            synchronized (candadoEstadisticas) {
+                if (suspensiones.isDesactualizadas()) {
+                    reconstruirSuspensiones();
+                }
+            }
+        } finally {
+            estructura.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Vuelve a armar el calendario y las tarjetas de las suspensiones en el orden de la lista de partidos: las
+     * particiones cargadas con sus partidos, las pendientes con su resumen y al final los partidos creados
+     * después. Se invoca con el candado exclusivo y candadoEstadisticas.
+     */
+    private void reconstruirSuspensiones() {
+        suspensiones.reiniciar();
+        int desde = 0;
+        for (int particion = 0; particion < particionCargada.length; particion++) {
+            if (particionCargada[particion]) {
+                int hasta = Math.min(partidos.size(), desde + partidosCargados[particion]);
+                agregarASuspensiones(partidos.subList(desde, hasta));
+                desde = hasta;
+            } else if (!suspensiones.agregarParticion(particion, cargador.resumen(particion), equiposPorId::ordinal,
+                    id -> jugadoresPorId.asignar(id, null))) {
+                // Sin el calendario de la partición no se sabe dónde caen los partidos siguientes
+                suspensiones.invalidar();
+                return;
+            }
+        }
+        agregarASuspensiones(partidos.subList(desde, partidos.size()));
+        suspensiones.recalcular();
+    }
+
+    private void agregarASuspensiones(List<Partido> lista) {
+        for (Partido partido : lista) {
+            suspensiones.agregarPartido(partido);
+            suspensiones.agregarTarjetas(partido);
+        }
+    }
+
+    /**
+     * Preparación de los histogramas: sus partidos pendientes no traen los minutos en el resumen, así que
+     * se cargan todos; si se consulta un jugador, además se lo ubica (ver {@link #ubicarJugador(String)}).
+     * @param idJugador El ID del jugador consultado, o null.
+     */
+    private void prepararHistograma(String idJugador) {
+        if (particionesPendientes > 0) {
+            cargarParticionesPendientes();
+        }
+        ubicarJugador(idJugador);
+    }
+
+    /**
+     * Goles, tarjetas o faltas de un jugador.
+     * @param campo {@link HistogramasMinutos#GOLES}, {@link HistogramasMinutos#TARJETAS} o {@link HistogramasMinutos#FALTAS}.
+     */
+    private int contadorJugador(Metricas.Operacion operacion, String idJugador, int campo) {
+        long inicio = leer(operacion);
+        try {
+            if (esVacio(idJugador)) {
+                return 0;
+            }
+            synchronized (candadoEstadisticas) {
+                return contador(campo, jugadoresPorId.ordinal(idJugador));
+            }
+        } finally {
+            soltarLectura(operacion, inicio, true);
+        }
+    }
+
+    /**
+     * Los primeros jugadores de un ranking.
+     * @param campo {@link HistogramasMinutos#GOLES}, {@link HistogramasMinutos#TARJETAS} o {@link HistogramasMinutos#FALTAS}.
+     */
+    private List<Object[]> clasificacion(Metricas.Operacion operacion, int campo, int cantidad) {
+        long inicio = leer(operacion);
+        try {
+            synchronized (candadoEstadisticas) {
+                int[] ordinales = campo == HistogramasMinutos.GOLES ? estadisticasJugadores.maximosGoleadores(cantidad)
+                        : campo == HistogramasMinutos.TARJETAS ? estadisticasJugadores.masTarjetas(cantidad)
+                        : estadisticasJugadores.masFaltas(cantidad);
+                List<Object[]> filas = new ArrayList<>(ordinales.length);
+                for (int ordinal : ordinales) {
+                    Jugador jugador = jugadoresPorId.entidad(ordinal);
+                    int equipo = equipoDeJugador(ordinal);
+                    filas.add(new Object[]{
+                            jugadoresPorId.id(ordinal),
+                            jugador != null ? jugador.getNombreCompleto() : null,
+                            equipo >= 0 ? equiposPorId.entidad(equipo).getNombre() : null,
+                            contador(campo, ordinal)
+                    });
+                }
+                return filas;
+            }
+        } finally {
+            soltarLectura(operacion, inicio, true);
+        }
+    }
+
+    private int contador(int campo, int ordinalJugador) {
+        switch (campo) {
+            case HistogramasMinutos.GOLES: return estadisticasJugadores.goles(ordinalJugador);
+            case HistogramasMinutos.TARJETAS: return estadisticasJugadores.tarjetas(ordinalJugador);
+            default: return estadisticasJugadores.faltas(ordinalJugador);
+        }
     }
 
     /**
@@ -295,16 +1442,34 @@ public class Campeonato {
      * @return El equipo encontrado, o null si no existe.
      */
     public Equipo buscarEquipoPorId(String id) {
-        return null;
+        if (esVacio(id)) {
+            return null;
+        }
+        sincronizar();
+        estructura.readLock().lock();
+        try {
+            return equiposPorId.buscar(id);
+        } finally {
+            estructura.readLock().unlock();
+        }
     }
 
     /**
-     * Busca un equipo por su nombre.
+     * Busca un equipo por su nombre, sin distinguir mayúsculas de minúsculas.
      * @param nombre El nombre del equipo a buscar.
      * @return El equipo encontrado, o null si no existe.
      */
     public Equipo buscarEquipoPorNombre(String nombre) {
-        return null;
+        if (esVacio(nombre)) {
+            return null;
+        }
+        sincronizar();
+        estructura.readLock().lock();
+        try {
+            return equiposPorNombre.get(normalizarNombre(nombre));
+        } finally {
+            estructura.readLock().unlock();
+        }
     }
 
     /**
@@ -313,9 +1478,394 @@ public class Campeonato {
      * @return El partido encontrado, o null si no existe.
      */
     public Partido buscarPartidoPorId(String id) {
+        if (esVacio(id)) {
+            return null;
+        }
+        sincronizar();
+        cargarParticionDe(id);
+        estructura.readLock().lock();
+        try {
+            return partidosPorId.buscar(id);
+        } finally {
+            estructura.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstruye los índices y la tabla de posiciones si alguna lista fue reemplazada
+     * o modificada directamente, sin pasar por registrarEquipo/crearPartido, o si algún partido
+     * reemplazó sus eventos.
+     * Se invoca antes de tomar el candado compartido, porque la reconstrucción necesita el exclusivo.
+     */
+    private void sincronizar() {
+        if (equiposIndexados == equipos.firma() && partidosIndexados == partidos.firma() && !estadisticasDesactualizadas) {
+            return;
+        }
+        if (estructura.getReadHoldCount() > 0 && !estructura.isWriteLockedByCurrentThread()) {
+            // Desde un observador no se puede pasar del candado compartido al exclusivo
+            return;
+        }
+        estructura.writeLock().lock();
+        try {
+            reindexar();
+        } finally {
+            estructura.writeLock().unlock();
+        }
+    }
+
+    private void reindexar() {
+        boolean equiposCambiaron = equiposIndexados != equipos.firma();
+        boolean partidosCambiaron = partidosIndexados != partidos.firma();
+        if (!equiposCambiaron && !partidosCambiaron && !estadisticasDesactualizadas) {
+            // Otro hilo ya reindexó mientras este esperaba el candado exclusivo
+            return;
+        }
+        if (equiposCambiaron) {
+            equiposPorId.limpiar();
+            equiposPorNombre.clear();
+            for (Equipo equipo : equipos) {
+                indexarEquipo(equipo);
+            }
+            equiposIndexados = equipos.firma();
+            // Los números de jugador cambian, así que también hay que recontar sus estadísticas
+            jugadoresPorId.limpiar();
+            indexarPlantillas();
+        }
+        if (partidosCambiaron) {
+            partidosPorId.limpiar();
+            for (Partido partido : partidos) {
+                if (partido.getId() != null) {
+                    partido.asignarOrdinal(partidosPorId.asignar(partido.getId(), partido));
+                }
+                partido.observar(observador);
+            }
+            partidosIndexados = partidos.firma();
+        }
+        synchronized (candadoEstadisticas) {
+            estadisticasDesactualizadas = false;
+            tablaPosiciones.reconstruir(equipos, partidos);
+            estadisticasJugadores.reconstruir(partidos);
+            histogramasMinutos.reconstruir(partidos);
+            sumarResumenesPendientes();
+            reconstruirSuspensiones();
+            modificaciones++;
+        }
+    }
+
+    /**
+     * Carga la partición del partido si todavía no se cargó.
+     * Se invoca antes de tomar el candado compartido, igual que {@link #sincronizar()}.
+     */
+    private void cargarParticionDe(String idPartido) {
+        if (particionesPendientes == 0 || idPartido == null || !particionPendiente.containsKey(idPartido)) {
+            return;
+        }
+        if (estructura.getReadHoldCount() > 0 && !estructura.isWriteLockedByCurrentThread()) {
+            return;
+        }
+        estructura.writeLock().lock();
+        try {
+            Integer particion = particionPendiente.get(idPartido);
+            if (particion != null) {
+                cargarParticion(particion);
+            }
+        } finally {
+            estructura.writeLock().unlock();
+        }
+    }
+
+    private void cargarParticionesPendientes() {
+        if (estructura.getReadHoldCount() > 0 && !estructura.isWriteLockedByCurrentThread()) {
+            return;
+        }
+        estructura.writeLock().lock();
+        try {
+            for (int particion = 0; particion < particionCargada.length; particion++) {
+                if (!particionCargada[particion]) {
+                    cargarParticion(particion);
+                }
+            }
+        } finally {
+            estructura.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserta los partidos de una partición tras los de las particiones anteriores ya cargadas, de modo que
+     * la lista termina en el orden de las particiones. La tabla y las estadísticas ya los incluían por el
+     * resumen, así que solo se indexan.
+     */
+    private void cargarParticion(int particion) {
+        sincronizar();
+        List<Partido> cargados;
+        try {
+            cargados = cargador.cargar(particion);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cargar la partición de partidos " + particion, e);
+        }
+        int posicion = 0;
+        for (int anterior = 0; anterior < particion; anterior++) {
+            posicion += partidosCargados[anterior];
+        }
+        partidos.addAll(posicion, cargados);
+        for (Partido partido : cargados) {
+            if (partido.getId() != null) {
+                partido.asignarOrdinal(partidosPorId.asignar(partido.getId(), partido));
+            }
+            partido.observar(observador);
+        }
+        synchronized (candadoEstadisticas) {
+            // Los resúmenes no traen los minutos ni los rivales: se completan al cargar los partidos
+            for (Partido partido : cargados) {
+                histogramasMinutos.agregarPartido(partido);
+                tablaPosiciones.agregarEnfrentamiento(partido);
+            }
+            // Los partidos cargados toman el lugar que su resumen reservó en el calendario de sus equipos
+            if (!suspensiones.ubicarParticion(particion, cargados)) {
+                suspensiones.invalidar();
+            }
+        }
+        for (String id : cargador.idsPartidos(particion)) {
+            particionPendiente.remove(id, particion);
+        }
+        partidosIndexados = partidos.firma();
+        partidosCargados[particion] = cargados.size();
+        particionCargada[particion] = true;
+        particionesPendientes--;
+    }
+
+    private void sumarResumenesPendientes() {
+        for (int particion = 0; particion < particionCargada.length; particion++) {
+            if (particionCargada[particion]) {
+                continue;
+            }
+            ResumenParticion resumen = cargador.resumen(particion);
+            resumen.acumuladosPorEquipo().forEach((id, acumulados) -> {
+                int ordinal = equiposPorId.ordinal(id);
+                if (ordinal >= 0) {
+                    tablaPosiciones.sumarResumen(ordinal, acumulados);
+                }
+            });
+            resumen.contadoresPorJugador().forEach(estadisticasJugadores::sumarResumen);
+        }
+    }
+
+    /**
+     * Preparación de las consultas por jugador. Las plantillas se modifican directamente desde fuera del
+     * campeonato, así que si el jugador no está en el índice se vuelven a indexar antes de darlo por inexistente.
+     */
+    private void ubicarJugador(String idJugador) {
+        if (esVacio(idJugador)) {
+            return;
+        }
+        sincronizar();
+        estructura.readLock().lock();
+        try {
+            if (equipoDeJugador(jugadoresPorId.ordinal(idJugador)) >= 0) {
+                return;
+            }
+        } finally {
+            estructura.readLock().unlock();
+        }
+        if (estructura.getReadHoldCount() > 0 && !estructura.isWriteLockedByCurrentThread()) {
+            return;
+        }
+        estructura.writeLock().lock();
+        try {
+            indexarPlantillas();
+        } finally {
+            estructura.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return El equipo en cuya plantilla indexada está el jugador, o null. Se invoca con el candado compartido.
+     */
+    private Equipo equipoIndexado(String idJugador) {
+        if (esVacio(idJugador)) {
+            return null;
+        }
+        int equipo = equipoDeJugador(jugadoresPorId.ordinal(idJugador));
+        return equipo >= 0 ? equiposPorId.entidad(equipo) : null;
+    }
+
+    private static boolean tieneJugador(Equipo equipo, String idJugador) {
+        for (Jugador jugador : equipo.getJugadores()) {
+            if (idJugador.equals(jugador.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Vuelve a ubicar a cada jugador en la plantilla donde aparece primero.
+     * Conserva los números ya asignados, porque las estadísticas de jugadores están indexadas por ellos.
+     */
+    private void indexarPlantillas() {
+        Arrays.fill(equipoDeJugador, -1);
+        for (Equipo equipo : equipos) {
+            for (Jugador jugador : equipo.getJugadores()) {
+                if (jugador.getId() != null && equipoDeJugador(jugadoresPorId.ordinal(jugador.getId())) < 0) {
+                    indexarJugador(jugador, equipo);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asigna número al jugador, si no lo tenía, y lo ubica en la plantilla del equipo.
+     */
+    private void indexarJugador(Jugador jugador, Equipo equipo) {
+        int ordinal = jugadoresPorId.asignar(jugador.getId(), jugador);
+        // El número pudo asignarse antes a otra instancia con el mismo ID, p. ej. un jugador fuera de toda plantilla
+        jugadoresPorId.reemplazar(ordinal, jugador);
+        jugador.asignarOrdinal(ordinal);
+        if (ordinal >= equipoDeJugador.length) {
+            int largo = equipoDeJugador.length;
+            equipoDeJugador = Arrays.copyOf(equipoDeJugador, Math.max(ordinal + 1, largo * 2));
+            Arrays.fill(equipoDeJugador, largo, equipoDeJugador.length, -1);
+        }
+        equipoDeJugador[ordinal] = equipo.ordinal();
+    }
+
+    /**
+     * @return El número del equipo en cuya plantilla está el jugador, o -1.
+     */
+    private int equipoDeJugador(int ordinalJugador) {
+        return ordinalJugador >= 0 && ordinalJugador < equipoDeJugador.length ? equipoDeJugador[ordinalJugador] : -1;
+    }
+
+    /**
+     * Ubica al jugador en el partido usando solo los índices, sin recorrer las plantillas.
+     * @return El equipo del partido (local o visitante) en cuya plantilla indexada está el jugador, o null.
+     */
+    private Equipo equipoEnPartido(Partido partido, int ordinalJugador) {
+        int equipo = equipoDeJugador(ordinalJugador);
+        if (equipo < 0) {
+            return null;
+        }
+        Equipo local = partido.getEquipoLocal();
+        if (local != null && local.ordinal() == equipo) {
+            return local;
+        }
+        Equipo visitante = partido.getEquipoVisitante();
+        if (visitante != null && visitante.ordinal() == equipo) {
+            return visitante;
+        }
         return null;
     }
-}
 
+    /**
+     * Busca al jugador en los equipos del partido: primero por los índices y, si las plantillas se
+     * modificaron sin pasar por el campeonato, en las del partido.
+     * @param equipo Recibe en su primera posición el equipo del jugador en el partido.
+     * @return El jugador, o null si no juega en ninguno de los dos equipos.
+     */
+    private Jugador jugadorEnPartido(Partido partido, String idJugador, Equipo[] equipo) {
+        int ordinal = jugadoresPorId.ordinal(idJugador);
+        equipo[0] = equipoEnPartido(partido, ordinal);
+        if (equipo[0] != null) {
+            return jugadoresPorId.entidad(ordinal);
+        }
+        Jugador jugador = partido.obtenerJugador(idJugador);
+        equipo[0] = jugador != null ? partido.obtenerEquipoJugador(idJugador) : null;
+        return equipo[0] != null ? jugador : null;
+    }
 
+    /**
+     * Aplica a un evento las mismas validaciones de datos que los métodos que registran uno solo.
+     */
+    private static boolean esEventoValido(Evento evento) {
+        if (evento == null || evento.getTipo() == null || esVacio(evento.getIdJugador())
+                || evento.getMinuto() <= 0 || !EventosPartido.minutoValido(evento.getMinuto())) {
+            return false;
+        }
+        switch (evento.getTipo()) {
+            case TARJETA:
+                return Partido.esTipoTarjetaValido(evento.getTarjeta()) && !esVacio(evento.getMotivo());
+            case FALTA:
+                return !esVacio(evento.getIdJugadorAfectado()) && !esVacio(evento.getZona())
+                        && (evento.getTarjeta() == null || Partido.esTipoTarjetaValido(evento.getTarjeta()));
+            default:
+                return true;
+        }
+    }
 
+    /**
+     * Preparación de las consultas de la tabla: si se desempata por enfrentamientos directos, carga las
+     * particiones pendientes, porque sus resúmenes no distinguen los rivales de cada equipo.
+     */
+    private void prepararTabla() {
+        if (particionesPendientes > 0 && tablaPosiciones.usaEnfrentamientos()) {
+            cargarParticionesPendientes();
+        }
+    }
+
+    /**
+     * @param desde La primera posición, desde 1.
+     * @param hasta La última posición, incluida.
+     * @return Las filas de ese tramo que están en la tabla. Se invoca con {@code candadoEstadisticas} tomado.
+     */
+    private List<Object[]> tramoTabla(int desde, int hasta) {
+        int primera = Math.max(1, desde);
+        int ultima = Math.min(tablaPosiciones.cantidad(), hasta);
+        List<Object[]> filas = new ArrayList<>(Math.max(0, ultima - primera + 1));
+        for (int posicion = primera; posicion <= ultima; posicion++) {
+            filas.add(tablaPosiciones.enPosicion(posicion - 1).comoArreglo());
+        }
+        return filas;
+    }
+
+    private TablaPosiciones.Fila filaEquipo(String idEquipo) {
+        if (esVacio(idEquipo)) {
+            return null;
+        }
+        int ordinal = equiposPorId.ordinal(idEquipo);
+        return ordinal >= 0 ? tablaPosiciones.fila(ordinal) : null;
+    }
+
+    private void indexarEquipo(Equipo equipo) {
+        equipo.alCambiarPlantilla(this::plantillaCambiada);
+        // Los equipos repetidos reciben el número del primero de la lista, igual que una búsqueda lineal
+        if (equipo.getId() != null) {
+            equipo.asignarOrdinal(equiposPorId.asignar(equipo.getId(), equipo));
+        }
+        if (equipo.getNombre() != null) {
+            equiposPorNombre.putIfAbsent(normalizarNombre(equipo.getNombre()), equipo);
+        }
+    }
+
+    /**
+     * Invalida los resultados calculados cuando una plantilla cambia, también si se modificó directamente.
+     */
+    private void plantillaCambiada() {
+        synchronized (candadoEstadisticas) {
+            modificaciones++;
+        }
+    }
+
+    /**
+     * Incrementa la versión y avisa a los observadores. Se invoca con {@code candadoEstadisticas}
+     * tomado, así que los avisos llegan de a uno y en orden de versión.
+     */
+    private void notificar(Consumer<ObservadorCampeonato> aviso) {
+        version++;
+        modificaciones++;
+        for (ObservadorCampeonato o : observadores) {
+            aviso.accept(o);
+        }
+    }
+
+    private static String normalizarNombre(String nombre) {
+        return nombre.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean esRoja(String tipo) {
+        return "Roja".equalsIgnoreCase(tipo);
+    }
+
+    private static boolean esVacio(String valor) {
+        return valor == null || valor.trim().isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+// Archivo: model/CargadorPartidos.java
+package model;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Fuente de los partidos de un campeonato agrupados en particiones que se cargan bajo demanda.
+ * Ver {@link Campeonato#cargarPartidosBajoDemanda(CargadorPartidos)}.
+ */
+public interface CargadorPartidos {
+
+    /**
+     * @return La cantidad de particiones.
+     */
+    int contarParticiones();
+
+    /**
+     * @param particion El número de partición, desde 0.
+     * @return Los IDs de los partidos de la partición, en orden, sin cargarlos.
+     */
+    List<String> idsPartidos(int particion);
+
+    /**
+     * @param particion El número de partición, desde 0.
+     * @return Lo que los partidos de la partición aportan a la tabla y a las estadísticas de jugadores.
+     */
+    ResumenParticion resumen(int particion);
+
+    /**
+     * Carga los partidos de una partición con sus eventos. Los equipos y jugadores de los partidos deben
+     * ser las mismas instancias que ya tiene el campeonato, y cada partido debe figurar ya en la lista de
+     * partidos de sus equipos. Se invoca una sola vez por partición.
+     *
+     * @param particion El número de partición, desde 0.
+     * @return Los partidos, en el orden de {@link #idsPartidos(int)}.
+     * @throws IOException Si no se pudo leer la partición.
+     */
+    List<Partido> cargar(int particion) throws IOException;
+}
@@ -0,0 +1,151 @@
+// Archivo: model/Clasificacion.java
+package model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Ranking de jugadores por un contador (goles, tarjetas o faltas), de mayor a menor y, a igual valor,
+ * por ID. Solo incluye a los jugadores con el contador mayor que cero.
+ *
+ * <p>Cada cambio de un contador solo marca al jugador como pendiente, así que registrar un evento cuesta
+ * lo mismo con o sin ranking. Al consultar el ranking se reubican los pendientes, O(log n) cada uno (o se
+ * rearma entero si son muchos, como tras una importación), y los primeros K se recorren en O(K).</p>
+ */
+final class Clasificacion {
+
+    /**
+     * Un jugador en el ranking, con el valor del contador con el que se ubicó. Se guarda el valor porque
+     * el contador ya cambió cuando se reubica, y para quitarlo hay que compararlo con el valor anterior.
+     */
+    private static final class Entrada {
+        final int ordinal;
+        int valor;
+
+        Entrada(int ordinal) {
+            this.ordinal = ordinal;
+        }
+    }
+
+    private final IntUnaryOperator valor;
+    private final IntSupplier jugadores;
+    private final TreeSet<Entrada> orden;
+    private Entrada[] entradas = new Entrada[16];
+    // Jugadores cuyo contador cambió desde la última consulta
+    private int[] pendientes = new int[16];
+    private int cantidadPendientes;
+    private boolean[] pendiente = new boolean[16];
+    // Los números de jugador cambiaron: hay que rearmar todo
+    private boolean rearmar;
+
+    /**
+     * @param valor El contador de cada número de jugador.
+     * @param id El ID de cada número de jugador, para desempatar.
+     * @param jugadores La cantidad de números de jugador.
+     */
+    Clasificacion(IntUnaryOperator valor, IntFunction<String> id, IntSupplier jugadores) {
+        this.valor = valor;
+        this.jugadores = jugadores;
+        this.orden = new TreeSet<>((a, b) -> {
+            int comparacion = Integer.compare(b.valor, a.valor);
+            if (comparacion == 0) {
+                comparacion = id.apply(a.ordinal).compareTo(id.apply(b.ordinal));
+            }
+            return comparacion != 0 ? comparacion : Integer.compare(a.ordinal, b.ordinal);
+        });
+    }
+
+    /**
+     * Avisa que cambió el contador del jugador.
+     */
+    void cambiado(int ordinal) {
+        if (rearmar) {
+            return;
+        }
+        if (ordinal >= pendiente.length) {
+            pendiente = Arrays.copyOf(pendiente, Math.max(ordinal + 1, pendiente.length * 2));
+        }
+        if (!pendiente[ordinal]) {
+            pendiente[ordinal] = true;
+            if (cantidadPendientes == pendientes.length) {
+                pendientes = Arrays.copyOf(pendientes, cantidadPendientes * 2);
+            }
+            pendientes[cantidadPendientes++] = ordinal;
+        }
+    }
+
+    /**
+     * Avisa que cambiaron los números de los jugadores; el ranking se rearma en la próxima consulta.
+     */
+    void reconstruir() {
+        rearmar = true;
+        cantidadPendientes = 0;
+        Arrays.fill(pendiente, false);
+    }
+
+    /**
+     * @param cantidad La cantidad máxima de jugadores.
+     * @return Los números de los primeros jugadores del ranking, en orden.
+     */
+    int[] primeros(int cantidad) {
+        actualizar();
+        int[] primeros = new int[Math.max(0, Math.min(cantidad, orden.size()))];
+        Iterator<Entrada> iterador = orden.iterator();
+        for (int i = 0; i < primeros.length; i++) {
+            primeros[i] = iterador.next().ordinal;
+        }
+        return primeros;
+    }
+
+    private void actualizar() {
+        // Con muchos pendientes es más rápido rearmar que reubicar uno por uno
+        if (rearmar || cantidadPendientes > orden.size() / 4 + 64) {
+            int hasta = jugadores.getAsInt();
+            orden.clear();
+            entradas = new Entrada[Math.max(16, hasta)];
+            for (int ordinal = 0; ordinal < hasta; ordinal++) {
+                int actual = valor.applyAsInt(ordinal);
+                if (actual > 0) {
+                    Entrada entrada = entrada(ordinal);
+                    entrada.valor = actual;
+                    orden.add(entrada);
+                }
+            }
+            for (int i = 0; i < cantidadPendientes; i++) {
+                pendiente[pendientes[i]] = false;
+            }
+            cantidadPendientes = 0;
+            rearmar = false;
+            return;
+        }
+        for (int i = 0; i < cantidadPendientes; i++) {
+            int ordinal = pendientes[i];
+            pendiente[ordinal] = false;
+            Entrada entrada = entrada(ordinal);
+            if (entrada.valor > 0) {
+                orden.remove(entrada);
+            }
+            entrada.valor = valor.applyAsInt(ordinal);
+            if (entrada.valor > 0) {
+                orden.add(entrada);
+            }
+        }
+        cantidadPendientes = 0;
+    }
+
+    private Entrada entrada(int ordinal) {
+        if (ordinal >= entradas.length) {
+            entradas = Arrays.copyOf(entradas, Math.max(ordinal + 1, entradas.length * 2));
+        }
+        Entrada entrada = entradas[ordinal];
+        if (entrada == null) {
+            entrada = new Entrada(ordinal);
+            entradas[ordinal] = entrada;
+        }
+        return entrada;
+    }
+}
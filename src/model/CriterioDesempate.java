@@ -0,0 +1,28 @@
+// Archivo: model/CriterioDesempate.java
+package model;
+
+/**
+ * Criterios para ordenar en la tabla de posiciones a los equipos con los mismos puntos
+ * (ver {@link Campeonato#desempatarPor(CriterioDesempate...)}). Se aplican en el orden configurado, cada uno
+ * solo entre los equipos que siguen empatados; si todos empatan, queda primero el equipo registrado antes.
+ */
+public enum CriterioDesempate {
+
+    /**
+     * Mini tabla de los partidos entre los equipos empatados: puntos, luego diferencia de goles y luego
+     * goles a favor en esos partidos.
+     */
+    ENFRENTAMIENTOS_DIRECTOS,
+
+    /** Goles a favor menos goles en contra (mayor primero). */
+    DIFERENCIA_DE_GOLES,
+
+    /** Goles a favor (mayor primero). */
+    GOLES_A_FAVOR,
+
+    /** Goles en contra (menor primero). */
+    GOLES_EN_CONTRA,
+
+    /** Juego limpio: tarjetas recibidas, como en {@link Equipo#calculaTotalTarjetas()} (menos primero). */
+    JUEGO_LIMPIO
+}
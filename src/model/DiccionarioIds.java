@@ -0,0 +1,115 @@
+// Archivo: model/DiccionarioIds.java
+package model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Traduce los IDs de texto de una clase de entidad a números enteros densos (0, 1, 2...), asignados en
+ * orden de llegada, y guarda la entidad de cada número.
+ *
+ * <p>El campeonato traduce cada ID de la API pública una sola vez; sus índices y acumulados internos son
+ * arreglos indexados por estos números. Las consultas pueden leer mientras otro hilo asigna un número nuevo;
+ * vaciar el diccionario requiere que nadie más lo use.</p>
+ *
+ * @param <T> La clase de entidad.
+ */
+final class DiccionarioIds<T> {
+
+    private final Map<String, Integer> ordinales = new ConcurrentHashMap<>();
+    private volatile Object[] entidades = new Object[16];
+    private volatile String[] ids = new String[16];
+    private volatile int cantidad;
+
+    /**
+     * @param id El ID a traducir.
+     * @return El número del ID, o -1 si no tiene.
+     */
+    int ordinal(String id) {
+        Integer ordinal = id != null ? ordinales.get(id) : null;
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * @param ordinal Un número asignado por este diccionario.
+     * @return La entidad de ese número.
+     */
+    @SuppressWarnings("unchecked")
+    T entidad(int ordinal) {
+        return (T) entidades[ordinal];
+    }
+
+    /**
+     * @param ordinal Un número asignado por este diccionario.
+     * @return El ID de ese número.
+     */
+    String id(int ordinal) {
+        return ids[ordinal];
+    }
+
+    /**
+     * @param id El ID a buscar.
+     * @return La entidad con ese ID, o null si no tiene número.
+     */
+    T buscar(String id) {
+        int ordinal = ordinal(id);
+        return ordinal >= 0 ? entidad(ordinal) : null;
+    }
+
+    /**
+     * Devuelve el número del ID, asignándole uno nuevo con la entidad si todavía no tenía.
+     * Si ya tenía número se conserva la entidad guardada, igual que un {@code putIfAbsent}.
+     *
+     * @param id El ID de la entidad; no debe ser null.
+     * @param entidad La entidad para un número nuevo.
+     * @return El número del ID.
+     */
+    synchronized int asignar(String id, T entidad) {
+        Integer existente = ordinales.get(id);
+        if (existente != null) {
+            return existente;
+        }
+        int ordinal = cantidad;
+        Object[] actuales = entidades;
+        String[] actualesIds = ids;
+        if (ordinal == actuales.length) {
+            actuales = Arrays.copyOf(actuales, ordinal * 2);
+            actualesIds = Arrays.copyOf(actualesIds, ordinal * 2);
+        }
+        actuales[ordinal] = entidad;
+        actualesIds[ordinal] = id;
+        entidades = actuales;
+        ids = actualesIds;
+        cantidad = ordinal + 1;
+        // Se publica el ID al final, cuando la entidad ya es visible para quien lo lea
+        ordinales.put(id, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Cambia la entidad guardada para un número ya asignado.
+     */
+    synchronized void reemplazar(int ordinal, T entidad) {
+        Object[] actuales = entidades;
+        actuales[ordinal] = entidad;
+        entidades = actuales;
+    }
+
+    /**
+     * @return La cantidad de números asignados; son todos los menores que este valor.
+     */
+    int tamano() {
+        return cantidad;
+    }
+
+    /**
+     * Olvida todos los números asignados.
+     */
+    synchronized void limpiar() {
+        ordinales.clear();
+        entidades = new Object[16];
+        ids = new String[16];
+        cantidad = 0;
+    }
+}
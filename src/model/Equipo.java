@@ -14,9 +14,13 @@ public class Equipo {
     private String nombreEntrenador;
     private List<Jugador> jugadores;
     private List<Partido> partidos;
+    // Aviso del campeonato que contiene al equipo cuando cambia la plantilla; null si no pertenece a ninguno
+    private volatile Runnable alCambiarPlantilla;
+    // Número denso asignado por el campeonato que lo contiene; -1 si no pertenece a ninguno
+    private int ordinal = -1;
 
     public Equipo() {
-        this.jugadores = new ArrayList<>();
+        this.jugadores = new ListaVigilada<>(new ArrayList<>(), this::plantillaCambiada);
         this.partidos = new ArrayList<>();
     }
 
@@ -39,23 +43,47 @@ public class Equipo {
         this.nombre = nombre;
         this.barrio = barrio;
         this.nombreEntrenador = nombreEntrenador;
-        this.jugadores = new ArrayList<>();
+        this.jugadores = new ListaVigilada<>(new ArrayList<>(), this::plantillaCambiada);
         this.partidos = new ArrayList<>();
     }
 
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
+    int ordinal() { return ordinal; }
+    void asignarOrdinal(int ordinal) { this.ordinal = ordinal; }
     public String getNombre() { return nombre; }
     public void setNombre(String nombre) { this.nombre = nombre; }
     public String getBarrio() { return barrio; }
     public void setBarrio(String barrio) { this.barrio = barrio; }
     public String getNombreEntrenador() { return nombreEntrenador; }
     public void setNombreEntrenador(String nombreEntrenador) { this.nombreEntrenador = nombreEntrenador; }
+    /**
+     * @return La plantilla. Se puede modificar directamente: el campeonato que contiene al equipo se entera
+     * de cada cambio hecho a través de esta lista.
+     */
     public List<Jugador> getJugadores() { return jugadores; }
-    public void setJugadores(List<Jugador> jugadores) { this.jugadores = jugadores; }
+    public void setJugadores(List<Jugador> jugadores) {
+        this.jugadores = new ListaVigilada<>(jugadores, this::plantillaCambiada);
+        plantillaCambiada();
+    }
     public List<Partido> getPartidos() { return partidos; }
     public void setPartidos(List<Partido> partidos) { this.partidos = partidos; }
 
+    /**
+     * Asocia el aviso que recibe el campeonato cuando cambia la plantilla.
+     * @param aviso El aviso, o null para desasociarlo.
+     */
+    void alCambiarPlantilla(Runnable aviso) {
+        this.alCambiarPlantilla = aviso;
+    }
+
+    private void plantillaCambiada() {
+        Runnable aviso = alCambiarPlantilla;
+        if (aviso != null) {
+            aviso.run();
+        }
+    }
+
     /**
      * Calcula el número de partidos ganados.
      *
@@ -65,7 +93,11 @@ public class Equipo {
      */
     public int calcularPartidosGanados() {
         int ganados = 0;
-
+        for (Partido partido : partidos) {
+            if (this.equals(partido.calcularGanador())) {
+                ganados++;
+            }
+        }
         return ganados;
     }
 
@@ -75,7 +107,11 @@ public class Equipo {
      */
     public int calculaPartidosEmpatados() {
         int empatados = 0;
-
+        for (Partido partido : partidos) {
+            if (partido.calcularGanador() == null) {
+                empatados++;
+            }
+        }
         return empatados;
     }
 
@@ -88,7 +124,12 @@ public class Equipo {
      */
     public int calculaPartidosPerdidos() {
         int perdidos = 0;
-
+        for (Partido partido : partidos) {
+            Equipo ganador = partido.calcularGanador();
+            if (ganador != null && !this.equals(ganador)) {
+                perdidos++;
+            }
+        }
         return perdidos;
     }
 
@@ -98,7 +139,12 @@ public class Equipo {
      */
     public int calculaGolesAFavor() {
         int golesAFavor = 0;
-
+        for (Partido partido : partidos) {
+            int goles = partido.calcularGolesEquipo(id);
+            if (goles > 0) {
+                golesAFavor += goles;
+            }
+        }
         return golesAFavor;
     }
 
@@ -108,7 +154,13 @@ public class Equipo {
      */
     public int calculaGolesEnContra() {
         int golesEnContra = 0;
-
+        for (Partido partido : partidos) {
+            if (this.equals(partido.getEquipoLocal())) {
+                golesEnContra += partido.getGolesVisitante();
+            } else if (this.equals(partido.getEquipoVisitante())) {
+                golesEnContra += partido.getGolesLocal();
+            }
+        }
         return golesEnContra;
     }
 
@@ -124,7 +176,7 @@ public class Equipo {
      * @return El número de puntos.
      */
     public int calculaPuntos() {
-return 0;
+        return calcularPartidosGanados() * 3 + calculaPartidosEmpatados();
     }
 
     /**
@@ -133,6 +185,12 @@ return 0;
      */
     public int calculaTotalTarjetas() {
         int totalTarjetas = 0;
+        for (Partido partido : partidos) {
+            int tarjetas = partido.calcularTarjetasEquipo(id);
+            if (tarjetas > 0) {
+                totalTarjetas += tarjetas;
+            }
+        }
         return totalTarjetas;
     }
 
@@ -142,6 +200,12 @@ return 0;
      */
     public int contarFaltas() {
         int totalFaltas = 0;
+        for (Partido partido : partidos) {
+            int faltas = partido.calcularFaltasEquipo(id);
+            if (faltas > 0) {
+                totalFaltas += faltas;
+            }
+        }
         return totalFaltas;
     }
 
@@ -0,0 +1,172 @@
+// Archivo: model/EstadisticasJugadores.java
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice de estadísticas por jugador (goles, tarjetas y faltas cometidas), en arreglos indexados por el
+ * número de cada jugador en el campeonato ({@link DiccionarioIds}).
+ * Se actualiza con cada evento registrado y se reconstruye en una sola pasada tras cargar el campeonato.
+ */
+class EstadisticasJugadores {
+
+    private final DiccionarioIds<Jugador> jugadores;
+    private int[] goles = new int[16];
+    private int[] tarjetas = new int[16];
+    private int[] faltas = new int[16];
+    // Rankings por cada contador; cada evento marca al jugador y se reubica al consultar
+    private final Clasificacion porGoles;
+    private final Clasificacion porTarjetas;
+    private final Clasificacion porFaltas;
+
+    /**
+     * @param jugadores El diccionario de jugadores del campeonato. Los jugadores con eventos que no
+     *                  estén en él (por ejemplo, fuera de toda plantilla) reciben un número nuevo.
+     */
+    EstadisticasJugadores(DiccionarioIds<Jugador> jugadores) {
+        this.jugadores = jugadores;
+        this.porGoles = new Clasificacion(this::goles, jugadores::id, jugadores::tamano);
+        this.porTarjetas = new Clasificacion(this::tarjetas, jugadores::id, jugadores::tamano);
+        this.porFaltas = new Clasificacion(this::faltas, jugadores::id, jugadores::tamano);
+    }
+
+    /**
+     * Recalcula los contadores recorriendo una vez los eventos de todos los partidos.
+     * @param partidos Los partidos del campeonato.
+     */
+    void reconstruir(List<Partido> partidos) {
+        Arrays.fill(goles, 0);
+        Arrays.fill(tarjetas, 0);
+        Arrays.fill(faltas, 0);
+        porGoles.reconstruir();
+        porTarjetas.reconstruir();
+        porFaltas.reconstruir();
+        for (Partido partido : partidos) {
+            partido.recorrerEventos(this::golRegistrado, this::tarjetaRegistrada, this::faltaRegistrada);
+        }
+    }
+
+    void golRegistrado(Jugador jugador) {
+        int ordinal = asignarOrdinal(jugador);
+        if (ordinal >= 0) {
+            sumar(goles, porGoles, ordinal, 1);
+        }
+    }
+
+    void tarjetaRegistrada(Jugador jugador) {
+        int ordinal = asignarOrdinal(jugador);
+        if (ordinal >= 0) {
+            sumar(tarjetas, porTarjetas, ordinal, 1);
+        }
+    }
+
+    void faltaRegistrada(Jugador jugador) {
+        int ordinal = asignarOrdinal(jugador);
+        if (ordinal >= 0) {
+            sumar(faltas, porFaltas, ordinal, 1);
+        }
+    }
+
+    /**
+     * Suma los contadores precalculados de partidos que todavía no se cargaron.
+     * @param idJugador El ID del jugador; recibe número si no lo tenía.
+     * @param contadores Goles, tarjetas y faltas, en el orden de {@link ResumenParticion#CAMPOS_JUGADOR}.
+     */
+    void sumarResumen(String idJugador, int[] contadores) {
+        int ordinal = jugadores.asignar(idJugador, null);
+        asegurarCapacidad(ordinal);
+        sumar(goles, porGoles, ordinal, contadores[0]);
+        sumar(tarjetas, porTarjetas, ordinal, contadores[1]);
+        sumar(faltas, porFaltas, ordinal, contadores[2]);
+    }
+
+    /**
+     * @param cantidad La cantidad máxima de jugadores.
+     * @return Los números de los jugadores con más goles, de mayor a menor; a igual cantidad, por ID.
+     */
+    int[] maximosGoleadores(int cantidad) {
+        return porGoles.primeros(cantidad);
+    }
+
+    /**
+     * Igual que {@link #maximosGoleadores(int)}, por tarjetas recibidas.
+     */
+    int[] masTarjetas(int cantidad) {
+        return porTarjetas.primeros(cantidad);
+    }
+
+    /**
+     * Igual que {@link #maximosGoleadores(int)}, por faltas cometidas.
+     */
+    int[] masFaltas(int cantidad) {
+        return porFaltas.primeros(cantidad);
+    }
+
+    /**
+     * @param ordinal El número del jugador, o -1.
+     * @return Los goles del jugador; 0 si no tiene eventos.
+     */
+    int goles(int ordinal) {
+        return ordinal >= 0 && ordinal < goles.length ? goles[ordinal] : 0;
+    }
+
+    int tarjetas(int ordinal) {
+        return ordinal >= 0 && ordinal < tarjetas.length ? tarjetas[ordinal] : 0;
+    }
+
+    int faltas(int ordinal) {
+        return ordinal >= 0 && ordinal < faltas.length ? faltas[ordinal] : 0;
+    }
+
+    /**
+     * @param jugador Un jugador.
+     * @return Su número en el diccionario, o -1 si no tiene; no asigna números nuevos.
+     */
+    int ordinal(Jugador jugador) {
+        if (jugador == null) {
+            return -1;
+        }
+        int ordinal = jugador.ordinal();
+        if (ordinal >= 0 && ordinal < jugadores.tamano() && jugadores.entidad(ordinal) == jugador) {
+            return ordinal;
+        }
+        return jugadores.ordinal(jugador.getId());
+    }
+
+    /**
+     * Suma al contador del jugador y lo marca en el ranking de ese contador.
+     * El arreglo se pasa después de asignar el número, cuando ya tiene la capacidad necesaria.
+     */
+    private void sumar(int[] contadores, Clasificacion clasificacion, int ordinal, int cantidad) {
+        if (cantidad != 0) {
+            contadores[ordinal] += cantidad;
+            clasificacion.cambiado(ordinal);
+        }
+    }
+
+    private int asignarOrdinal(Jugador jugador) {
+        if (jugador == null || jugador.getId() == null) {
+            return -1;
+        }
+        int ordinal = jugador.ordinal();
+        if (ordinal < 0 || ordinal >= jugadores.tamano() || jugadores.entidad(ordinal) != jugador) {
+            // Jugador que no pasó por las plantillas indexadas, o una copia de otro: se traduce su ID
+            ordinal = jugadores.asignar(jugador.getId(), jugador);
+            if (jugadores.entidad(ordinal) == jugador) {
+                jugador.asignarOrdinal(ordinal);
+            }
+        }
+        asegurarCapacidad(ordinal);
+        return ordinal;
+    }
+
+    private void asegurarCapacidad(int ordinal) {
+        if (ordinal >= goles.length) {
+            int capacidad = Math.max(ordinal + 1, goles.length * 2);
+            goles = Arrays.copyOf(goles, capacidad);
+            tarjetas = Arrays.copyOf(tarjetas, capacidad);
+            faltas = Arrays.copyOf(faltas, capacidad);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+// Archivo: model/Evento.java
+package model;
+
+/**
+ * Un evento de partido (gol, tarjeta o falta) descrito por los IDs de sus jugadores,
+ * para registrar varios de una vez con {@link Campeonato#registrarEventos(String, java.util.List)}.
+ * Los campos tienen el mismo significado que los parámetros de
+ * {@link Campeonato#registrarGol}, {@link Campeonato#registrarTarjeta} y {@link Campeonato#registrarFalta}.
+ */
+public final class Evento {
+
+    public enum Tipo { GOL, TARJETA, FALTA }
+
+    private final Tipo tipo;
+    private final String idJugador;
+    private final String idJugadorAfectado;
+    private final int minuto;
+    private final String tarjeta;
+    private final String motivo;
+    private final String zona;
+
+    private Evento(Tipo tipo, String idJugador, String idJugadorAfectado, int minuto, String tarjeta, String motivo, String zona) {
+        this.tipo = tipo;
+        this.idJugador = idJugador;
+        this.idJugadorAfectado = idJugadorAfectado;
+        this.minuto = minuto;
+        this.tarjeta = tarjeta;
+        this.motivo = motivo;
+        this.zona = zona;
+    }
+
+    /**
+     * @param idJugador El ID del jugador que anotó.
+     * @param minuto El minuto del gol.
+     * @return Un gol.
+     */
+    public static Evento gol(String idJugador, int minuto) {
+        return new Evento(Tipo.GOL, idJugador, null, minuto, null, null, null);
+    }
+
+    /**
+     * @param idJugador El ID del jugador que recibió la tarjeta.
+     * @param tipo "Amarilla" o "Roja".
+     * @param minuto El minuto de la tarjeta.
+     * @param motivo El motivo de la tarjeta.
+     * @return Una tarjeta.
+     */
+    public static Evento tarjeta(String idJugador, String tipo, int minuto, String motivo) {
+        return new Evento(Tipo.TARJETA, idJugador, null, minuto, tipo, motivo, null);
+    }
+
+    /**
+     * @param idJugadorComete El ID del jugador que cometió la falta.
+     * @param idJugadorAfectado El ID del jugador que la recibió.
+     * @param minuto El minuto de la falta.
+     * @param zona La zona del campo.
+     * @param tarjeta La tarjeta asociada ("Amarilla" o "Roja"), o null si no hubo.
+     * @return Una falta.
+     */
+    public static Evento falta(String idJugadorComete, String idJugadorAfectado, int minuto, String zona, String tarjeta) {
+        return new Evento(Tipo.FALTA, idJugadorComete, idJugadorAfectado, minuto, tarjeta, null, zona);
+    }
+
+    public Tipo getTipo() { return tipo; }
+    /** El jugador que anotó, recibió la tarjeta o cometió la falta. */
+    public String getIdJugador() { return idJugador; }
+    /** Solo en las faltas. */
+    public String getIdJugadorAfectado() { return idJugadorAfectado; }
+    public int getMinuto() { return minuto; }
+    /** El tipo de una tarjeta, o la tarjeta asociada a una falta. */
+    public String getTarjeta() { return tarjeta; }
+    /** Solo en las tarjetas. */
+    public String getMotivo() { return motivo; }
+    /** Solo en las faltas. */
+    public String getZona() { return zona; }
+
+    @Override
+    public String toString() {
+        return "Evento{" +
+                "tipo=" + tipo +
+                ", jugador=" + idJugador +
+                ", minuto=" + minuto +
+                '}';
+    }
+}
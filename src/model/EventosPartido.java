@@ -0,0 +1,561 @@
+// Archivo: model/EventosPartido.java
+package model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Goles, tarjetas y faltas de un partido guardados por columnas en arreglos primitivos.
+ *
+ * <p>Cada tipo de evento tiene un solo arreglo de {@code short} dividido en columnas contiguas del
+ * mismo largo: minuto, jugador, lado del equipo ({@link #LOCAL}, {@link #VISITANTE} o {@link #NINGUNO})
+ * y códigos de texto. Los jugadores y los textos (tipo de tarjeta, motivo, zona) se guardan una sola vez
+ * por partido y los eventos solo guardan su posición. Así una falta ocupa 12 bytes en lugar de un objeto
+ * con sus referencias, y contar los eventos de un equipo es recorrer una sola columna.</p>
+ *
+ * <p>El lado de cada evento se toma del equipo del jugador al registrarlo, y se recalcula si cambian
+ * los equipos del partido.</p>
+ *
+ * <p>Las posiciones de los diccionarios son {@code short}, así que un partido admite hasta
+ * {@link #MAXIMO_JUGADORES} jugadores y {@link #MAXIMO_TEXTOS} textos distintos. El registro consulta
+ * {@link #hayLugar} antes de agregar, y reemplazar los eventos vuelve a armar los diccionarios con solo
+ * lo que usan los eventos nuevos.</p>
+ *
+ * <p>Las listas de {@link Partido#getGoles()}, {@link Partido#getTarjetas()} y
+ * {@link Partido#getFaltas()} son vistas de estas columnas: cada lectura crea un objeto nuevo con los
+ * datos del evento, y modificar ese objeto no cambia el partido. Son de solo lectura: los eventos se
+ * registran con los métodos del partido, que actualizan el marcador y avisan al campeonato, o se
+ * reemplazan con {@link Partido#setGoles}, {@link Partido#setTarjetas} y {@link Partido#setFaltas}.
+ * Todas las operaciones se sincronizan sobre el partido dueño.</p>
+ */
+final class EventosPartido {
+
+    static final short LOCAL = 0;
+    static final short VISITANTE = 1;
+    static final short NINGUNO = 2;
+
+    // Columnas de cada tipo de evento
+    private static final int MINUTO = 0;
+    private static final int JUGADOR = 1;
+    private static final int LADO = 2;
+    private static final int GOL_COLUMNAS = 3;
+    private static final int TARJETA_TIPO = 3;
+    private static final int TARJETA_MOTIVO = 4;
+    private static final int TARJETA_COLUMNAS = 5;
+    private static final int FALTA_AFECTADO = 3;
+    private static final int FALTA_ZONA = 4;
+    private static final int FALTA_TARJETA = 5;
+    private static final int FALTA_COLUMNAS = 6;
+
+    // Códigos fijos de los tipos de tarjeta habituales; el resto de los textos va al diccionario
+    private static final short SIN_TEXTO = -1;
+    private static final short AMARILLA = 0;
+    private static final short ROJA = 1;
+    private static final int PRIMER_TEXTO = 2;
+
+    static final int MAXIMO_JUGADORES = Short.MAX_VALUE;
+    static final int MAXIMO_TEXTOS = Short.MAX_VALUE - PRIMER_TEXTO + 1;
+
+    // Pasado este tamaño un diccionario se busca con un mapa, para no recorrerlo entero con cada evento
+    private static final int DICCIONARIO_SIN_INDICE = 64;
+
+    private static final short[] VACIO = new short[0];
+
+    private final Partido partido;
+
+    private Jugador[] jugadores;
+    private int cantidadJugadores;
+    private Map<Jugador, Integer> indiceJugadores;
+    private String[] textos;
+    private int cantidadTextos;
+    private Map<String, Integer> indiceTextos;
+
+    private short[] goles = VACIO;
+    private int cantidadGoles;
+    private short[] tarjetas = VACIO;
+    private int cantidadTarjetas;
+    private short[] faltas = VACIO;
+    private int cantidadFaltas;
+
+    EventosPartido(Partido partido) {
+        this.partido = partido;
+    }
+
+    List<Gol> goles() { return new VistaGoles(); }
+    List<Tarjeta> tarjetas() { return new VistaTarjetas(); }
+    List<Falta> faltas() { return new VistaFaltas(); }
+
+    /**
+     * @param minuto El minuto de un evento.
+     * @return true si el minuto puede guardarse en una columna.
+     */
+    static boolean minutoValido(int minuto) {
+        return minuto >= Short.MIN_VALUE && minuto <= Short.MAX_VALUE;
+    }
+
+    // --- Registro ---
+
+    void agregarGol(Jugador jugador, int minuto) {
+        goles = asegurarLugar(goles, cantidadGoles, GOL_COLUMNAS);
+        int i = cantidadGoles;
+        int largo = goles.length / GOL_COLUMNAS;
+        goles[MINUTO * largo + i] = minuto(minuto);
+        goles[JUGADOR * largo + i] = posicionJugador(jugador);
+        goles[LADO * largo + i] = lado(jugador);
+        cantidadGoles++;
+    }
+
+    void agregarTarjeta(Jugador jugador, String tipo, int minuto, String motivo) {
+        tarjetas = asegurarLugar(tarjetas, cantidadTarjetas, TARJETA_COLUMNAS);
+        int i = cantidadTarjetas;
+        int largo = tarjetas.length / TARJETA_COLUMNAS;
+        tarjetas[MINUTO * largo + i] = minuto(minuto);
+        tarjetas[JUGADOR * largo + i] = posicionJugador(jugador);
+        tarjetas[LADO * largo + i] = lado(jugador);
+        tarjetas[TARJETA_TIPO * largo + i] = codigoTipo(tipo);
+        tarjetas[TARJETA_MOTIVO * largo + i] = codigoTexto(motivo);
+        cantidadTarjetas++;
+    }
+
+    void agregarFalta(Jugador jugadorComete, int minuto, String zona, Jugador jugadorAfectado, String tarjetaAsociada) {
+        faltas = asegurarLugar(faltas, cantidadFaltas, FALTA_COLUMNAS);
+        int i = cantidadFaltas;
+        int largo = faltas.length / FALTA_COLUMNAS;
+        faltas[MINUTO * largo + i] = minuto(minuto);
+        faltas[JUGADOR * largo + i] = posicionJugador(jugadorComete);
+        faltas[LADO * largo + i] = lado(jugadorComete);
+        faltas[FALTA_AFECTADO * largo + i] = posicionJugador(jugadorAfectado);
+        faltas[FALTA_ZONA * largo + i] = codigoTexto(zona);
+        faltas[FALTA_TARJETA * largo + i] = codigoTipo(tarjetaAsociada);
+        cantidadFaltas++;
+    }
+
+    void reemplazarGoles(List<Gol> nuevos) {
+        reemplazar(new ArrayList<>(nuevos), tarjetas(), faltas());
+    }
+
+    void reemplazarTarjetas(List<Tarjeta> nuevas) {
+        reemplazar(goles(), new ArrayList<>(nuevas), faltas());
+    }
+
+    void reemplazarFaltas(List<Falta> nuevas) {
+        reemplazar(goles(), tarjetas(), new ArrayList<>(nuevas));
+    }
+
+    /**
+     * Vuelve a registrar todos los eventos con diccionarios vacíos, para que no guarden jugadores ni textos
+     * que ya no usa ningún evento.
+     * @throws IllegalArgumentException Si los eventos no caben en los diccionarios; el partido no cambia.
+     */
+    private void reemplazar(List<Gol> nuevosGoles, List<Tarjeta> nuevasTarjetas, List<Falta> nuevasFaltas) {
+        // Las vistas de este partido se copian antes de vaciarlo
+        List<Gol> golesCopia = new ArrayList<>(nuevosGoles);
+        List<Tarjeta> tarjetasCopia = new ArrayList<>(nuevasTarjetas);
+        List<Falta> faltasCopia = new ArrayList<>(nuevasFaltas);
+        if (!caben(golesCopia, tarjetasCopia, faltasCopia, false)) {
+            throw new IllegalArgumentException("Demasiados jugadores o textos distintos en el partido " + partido.getId());
+        }
+        jugadores = null;
+        cantidadJugadores = 0;
+        indiceJugadores = null;
+        textos = null;
+        cantidadTextos = 0;
+        indiceTextos = null;
+        cantidadGoles = 0;
+        cantidadTarjetas = 0;
+        cantidadFaltas = 0;
+        for (Gol gol : golesCopia) {
+            agregarGol(gol.getJugador(), gol.getMinuto());
+        }
+        for (Tarjeta tarjeta : tarjetasCopia) {
+            agregarTarjeta(tarjeta.getJugador(), tarjeta.getTipo(), tarjeta.getMinuto(), tarjeta.getMotivo());
+        }
+        for (Falta falta : faltasCopia) {
+            agregarFalta(falta.getJugadorQueCometio(), falta.getMinuto(), falta.getZonaCampo(),
+                    falta.getJugadorAfectado(), falta.getTarjetaAsociada());
+        }
+    }
+
+    /**
+     * Indica si los diccionarios tienen lugar para los jugadores y textos de unos eventos nuevos. Se consulta
+     * antes de agregarlos, para rechazar el registro en lugar de fallar con parte de los eventos ya agregados.
+     */
+    boolean hayLugar(List<Gol> nuevosGoles, List<Tarjeta> nuevasTarjetas, List<Falta> nuevasFaltas) {
+        // Cada evento agrega a lo sumo dos jugadores y dos textos: casi siempre alcanza con esa cuenta
+        long eventos = nuevosGoles.size() + nuevasTarjetas.size() + nuevasFaltas.size();
+        if (cantidadJugadores + 2 * eventos <= MAXIMO_JUGADORES && cantidadTextos + 2 * eventos <= MAXIMO_TEXTOS) {
+            return true;
+        }
+        return caben(nuevosGoles, nuevasTarjetas, nuevasFaltas, true);
+    }
+
+    /**
+     * Cuenta los jugadores y textos distintos de los eventos, sin los que ya están en los diccionarios si
+     * {@code sumarActuales}, y comprueba que quepan junto a los actuales o en diccionarios vacíos.
+     */
+    private boolean caben(List<Gol> nuevosGoles, List<Tarjeta> nuevasTarjetas, List<Falta> nuevasFaltas, boolean sumarActuales) {
+        Set<Jugador> nuevosJugadores = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> nuevosTextos = new HashSet<>();
+        for (Gol gol : nuevosGoles) {
+            contarJugador(gol.getJugador(), nuevosJugadores, sumarActuales);
+        }
+        for (Tarjeta tarjeta : nuevasTarjetas) {
+            contarJugador(tarjeta.getJugador(), nuevosJugadores, sumarActuales);
+            contarTipo(tarjeta.getTipo(), nuevosTextos, sumarActuales);
+            contarTexto(tarjeta.getMotivo(), nuevosTextos, sumarActuales);
+        }
+        for (Falta falta : nuevasFaltas) {
+            contarJugador(falta.getJugadorQueCometio(), nuevosJugadores, sumarActuales);
+            contarJugador(falta.getJugadorAfectado(), nuevosJugadores, sumarActuales);
+            contarTexto(falta.getZonaCampo(), nuevosTextos, sumarActuales);
+            contarTipo(falta.getTarjetaAsociada(), nuevosTextos, sumarActuales);
+        }
+        int jugadoresActuales = sumarActuales ? cantidadJugadores : 0;
+        int textosActuales = sumarActuales ? cantidadTextos : 0;
+        return jugadoresActuales + nuevosJugadores.size() <= MAXIMO_JUGADORES
+                && textosActuales + nuevosTextos.size() <= MAXIMO_TEXTOS;
+    }
+
+    private void contarJugador(Jugador jugador, Set<Jugador> nuevos, boolean sumarActuales) {
+        if (jugador != null && !(sumarActuales && buscarJugador(jugador) >= 0)) {
+            nuevos.add(jugador);
+        }
+    }
+
+    private void contarTipo(String tipo, Set<String> nuevos, boolean sumarActuales) {
+        if (!"Amarilla".equals(tipo) && !"Roja".equals(tipo)) {
+            contarTexto(tipo, nuevos, sumarActuales);
+        }
+    }
+
+    private void contarTexto(String texto, Set<String> nuevos, boolean sumarActuales) {
+        if (texto != null && !(sumarActuales && buscarTexto(texto) >= 0)) {
+            nuevos.add(texto);
+        }
+    }
+
+    /**
+     * Vuelve a calcular el lado de cada evento; se llama cuando cambia alguno de los equipos del partido.
+     */
+    void recalcularLados() {
+        recalcularLados(goles, cantidadGoles, GOL_COLUMNAS);
+        recalcularLados(tarjetas, cantidadTarjetas, TARJETA_COLUMNAS);
+        recalcularLados(faltas, cantidadFaltas, FALTA_COLUMNAS);
+    }
+
+    private void recalcularLados(short[] datos, int cantidad, int columnas) {
+        int largo = datos.length / columnas;
+        for (int i = 0; i < cantidad; i++) {
+            datos[LADO * largo + i] = lado(jugador(datos[JUGADOR * largo + i]));
+        }
+    }
+
+    // --- Consultas ---
+
+    int contarTarjetas(short lado) {
+        return contar(tarjetas, cantidadTarjetas, TARJETA_COLUMNAS, lado);
+    }
+
+    int contarFaltas(short lado) {
+        return contar(faltas, cantidadFaltas, FALTA_COLUMNAS, lado);
+    }
+
+    /**
+     * Entrega el jugador de cada evento sin crear los objetos de evento.
+     */
+    void recorrer(Consumer<Jugador> goleador, Consumer<Jugador> amonestado, Consumer<Jugador> infractor) {
+        recorrer(goles, cantidadGoles, GOL_COLUMNAS, goleador);
+        recorrer(tarjetas, cantidadTarjetas, TARJETA_COLUMNAS, amonestado);
+        recorrer(faltas, cantidadFaltas, FALTA_COLUMNAS, infractor);
+    }
+
+    /**
+     * Recibe un evento recorrido con su lado ({@link #LOCAL} o {@link #VISITANTE}) y su minuto.
+     */
+    interface Recorrido {
+        void evento(Jugador jugador, short lado, int minuto);
+    }
+
+    /**
+     * Igual que {@link #recorrer(Consumer, Consumer, Consumer)}, con el lado y el minuto de cada evento.
+     */
+    void recorrer(Recorrido goleador, Recorrido amonestado, Recorrido infractor) {
+        recorrer(goles, cantidadGoles, GOL_COLUMNAS, goleador);
+        recorrer(tarjetas, cantidadTarjetas, TARJETA_COLUMNAS, amonestado);
+        recorrer(faltas, cantidadFaltas, FALTA_COLUMNAS, infractor);
+    }
+
+    /**
+     * Entrega cada tarjeta, en orden de registro, a {@code amarilla} o a {@code roja} según su tipo.
+     */
+    void recorrerTarjetas(Recorrido amarilla, Recorrido roja) {
+        int largo = tarjetas.length / TARJETA_COLUMNAS;
+        for (int i = 0; i < cantidadTarjetas; i++) {
+            short tipo = tarjetas[TARJETA_TIPO * largo + i];
+            // Los tipos escritos con otras mayúsculas se guardan como texto
+            Recorrido destino = tipo == ROJA || (tipo != AMARILLA && "Roja".equalsIgnoreCase(tipo(tipo))) ? roja : amarilla;
+            destino.evento(jugador(tarjetas[JUGADOR * largo + i]), tarjetas[LADO * largo + i], tarjetas[MINUTO * largo + i]);
+        }
+    }
+
+    private void recorrer(short[] datos, int cantidad, int columnas, Recorrido destino) {
+        int largo = datos.length / columnas;
+        for (int i = 0; i < cantidad; i++) {
+            destino.evento(jugador(datos[JUGADOR * largo + i]), datos[LADO * largo + i], datos[MINUTO * largo + i]);
+        }
+    }
+
+    private void recorrer(short[] datos, int cantidad, int columnas, Consumer<Jugador> destino) {
+        int largo = datos.length / columnas;
+        for (int i = 0; i < cantidad; i++) {
+            destino.accept(jugador(datos[JUGADOR * largo + i]));
+        }
+    }
+
+    private static int contar(short[] datos, int cantidad, int columnas, short lado) {
+        int desde = LADO * (datos.length / columnas);
+        int total = 0;
+        for (int i = desde; i < desde + cantidad; i++) {
+            if (datos[i] == lado) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    private static short valor(short[] datos, int columnas, int columna, int i) {
+        return datos[columna * (datos.length / columnas) + i];
+    }
+
+    /**
+     * Devuelve un arreglo con lugar para un evento más, copiando cada columna a su nueva posición si hay que crecer.
+     */
+    private static short[] asegurarLugar(short[] datos, int cantidad, int columnas) {
+        int largo = datos.length / columnas;
+        if (cantidad < largo) {
+            return datos;
+        }
+        int nuevoLargo = largo < 4 ? 4 : largo + (largo >> 1);
+        short[] nuevos = new short[nuevoLargo * columnas];
+        for (int columna = 0; columna < columnas; columna++) {
+            System.arraycopy(datos, columna * largo, nuevos, columna * nuevoLargo, cantidad);
+        }
+        return nuevos;
+    }
+
+    // --- Diccionarios ---
+
+    private short lado(Jugador jugador) {
+        if (jugador == null || jugador.getEquipo() == null || jugador.getEquipo().getId() == null) {
+            return NINGUNO;
+        }
+        Equipo equipo = jugador.getEquipo();
+        Equipo local = partido.getEquipoLocal();
+        Equipo visitante = partido.getEquipoVisitante();
+        // Casi siempre es el mismo objeto; comparar IDs queda para copias del equipo
+        if (equipo == local) {
+            return LOCAL;
+        }
+        if (equipo == visitante) {
+            return VISITANTE;
+        }
+        if (local != null && equipo.getId().equals(local.getId())) {
+            return LOCAL;
+        }
+        if (visitante != null && equipo.getId().equals(visitante.getId())) {
+            return VISITANTE;
+        }
+        return NINGUNO;
+    }
+
+    private static short minuto(int minuto) {
+        if (!minutoValido(minuto)) {
+            throw new IllegalArgumentException("Minuto fuera de rango: " + minuto);
+        }
+        return (short) minuto;
+    }
+
+    private short posicionJugador(Jugador jugador) {
+        if (jugador == null) {
+            return -1;
+        }
+        int posicion = buscarJugador(jugador);
+        if (posicion >= 0) {
+            return (short) posicion;
+        }
+        // El registro comprueba antes hayLugar: llegar aquí es un error de programación
+        if (cantidadJugadores == MAXIMO_JUGADORES) {
+            throw new IllegalStateException("Demasiados jugadores distintos en el partido " + partido.getId());
+        }
+        if (jugadores == null) {
+            jugadores = new Jugador[16];
+        } else if (cantidadJugadores == jugadores.length) {
+            jugadores = Arrays.copyOf(jugadores, cantidadJugadores * 2);
+        }
+        jugadores[cantidadJugadores] = jugador;
+        if (indiceJugadores != null) {
+            indiceJugadores.put(jugador, cantidadJugadores);
+        } else if (cantidadJugadores == DICCIONARIO_SIN_INDICE) {
+            indiceJugadores = new IdentityHashMap<>();
+            for (int i = 0; i <= cantidadJugadores; i++) {
+                indiceJugadores.put(jugadores[i], i);
+            }
+        }
+        return (short) cantidadJugadores++;
+    }
+
+    private int buscarJugador(Jugador jugador) {
+        if (indiceJugadores != null) {
+            Integer posicion = indiceJugadores.get(jugador);
+            return posicion == null ? -1 : posicion;
+        }
+        for (int i = cantidadJugadores - 1; i >= 0; i--) {
+            if (jugadores[i] == jugador) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Jugador jugador(short posicion) {
+        return posicion < 0 ? null : jugadores[posicion];
+    }
+
+    private short codigoTipo(String tipo) {
+        if ("Amarilla".equals(tipo)) {
+            return AMARILLA;
+        }
+        if ("Roja".equals(tipo)) {
+            return ROJA;
+        }
+        return codigoTexto(tipo);
+    }
+
+    private String tipo(short codigo) {
+        switch (codigo) {
+            case AMARILLA: return "Amarilla";
+            case ROJA: return "Roja";
+            default: return texto(codigo);
+        }
+    }
+
+    private short codigoTexto(String texto) {
+        if (texto == null) {
+            return SIN_TEXTO;
+        }
+        int posicion = buscarTexto(texto);
+        if (posicion >= 0) {
+            return (short) (PRIMER_TEXTO + posicion);
+        }
+        if (cantidadTextos == MAXIMO_TEXTOS) {
+            throw new IllegalStateException("Demasiados textos distintos en el partido " + partido.getId());
+        }
+        if (textos == null) {
+            textos = new String[4];
+        } else if (cantidadTextos == textos.length) {
+            textos = Arrays.copyOf(textos, cantidadTextos * 2);
+        }
+        textos[cantidadTextos] = texto;
+        if (indiceTextos != null) {
+            indiceTextos.put(texto, cantidadTextos);
+        } else if (cantidadTextos == DICCIONARIO_SIN_INDICE) {
+            indiceTextos = new HashMap<>();
+            for (int i = 0; i <= cantidadTextos; i++) {
+                indiceTextos.put(textos[i], i);
+            }
+        }
+        return (short) (PRIMER_TEXTO + cantidadTextos++);
+    }
+
+    private int buscarTexto(String texto) {
+        if (indiceTextos != null) {
+            Integer posicion = indiceTextos.get(texto);
+            return posicion == null ? -1 : posicion;
+        }
+        for (int i = cantidadTextos - 1; i >= 0; i--) {
+            if (texto.equals(textos[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String texto(short codigo) {
+        return codigo == SIN_TEXTO ? null : textos[codigo - PRIMER_TEXTO];
+    }
+
+    // --- Vistas como listas ---
+
+    private final class VistaGoles extends AbstractList<Gol> {
+        @Override
+        public Gol get(int i) {
+            synchronized (partido) {
+                indice(i, cantidadGoles);
+                return new Gol(jugador(valor(goles, GOL_COLUMNAS, JUGADOR, i)), valor(goles, GOL_COLUMNAS, MINUTO, i));
+            }
+        }
+
+        @Override
+        public int size() {
+            synchronized (partido) {
+                return cantidadGoles;
+            }
+        }
+    }
+
+    private final class VistaTarjetas extends AbstractList<Tarjeta> {
+        @Override
+        public Tarjeta get(int i) {
+            synchronized (partido) {
+                indice(i, cantidadTarjetas);
+                return new Tarjeta(jugador(valor(tarjetas, TARJETA_COLUMNAS, JUGADOR, i)),
+                        tipo(valor(tarjetas, TARJETA_COLUMNAS, TARJETA_TIPO, i)),
+                        valor(tarjetas, TARJETA_COLUMNAS, MINUTO, i),
+                        texto(valor(tarjetas, TARJETA_COLUMNAS, TARJETA_MOTIVO, i)));
+            }
+        }
+
+        @Override
+        public int size() {
+            synchronized (partido) {
+                return cantidadTarjetas;
+            }
+        }
+    }
+
+    private final class VistaFaltas extends AbstractList<Falta> {
+        @Override
+        public Falta get(int i) {
+            synchronized (partido) {
+                indice(i, cantidadFaltas);
+                return new Falta(jugador(valor(faltas, FALTA_COLUMNAS, JUGADOR, i)),
+                        valor(faltas, FALTA_COLUMNAS, MINUTO, i),
+                        texto(valor(faltas, FALTA_COLUMNAS, FALTA_ZONA, i)),
+                        jugador(valor(faltas, FALTA_COLUMNAS, FALTA_AFECTADO, i)),
+                        tipo(valor(faltas, FALTA_COLUMNAS, FALTA_TARJETA, i)));
+            }
+        }
+
+        @Override
+        public int size() {
+            synchronized (partido) {
+                return cantidadFaltas;
+            }
+        }
+    }
+
+    private static void indice(int i, int cantidad) {
+        if (i < 0 || i >= cantidad) {
+            throw new IndexOutOfBoundsException("Índice " + i + ", cantidad " + cantidad);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+// Archivo: model/HistogramasMinutos.java
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Distribución de los goles, tarjetas y faltas por tramo de {@value #MINUTOS_POR_INTERVALO} minutos, por equipo,
+ * por jugador y del campeonato completo.
+ *
+ * <p>Cada distribución es un {@code int[CAMPOS][INTERVALOS]}: la fila 0 son los goles, la 1 las tarjetas y la 2 las
+ * faltas cometidas (el orden de {@link ResumenParticion#CAMPOS_JUGADOR}), y la columna {@code i} cuenta los eventos
+ * del tramo {@link #etiqueta(int) etiqueta(i)}. Los tiempos añadidos (después del minuto 90) van al último tramo.
+ * Las distribuciones de varios partidos se combinan sumándolas ({@link #sumar(int[][], int[][])}).</p>
+ *
+ * <p>Internamente se guardan en arreglos planos indexados por el número de cada equipo y jugador
+ * ({@link DiccionarioIds}), que se actualizan con cada evento registrado, así que consultar una distribución
+ * solo copia sus {@code CAMPOS * INTERVALOS} contadores.</p>
+ */
+public final class HistogramasMinutos {
+
+    /**
+     * Ancho de cada tramo.
+     */
+    public static final int MINUTOS_POR_INTERVALO = 15;
+
+    /**
+     * Cantidad de tramos: seis de 90 minutos más el de los tiempos añadidos.
+     */
+    public static final int INTERVALOS = 90 / MINUTOS_POR_INTERVALO + 1;
+
+    /**
+     * Cantidad de filas de cada distribución: goles, tarjetas y faltas.
+     */
+    public static final int CAMPOS = 3;
+
+    static final int GOLES = 0;
+    static final int TARJETAS = 1;
+    static final int FALTAS = 2;
+
+    private static final int CONTADORES = CAMPOS * INTERVALOS;
+
+    private final ToIntFunction<Jugador> ordinalJugador;
+    private int[] equipos = new int[16 * CONTADORES];
+    private int[] jugadores = new int[16 * CONTADORES];
+    private final int[] campeonato = new int[CONTADORES];
+
+    /**
+     * @param ordinalJugador El número de cada jugador en el campeonato, o -1 si no tiene.
+     */
+    HistogramasMinutos(ToIntFunction<Jugador> ordinalJugador) {
+        this.ordinalJugador = ordinalJugador;
+    }
+
+    /**
+     * @param minuto El minuto de un evento.
+     * @return Su tramo, entre 0 y {@link #INTERVALOS} - 1.
+     */
+    public static int intervalo(int minuto) {
+        return Math.min(INTERVALOS - 1, Math.max(0, (minuto - 1) / MINUTOS_POR_INTERVALO));
+    }
+
+    /**
+     * @param intervalo Un tramo, entre 0 y {@link #INTERVALOS} - 1.
+     * @return Los minutos del tramo, p. ej. "16-30" o "91+".
+     */
+    public static String etiqueta(int intervalo) {
+        int desde = intervalo * MINUTOS_POR_INTERVALO + 1;
+        return intervalo == INTERVALOS - 1 ? desde + "+" : desde + "-" + (desde + MINUTOS_POR_INTERVALO - 1);
+    }
+
+    /**
+     * Suma una distribución a otra, p. ej. para combinar las de varios equipos.
+     * @param destino La distribución a la que se suma.
+     * @param valores La distribución que se suma.
+     */
+    public static void sumar(int[][] destino, int[][] valores) {
+        for (int campo = 0; campo < CAMPOS; campo++) {
+            for (int i = 0; i < INTERVALOS; i++) {
+                destino[campo][i] += valores[campo][i];
+            }
+        }
+    }
+
+    /**
+     * Recalcula todas las distribuciones a partir de los partidos del campeonato.
+     * @param partidos Los partidos del campeonato.
+     */
+    void reconstruir(List<Partido> partidos) {
+        Arrays.fill(equipos, 0);
+        Arrays.fill(jugadores, 0);
+        Arrays.fill(campeonato, 0);
+        for (Partido partido : partidos) {
+            agregarPartido(partido);
+        }
+    }
+
+    /**
+     * Suma todos los eventos que el partido ya tenga registrados.
+     */
+    void agregarPartido(Partido partido) {
+        partido.recorrerMinutos((j, e, minuto) -> sumar(e, j, GOLES, minuto),
+                (j, e, minuto) -> sumar(e, j, TARJETAS, minuto),
+                (j, e, minuto) -> sumar(e, j, FALTAS, minuto));
+    }
+
+    /**
+     * Suma un evento. Los jugadores deben tener ya su número (ver {@link EstadisticasJugadores}).
+     * @param equipo El equipo del jugador en el partido.
+     * @param jugador El jugador del evento.
+     * @param campo {@link #GOLES}, {@link #TARJETAS} o {@link #FALTAS}.
+     * @param minuto El minuto del evento.
+     */
+    void sumar(Equipo equipo, Jugador jugador, int campo, int minuto) {
+        int contador = campo * INTERVALOS + intervalo(minuto);
+        campeonato[contador]++;
+        if (equipo != null && equipo.ordinal() >= 0) {
+            equipos = asegurarCapacidad(equipos, equipo.ordinal());
+            equipos[equipo.ordinal() * CONTADORES + contador]++;
+        }
+        int ordinal = ordinalJugador.applyAsInt(jugador);
+        if (ordinal >= 0) {
+            jugadores = asegurarCapacidad(jugadores, ordinal);
+            jugadores[ordinal * CONTADORES + contador]++;
+        }
+    }
+
+    /**
+     * @param ordinal El número de un equipo en el campeonato.
+     * @return Su distribución; vacía si no tiene eventos.
+     */
+    int[][] equipo(int ordinal) {
+        return copiar(equipos, ordinal);
+    }
+
+    /**
+     * @param ordinal El número de un jugador en el campeonato.
+     * @return Su distribución; vacía si no tiene eventos.
+     */
+    int[][] jugador(int ordinal) {
+        return copiar(jugadores, ordinal);
+    }
+
+    /**
+     * @return La distribución de todos los eventos del campeonato.
+     */
+    int[][] campeonato() {
+        return copiar(campeonato, 0);
+    }
+
+    private static int[][] copiar(int[] contadores, int ordinal) {
+        int[][] distribucion = new int[CAMPOS][INTERVALOS];
+        int desde = ordinal * CONTADORES;
+        if (ordinal >= 0 && desde < contadores.length) {
+            for (int campo = 0; campo < CAMPOS; campo++) {
+                System.arraycopy(contadores, desde + campo * INTERVALOS, distribucion[campo], 0, INTERVALOS);
+            }
+        }
+        return distribucion;
+    }
+
+    private static int[] asegurarCapacidad(int[] contadores, int ordinal) {
+        if ((ordinal + 1) * CONTADORES <= contadores.length) {
+            return contadores;
+        }
+        return Arrays.copyOf(contadores, Math.max(ordinal + 1, contadores.length / CONTADORES * 2) * CONTADORES);
+    }
+}
@@ -10,6 +10,8 @@ public class Jugador {
     private String posicion;
     private int numeroCamiseta;
     private Equipo equipo;
+    // Número denso asignado por el campeonato que lo contiene; -1 si no pertenece a ninguno
+    private int ordinal = -1;
 
     public Jugador() {
     }
@@ -24,6 +26,8 @@ public class Jugador {
 
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
+    int ordinal() { return ordinal; }
+    void asignarOrdinal(int ordinal) { this.ordinal = ordinal; }
     public String getNombreCompleto() { return nombreCompleto; } // Corregido: nombreComplepleto a nombreCompleto
     public void setNombreCompleto(String nombreCompleto) { this.nombreCompleto = nombreCompleto; }
     public String getPosicion() { return posicion; }
@@ -0,0 +1,106 @@
+// Archivo: model/ListaVigilada.java
+package model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Lista que cuenta sus modificaciones, para que el campeonato sepa si sus listas de equipos o partidos,
+ * o las plantillas de sus equipos, se modificaron directamente, sin pasar por él. Cuenta también los
+ * reemplazos ({@code set}), que no cambian el tamaño, y delega el contenido en otra lista.
+ */
+final class ListaVigilada<E> extends AbstractList<E> implements RandomAccess {
+
+    private final List<E> lista;
+    private final Runnable alCambiar;
+    private volatile int cambios;
+
+    ListaVigilada() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * @param lista La lista con el contenido; los cambios hechos directamente en ella solo se notan si cambia su tamaño.
+     */
+    ListaVigilada(List<E> lista) {
+        this(lista, null);
+    }
+
+    /**
+     * @param lista La lista con el contenido.
+     * @param alCambiar Se ejecuta tras cada modificación hecha a través de esta lista; o null.
+     */
+    ListaVigilada(List<E> lista, Runnable alCambiar) {
+        this.lista = lista;
+        this.alCambiar = alCambiar;
+    }
+
+    /**
+     * @return Un valor que cambia con cada modificación hecha a través de esta lista y con cada cambio
+     * de tamaño de la lista envuelta.
+     */
+    long firma() {
+        return (long) cambios << 32 | lista.size();
+    }
+
+    @Override
+    public E get(int indice) {
+        return lista.get(indice);
+    }
+
+    @Override
+    public int size() {
+        return lista.size();
+    }
+
+    @Override
+    public E set(int indice, E elemento) {
+        E anterior = lista.set(indice, elemento);
+        cambios++;
+        avisar();
+        return anterior;
+    }
+
+    @Override
+    public void add(int indice, E elemento) {
+        lista.add(indice, elemento);
+        cambiado();
+    }
+
+    @Override
+    public E remove(int indice) {
+        E quitado = lista.remove(indice);
+        cambiado();
+        return quitado;
+    }
+
+    @Override
+    public boolean addAll(int indice, Collection<? extends E> elementos) {
+        boolean cambio = lista.addAll(indice, elementos);
+        if (cambio) {
+            cambiado();
+        }
+        return cambio;
+    }
+
+    @Override
+    protected void removeRange(int desde, int hasta) {
+        lista.subList(desde, hasta).clear();
+        cambiado();
+    }
+
+    private void cambiado() {
+        cambios++;
+        modCount++;
+        avisar();
+    }
+
+    private void avisar() {
+        if (alCambiar != null) {
+            alCambiar.run();
+        }
+    }
+}
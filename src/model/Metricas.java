@@ -0,0 +1,288 @@
+// Archivo: model/Metricas.java
+package model;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cantidad de llamadas, de errores y duración (mediana, percentil 99 y máximo) de las operaciones
+ * públicas del campeonato y del gestor de datos.
+ *
+ * <p>Cada operación se publica en el servidor de MBeans de la plataforma como
+ * {@code campeonato:type=Operacion,name=<Clase.operacion>}, y el conjunto como {@code campeonato:type=Metricas}
+ * (para desactivarlas o reiniciarlas), así que se pueden ver con JConsole, VisualVM o cualquier cliente JMX.</p>
+ *
+ * <p>Vienen desactivadas: se activan con {@link #setActivas(boolean)} o desde JMX. Desactivadas, medir una
+ * llamada solo consulta un indicador. Activas, cuesta dos lecturas del reloj y unos incrementos sin candados
+ * ({@link LongAdder} y un histograma de contadores atómicos); no hay hilos ni tareas propias, así que sin
+ * llamadas no cuesta nada.</p>
+ */
+public final class Metricas {
+
+    /**
+     * Dominio de los nombres JMX.
+     */
+    public static final String DOMINIO = "campeonato";
+
+    private static final Map<String, Operacion> OPERACIONES = new ConcurrentHashMap<>();
+    private static volatile boolean activas = false;
+
+    static {
+        registrar(new ControlMetricas(), DOMINIO + ":type=Metricas");
+    }
+
+    private Metricas() {
+    }
+
+    /**
+     * Atributos de una operación en JMX. Las duraciones son en microsegundos.
+     */
+    public interface OperacionMXBean {
+        String getNombre();
+        long getLlamadas();
+        long getErrores();
+        double getMediaMicros();
+        double getP50Micros();
+        double getP99Micros();
+        double getMaxMicros();
+        void reiniciar();
+    }
+
+    /**
+     * Control del conjunto de métricas en JMX.
+     */
+    public interface ControlMetricasMXBean {
+        boolean isActivas();
+        void setActivas(boolean activas);
+        /** Pone a cero todas las operaciones. */
+        void reiniciar();
+        /** Una línea por operación, para leerlas todas de una vez. */
+        List<String> getResumen();
+    }
+
+    private static final class ControlMetricas implements ControlMetricasMXBean {
+        @Override public boolean isActivas() { return Metricas.isActivas(); }
+        @Override public void setActivas(boolean activas) { Metricas.setActivas(activas); }
+        @Override public void reiniciar() { Metricas.reiniciar(); }
+        @Override public List<String> getResumen() { return Metricas.resumen(); }
+    }
+
+    /**
+     * Obtiene la operación con ese nombre, creándola y publicándola en JMX la primera vez.
+     * Se invoca una vez por operación, al inicializar la clase que la mide.
+     *
+     * @param nombre El nombre, de la forma {@code Clase.metodo}.
+     * @return La operación.
+     */
+    public static Operacion operacion(String nombre) {
+        return OPERACIONES.computeIfAbsent(nombre, n -> {
+            Operacion operacion = new Operacion(n);
+            registrar(operacion, DOMINIO + ":type=Operacion,name=" + ObjectName.quote(n));
+            return operacion;
+        });
+    }
+
+    public static boolean isActivas() {
+        return activas;
+    }
+
+    /**
+     * @param activas false para dejar de medir; las cantidades ya medidas se conservan.
+     */
+    public static void setActivas(boolean activas) {
+        Metricas.activas = activas;
+    }
+
+    /**
+     * Pone a cero todas las operaciones.
+     */
+    public static void reiniciar() {
+        for (Operacion operacion : OPERACIONES.values()) {
+            operacion.reiniciar();
+        }
+    }
+
+    /**
+     * @return Una línea por operación con llamadas, errores y duraciones, ordenadas por nombre.
+     */
+    public static List<String> resumen() {
+        List<String> lineas = new ArrayList<>();
+        for (Operacion operacion : new TreeMap<>(OPERACIONES).values()) {
+            if (operacion.getLlamadas() > 0) {
+                lineas.add(operacion.toString());
+            }
+        }
+        return lineas;
+    }
+
+    private static void registrar(Object mbean, String nombre) {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            servidor.registerMBean(mbean, new ObjectName(nombre));
+        } catch (InstanceAlreadyExistsException e) {
+            // Otra copia de la clase (p. ej. otro cargador de clases) ya publicó el mismo nombre
+        } catch (JMException | SecurityException e) {
+            System.err.println("No se pudieron publicar las métricas " + nombre + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Las mediciones de una operación.
+     *
+     * <p>Las duraciones se cuentan en un histograma de intervalos logarítmicos: cada potencia de dos de
+     * nanosegundos se divide en {@value #SUBINTERVALOS} intervalos iguales, así que un percentil se informa
+     * con un error relativo menor al 12,5 %. El máximo es exacto.</p>
+     */
+    public static final class Operacion implements OperacionMXBean {
+
+        private static final int BITS_SUBINTERVALO = 3;
+        static final int SUBINTERVALOS = 1 << BITS_SUBINTERVALO;
+        // Exponentes de 2 hasta 2^62 ns; los valores menores que SUBINTERVALOS tienen un intervalo cada uno
+        private static final int INTERVALOS = (63 - BITS_SUBINTERVALO + 1) * SUBINTERVALOS;
+
+        private final String nombre;
+        private final LongAdder llamadas = new LongAdder();
+        private final LongAdder errores = new LongAdder();
+        private final LongAdder nanosTotales = new LongAdder();
+        private final LongAccumulator nanosMaximo = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray intervalos = new AtomicLongArray(INTERVALOS);
+
+        private Operacion(String nombre) {
+            this.nombre = nombre;
+        }
+
+        /**
+         * Empieza a medir una llamada: {@code long inicio = operacion.iniciar(); boolean exito = false;
+         * try { ...; exito = true; } finally { operacion.terminar(inicio, exito); }}. Sin lambdas, así que
+         * medir no crea objetos.
+         *
+         * @return El instante de inicio, o -1 si las métricas están desactivadas.
+         */
+        public long iniciar() {
+            return activas ? System.nanoTime() : -1;
+        }
+
+        /**
+         * @param inicio Lo que devolvió {@link #iniciar()}.
+         * @param exito false si la operación falló.
+         */
+        public void terminar(long inicio, boolean exito) {
+            if (inicio == -1) {
+                return;
+            }
+            registrar(Math.max(0, System.nanoTime() - inicio), exito);
+        }
+
+        /**
+         * Cuenta una llamada ya medida, aunque las métricas estén desactivadas. {@link #terminar(long, boolean)}
+         * la usa con la duración medida; también sirve para cargar duraciones medidas por otro lado.
+         *
+         * @param nanos La duración en nanosegundos; no debe ser negativa.
+         * @param exito false si la operación falló.
+         */
+        public void registrar(long nanos, boolean exito) {
+            llamadas.increment();
+            if (!exito) {
+                errores.increment();
+            }
+            nanosTotales.add(nanos);
+            nanosMaximo.accumulate(nanos);
+            intervalos.incrementAndGet(intervalo(nanos));
+        }
+
+        /**
+         * @param nanos Una duración en nanosegundos, no negativa.
+         * @return El intervalo del histograma en que se cuenta.
+         */
+        public static int intervalo(long nanos) {
+            if (nanos < SUBINTERVALOS) {
+                return (int) nanos;
+            }
+            int exponente = 63 - Long.numberOfLeadingZeros(nanos);
+            int sub = (int) (nanos >>> (exponente - BITS_SUBINTERVALO)) & (SUBINTERVALOS - 1);
+            return (exponente - BITS_SUBINTERVALO + 1) * SUBINTERVALOS + sub;
+        }
+
+        /**
+         * @return El mayor valor que cae en el intervalo; es lo que informan los percentiles.
+         */
+        public static long limiteSuperior(int intervalo) {
+            if (intervalo < SUBINTERVALOS) {
+                return intervalo;
+            }
+            int exponente = intervalo / SUBINTERVALOS + BITS_SUBINTERVALO - 1;
+            long sub = intervalo % SUBINTERVALOS;
+            long ancho = 1L << (exponente - BITS_SUBINTERVALO);
+            return (1L << exponente) + (sub + 1) * ancho - 1;
+        }
+
+        /**
+         * @param fraccion Entre 0 y 1, p. ej. 0.99.
+         * @return La duración en nanosegundos que no supera esa fracción de las llamadas, o 0 sin llamadas.
+         */
+        public long percentilNanos(double fraccion) {
+            long[] cuentas = new long[INTERVALOS];
+            long total = 0;
+            for (int i = 0; i < INTERVALOS; i++) {
+                cuentas[i] = intervalos.get(i);
+                total += cuentas[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long buscado = Math.max(1, (long) Math.ceil(total * fraccion));
+            long acumulado = 0;
+            for (int i = 0; i < INTERVALOS; i++) {
+                acumulado += cuentas[i];
+                if (acumulado >= buscado) {
+                    // Nunca mayor que el máximo medido
+                    return Math.min(limiteSuperior(i), nanosMaximo.get());
+                }
+            }
+            return nanosMaximo.get();
+        }
+
+        @Override public String getNombre() { return nombre; }
+        @Override public long getLlamadas() { return llamadas.sum(); }
+        @Override public long getErrores() { return errores.sum(); }
+
+        @Override
+        public double getMediaMicros() {
+            long cantidad = llamadas.sum();
+            return cantidad == 0 ? 0 : nanosTotales.sum() / 1000.0 / cantidad;
+        }
+
+        @Override public double getP50Micros() { return percentilNanos(0.50) / 1000.0; }
+        @Override public double getP99Micros() { return percentilNanos(0.99) / 1000.0; }
+        @Override public double getMaxMicros() { return nanosMaximo.get() / 1000.0; }
+
+        @Override
+        public void reiniciar() {
+            llamadas.reset();
+            errores.reset();
+            nanosTotales.reset();
+            nanosMaximo.reset();
+            for (int i = 0; i < INTERVALOS; i++) {
+                intervalos.set(i, 0);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s llamadas=%d errores=%d p50=%.1fus p99=%.1fus max=%.1fus",
+                    nombre, getLlamadas(), getErrores(), getP50Micros(), getP99Micros(), getMaxMicros());
+        }
+    }
+}
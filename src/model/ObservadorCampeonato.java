@@ -0,0 +1,91 @@
+// Archivo: model/ObservadorCampeonato.java
+package model;
+
+import java.util.List;
+
+/**
+ * Recibe los cambios que se registran con éxito en un {@link Campeonato}.
+ * Cada aviso llega después de aplicar el cambio, cuando {@link Campeonato#getVersion()} ya fue incrementada.
+ * Todos los métodos tienen una implementación vacía para que cada observador atienda solo lo que necesita.
+ */
+public interface ObservadorCampeonato {
+
+    /**
+     * @param equipo El equipo registrado.
+     */
+    default void equipoRegistrado(Equipo equipo) {
+    }
+
+    /**
+     * @param jugador El jugador registrado; su equipo es {@link Jugador#getEquipo()}.
+     */
+    default void jugadorRegistrado(Jugador jugador) {
+    }
+
+    /**
+     * @param partido El partido creado.
+     */
+    default void partidoCreado(Partido partido) {
+    }
+
+    /**
+     * @param partido El partido en el que se anotó el gol.
+     * @param gol El gol registrado.
+     */
+    default void golRegistrado(Partido partido, Gol gol) {
+    }
+
+    /**
+     * @param partido El partido en el que se mostró la tarjeta.
+     * @param tarjeta La tarjeta registrada.
+     */
+    default void tarjetaRegistrada(Partido partido, Tarjeta tarjeta) {
+    }
+
+    /**
+     * @param partido El partido en el que se cometió la falta.
+     * @param falta La falta registrada.
+     */
+    default void faltaRegistrada(Partido partido, Falta falta) {
+    }
+
+    /**
+     * Se invoca cuando el marcador se corrige con {@link Partido#setGolesLocal} o {@link Partido#setGolesVisitante},
+     * sin registrar goles.
+     * @param partido El partido.
+     * @param golesLocal Los goles del local tras el cambio.
+     * @param golesVisitante Los goles del visitante tras el cambio.
+     */
+    default void marcadorCambiado(Partido partido, int golesLocal, int golesVisitante) {
+    }
+
+    /**
+     * Se invoca cuando los eventos del partido se reemplazan con {@link Partido#setGoles},
+     * {@link Partido#setTarjetas} o {@link Partido#setFaltas}, sin registrarlos uno por uno.
+     * Las estadísticas del campeonato se rehacen con los eventos nuevos.
+     * @param partido El partido, con los eventos nuevos.
+     */
+    default void eventosReemplazados(Partido partido) {
+    }
+
+    /**
+     * Aviso único para un lote registrado con {@link Campeonato#registrarEventos}: la versión se incrementó
+     * una sola vez para todo el lote. Por defecto se reparte en los avisos de cada evento.
+     *
+     * @param partido El partido de los eventos.
+     * @param goles Los goles registrados.
+     * @param tarjetas Las tarjetas registradas.
+     * @param faltas Las faltas registradas.
+     */
+    default void eventosRegistrados(Partido partido, List<Gol> goles, List<Tarjeta> tarjetas, List<Falta> faltas) {
+        for (Gol gol : goles) {
+            golRegistrado(partido, gol);
+        }
+        for (Tarjeta tarjeta : tarjetas) {
+            tarjetaRegistrada(partido, tarjeta);
+        }
+        for (Falta falta : faltas) {
+            faltaRegistrada(partido, falta);
+        }
+    }
+}
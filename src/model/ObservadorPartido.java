@@ -0,0 +1,49 @@
+// Archivo: model/ObservadorPartido.java
+package model;
+
+/**
+ * Recibe los eventos que se registran en un {@link Partido}.
+ * El campeonato lo usa para mantener al día sus estadísticas sin recorrer los partidos.
+ * Los avisos se envían con el monitor del partido tomado, así que el partido no cambia mientras se atienden.
+ */
+interface ObservadorPartido {
+
+    /**
+     * Se invoca después de añadir un gol al partido, con el marcador ya actualizado.
+     * Un gol no genera además {@link #marcadorCambiado}.
+     * @param partido El partido.
+     * @param gol El gol registrado.
+     * @param equipo El equipo del jugador que anotó.
+     */
+    void golRegistrado(Partido partido, Gol gol, Equipo equipo);
+
+    /**
+     * Se invoca después de añadir una tarjeta al partido.
+     * @param partido El partido.
+     * @param tarjeta La tarjeta registrada.
+     * @param equipo El equipo del jugador que la recibió.
+     */
+    void tarjetaRegistrada(Partido partido, Tarjeta tarjeta, Equipo equipo);
+
+    /**
+     * Se invoca después de añadir una falta al partido.
+     * @param partido El partido.
+     * @param falta La falta registrada.
+     * @param equipo El equipo del jugador que la cometió.
+     */
+    void faltaRegistrada(Partido partido, Falta falta, Equipo equipo);
+
+    /**
+     * Se invoca cuando los setters cambian el marcador del partido.
+     * @param partido El partido, con el marcador nuevo.
+     * @param golesLocalAnterior Los goles del local antes del cambio.
+     * @param golesVisitanteAnterior Los goles del visitante antes del cambio.
+     */
+    void marcadorCambiado(Partido partido, int golesLocalAnterior, int golesVisitanteAnterior);
+
+    /**
+     * Se invoca cuando los setters reemplazan los goles, las tarjetas o las faltas del partido.
+     * @param partido El partido, con los eventos nuevos.
+     */
+    void eventosReemplazados(Partido partido);
+}
@@ -2,12 +2,21 @@
 package model;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 
+/**
+ * Partido entre dos equipos con sus goles, tarjetas y faltas.
+ * Los métodos que registran eventos o leen el marcador se sincronizan sobre el propio partido:
+ * eventos de partidos distintos pueden registrarse en paralelo, y quien lea el partido nunca ve
+ * un gol añadido sin el marcador correspondiente.
+ *
+ * <p>Los eventos se guardan por columnas en un {@link EventosPartido}; las listas de goles,
+ * tarjetas y faltas son vistas que crean cada evento al leerlo.</p>
+ */
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 public class Partido {
     private String id;
@@ -17,14 +26,12 @@ public class Partido {
     private String arbitro;
     private int golesLocal;
     private int golesVisitante;
-    private List<Tarjeta> tarjetas;
-    private List<Falta> faltas;
-    private List<Gol> goles;
+    private final EventosPartido eventos = new EventosPartido(this);
+    private ObservadorPartido observador;
+    // Número denso asignado por el campeonato que lo contiene; -1 si no pertenece a ninguno
+    private int ordinal = -1;
 
     public Partido() {
-        this.tarjetas = new ArrayList<>();
-        this.faltas = new ArrayList<>();
-        this.goles = new ArrayList<>();
     }
 
     public Partido(String id, Equipo equipoLocal, Equipo equipoVisitante, String estadio, String arbitro, LocalDateTime fechaHora) {
@@ -35,31 +42,114 @@ public class Partido {
         this.arbitro = arbitro;
         this.golesLocal = 0;
         this.golesVisitante = 0;
-        this.tarjetas = new ArrayList<>();
-        this.faltas = new ArrayList<>();
-        this.goles = new ArrayList<>();
     }
 
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
+    int ordinal() { return ordinal; }
+    void asignarOrdinal(int ordinal) { this.ordinal = ordinal; }
     public Equipo getEquipoLocal() { return equipoLocal; }
-    public void setEquipoLocal(Equipo equipoLocal) { this.equipoLocal = equipoLocal; }
+    public synchronized void setEquipoLocal(Equipo equipoLocal) {
+        this.equipoLocal = equipoLocal;
+        eventos.recalcularLados();
+    }
     public Equipo getEquipoVisitante() { return equipoVisitante; }
-    public void setEquipoVisitante(Equipo equipoVisitante) { this.equipoVisitante = equipoVisitante; }
+    public synchronized void setEquipoVisitante(Equipo equipoVisitante) {
+        this.equipoVisitante = equipoVisitante;
+        eventos.recalcularLados();
+    }
     public String getEstadio() { return estadio; }
     public void setEstadio(String estadio) { this.estadio = estadio; }
     public String getArbitro() { return arbitro; }
     public void setArbitro(String arbitro) { this.arbitro = arbitro; }
-    public int getGolesLocal() { return golesLocal; }
-    public void setGolesLocal(int golesLocal) { this.golesLocal = golesLocal; }
-    public int getGolesVisitante() { return golesVisitante; }
-    public void setGolesVisitante(int golesVisitante) { this.golesVisitante = golesVisitante; }
-    public List<Tarjeta> getTarjetas() { return tarjetas; }
-    public void setTarjetas(List<Tarjeta> tarjetas) { this.tarjetas = tarjetas; }
-    public List<Falta> getFaltas() { return faltas; }
-    public void setFaltas(List<Falta> faltas) { this.faltas = faltas; }
-    public List<Gol> getGoles() { return goles; }
-    public void setGoles(List<Gol> goles) { this.goles = goles; }
+    public synchronized int getGolesLocal() { return golesLocal; }
+    public synchronized void setGolesLocal(int golesLocal) {
+        int anterior = this.golesLocal;
+        this.golesLocal = golesLocal;
+        notificarMarcador(anterior, golesVisitante);
+    }
+    public synchronized int getGolesVisitante() { return golesVisitante; }
+    public synchronized void setGolesVisitante(int golesVisitante) {
+        int anterior = this.golesVisitante;
+        this.golesVisitante = golesVisitante;
+        notificarMarcador(golesLocal, anterior);
+    }
+    public List<Tarjeta> getTarjetas() { return eventos.tarjetas(); }
+
+    /**
+     * Reemplaza las tarjetas del partido, sin validarlas. En un partido del campeonato, sus estadísticas
+     * se rehacen con las tarjetas nuevas.
+     * @throws IllegalArgumentException Si los eventos del partido usarían demasiados jugadores o textos distintos.
+     */
+    public synchronized void setTarjetas(List<Tarjeta> tarjetas) {
+        eventos.reemplazarTarjetas(tarjetas);
+        notificarReemplazo();
+    }
+
+    public List<Falta> getFaltas() { return eventos.faltas(); }
+
+    /**
+     * Reemplaza las faltas del partido, sin validarlas.
+     * @see #setTarjetas(List)
+     */
+    public synchronized void setFaltas(List<Falta> faltas) {
+        eventos.reemplazarFaltas(faltas);
+        notificarReemplazo();
+    }
+
+    public List<Gol> getGoles() { return eventos.goles(); }
+
+    /**
+     * Reemplaza los goles del partido, sin validarlos y sin cambiar el marcador.
+     * @see #setTarjetas(List)
+     */
+    public synchronized void setGoles(List<Gol> goles) {
+        eventos.reemplazarGoles(goles);
+        notificarReemplazo();
+    }
+
+    /**
+     * Asocia el observador que recibe los eventos registrados en este partido.
+     * Lo usa el campeonato para mantener sus estadísticas incrementales.
+     * @param observador El observador, o null para desasociarlo.
+     */
+    void observar(ObservadorPartido observador) {
+        this.observador = observador;
+    }
+
+    /**
+     * Entrega el jugador de cada gol, tarjeta y falta, en ese orden, sin crear los objetos de evento.
+     * Lo usan las estadísticas por jugador al reconstruirse.
+     */
+    synchronized void recorrerEventos(Consumer<Jugador> goleador, Consumer<Jugador> amonestado, Consumer<Jugador> infractor) {
+        eventos.recorrer(goleador, amonestado, infractor);
+    }
+
+    /**
+     * Igual que {@link #recorrerEventos(Consumer, Consumer, Consumer)}, con el equipo y el minuto de cada evento.
+     * Lo usan los histogramas por minuto al reconstruirse.
+     */
+    synchronized void recorrerMinutos(EventoConMinuto goleador, EventoConMinuto amonestado, EventoConMinuto infractor) {
+        eventos.recorrer((j, lado, minuto) -> goleador.evento(j, equipoDelLado(lado), minuto),
+                (j, lado, minuto) -> amonestado.evento(j, equipoDelLado(lado), minuto),
+                (j, lado, minuto) -> infractor.evento(j, equipoDelLado(lado), minuto));
+    }
+
+    /**
+     * Entrega cada tarjeta con el equipo del jugador y el minuto, separando amarillas y rojas.
+     * Lo usan las suspensiones al reconstruirse.
+     */
+    synchronized void recorrerTarjetas(EventoConMinuto amarilla, EventoConMinuto roja) {
+        eventos.recorrerTarjetas((j, lado, minuto) -> amarilla.evento(j, equipoDelLado(lado), minuto),
+                (j, lado, minuto) -> roja.evento(j, equipoDelLado(lado), minuto));
+    }
+
+    /**
+     * Recibe un evento recorrido con el equipo del jugador en el partido y el minuto.
+     */
+    interface EventoConMinuto {
+        void evento(Jugador jugador, Equipo equipo, int minuto);
+    }
 
     /**
      * Registra un gol para un jugador específico.
@@ -73,32 +163,51 @@ public class Partido {
      * @param minuto El minuto en el que se anotó el gol.
      * @return true si el gol se registra correctamente, false en caso contrario.
      */
-    public boolean registrarGol(Jugador jugador, int minuto) {
-        if (jugador == null || minuto <= 0) {
+    public synchronized boolean registrarGol(Jugador jugador, int minuto) {
+        if (jugador == null || minuto <= 0 || !EventosPartido.minutoValido(minuto)) {
             System.err.println("Error al registrar gol: Jugador nulo o minuto inválido.");
             return false;
         }
 
         // Verificar si el jugador pertenece a alguno de los equipos del partido
         // Reutiliza getEquipoJugador para verificar si el jugador está en el partido
-        if (obtenerEquipoJugador(jugador.getId()) == null) {
+        Equipo equipo = obtenerEquipoJugador(jugador.getId());
+        if (equipo == null) {
             System.err.println("Error al registrar gol: El jugador no pertenece a ninguno de los equipos del partido.");
             return false;
         }
+        return anotarGol(jugador, equipo, minuto);
+    }
+
+    /**
+     * Registra un gol ya validado. Lo usa el campeonato cuando ya sabe, por sus índices,
+     * en qué equipo del partido juega el jugador.
+     *
+     * @param jugador El jugador que anotó el gol.
+     * @param equipo El equipo del jugador: {@link #getEquipoLocal()} o {@link #getEquipoVisitante()}.
+     * @param minuto El minuto en el que se anotó el gol, ya validado.
+     * @return true, o false si el partido ya no admite más jugadores distintos.
+     */
+    synchronized boolean anotarGol(Jugador jugador, Equipo equipo, int minuto) {
+        Gol gol = new Gol(jugador, minuto);
+        if (!eventos.hayLugar(List.of(gol), List.of(), List.of())) {
+            System.err.println("Error al registrar gol: El partido no admite más jugadores distintos.");
+            return false;
+        }
 
         // Registrar el gol
-        Gol nuevoGol = new Gol(jugador, minuto);
-        this.goles.add(nuevoGol);
+        eventos.agregarGol(jugador, minuto);
 
         // Aumentar el contador de goles del equipo correspondiente
-        if (jugador.getEquipo() != null) {
-            if (jugador.getEquipo().equals(equipoLocal)) {
-                golesLocal++;
-            } else if (jugador.getEquipo().equals(equipoVisitante)) {
-                golesVisitante++;
-            } else {
-                System.err.println("Advertencia: El jugador anotador no pertenece a los equipos de este partido. Gol registrado pero no sumado a equipos.");
-            }
+        if (equipo == equipoLocal) {
+            golesLocal++;
+        } else {
+            golesVisitante++;
+        }
+
+        // Un solo aviso con el marcador ya actualizado, para que el gol y el resultado se apliquen juntos
+        if (observador != null) {
+            observador.golRegistrado(this, gol, equipo);
         }
         return true;
     }
@@ -110,6 +219,40 @@ public class Partido {
      * @return El equipo al que pertenece el jugador, o null si el jugador no se encuentra en ninguno de los equipos del partido.
      */
     public Equipo obtenerEquipoJugador(String idJugador) {
+        if (idJugador == null || idJugador.trim().isEmpty()) {
+            return null;
+        }
+        if (buscarEnPlantilla(equipoLocal, idJugador) != null) {
+            return equipoLocal;
+        }
+        if (buscarEnPlantilla(equipoVisitante, idJugador) != null) {
+            return equipoVisitante;
+        }
+        return null;
+    }
+
+    /**
+     * Busca un jugador por su ID en las plantillas de los dos equipos del partido.
+     * @param idJugador El ID del jugador.
+     * @return El jugador, o null si no pertenece a ninguno de los equipos del partido.
+     */
+    Jugador obtenerJugador(String idJugador) {
+        if (idJugador == null || idJugador.trim().isEmpty()) {
+            return null;
+        }
+        Jugador jugador = buscarEnPlantilla(equipoLocal, idJugador);
+        return jugador != null ? jugador : buscarEnPlantilla(equipoVisitante, idJugador);
+    }
+
+    private static Jugador buscarEnPlantilla(Equipo equipo, String idJugador) {
+        if (equipo == null || equipo.getJugadores() == null) {
+            return null;
+        }
+        for (Jugador jugador : equipo.getJugadores()) {
+            if (idJugador.equals(jugador.getId())) {
+                return jugador;
+            }
+        }
         return null;
     }
 
@@ -122,9 +265,46 @@ public class Partido {
      * @param tipo El tipo de tarjeta (amarilla o roja).
      * @param minuto El minuto en el que se recibe la tarjeta.
      * @param motivo El motivo de la tarjeta.
+     * @return true si la tarjeta se registra correctamente, false en caso contrario.
+     */
+    public synchronized boolean registrarTarjetaPorIdJugador(Jugador jugador, String tipo, int minuto, String motivo) {
+        if (jugador == null || !esTipoTarjetaValido(tipo) || minuto <= 0 || !EventosPartido.minutoValido(minuto) || motivo == null || motivo.trim().isEmpty()) {
+            System.err.println("Error al registrar tarjeta: Datos inválidos.");
+            return false;
+        }
+
+        Equipo equipo = obtenerEquipoJugador(jugador.getId());
+        if (equipo == null) {
+            System.err.println("Error al registrar tarjeta: El jugador no pertenece a ninguno de los equipos del partido.");
+            return false;
+        }
+        return anotarTarjeta(jugador, equipo, tipo, minuto, motivo);
+    }
+
+    /**
+     * Registra una tarjeta ya validada, con el equipo del jugador en el partido.
+     * @see #anotarGol(Jugador, Equipo, int)
      */
-    public boolean registrarTarjetaPorIdJugador(Jugador jugador, String tipo, int minuto, String motivo) {
-        return false;
+    synchronized boolean anotarTarjeta(Jugador jugador, Equipo equipo, String tipo, int minuto, String motivo) {
+        Tarjeta tarjeta = new Tarjeta(jugador, tipo, minuto, motivo);
+        if (!eventos.hayLugar(List.of(), List.of(tarjeta), List.of())) {
+            System.err.println("Error al registrar tarjeta: El partido no admite más jugadores o motivos distintos.");
+            return false;
+        }
+        eventos.agregarTarjeta(jugador, tipo, minuto, motivo);
+        if (observador != null) {
+            observador.tarjetaRegistrada(this, tarjeta, equipo);
+        }
+        return true;
+    }
+
+    /**
+     * Indica si el tipo de tarjeta es "Amarilla" o "Roja" (sin distinguir mayúsculas).
+     * @param tipo El tipo de tarjeta.
+     * @return true si el tipo es válido.
+     */
+    public static boolean esTipoTarjetaValido(String tipo) {
+        return "Amarilla".equalsIgnoreCase(tipo) || "Roja".equalsIgnoreCase(tipo);
     }
 
     /**
@@ -138,8 +318,9 @@ public class Partido {
      *
      * @return El número total de faltas del equipo.
      */
-    public int calcularFaltasEquipo(String idEquipo){
-       return 0;
+    public synchronized int calcularFaltasEquipo(String idEquipo){
+        short lado = lado(idEquipo);
+        return lado == EventosPartido.NINGUNO ? -1 : eventos.contarFaltas(lado);
     }
 
 
@@ -154,8 +335,9 @@ public class Partido {
      *
      * @return El número total de tarjetas del equipo.
      */
-    public int calcularTarjetasEquipo(String idEquipo){
-       return 0;
+    public synchronized int calcularTarjetasEquipo(String idEquipo){
+        short lado = lado(idEquipo);
+        return lado == EventosPartido.NINGUNO ? -1 : eventos.contarTarjetas(lado);
     }
 
     /**
@@ -169,8 +351,17 @@ public class Partido {
      *
      * @return El número total de goles del equipo.
      */
-    public int calcularGolesEquipo(String idEquipo){
-       return 0;
+    public synchronized int calcularGolesEquipo(String idEquipo){
+        if (idEquipo == null || idEquipo.trim().isEmpty()) {
+            return -1;
+        }
+        if (equipoLocal != null && idEquipo.equals(equipoLocal.getId())) {
+            return golesLocal;
+        }
+        if (equipoVisitante != null && idEquipo.equals(equipoVisitante.getId())) {
+            return golesVisitante;
+        }
+        return -1;
     }
 
     /**
@@ -182,21 +373,165 @@ public class Partido {
      * @param jugadorAfectado El jugador que sufre la falta.
      * @param minuto El minuto en el que se comete la falta.
      * @param zona La zona en la que se comete la falta.
+     * @return true si la falta se registra correctamente, false en caso contrario.
      */
     public boolean registrarFaltaPorIdJugador(Jugador jugadorComete, Jugador jugadorAfectado, int minuto, String zona) {
-        return false;
+        return registrarFaltaPorIdJugador(jugadorComete, jugadorAfectado, minuto, zona, null);
+    }
+
+    /**
+     * Registra una falta con la tarjeta que la acompañó.
+     * Los dos jugadores deben estar en el partido, ser distintos y pertenecer a equipos distintos.
+     *
+     * @param jugadorComete El jugador que comete la falta.
+     * @param jugadorAfectado El jugador que sufre la falta.
+     * @param minuto El minuto en el que se comete la falta.
+     * @param zona La zona en la que se comete la falta.
+     * @param tarjetaAsociada El tipo de tarjeta asociada, o null si no hubo tarjeta.
+     * @return true si la falta se registra correctamente, false en caso contrario.
+     */
+    public synchronized boolean registrarFaltaPorIdJugador(Jugador jugadorComete, Jugador jugadorAfectado, int minuto, String zona, String tarjetaAsociada) {
+        if (jugadorComete == null || jugadorAfectado == null || minuto <= 0 || !EventosPartido.minutoValido(minuto) || zona == null || zona.trim().isEmpty()) {
+            System.err.println("Error al registrar falta: Datos inválidos.");
+            return false;
+        }
+        if (jugadorComete.equals(jugadorAfectado)) {
+            System.err.println("Error al registrar falta: El jugador que comete y el afectado son el mismo.");
+            return false;
+        }
+
+        Equipo equipoComete = obtenerEquipoJugador(jugadorComete.getId());
+        Equipo equipoAfectado = obtenerEquipoJugador(jugadorAfectado.getId());
+        if (equipoComete == null || equipoAfectado == null) {
+            System.err.println("Error al registrar falta: Alguno de los jugadores no pertenece a los equipos del partido.");
+            return false;
+        }
+        return anotarFalta(jugadorComete, equipoComete, jugadorAfectado, equipoAfectado, minuto, zona, tarjetaAsociada);
+    }
+
+    /**
+     * Registra una falta con datos ya validados y el equipo de cada jugador en el partido.
+     * Todavía comprueba que los jugadores sean distintos y de equipos distintos.
+     * @see #anotarGol(Jugador, Equipo, int)
+     */
+    synchronized boolean anotarFalta(Jugador jugadorComete, Equipo equipoComete, Jugador jugadorAfectado, Equipo equipoAfectado,
+                                     int minuto, String zona, String tarjetaAsociada) {
+        if (jugadorComete.equals(jugadorAfectado)) {
+            System.err.println("Error al registrar falta: El jugador que comete y el afectado son el mismo.");
+            return false;
+        }
+        if (equipoComete == equipoAfectado) {
+            System.err.println("Error al registrar falta: Los dos jugadores pertenecen al mismo equipo.");
+            return false;
+        }
+
+        Falta falta = new Falta(jugadorComete, minuto, zona, jugadorAfectado, tarjetaAsociada);
+        if (!eventos.hayLugar(List.of(), List.of(), List.of(falta))) {
+            System.err.println("Error al registrar falta: El partido no admite más jugadores o zonas distintos.");
+            return false;
+        }
+        eventos.agregarFalta(jugadorComete, minuto, zona, jugadorAfectado, tarjetaAsociada);
+        if (observador != null) {
+            observador.faltaRegistrada(this, falta, equipoComete);
+        }
+        return true;
+    }
+
+    /**
+     * Añade eventos ya validados sin avisar al observador. Lo usa el campeonato para registrar un lote de
+     * eventos de una vez: él mismo actualiza sus estadísticas con un único aviso.
+     *
+     * @param goles Los goles.
+     * @param equiposGoles El equipo en el partido de cada goleador, en el orden de {@code goles}.
+     * @param tarjetas Las tarjetas.
+     * @param faltas Las faltas.
+     * @return true, o false sin agregar ninguno si el partido no admite tantos jugadores o textos distintos.
+     */
+    synchronized boolean agregarEventos(List<Gol> goles, List<Equipo> equiposGoles, List<Tarjeta> tarjetas, List<Falta> faltas) {
+        if (!eventos.hayLugar(goles, tarjetas, faltas)) {
+            System.err.println("Error al registrar eventos: El partido no admite tantos jugadores o textos distintos.");
+            return false;
+        }
+        for (int i = 0; i < goles.size(); i++) {
+            Gol gol = goles.get(i);
+            eventos.agregarGol(gol.getJugador(), gol.getMinuto());
+            if (equiposGoles.get(i) == equipoLocal) {
+                golesLocal++;
+            } else {
+                golesVisitante++;
+            }
+        }
+        for (Tarjeta tarjeta : tarjetas) {
+            eventos.agregarTarjeta(tarjeta.getJugador(), tarjeta.getTipo(), tarjeta.getMinuto(), tarjeta.getMotivo());
+        }
+        for (Falta falta : faltas) {
+            eventos.agregarFalta(falta.getJugadorQueCometio(), falta.getMinuto(), falta.getZonaCampo(),
+                    falta.getJugadorAfectado(), falta.getTarjetaAsociada());
+        }
+        return true;
     }
 
     /**
      * Calcula el equipo ganador del partido.
-     * @return El equipo ganador.
+     * @return El equipo ganador, o null si hay empate.
      */
-    public Equipo calcularGanador() {
+    public synchronized Equipo calcularGanador() {
+        if (golesLocal > golesVisitante) {
+            return equipoLocal;
+        }
+        if (golesVisitante > golesLocal) {
+            return equipoVisitante;
+        }
         return null;
     }
 
+    /**
+     * @param lado {@link EventosPartido#LOCAL} o {@link EventosPartido#VISITANTE}.
+     * @return Las tarjetas de los jugadores de ese lado.
+     */
+    synchronized int tarjetasDelLado(short lado) {
+        return eventos.contarTarjetas(lado);
+    }
+
+    /**
+     * @param lado {@link EventosPartido#LOCAL} o {@link EventosPartido#VISITANTE}.
+     * @return Las faltas cometidas por los jugadores de ese lado.
+     */
+    synchronized int faltasDelLado(short lado) {
+        return eventos.contarFaltas(lado);
+    }
+
+    private short lado(String idEquipo) {
+        if (idEquipo == null || idEquipo.trim().isEmpty()) {
+            return EventosPartido.NINGUNO;
+        }
+        if (equipoLocal != null && idEquipo.equals(equipoLocal.getId())) {
+            return EventosPartido.LOCAL;
+        }
+        if (equipoVisitante != null && idEquipo.equals(equipoVisitante.getId())) {
+            return EventosPartido.VISITANTE;
+        }
+        return EventosPartido.NINGUNO;
+    }
+
+    private Equipo equipoDelLado(short lado) {
+        return lado == EventosPartido.LOCAL ? equipoLocal : lado == EventosPartido.VISITANTE ? equipoVisitante : null;
+    }
+
+    private void notificarReemplazo() {
+        if (observador != null) {
+            observador.eventosReemplazados(this);
+        }
+    }
+
+    private void notificarMarcador(int localAnterior, int visitanteAnterior) {
+        if (observador != null && (localAnterior != golesLocal || visitanteAnterior != golesVisitante)) {
+            observador.marcadorCambiado(this, localAnterior, visitanteAnterior);
+        }
+    }
+
     @Override
-    public String toString() {
+    public synchronized String toString() {
         return equipoLocal.getNombre() + " vs " + equipoVisitante.getNombre() + " (" + golesLocal + "-" + golesVisitante + ")";
     }
 
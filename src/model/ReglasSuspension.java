@@ -0,0 +1,43 @@
+// Archivo: model/ReglasSuspension.java
+package model;
+
+/**
+ * Reglas disciplinarias del campeonato: cuántas amarillas acumuladas o qué tarjeta roja suspenden a un jugador,
+ * y por cuántos partidos de su equipo (ver {@link Campeonato#aplicarReglasSuspension(ReglasSuspension)}).
+ * Al cumplir la acumulación, la cuenta de amarillas vuelve a cero. Las suspensiones se cumplen una tras otra.
+ */
+public final class ReglasSuspension {
+
+    /**
+     * 5 amarillas acumuladas o una roja: un partido de suspensión.
+     */
+    public static final ReglasSuspension POR_DEFECTO = new ReglasSuspension(5, 1, 1);
+
+    private final int amarillas;
+    private final int partidosPorAmarillas;
+    private final int partidosPorRoja;
+
+    /**
+     * @param amarillas Las amarillas acumuladas que suspenden, o 0 para no suspender por acumulación.
+     * @param partidosPorAmarillas Los partidos de suspensión al acumularlas.
+     * @param partidosPorRoja Los partidos de suspensión por cada roja (0 para no suspender).
+     * @throws IllegalArgumentException Si algún valor es negativo.
+     */
+    public ReglasSuspension(int amarillas, int partidosPorAmarillas, int partidosPorRoja) {
+        if (amarillas < 0 || partidosPorAmarillas < 0 || partidosPorRoja < 0) {
+            throw new IllegalArgumentException("Las reglas de suspensión no pueden ser negativas");
+        }
+        this.amarillas = amarillas;
+        this.partidosPorAmarillas = partidosPorAmarillas;
+        this.partidosPorRoja = partidosPorRoja;
+    }
+
+    public int getAmarillas() { return amarillas; }
+    public int getPartidosPorAmarillas() { return partidosPorAmarillas; }
+    public int getPartidosPorRoja() { return partidosPorRoja; }
+
+    @Override
+    public String toString() {
+        return amarillas + " amarillas: " + partidosPorAmarillas + " partido(s); roja: " + partidosPorRoja + " partido(s)";
+    }
+}
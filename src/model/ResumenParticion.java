@@ -0,0 +1,190 @@
+// Archivo: model/ResumenParticion.java
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acumulados precalculados de un grupo de partidos: lo que esos partidos aportan a la tabla de
+ * posiciones y a las estadísticas de cada jugador. Permite armar la tabla y las estadísticas de un
+ * campeonato sin cargar los eventos de los partidos (ver {@link CargadorPartidos}).
+ *
+ * <p>También guarda el calendario (los equipos de cada partido, en orden) y las tarjetas, con las que el
+ * campeonato calcula las suspensiones sin cargar los partidos. Los resúmenes leídos de un archivo anterior
+ * pueden no tenerlos: ver {@link #tieneCalendario()}.</p>
+ */
+public final class ResumenParticion {
+
+    /**
+     * Cantidad de acumulados por equipo, en este orden: jugados, ganados, empatados, perdidos,
+     * goles a favor, goles en contra, tarjetas y faltas.
+     */
+    public static final int CAMPOS_EQUIPO = 8;
+
+    /**
+     * Cantidad de contadores por jugador, en este orden: goles, tarjetas y faltas cometidas.
+     */
+    public static final int CAMPOS_JUGADOR = 3;
+
+    /**
+     * Una tarjeta de un partido del resumen.
+     */
+    public static final class TarjetaResumida {
+        private final int partido;
+        private final boolean local;
+        private final String idJugador;
+        private final boolean roja;
+
+        /**
+         * @param partido La posición del partido en el resumen, desde 0.
+         * @param local true si el jugador es del equipo local.
+         * @param idJugador El ID del jugador.
+         * @param roja true si es roja.
+         */
+        public TarjetaResumida(int partido, boolean local, String idJugador, boolean roja) {
+            this.partido = partido;
+            this.local = local;
+            this.idJugador = idJugador;
+            this.roja = roja;
+        }
+
+        public int getPartido() { return partido; }
+        public boolean isLocal() { return local; }
+        public String getIdJugador() { return idJugador; }
+        public boolean isRoja() { return roja; }
+    }
+
+    private final Map<String, int[]> equipos = new LinkedHashMap<>();
+    private final Map<String, int[]> jugadores = new LinkedHashMap<>();
+    // IDs del local y del visitante de cada partido, y las tarjetas en el orden de los partidos y de registro
+    private final List<String[]> calendario = new ArrayList<>();
+    private final List<TarjetaResumida> tarjetas = new ArrayList<>();
+    private boolean conCalendario;
+
+    /**
+     * Suma un partido con todos sus eventos, con las mismas reglas que la tabla de posiciones.
+     * @param partido El partido a sumar.
+     */
+    public void agregarPartido(Partido partido) {
+        synchronized (partido) {
+            int golesLocal = partido.getGolesLocal();
+            int golesVisitante = partido.getGolesVisitante();
+            sumarResultado(partido.getEquipoLocal(), golesLocal, golesVisitante,
+                    partido.tarjetasDelLado(EventosPartido.LOCAL), partido.faltasDelLado(EventosPartido.LOCAL));
+            sumarResultado(partido.getEquipoVisitante(), golesVisitante, golesLocal,
+                    partido.tarjetasDelLado(EventosPartido.VISITANTE), partido.faltasDelLado(EventosPartido.VISITANTE));
+            partido.recorrerEventos(j -> sumarEvento(j, 0), j -> sumarEvento(j, 1), j -> sumarEvento(j, 2));
+            Equipo local = partido.getEquipoLocal();
+            Equipo visitante = partido.getEquipoVisitante();
+            agregarCalendario(local != null ? local.getId() : null, visitante != null ? visitante.getId() : null);
+            int indice = calendario.size() - 1;
+            partido.recorrerTarjetas((j, equipo, minuto) -> sumarTarjeta(indice, j, equipo, local, false),
+                    (j, equipo, minuto) -> sumarTarjeta(indice, j, equipo, local, true));
+        }
+    }
+
+    /**
+     * Agrega un partido al final del calendario.
+     * @param idLocal El ID del equipo local, o null.
+     * @param idVisitante El ID del equipo visitante, o null.
+     */
+    public void agregarCalendario(String idLocal, String idVisitante) {
+        calendario.add(new String[]{idLocal, idVisitante});
+        conCalendario = true;
+    }
+
+    /**
+     * Agrega una tarjeta de un partido que ya está en el calendario.
+     * @param tarjeta La tarjeta.
+     */
+    public void agregarTarjeta(TarjetaResumida tarjeta) {
+        tarjetas.add(tarjeta);
+    }
+
+    /**
+     * @return true si el resumen trae el calendario y las tarjetas de sus partidos.
+     */
+    public boolean tieneCalendario() {
+        return conCalendario;
+    }
+
+    /**
+     * @return Los IDs del local y del visitante de cada partido, en orden, sin modificar.
+     */
+    public List<String[]> calendario() {
+        return Collections.unmodifiableList(calendario);
+    }
+
+    /**
+     * @return Las tarjetas, por partido y en el orden en que se registraron, sin modificar.
+     */
+    public List<TarjetaResumida> tarjetas() {
+        return Collections.unmodifiableList(tarjetas);
+    }
+
+    /**
+     * Suma acumulados a un equipo.
+     * @param idEquipo El ID del equipo.
+     * @param acumulados Los {@link #CAMPOS_EQUIPO} acumulados.
+     */
+    public void sumarEquipo(String idEquipo, int[] acumulados) {
+        sumar(equipos.computeIfAbsent(idEquipo, id -> new int[CAMPOS_EQUIPO]), acumulados);
+    }
+
+    /**
+     * Suma contadores a un jugador.
+     * @param idJugador El ID del jugador.
+     * @param contadores Los {@link #CAMPOS_JUGADOR} contadores.
+     */
+    public void sumarJugador(String idJugador, int[] contadores) {
+        sumar(jugadores.computeIfAbsent(idJugador, id -> new int[CAMPOS_JUGADOR]), contadores);
+    }
+
+    /**
+     * @return Los acumulados de cada equipo por su ID, sin modificar.
+     */
+    public Map<String, int[]> acumuladosPorEquipo() {
+        return Collections.unmodifiableMap(equipos);
+    }
+
+    /**
+     * @return Los contadores de cada jugador por su ID, sin modificar.
+     */
+    public Map<String, int[]> contadoresPorJugador() {
+        return Collections.unmodifiableMap(jugadores);
+    }
+
+    private void sumarResultado(Equipo equipo, int golesPropios, int golesRival, int tarjetas, int faltas) {
+        if (equipo == null || equipo.getId() == null) {
+            return;
+        }
+        int[] fila = equipos.computeIfAbsent(equipo.getId(), id -> new int[CAMPOS_EQUIPO]);
+        fila[0]++;
+        fila[golesPropios > golesRival ? 1 : golesPropios == golesRival ? 2 : 3]++;
+        fila[4] += golesPropios;
+        fila[5] += golesRival;
+        fila[6] += tarjetas;
+        fila[7] += faltas;
+    }
+
+    private void sumarEvento(Jugador jugador, int campo) {
+        if (jugador != null && jugador.getId() != null) {
+            jugadores.computeIfAbsent(jugador.getId(), id -> new int[CAMPOS_JUGADOR])[campo]++;
+        }
+    }
+
+    private void sumarTarjeta(int partido, Jugador jugador, Equipo equipo, Equipo local, boolean roja) {
+        if (jugador != null && jugador.getId() != null && equipo != null) {
+            tarjetas.add(new TarjetaResumida(partido, equipo == local, jugador.getId(), roja));
+        }
+    }
+
+    private static void sumar(int[] destino, int[] valores) {
+        for (int i = 0; i < destino.length && i < valores.length; i++) {
+            destino[i] += valores[i];
+        }
+    }
+}
@@ -0,0 +1,361 @@
+// Archivo: model/Suspensiones.java
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Suspensiones de los jugadores según las {@link ReglasSuspension}, actualizadas con cada tarjeta registrada.
+ *
+ * <p>Cada equipo juega sus partidos en el orden de la lista del campeonato; cada partido guarda su posición en el
+ * calendario de sus dos equipos. Una suspensión se guarda como el tramo de posiciones del calendario del equipo que
+ * el jugador no puede jugar, así que saber si está suspendido para un partido es comparar la posición del partido
+ * con sus tramos (uno por suspensión, casi siempre ninguno), y los habilitados de un partido se obtienen en
+ * O(plantillas). Las amarillas acumuladas, las tarjetas y los tramos se indexan por el número de cada jugador
+ * ({@link DiccionarioIds}).</p>
+ *
+ * <p>Las tarjetas de cada jugador se guardan en el orden del calendario, y en un mismo partido en el de registro,
+ * y sus suspensiones se calculan recorriéndolas en ese orden. Una tarjeta registrada después de la última del
+ * jugador solo se suma; una de un partido anterior vuelve a recorrer las tarjetas de ese jugador. Así el resultado
+ * no depende del orden en que se registran las tarjetas, y coincide con el de reconstruir todo.</p>
+ *
+ * <p>Las particiones de partidos sin cargar reservan su lugar en el calendario con el de su
+ * {@link ResumenParticion}, que además trae sus tarjetas; al cargarse, sus partidos solo toman esas posiciones.</p>
+ */
+class Suspensiones {
+
+    private static final int[] SIN_SUSPENSIONES = new int[0];
+    // Cada suspensión ocupa tres valores: número del equipo, primera y última posición suspendida
+    private static final int VALORES_SUSPENSION = 3;
+    // Cada tarjeta guardada ocupa tres valores: número del equipo, posición del partido en su calendario y 1 si es roja
+    private static final int VALORES_TARJETA = 3;
+
+    private final ToIntFunction<Jugador> ordinalJugador;
+    private ReglasSuspension reglas = ReglasSuspension.POR_DEFECTO;
+
+    // Por número de partido: su posición en el calendario del local y del visitante
+    private int[] posicionLocal = new int[16];
+    private int[] posicionVisitante = new int[16];
+    // Por número de equipo: cuántos partidos tiene en el calendario
+    private int[] partidosDeEquipo = new int[16];
+    // Por número de partición sin cargar: las posiciones reservadas de cada partido, del local y del visitante
+    // alternadas; null si la partición no reservó su lugar
+    private int[][] posicionesParticion = new int[0][];
+    // Por número de jugador: sus tarjetas (ver VALORES_TARJETA), amarillas desde la última suspensión por
+    // acumulación, y sus suspensiones
+    private int[][] tarjetas = new int[16][];
+    private int[] cantidadTarjetas = new int[16];
+    private int[] amarillas = new int[16];
+    private int[][] suspensiones = new int[16][];
+    // Falta el calendario de alguna partición sin cargar: hay que reconstruir cuando estén todas cargadas
+    private boolean desactualizadas;
+
+    /**
+     * @param ordinalJugador El número de cada jugador en el campeonato, o -1 si no tiene.
+     */
+    Suspensiones(ToIntFunction<Jugador> ordinalJugador) {
+        this.ordinalJugador = ordinalJugador;
+    }
+
+    ReglasSuspension getReglas() {
+        return reglas;
+    }
+
+    /**
+     * Cambia las reglas y recalcula las suspensiones con las tarjetas guardadas.
+     */
+    void setReglas(ReglasSuspension reglas) {
+        this.reglas = reglas;
+        for (int ordinal = 0; ordinal < amarillas.length; ordinal++) {
+            recalcular(ordinal);
+        }
+    }
+
+    /**
+     * Marca las suspensiones para reconstruirlas antes de la siguiente consulta.
+     */
+    void invalidar() {
+        desactualizadas = true;
+    }
+
+    boolean isDesactualizadas() {
+        return desactualizadas;
+    }
+
+    /**
+     * Descarta los calendarios y las tarjetas, para volver a agregarlos en el orden de los partidos con
+     * {@link #agregarPartido}, {@link #agregarTarjetas} y {@link #agregarParticion}, y luego {@link #recalcular()}.
+     */
+    void reiniciar() {
+        Arrays.fill(partidosDeEquipo, 0);
+        posicionesParticion = new int[0][];
+        Arrays.fill(tarjetas, null);
+        Arrays.fill(cantidadTarjetas, 0);
+        desactualizadas = false;
+    }
+
+    /**
+     * Recalcula las suspensiones de todos los jugadores con las tarjetas guardadas.
+     */
+    void recalcular() {
+        for (int ordinal = 0; ordinal < amarillas.length; ordinal++) {
+            recalcular(ordinal);
+        }
+    }
+
+    /**
+     * Agrega el partido al final del calendario de sus dos equipos.
+     */
+    void agregarPartido(Partido partido) {
+        int ordinal = partido.ordinal();
+        if (ordinal < 0) {
+            return;
+        }
+        asegurarPartido(ordinal);
+        posicionLocal[ordinal] = siguientePosicion(equipo(partido.getEquipoLocal()));
+        posicionVisitante[ordinal] = siguientePosicion(equipo(partido.getEquipoVisitante()));
+    }
+
+    /**
+     * Guarda las tarjetas de un partido ya agregado, sin recalcular las suspensiones.
+     */
+    void agregarTarjetas(Partido partido) {
+        partido.recorrerTarjetas((j, equipo, minuto) -> guardar(partido, equipo, j, false),
+                (j, equipo, minuto) -> guardar(partido, equipo, j, true));
+    }
+
+    /**
+     * Reserva al final del calendario de cada equipo el lugar de los partidos de una partición sin cargar y
+     * guarda sus tarjetas, sin recalcular las suspensiones.
+     * @param particion El número de la partición.
+     * @param resumen Su resumen.
+     * @param ordinalEquipo El número de cada equipo por su ID, o -1.
+     * @param ordinalJugadorPorId El número de cada jugador por su ID; recibe uno si no lo tenía.
+     * @return false si el resumen no trae el calendario: entonces no se reservó nada.
+     */
+    boolean agregarParticion(int particion, ResumenParticion resumen, ToIntFunction<String> ordinalEquipo,
+                             ToIntFunction<String> ordinalJugadorPorId) {
+        if (!resumen.tieneCalendario()) {
+            return false;
+        }
+        List<String[]> calendario = resumen.calendario();
+        int[] equipos = new int[calendario.size() * 2];
+        int[] posiciones = new int[calendario.size() * 2];
+        for (int i = 0; i < equipos.length; i++) {
+            String id = calendario.get(i / 2)[i % 2];
+            equipos[i] = id != null ? ordinalEquipo.applyAsInt(id) : -1;
+            posiciones[i] = siguientePosicion(equipos[i]);
+        }
+        if (particion >= posicionesParticion.length) {
+            posicionesParticion = Arrays.copyOf(posicionesParticion, particion + 1);
+        }
+        posicionesParticion[particion] = posiciones;
+        for (ResumenParticion.TarjetaResumida tarjeta : resumen.tarjetas()) {
+            int lado = tarjeta.getPartido() * 2 + (tarjeta.isLocal() ? 0 : 1);
+            if (lado < equipos.length) {
+                guardar(ordinalJugadorPorId.applyAsInt(tarjeta.getIdJugador()), equipos[lado], posiciones[lado],
+                        tarjeta.isRoja());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Da a los partidos de una partición recién cargada las posiciones que reservó con {@link #agregarParticion}.
+     * Sus tarjetas ya están guardadas.
+     * @param particion El número de la partición.
+     * @param partidos Sus partidos, en el orden del resumen y con su número ya asignado.
+     * @return false si la partición no reservó su lugar; entonces hay que reconstruir.
+     */
+    boolean ubicarParticion(int particion, List<Partido> partidos) {
+        int[] posiciones = particion < posicionesParticion.length ? posicionesParticion[particion] : null;
+        if (posiciones == null || posiciones.length != partidos.size() * 2) {
+            return false;
+        }
+        for (int i = 0; i < partidos.size(); i++) {
+            int ordinal = partidos.get(i).ordinal();
+            if (ordinal >= 0) {
+                asegurarPartido(ordinal);
+                posicionLocal[ordinal] = posiciones[i * 2];
+                posicionVisitante[ordinal] = posiciones[i * 2 + 1];
+            }
+        }
+        posicionesParticion[particion] = null;
+        return true;
+    }
+
+    /**
+     * Cuenta una tarjeta y, si corresponde según las reglas, suspende al jugador para los siguientes partidos
+     * de su equipo, tras las suspensiones que todavía tenga por cumplir.
+     * @param partido El partido de la tarjeta.
+     * @param equipo El equipo del jugador en el partido.
+     * @param jugador El jugador; debe tener ya su número (ver {@link EstadisticasJugadores}).
+     * @param roja true si es roja.
+     */
+    void tarjetaRegistrada(Partido partido, Equipo equipo, Jugador jugador, boolean roja) {
+        int ordinal = ordinalJugador.applyAsInt(jugador);
+        int posicion = posicion(partido, equipo);
+        if (ordinal < 0 || posicion < 0) {
+            return;
+        }
+        if (guardar(ordinal, equipo.ordinal(), posicion, roja) == cantidadTarjetas[ordinal] - 1) {
+            aplicar(ordinal, equipo.ordinal(), posicion, roja);
+        } else {
+            // Es de un partido anterior a otras tarjetas del jugador: cambia lo que siguió
+            recalcular(ordinal);
+        }
+    }
+
+    /**
+     * @param jugador Un jugador.
+     * @param equipo Su equipo en el partido.
+     * @param partido Un partido del equipo.
+     * @return true si el jugador está suspendido para ese partido.
+     */
+    boolean estaSuspendido(Jugador jugador, Equipo equipo, Partido partido) {
+        int ordinal = ordinalJugador.applyAsInt(jugador);
+        int posicion = posicion(partido, equipo);
+        if (ordinal < 0 || ordinal >= suspensiones.length || posicion < 0) {
+            return false;
+        }
+        int[] propias = suspensiones[ordinal] != null ? suspensiones[ordinal] : SIN_SUSPENSIONES;
+        for (int i = 0; i < propias.length; i += VALORES_SUSPENSION) {
+            if (propias[i] == equipo.ordinal() && propias[i + 1] <= posicion && posicion <= propias[i + 2]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Las amarillas del jugador desde su última suspensión por acumulación.
+     */
+    int amarillasAcumuladas(Jugador jugador) {
+        int ordinal = ordinalJugador.applyAsInt(jugador);
+        return ordinal >= 0 && ordinal < amarillas.length ? amarillas[ordinal] : 0;
+    }
+
+    private void guardar(Partido partido, Equipo equipo, Jugador jugador, boolean roja) {
+        int ordinal = ordinalJugador.applyAsInt(jugador);
+        int posicion = posicion(partido, equipo);
+        if (ordinal >= 0 && posicion >= 0) {
+            guardar(ordinal, equipo.ordinal(), posicion, roja);
+        }
+    }
+
+    /**
+     * Guarda una tarjeta tras las del jugador en partidos hasta esa posición.
+     * @return El lugar de la tarjeta entre las del jugador.
+     */
+    private int guardar(int ordinal, int equipo, int posicion, boolean roja) {
+        if (ordinal < 0 || posicion < 0) {
+            return -1;
+        }
+        asegurarCapacidad(ordinal);
+        int cantidad = cantidadTarjetas[ordinal];
+        int[] propias = tarjetas[ordinal];
+        if (propias == null) {
+            propias = new int[VALORES_TARJETA * 4];
+        } else if (propias.length < (cantidad + 1) * VALORES_TARJETA) {
+            propias = Arrays.copyOf(propias, propias.length * 2);
+        }
+        int lugar = cantidad;
+        while (lugar > 0 && propias[(lugar - 1) * VALORES_TARJETA + 1] > posicion) {
+            lugar--;
+        }
+        System.arraycopy(propias, lugar * VALORES_TARJETA, propias, (lugar + 1) * VALORES_TARJETA,
+                (cantidad - lugar) * VALORES_TARJETA);
+        propias[lugar * VALORES_TARJETA] = equipo;
+        propias[lugar * VALORES_TARJETA + 1] = posicion;
+        propias[lugar * VALORES_TARJETA + 2] = roja ? 1 : 0;
+        tarjetas[ordinal] = propias;
+        cantidadTarjetas[ordinal] = cantidad + 1;
+        return lugar;
+    }
+
+    /**
+     * Vuelve a calcular las amarillas y suspensiones de un jugador recorriendo sus tarjetas en orden.
+     */
+    private void recalcular(int ordinal) {
+        amarillas[ordinal] = 0;
+        suspensiones[ordinal] = null;
+        int[] propias = tarjetas[ordinal];
+        for (int i = 0; i < cantidadTarjetas[ordinal]; i++) {
+            aplicar(ordinal, propias[i * VALORES_TARJETA], propias[i * VALORES_TARJETA + 1],
+                    propias[i * VALORES_TARJETA + 2] == 1);
+        }
+    }
+
+    private void aplicar(int ordinal, int equipo, int posicion, boolean roja) {
+        int partidos = 0;
+        if (roja) {
+            partidos = reglas.getPartidosPorRoja();
+        } else if (reglas.getAmarillas() > 0 && ++amarillas[ordinal] >= reglas.getAmarillas()) {
+            amarillas[ordinal] = 0;
+            partidos = reglas.getPartidosPorAmarillas();
+        }
+        if (partidos > 0) {
+            suspender(ordinal, equipo, posicion, partidos);
+        }
+    }
+
+    private void suspender(int ordinal, int equipo, int posicion, int partidos) {
+        int[] propias = suspensiones[ordinal] != null ? suspensiones[ordinal] : SIN_SUSPENSIONES;
+        // Empieza en el partido siguiente o, si todavía cumple otra suspensión en el equipo, después de ella
+        int desde = posicion + 1;
+        for (int i = 0; i < propias.length; i += VALORES_SUSPENSION) {
+            if (propias[i] == equipo && propias[i + 2] >= desde) {
+                desde = propias[i + 2] + 1;
+            }
+        }
+        int[] nuevas = Arrays.copyOf(propias, propias.length + VALORES_SUSPENSION);
+        nuevas[propias.length] = equipo;
+        nuevas[propias.length + 1] = desde;
+        nuevas[propias.length + 2] = desde + partidos - 1;
+        suspensiones[ordinal] = nuevas;
+    }
+
+    private int posicion(Partido partido, Equipo equipo) {
+        int ordinal = partido.ordinal();
+        if (ordinal < 0 || ordinal >= posicionLocal.length || equipo == null) {
+            return -1;
+        }
+        if (equipo == partido.getEquipoLocal()) {
+            return posicionLocal[ordinal];
+        }
+        return equipo == partido.getEquipoVisitante() ? posicionVisitante[ordinal] : -1;
+    }
+
+    private static int equipo(Equipo equipo) {
+        return equipo != null ? equipo.ordinal() : -1;
+    }
+
+    private int siguientePosicion(int equipo) {
+        if (equipo < 0) {
+            return -1;
+        }
+        if (equipo >= partidosDeEquipo.length) {
+            partidosDeEquipo = Arrays.copyOf(partidosDeEquipo, Math.max(equipo + 1, partidosDeEquipo.length * 2));
+        }
+        return partidosDeEquipo[equipo]++;
+    }
+
+    private void asegurarPartido(int ordinal) {
+        if (ordinal >= posicionLocal.length) {
+            int capacidad = Math.max(ordinal + 1, posicionLocal.length * 2);
+            posicionLocal = Arrays.copyOf(posicionLocal, capacidad);
+            posicionVisitante = Arrays.copyOf(posicionVisitante, capacidad);
+        }
+    }
+
+    private void asegurarCapacidad(int ordinal) {
+        if (ordinal >= amarillas.length) {
+            int capacidad = Math.max(ordinal + 1, amarillas.length * 2);
+            amarillas = Arrays.copyOf(amarillas, capacidad);
+            suspensiones = Arrays.copyOf(suspensiones, capacidad);
+            tarjetas = Arrays.copyOf(tarjetas, capacidad);
+            cantidadTarjetas = Arrays.copyOf(cantidadTarjetas, capacidad);
+        }
+    }
+}
@@ -0,0 +1,564 @@
+// Archivo: model/TablaPosiciones.java
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Motor incremental de la tabla de posiciones.
+ * Guarda por equipo los acumulados (jugados, ganados, empatados, perdidos, goles, tarjetas y faltas)
+ * y los actualiza con cada evento de los partidos.
+ * Las filas se indexan por el número de cada equipo en el campeonato ({@link DiccionarioIds}).
+ *
+ * <p>Además mantiene las filas ordenadas en un arreglo, con la posición de cada fila, así que las consultas
+ * por posición no ordenan nada. Un resultado solo mueve las filas de sus dos equipos, y casi siempre pocas
+ * posiciones; las cargas masivas (reconstrucción, resúmenes) reordenan todo una vez en la siguiente consulta.</p>
+ *
+ * <p>Los empates en puntos se resuelven con los {@link CriterioDesempate criterios} configurados. Los que dependen
+ * solo del equipo forman parte del orden del arreglo. Los enfrentamientos directos dependen del grupo empatado,
+ * así que el arreglo solo los deja juntos (mismos puntos, posiciones contiguas) y cada grupo se desempata al
+ * consultarlo, con los resultados entre cada par de equipos que cada fila mantiene al día. Cada fila lleva una
+ * versión que sube con cada cambio de sus acumulados o enfrentamientos, y el grupo resuelto se guarda mientras
+ * conserve las mismas filas con las mismas versiones: un evento de otros equipos no lo vuelve a desempatar.</p>
+ */
+class TablaPosiciones {
+
+    /**
+     * Desempates por defecto: tras los puntos (descendente), goles a favor (descendente) y goles en contra (ascendente).
+     */
+    static final List<CriterioDesempate> CRITERIOS_POR_DEFECTO = Collections.unmodifiableList(Arrays.asList(
+            CriterioDesempate.GOLES_A_FAVOR, CriterioDesempate.GOLES_EN_CONTRA));
+
+    // Columnas de los resultados contra un rival
+    private static final int ENFRENTAMIENTO_JUGADOS = 0;
+    private static final int ENFRENTAMIENTO_PUNTOS = 1;
+    private static final int ENFRENTAMIENTO_GOLES_A_FAVOR = 2;
+    private static final int ENFRENTAMIENTO_GOLES_EN_CONTRA = 3;
+
+    /**
+     * Acumulados de un equipo en el campeonato.
+     */
+    static final class Fila {
+        private final Equipo equipo;
+        // Número de la fila, que decide los empates completos, y su posición en el orden del arreglo
+        // y en el orden con los grupos ya desempatados
+        private final int numero;
+        private int posicion;
+        private int posicionFinal;
+        // Sube con cada cambio de los acumulados o los enfrentamientos de la fila
+        private long version;
+        // Resultados contra cada rival (ver ENFRENTAMIENTO_*)
+        private final Map<Fila, int[]> enfrentamientos = new HashMap<>();
+        private int jugados;
+        private int ganados;
+        private int empatados;
+        private int perdidos;
+        private int golesAFavor;
+        private int golesEnContra;
+        private int tarjetas;
+        private int faltas;
+
+        Fila(Equipo equipo, int numero) {
+            this.equipo = equipo;
+            this.numero = numero;
+        }
+
+        Equipo getEquipo() { return equipo; }
+        int getJugados() { return jugados; }
+        int getGanados() { return ganados; }
+        int getEmpatados() { return empatados; }
+        int getPerdidos() { return perdidos; }
+        int getGolesAFavor() { return golesAFavor; }
+        int getGolesEnContra() { return golesEnContra; }
+        int getTarjetas() { return tarjetas; }
+        int getFaltas() { return faltas; }
+        int getPuntos() { return ganados * 3 + empatados; }
+
+        /**
+         * Suma (signo 1) o resta (signo -1) el resultado de un partido.
+         */
+        private void aplicar(int[] contraRival, int golesPropios, int golesRival, int signo) {
+            if (contraRival != null) {
+                aplicarEnfrentamiento(contraRival, golesPropios, golesRival, signo);
+            }
+            jugados += signo;
+            golesAFavor += golesPropios * signo;
+            golesEnContra += golesRival * signo;
+            if (golesPropios > golesRival) {
+                ganados += signo;
+            } else if (golesPropios == golesRival) {
+                empatados += signo;
+            } else {
+                perdidos += signo;
+            }
+        }
+
+        /**
+         * @return Los resultados contra el rival, creándolos si hace falta; null sin rival o contra sí mismo.
+         */
+        private int[] contra(Fila rival) {
+            return rival == null || rival == this ? null : enfrentamientos.computeIfAbsent(rival, r -> new int[4]);
+        }
+
+        private static void aplicarEnfrentamiento(int[] contra, int golesPropios, int golesRival, int signo) {
+            contra[ENFRENTAMIENTO_JUGADOS] += signo;
+            contra[ENFRENTAMIENTO_PUNTOS] += (golesPropios > golesRival ? 3 : golesPropios == golesRival ? 1 : 0) * signo;
+            contra[ENFRENTAMIENTO_GOLES_A_FAVOR] += golesPropios * signo;
+            contra[ENFRENTAMIENTO_GOLES_EN_CONTRA] += golesRival * signo;
+        }
+
+        /**
+         * Devuelve la fila en el formato de {@link Campeonato#getTablaDePosiciones()}.
+         */
+        Object[] comoArreglo() {
+            return new Object[]{
+                    equipo.getNombre(),
+                    getPuntos(),
+                    ganados,
+                    empatados,
+                    perdidos,
+                    golesAFavor,
+                    golesEnContra,
+                    tarjetas,
+                    faltas
+            };
+        }
+    }
+
+    private static final Comparator<Fila> POR_NUMERO = Comparator.comparingInt(fila -> fila.numero);
+
+    // Fila de cada equipo en la posición de su número, que sigue el orden de registro y decide los empates completos
+    private final List<Fila> filas = new ArrayList<>();
+    // Las mismas filas según ordenArreglo; cada fila guarda su posición
+    private Fila[] orden = new Fila[16];
+    // El arreglo dejó de estar ordenado por una carga masiva
+    private boolean desordenada;
+
+    private List<CriterioDesempate> criterios = CRITERIOS_POR_DEFECTO;
+    // Puntos, los criterios que dependen solo del equipo y, en los empates completos, el orden de registro
+    private Comparator<Fila> ordenArreglo = ordenArreglo(CRITERIOS_POR_DEFECTO);
+    private boolean porGrupos;
+    // Con enfrentamientos directos: las filas con los grupos desempatados y, por posición, el grupo con que se
+    // resolvió (sus límites, y la fila del arreglo con su versión)
+    private Fila[] resueltas = new Fila[16];
+    private int[] inicioGrupo = new int[16];
+    private int[] finGrupo = new int[16];
+    private Fila[] resueltaCon = new Fila[16];
+    private long[] versionResuelta = new long[16];
+    // Con qué cambio de la tabla se comprobó por última vez cada posición; así una consulta seguida de otra
+    // no vuelve a recorrer el grupo
+    private long[] comprobadaEn = new long[16];
+    private long cambios = 1;
+
+    /**
+     * Recalcula todos los acumulados a partir de las listas del campeonato.
+     * @param equipos Los equipos del campeonato, con su número ya asignado.
+     * @param partidos Los partidos del campeonato.
+     */
+    void reconstruir(List<Equipo> equipos, List<Partido> partidos) {
+        filas.clear();
+        desordenada = true;
+        olvidarGrupos();
+        for (Equipo equipo : equipos) {
+            agregarEquipo(equipo);
+        }
+        for (Partido partido : partidos) {
+            agregarPartido(partido);
+        }
+    }
+
+    /**
+     * Agrega la fila de un equipo con número nuevo; los equipos repetidos comparten la fila del primero.
+     */
+    void agregarEquipo(Equipo equipo) {
+        if (equipo.ordinal() == filas.size()) {
+            Fila fila = new Fila(equipo, filas.size());
+            filas.add(fila);
+            if (orden.length < filas.size()) {
+                orden = Arrays.copyOf(orden, orden.length * 2);
+            }
+            fila.posicion = filas.size() - 1;
+            orden[fila.posicion] = fila;
+            reubicar(fila);
+        }
+    }
+
+    /**
+     * Suma un partido con todos los eventos que ya tenga registrados.
+     * @param partido El partido a sumar.
+     */
+    void agregarPartido(Partido partido) {
+        aplicarResultado(partido, 0, 0, false);
+        Fila local = fila(partido.getEquipoLocal());
+        if (local != null) {
+            local.tarjetas += partido.tarjetasDelLado(EventosPartido.LOCAL);
+            local.faltas += partido.faltasDelLado(EventosPartido.LOCAL);
+            reubicar(local);
+        }
+        Fila visitante = fila(partido.getEquipoVisitante());
+        if (visitante != null) {
+            visitante.tarjetas += partido.tarjetasDelLado(EventosPartido.VISITANTE);
+            visitante.faltas += partido.faltasDelLado(EventosPartido.VISITANTE);
+            reubicar(visitante);
+        }
+    }
+
+    /**
+     * Suma solo el enfrentamiento entre los dos equipos de un partido cuyos acumulados ya se sumaron con un
+     * resumen de partición (que no distingue rivales).
+     */
+    void agregarEnfrentamiento(Partido partido) {
+        Fila local = fila(partido.getEquipoLocal());
+        Fila visitante = fila(partido.getEquipoVisitante());
+        if (local != null && visitante != null && local != visitante) {
+            Fila.aplicarEnfrentamiento(local.contra(visitante), partido.getGolesLocal(), partido.getGolesVisitante(), 1);
+            Fila.aplicarEnfrentamiento(visitante.contra(local), partido.getGolesVisitante(), partido.getGolesLocal(), 1);
+            local.version++;
+            visitante.version++;
+            cambios++;
+        }
+    }
+
+    /**
+     * Suma los acumulados precalculados de partidos que todavía no se cargaron.
+     * @param ordinal El número del equipo en el campeonato.
+     * @param acumulados Los acumulados en el orden de {@link ResumenParticion#CAMPOS_EQUIPO}.
+     */
+    void sumarResumen(int ordinal, int[] acumulados) {
+        Fila fila = fila(ordinal);
+        if (fila != null) {
+            fila.jugados += acumulados[0];
+            fila.ganados += acumulados[1];
+            fila.empatados += acumulados[2];
+            fila.perdidos += acumulados[3];
+            fila.golesAFavor += acumulados[4];
+            fila.golesEnContra += acumulados[5];
+            fila.tarjetas += acumulados[6];
+            fila.faltas += acumulados[7];
+            fila.version++;
+            desordenada = true;
+            cambios++;
+        }
+    }
+
+    /**
+     * Sustituye el resultado anterior del partido por el actual.
+     */
+    void marcadorCambiado(Partido partido, int golesLocalAnterior, int golesVisitanteAnterior) {
+        aplicarResultado(partido, golesLocalAnterior, golesVisitanteAnterior, true);
+    }
+
+    void tarjetaRegistrada(Equipo equipo) {
+        Fila fila = fila(equipo);
+        if (fila != null) {
+            fila.tarjetas++;
+            reubicar(fila);
+        }
+    }
+
+    void faltaRegistrada(Equipo equipo) {
+        Fila fila = fila(equipo);
+        if (fila != null) {
+            fila.faltas++;
+        }
+    }
+
+    /**
+     * @param ordinal El número del equipo en el campeonato.
+     * @return Los acumulados del equipo, o null si no está en la tabla.
+     */
+    Fila fila(int ordinal) {
+        return ordinal >= 0 && ordinal < filas.size() ? filas.get(ordinal) : null;
+    }
+
+    /**
+     * @param equipo Un equipo del campeonato.
+     * @return Los acumulados del equipo, o null si no está en la tabla.
+     */
+    Fila fila(Equipo equipo) {
+        return equipo != null ? fila(equipo.ordinal()) : null;
+    }
+
+    /**
+     * @return La cantidad de filas de la tabla.
+     */
+    int cantidad() {
+        return filas.size();
+    }
+
+    /**
+     * Cambia los criterios de desempate; la tabla se reordena en la siguiente consulta.
+     * @param criterios Los criterios, en orden de aplicación.
+     */
+    void setCriterios(List<CriterioDesempate> criterios) {
+        this.criterios = Collections.unmodifiableList(new ArrayList<>(criterios));
+        this.ordenArreglo = ordenArreglo(criterios);
+        this.porGrupos = criterios.contains(CriterioDesempate.ENFRENTAMIENTOS_DIRECTOS);
+        desordenada = true;
+        olvidarGrupos();
+    }
+
+    List<CriterioDesempate> getCriterios() {
+        return criterios;
+    }
+
+    /**
+     * @return true si algún criterio usa los enfrentamientos directos.
+     */
+    boolean usaEnfrentamientos() {
+        return porGrupos;
+    }
+
+    /**
+     * @param posicion Una posición, desde 0.
+     * @return La fila en esa posición: por puntos y luego según los criterios de desempate.
+     */
+    Fila enPosicion(int posicion) {
+        ordenar();
+        if (!porGrupos) {
+            return orden[posicion];
+        }
+        resolver(posicion);
+        return resueltas[posicion];
+    }
+
+    /**
+     * @param fila Una fila de la tabla.
+     * @return Su posición, desde 0, en el orden de {@link #enPosicion(int)}.
+     */
+    int posicion(Fila fila) {
+        ordenar();
+        if (!porGrupos) {
+            return fila.posicion;
+        }
+        resolver(fila.posicion);
+        return fila.posicionFinal;
+    }
+
+    /**
+     * @return Las filas en el orden de {@link #enPosicion(int)}; en O(n), más los grupos por desempatar.
+     */
+    List<Fila> ordenadas() {
+        ordenar();
+        if (!porGrupos) {
+            return Arrays.asList(Arrays.copyOf(orden, filas.size()));
+        }
+        for (int posicion = 0; posicion < filas.size(); posicion++) {
+            resolver(posicion);
+        }
+        return Arrays.asList(Arrays.copyOf(resueltas, filas.size()));
+    }
+
+    private static Comparator<Fila> ordenArreglo(List<CriterioDesempate> criterios) {
+        Comparator<Fila> orden = Comparator.comparingInt(Fila::getPuntos).reversed();
+        for (CriterioDesempate criterio : criterios) {
+            if (criterio != CriterioDesempate.ENFRENTAMIENTOS_DIRECTOS) {
+                orden = orden.thenComparing(comparador(criterio));
+            }
+        }
+        return orden.thenComparing(POR_NUMERO);
+    }
+
+    /**
+     * @return El orden de un criterio que depende solo de los acumulados de cada equipo.
+     */
+    private static Comparator<Fila> comparador(CriterioDesempate criterio) {
+        switch (criterio) {
+            case DIFERENCIA_DE_GOLES:
+                return Comparator.comparingInt((Fila fila) -> fila.golesAFavor - fila.golesEnContra).reversed();
+            case GOLES_A_FAVOR:
+                return Comparator.comparingInt(Fila::getGolesAFavor).reversed();
+            case GOLES_EN_CONTRA:
+                return Comparator.comparingInt(Fila::getGolesEnContra);
+            case JUEGO_LIMPIO:
+                return Comparator.comparingInt(Fila::getTarjetas);
+            default:
+                throw new IllegalArgumentException("El criterio depende del grupo empatado: " + criterio);
+        }
+    }
+
+    /**
+     * Desempata el grupo de filas con los mismos puntos que la de esa posición, salvo que ya esté resuelto con
+     * las mismas filas en las mismas versiones.
+     */
+    private void resolver(int posicion) {
+        if (resueltas.length < orden.length) {
+            resueltas = Arrays.copyOf(resueltas, orden.length);
+            inicioGrupo = Arrays.copyOf(inicioGrupo, orden.length);
+            finGrupo = Arrays.copyOf(finGrupo, orden.length);
+            resueltaCon = Arrays.copyOf(resueltaCon, orden.length);
+            versionResuelta = Arrays.copyOf(versionResuelta, orden.length);
+            comprobadaEn = Arrays.copyOf(comprobadaEn, orden.length);
+        }
+        if (comprobadaEn[posicion] == cambios) {
+            return;
+        }
+        int puntos = orden[posicion].getPuntos();
+        int desde = posicion;
+        while (desde > 0 && orden[desde - 1].getPuntos() == puntos) {
+            desde--;
+        }
+        int hasta = posicion + 1;
+        while (hasta < filas.size() && orden[hasta].getPuntos() == puntos) {
+            hasta++;
+        }
+        if (!sigueResuelto(desde, hasta)) {
+            System.arraycopy(orden, desde, resueltas, desde, hasta - desde);
+            desempatar(desde, hasta, 0);
+            for (int i = desde; i < hasta; i++) {
+                resueltas[i].posicionFinal = i;
+                inicioGrupo[i] = desde;
+                finGrupo[i] = hasta;
+                resueltaCon[i] = orden[i];
+                versionResuelta[i] = orden[i].version;
+            }
+        }
+        for (int i = desde; i < hasta; i++) {
+            comprobadaEn[i] = cambios;
+        }
+    }
+
+    /**
+     * @return true si {@code orden[desde, hasta)} se resolvió como un grupo y desde entonces ninguna de sus filas
+     * cambió ni se movió.
+     */
+    private boolean sigueResuelto(int desde, int hasta) {
+        for (int i = desde; i < hasta; i++) {
+            if (inicioGrupo[i] != desde || finGrupo[i] != hasta || resueltaCon[i] != orden[i]
+                    || versionResuelta[i] != orden[i].version) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Descarta los grupos resueltos, p. ej. porque cambiaron los criterios.
+     */
+    private void olvidarGrupos() {
+        Arrays.fill(resueltaCon, null);
+        cambios++;
+    }
+
+    /**
+     * Ordena las filas empatadas de {@code resueltas[desde, hasta)} con el criterio indicado y sigue con el
+     * siguiente en cada subgrupo que quede empatado.
+     */
+    private void desempatar(int desde, int hasta, int criterio) {
+        if (hasta - desde < 2) {
+            return;
+        }
+        if (criterio == criterios.size()) {
+            Arrays.sort(resueltas, desde, hasta, POR_NUMERO);
+            return;
+        }
+        Comparator<Fila> orden = criterios.get(criterio) == CriterioDesempate.ENFRENTAMIENTOS_DIRECTOS
+                ? enfrentamientosEntre(desde, hasta)
+                : comparador(criterios.get(criterio));
+        Arrays.sort(resueltas, desde, hasta, orden);
+        int inicio = desde;
+        for (int i = desde + 1; i <= hasta; i++) {
+            if (i == hasta || orden.compare(resueltas[inicio], resueltas[i]) != 0) {
+                desempatar(inicio, i, criterio + 1);
+                inicio = i;
+            }
+        }
+    }
+
+    /**
+     * Arma la mini tabla de los partidos entre las filas de {@code resueltas[desde, hasta)}, recorriendo los
+     * rivales de cada una (no todos los pares del grupo).
+     * @return El orden de la mini tabla: puntos, diferencia de goles y goles a favor.
+     */
+    private Comparator<Fila> enfrentamientosEntre(int desde, int hasta) {
+        Map<Fila, int[]> mini = new IdentityHashMap<>();
+        for (int i = desde; i < hasta; i++) {
+            mini.put(resueltas[i], new int[3]);
+        }
+        for (int i = desde; i < hasta; i++) {
+            int[] fila = mini.get(resueltas[i]);
+            for (Map.Entry<Fila, int[]> rival : resueltas[i].enfrentamientos.entrySet()) {
+                if (mini.containsKey(rival.getKey())) {
+                    int[] contra = rival.getValue();
+                    fila[0] += contra[ENFRENTAMIENTO_PUNTOS];
+                    fila[1] += contra[ENFRENTAMIENTO_GOLES_A_FAVOR] - contra[ENFRENTAMIENTO_GOLES_EN_CONTRA];
+                    fila[2] += contra[ENFRENTAMIENTO_GOLES_A_FAVOR];
+                }
+            }
+        }
+        return Comparator.comparingInt((Fila fila) -> -mini.get(fila)[0])
+                .thenComparingInt(fila -> -mini.get(fila)[1])
+                .thenComparingInt(fila -> -mini.get(fila)[2]);
+    }
+
+    private void ordenar() {
+        if (!desordenada) {
+            return;
+        }
+        orden = filas.toArray(new Fila[Math.max(16, filas.size())]);
+        Arrays.sort(orden, 0, filas.size(), ordenArreglo);
+        for (int i = 0; i < filas.size(); i++) {
+            orden[i].posicion = i;
+        }
+        desordenada = false;
+    }
+
+    /**
+     * Mueve la fila hacia arriba o hacia abajo hasta que vuelve a quedar en orden, corriendo una posición
+     * las filas que salta.
+     */
+    private void reubicar(Fila fila) {
+        fila.version++;
+        cambios++;
+        if (desordenada) {
+            return;
+        }
+        int posicion = fila.posicion;
+        while (posicion > 0 && ordenArreglo.compare(fila, orden[posicion - 1]) < 0) {
+            orden[posicion] = orden[posicion - 1];
+            orden[posicion].posicion = posicion;
+            posicion--;
+        }
+        while (posicion < filas.size() - 1 && ordenArreglo.compare(fila, orden[posicion + 1]) > 0) {
+            orden[posicion] = orden[posicion + 1];
+            orden[posicion].posicion = posicion;
+            posicion++;
+        }
+        orden[posicion] = fila;
+        fila.posicion = posicion;
+    }
+
+    /**
+     * Suma el resultado actual del partido y, si {@code restarAnterior}, resta el anterior. Cada equipo
+     * se reubica apenas cambia, así que solo una fila está fuera de lugar cuando se mueve.
+     */
+    private void aplicarResultado(Partido partido, int golesLocalAnterior, int golesVisitanteAnterior,
+                                  boolean restarAnterior) {
+        int golesLocal = partido.getGolesLocal();
+        int golesVisitante = partido.getGolesVisitante();
+        Fila local = fila(partido.getEquipoLocal());
+        Fila visitante = fila(partido.getEquipoVisitante());
+        if (local != null) {
+            int[] contra = local.contra(visitante);
+            if (restarAnterior) {
+                local.aplicar(contra, golesLocalAnterior, golesVisitanteAnterior, -1);
+            }
+            local.aplicar(contra, golesLocal, golesVisitante, 1);
+            reubicar(local);
+        }
+        if (visitante != null) {
+            int[] contra = visitante.contra(local);
+            if (restarAnterior) {
+                visitante.aplicar(contra, golesVisitanteAnterior, golesLocalAnterior, -1);
+            }
+            visitante.aplicar(contra, golesVisitante, golesLocal, 1);
+            reubicar(visitante);
+        }
+    }
+}
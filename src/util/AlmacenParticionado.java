@@ -0,0 +1,701 @@
+// Archivo: util/AlmacenParticionado.java
+package util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import model.CargadorPartidos;
+import model.Campeonato;
+import model.Equipo;
+import model.Falta;
+import model.Gol;
+import model.Jugador;
+import model.ObservadorCampeonato;
+import model.Partido;
+import model.ResumenParticion;
+import model.Tarjeta;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Guarda un campeonato en un directorio: el catálogo de equipos y jugadores en {@link #CATALOGO} y los
+ * partidos en archivos de partición, cada uno con un bloque de partidos consecutivos en el formato de
+ * {@link CodecCampeonatoJson}.
+ *
+ * <p>El catálogo incluye, por partición, los IDs de sus partidos y un {@link ResumenParticion}, así que al
+ * abrir el directorio solo se lee el catálogo: el campeonato arma la tabla, las estadísticas y las suspensiones
+ * con los resúmenes y carga cada partición cuando la necesita ({@link Campeonato#cargarPartidosBajoDemanda}).
+ * Los catálogos escritos antes de que el resumen trajera el calendario y las tarjetas se siguen leyendo; a
+ * esas particiones se les calcula el resumen completo al cargarlas, y se escribe con el catálogo siguiente.</p>
+ *
+ * <p>Al guardar solo se reescriben las particiones con cambios, bajo nombres nuevos; el catálogo se
+ * reemplaza al final de una sola vez y recién entonces se borran los archivos que dejó de usar, así que una
+ * interrupción a mitad del guardado deja el directorio como estaba. Las particiones a escribir se copian con
+ * acceso exclusivo al campeonato y se escriben sin retenerlo.</p>
+ */
+class AlmacenParticionado implements CargadorPartidos, ObservadorCampeonato {
+
+    /**
+     * Nombre del archivo de catálogo dentro del directorio.
+     */
+    static final String CATALOGO = "catalogo.json";
+
+    /**
+     * Versión del formato del catálogo y de las particiones.
+     */
+    static final int FORMATO = 1;
+
+    private static final class Particion {
+        // null hasta que la partición se escribe por primera vez
+        String archivo;
+        List<String> ids = new ArrayList<>();
+        ResumenParticion resumen = new ResumenParticion();
+        // null mientras la partición no se cargue
+        List<Partido> partidos;
+        boolean modificada;
+    }
+
+    /**
+     * Lo que escribe un guardado, copiado con acceso exclusivo al campeonato.
+     */
+    private static final class Captura {
+        final long version;
+        final List<Equipo> equipos;
+        // Las particiones en orden y una copia de cada una; las marcadas como modificadas, con sus partidos copiados
+        final List<Particion> originales = new ArrayList<>();
+        final List<Particion> copias = new ArrayList<>();
+        // Archivos que dejan de usarse, y cuáles de ellos venían de particiones repartidas
+        final Set<String> viejos = new HashSet<>();
+        final List<String> descartados = new ArrayList<>();
+
+        Captura(long version, List<Equipo> equipos) {
+            this.version = version;
+            this.equipos = equipos;
+        }
+    }
+
+    private final JsonFactory fabrica;
+    private final CodecCampeonatoJson codec;
+    private final boolean legible;
+    private final Path directorio;
+    private final int partidosPorParticion;
+    private final Campeonato campeonato;
+
+    // Protege las particiones; nunca se toma junto con el candado de un partido
+    private final Object candado = new Object();
+    private final List<Particion> particiones = new ArrayList<>();
+    private final Map<Partido, Particion> particionDe = new IdentityHashMap<>();
+    // Archivos de particiones reemplazadas al repartir, a borrar tras el próximo catálogo
+    private final List<String> descartados = new ArrayList<>();
+    // Entidades del catálogo leído, para resolver las referencias de las particiones
+    private final Map<String, Equipo> equipos = new HashMap<>();
+    private final Map<String, Jugador> jugadores = new HashMap<>();
+    private long generacion;
+
+    private AlmacenParticionado(JsonFactory fabrica, boolean legible, Path directorio, int partidosPorParticion,
+                                Campeonato campeonato) {
+        this.fabrica = fabrica;
+        this.codec = new CodecCampeonatoJson(fabrica, legible);
+        this.legible = legible;
+        this.directorio = directorio;
+        this.partidosPorParticion = partidosPorParticion;
+        this.campeonato = campeonato;
+    }
+
+    /**
+     * Abre un directorio leyendo solo el catálogo; los partidos quedan pendientes de carga.
+     *
+     * @param fabrica La fábrica de Jackson.
+     * @param legible true para escribir el JSON indentado al guardar.
+     * @param directorio El directorio a abrir.
+     * @param partidosPorParticion Partidos por partición para los partidos nuevos.
+     * @return El almacén, con su campeonato en {@link #getCampeonato()}.
+     * @throws IOException Si el catálogo no se puede leer.
+     */
+    static AlmacenParticionado abrir(JsonFactory fabrica, boolean legible, Path directorio,
+                                     int partidosPorParticion) throws IOException {
+        AlmacenParticionado almacen = new AlmacenParticionado(fabrica, legible, directorio, partidosPorParticion,
+                new Campeonato());
+        almacen.leerCatalogo();
+        almacen.campeonato.cargarPartidosBajoDemanda(almacen);
+        almacen.campeonato.agregarObservador(almacen);
+        return almacen;
+    }
+
+    /**
+     * Crea un almacén para un campeonato que ya tiene todos sus partidos en memoria, repartiéndolos en
+     * particiones nuevas. No escribe nada hasta {@link #guardar(Runnable)}.
+     *
+     * @param fabrica La fábrica de Jackson.
+     * @param legible true para escribir el JSON indentado.
+     * @param directorio El directorio de destino.
+     * @param partidosPorParticion Partidos por partición.
+     * @param campeonato El campeonato a guardar.
+     * @return El almacén.
+     */
+    static AlmacenParticionado crear(JsonFactory fabrica, boolean legible, Path directorio,
+                                     int partidosPorParticion, Campeonato campeonato) {
+        AlmacenParticionado almacen = new AlmacenParticionado(fabrica, legible, directorio, partidosPorParticion,
+                campeonato);
+        almacen.campeonato.conAccesoExclusivo(() -> {
+            synchronized (almacen.candado) {
+                almacen.repartir(campeonato.getPartidos());
+            }
+            almacen.campeonato.agregarObservador(almacen);
+            return null;
+        });
+        return almacen;
+    }
+
+    /**
+     * @return El campeonato guardado en este almacén.
+     */
+    Campeonato getCampeonato() {
+        return campeonato;
+    }
+
+    /**
+     * @return El directorio del almacén.
+     */
+    Path getDirectorio() {
+        return directorio;
+    }
+
+    @Override
+    public int contarParticiones() {
+        synchronized (candado) {
+            return particiones.size();
+        }
+    }
+
+    @Override
+    public List<String> idsPartidos(int particion) {
+        synchronized (candado) {
+            return particiones.get(particion).ids;
+        }
+    }
+
+    @Override
+    public ResumenParticion resumen(int particion) {
+        synchronized (candado) {
+            return particiones.get(particion).resumen;
+        }
+    }
+
+    @Override
+    public List<Partido> cargar(int particion) throws IOException {
+        Particion datos;
+        boolean conCalendario;
+        synchronized (candado) {
+            datos = particiones.get(particion);
+            conCalendario = datos.resumen.tieneCalendario();
+        }
+        List<Partido> partidos = new ArrayList<>(datos.ids.size());
+        ResumenParticion resumen = null;
+        try (JsonParser p = fabrica.createParser(directorio.resolve(datos.archivo).toFile())) {
+            leerEncabezado(p);
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String seccion = p.currentName();
+                p.nextToken();
+                if ("partidos".equals(seccion)) {
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        partidos.add(codec.leerPartido(p, equipos, jugadores));
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        if (!conCalendario) {
+            // Catálogo anterior: se completa el resumen para el próximo catálogo
+            resumen = new ResumenParticion();
+            for (Partido partido : partidos) {
+                resumen.agregarPartido(partido);
+            }
+        }
+        synchronized (candado) {
+            if (resumen != null) {
+                datos.resumen = resumen;
+            }
+            datos.partidos = partidos;
+            for (Partido partido : partidos) {
+                particionDe.put(partido, datos);
+            }
+        }
+        return partidos;
+    }
+
+    @Override
+    public void partidoCreado(Partido partido) {
+        synchronized (candado) {
+            Particion ultima = particiones.isEmpty() ? null : particiones.get(particiones.size() - 1);
+            if (ultima == null || ultima.partidos == null || ultima.partidos.size() >= partidosPorParticion) {
+                // La última partición está llena o sin cargar: el partido abre una nueva
+                ultima = new Particion();
+                ultima.partidos = new ArrayList<>();
+                particiones.add(ultima);
+            }
+            ultima.partidos.add(partido);
+            ultima.ids.add(partido.getId());
+            ultima.modificada = true;
+            particionDe.put(partido, ultima);
+        }
+    }
+
+    @Override
+    public void golRegistrado(Partido partido, Gol gol) {
+        marcarModificada(partido);
+    }
+
+    @Override
+    public void tarjetaRegistrada(Partido partido, Tarjeta tarjeta) {
+        marcarModificada(partido);
+    }
+
+    @Override
+    public void faltaRegistrada(Partido partido, Falta falta) {
+        marcarModificada(partido);
+    }
+
+    /**
+     * Escribe las particiones con cambios y el catálogo. Copia con acceso exclusivo al campeonato las particiones
+     * a escribir y el catálogo, y los escribe después, sin retenerlo; no debe invocarse desde un observador.
+     *
+     * @param alCopiar Acción a ejecutar con el campeonato retenido, justo después de copiarlo; o null.
+     * @throws IOException Si no se pudo escribir; el directorio queda como estaba.
+     */
+    synchronized void guardar(Runnable alCopiar) throws IOException {
+        Captura captura = campeonato.conAccesoExclusivo(() -> {
+            Captura copiada = capturar();
+            if (alCopiar != null) {
+                alCopiar.run();
+            }
+            return copiada;
+        });
+        Files.createDirectories(directorio);
+
+        List<Integer> numeros = new ArrayList<>();
+        for (int i = 0; i < captura.copias.size(); i++) {
+            if (captura.copias.get(i).modificada) {
+                numeros.add(i);
+            }
+        }
+        long siguiente = generacion + 1;
+        while (usaNombresExistentes(numeros, siguiente)) {
+            siguiente++;
+        }
+
+        List<Path> escritos = new ArrayList<>();
+        try {
+            for (int numero : numeros) {
+                Particion copia = captura.copias.get(numero);
+                String archivo = nombreParticion(numero, siguiente);
+                Path destino = directorio.resolve(archivo);
+                escritos.add(destino);
+                copia.resumen = escribirParticion(copia.partidos, destino);
+                // El catálogo nuevo no puede llegar al disco antes que las particiones que nombra
+                JsonDataManager.sincronizar(destino);
+                copia.archivo = archivo;
+            }
+        } catch (IOException e) {
+            borrar(escritos);
+            volverAMarcar(captura);
+            throw e;
+        }
+
+        Path catalogo = directorio.resolve(CATALOGO);
+        Path temporal = directorio.resolve(CATALOGO + ".tmp");
+        IOException sinSincronizar = null;
+        try {
+            escribirCatalogo(temporal, captura, siguiente);
+            JsonDataManager.reemplazar(temporal, catalogo);
+        } catch (IOException e) {
+            if (Files.exists(temporal)) {
+                borrar(escritos);
+                Files.deleteIfExists(temporal);
+                volverAMarcar(captura);
+                throw e;
+            }
+            // El catálogo ya se reemplazó y solo falló llevar el directorio al disco: tras un corte podría
+            // volver el anterior, así que sus particiones se conservan hasta el próximo guardado
+            sinSincronizar = e;
+        }
+
+        synchronized (candado) {
+            for (int numero : numeros) {
+                Particion original = captura.originales.get(numero);
+                Particion copia = captura.copias.get(numero);
+                original.archivo = copia.archivo;
+                original.resumen = copia.resumen;
+            }
+            descartados.removeAll(captura.descartados);
+            if (sinSincronizar != null) {
+                descartados.addAll(captura.viejos);
+            }
+        }
+        generacion = siguiente;
+        if (sinSincronizar != null) {
+            throw sinSincronizar;
+        }
+        for (String viejo : captura.viejos) {
+            Files.deleteIfExists(directorio.resolve(viejo));
+        }
+    }
+
+    /**
+     * Copia lo que hay que escribir y desmarca las particiones copiadas: los cambios que lleguen mientras se
+     * escribe las vuelven a marcar para el guardado siguiente. Se invoca con acceso exclusivo al campeonato.
+     */
+    private Captura capturar() {
+        if (campeonato.contarParticionesPendientes() == 0) {
+            // Con todo cargado alguien pudo modificar la lista directamente: si no coincide se reparte de nuevo
+            List<Partido> lista = campeonato.getPartidos();
+            synchronized (candado) {
+                if (!coincideCon(lista)) {
+                    repartir(lista);
+                }
+            }
+        }
+        CopiaCampeonato copia = new CopiaCampeonato(campeonato.getEquipos());
+        Captura captura = new Captura(campeonato.getVersion(), copia.getEquipos());
+        synchronized (candado) {
+            for (Particion particion : particiones) {
+                Particion copiada = new Particion();
+                copiada.archivo = particion.archivo;
+                copiada.ids = new ArrayList<>(particion.ids);
+                copiada.resumen = particion.resumen;
+                if (particion.modificada || particion.archivo == null) {
+                    copiada.partidos = new ArrayList<>(particion.partidos.size());
+                    for (Partido partido : particion.partidos) {
+                        copiada.partidos.add(copia.copiar(partido));
+                    }
+                    copiada.modificada = true;
+                    particion.modificada = false;
+                    if (particion.archivo != null) {
+                        captura.viejos.add(particion.archivo);
+                    }
+                }
+                captura.originales.add(particion);
+                captura.copias.add(copiada);
+            }
+            captura.descartados.addAll(descartados);
+            captura.viejos.addAll(descartados);
+        }
+        return captura;
+    }
+
+    /**
+     * Tras un guardado fallido, vuelve a marcar las particiones que se iban a escribir.
+     */
+    private void volverAMarcar(Captura captura) {
+        synchronized (candado) {
+            for (int i = 0; i < captura.copias.size(); i++) {
+                if (captura.copias.get(i).modificada) {
+                    captura.originales.get(i).modificada = true;
+                }
+            }
+        }
+    }
+
+    private void marcarModificada(Partido partido) {
+        synchronized (candado) {
+            Particion particion = particionDe.get(partido);
+            if (particion != null) {
+                particion.modificada = true;
+            }
+        }
+    }
+
+    /**
+     * Indica si la lista es la concatenación, en orden, de los partidos de las particiones.
+     */
+    private boolean coincideCon(List<Partido> lista) {
+        int posicion = 0;
+        for (Particion particion : particiones) {
+            if (particion.partidos == null) {
+                return false;
+            }
+            for (Partido partido : particion.partidos) {
+                if (posicion >= lista.size() || lista.get(posicion++) != partido) {
+                    return false;
+                }
+            }
+        }
+        return posicion == lista.size();
+    }
+
+    /**
+     * Reparte los partidos en particiones nuevas de {@code partidosPorParticion} partidos consecutivos.
+     * Los archivos de las particiones anteriores se borran al guardar.
+     */
+    private void repartir(List<Partido> lista) {
+        for (Particion anterior : particiones) {
+            if (anterior.archivo != null) {
+                descartados.add(anterior.archivo);
+            }
+        }
+        particiones.clear();
+        particionDe.clear();
+        for (int inicio = 0; inicio < lista.size(); inicio += partidosPorParticion) {
+            Particion particion = new Particion();
+            particion.partidos = new ArrayList<>(lista.subList(inicio, Math.min(lista.size(), inicio + partidosPorParticion)));
+            for (Partido partido : particion.partidos) {
+                particion.ids.add(partido.getId());
+                particionDe.put(partido, particion);
+            }
+            particion.modificada = true;
+            particiones.add(particion);
+        }
+    }
+
+    private boolean usaNombresExistentes(Iterable<Integer> numeros, long generacion) {
+        for (int numero : numeros) {
+            if (Files.exists(directorio.resolve(nombreParticion(numero, generacion)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String nombreParticion(int particion, long generacion) {
+        return String.format("partidos-%04d-%d.json", particion, generacion);
+    }
+
+    private ResumenParticion escribirParticion(List<Partido> partidos, Path destino) throws IOException {
+        ResumenParticion resumen = new ResumenParticion();
+        try (JsonGenerator gen = fabrica.createGenerator(destino.toFile(), JsonEncoding.UTF8)) {
+            if (legible) {
+                gen.useDefaultPrettyPrinter();
+            }
+            gen.writeStartObject();
+            gen.writeNumberField("formato", FORMATO);
+            gen.writeArrayFieldStart("partidos");
+            for (Partido partido : partidos) {
+                codec.escribirPartido(gen, partido);
+                resumen.agregarPartido(partido);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        return resumen;
+    }
+
+    private void escribirCatalogo(Path destino, Captura captura, long generacion) throws IOException {
+        try (JsonGenerator gen = fabrica.createGenerator(destino.toFile(), JsonEncoding.UTF8)) {
+            if (legible) {
+                gen.useDefaultPrettyPrinter();
+            }
+            gen.writeStartObject();
+            gen.writeNumberField("formato", FORMATO);
+            gen.writeNumberField("version", captura.version);
+            gen.writeNumberField("generacion", generacion);
+            codec.escribirCatalogo(gen, captura.equipos);
+
+            gen.writeArrayFieldStart("particiones");
+            for (Particion particion : captura.copias) {
+                gen.writeStartObject();
+                gen.writeStringField("archivo", particion.archivo);
+                gen.writeArrayFieldStart("partidos");
+                for (String id : particion.ids) {
+                    gen.writeString(id);
+                }
+                gen.writeEndArray();
+                escribirAcumulados(gen, "equipos", particion.resumen.acumuladosPorEquipo());
+                escribirAcumulados(gen, "jugadores", particion.resumen.contadoresPorJugador());
+                if (particion.resumen.tieneCalendario()) {
+                    escribirCalendario(gen, particion.resumen);
+                }
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Escribe cada entrada como un arreglo con el ID seguido de sus valores.
+     */
+    private static void escribirAcumulados(JsonGenerator gen, String campo, Map<String, int[]> acumulados) throws IOException {
+        gen.writeArrayFieldStart(campo);
+        for (Map.Entry<String, int[]> entrada : acumulados.entrySet()) {
+            gen.writeStartArray();
+            gen.writeString(entrada.getKey());
+            for (int valor : entrada.getValue()) {
+                gen.writeNumber(valor);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Escribe los equipos de cada partido como un arreglo con el local y el visitante, y cada tarjeta como un
+     * arreglo con el ID del jugador, el partido, el lado (0 local, 1 visitante) y 1 si es roja.
+     */
+    private static void escribirCalendario(JsonGenerator gen, ResumenParticion resumen) throws IOException {
+        gen.writeArrayFieldStart("calendario");
+        for (String[] equipos : resumen.calendario()) {
+            gen.writeStartArray();
+            gen.writeString(equipos[0]);
+            gen.writeString(equipos[1]);
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("tarjetas");
+        for (ResumenParticion.TarjetaResumida tarjeta : resumen.tarjetas()) {
+            gen.writeStartArray();
+            gen.writeString(tarjeta.getIdJugador());
+            gen.writeNumber(tarjeta.getPartido());
+            gen.writeNumber(tarjeta.isLocal() ? 0 : 1);
+            gen.writeNumber(tarjeta.isRoja() ? 1 : 0);
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+    }
+
+    private void leerCatalogo() throws IOException {
+        List<Equipo> listaEquipos = new ArrayList<>();
+        long version = 0;
+        try (JsonParser p = fabrica.createParser(directorio.resolve(CATALOGO).toFile())) {
+            leerEncabezado(p);
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String seccion = p.currentName();
+                p.nextToken();
+                switch (seccion) {
+                    case "version":
+                        version = p.getLongValue();
+                        break;
+                    case "generacion":
+                        generacion = p.getLongValue();
+                        break;
+                    case "equipos":
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            Equipo equipo = codec.leerEquipo(p);
+                            equipos.put(equipo.getId(), equipo);
+                            listaEquipos.add(equipo);
+                        }
+                        break;
+                    case "jugadores":
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            Jugador jugador = codec.leerJugador(p, equipos);
+                            jugadores.put(jugador.getId(), jugador);
+                        }
+                        break;
+                    case "particiones":
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            particiones.add(leerParticion(p));
+                        }
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+        }
+        campeonato.setEquipos(listaEquipos);
+        campeonato.setVersion(version);
+    }
+
+    private Particion leerParticion(JsonParser p) throws IOException {
+        Particion particion = new Particion();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "archivo":
+                    particion.archivo = p.getValueAsString();
+                    break;
+                case "partidos":
+                    while (p.nextToken() == JsonToken.VALUE_STRING) {
+                        particion.ids.add(p.getText());
+                    }
+                    break;
+                case "equipos":
+                    while (p.nextToken() == JsonToken.START_ARRAY) {
+                        p.nextToken();
+                        String id = p.getText();
+                        particion.resumen.sumarEquipo(id, leerValores(p, ResumenParticion.CAMPOS_EQUIPO));
+                    }
+                    break;
+                case "jugadores":
+                    while (p.nextToken() == JsonToken.START_ARRAY) {
+                        p.nextToken();
+                        String id = p.getText();
+                        particion.resumen.sumarJugador(id, leerValores(p, ResumenParticion.CAMPOS_JUGADOR));
+                    }
+                    break;
+                case "calendario":
+                    while (p.nextToken() == JsonToken.START_ARRAY) {
+                        p.nextToken();
+                        String local = p.getValueAsString();
+                        p.nextToken();
+                        String visitante = p.getValueAsString();
+                        if (p.nextToken() != JsonToken.END_ARRAY) {
+                            throw new JsonParseException(p, "Partido del calendario mal formado");
+                        }
+                        particion.resumen.agregarCalendario(local, visitante);
+                    }
+                    break;
+                case "tarjetas":
+                    while (p.nextToken() == JsonToken.START_ARRAY) {
+                        p.nextToken();
+                        String id = p.getText();
+                        int[] valores = leerValores(p, 3);
+                        particion.resumen.agregarTarjeta(new ResumenParticion.TarjetaResumida(valores[0], valores[1] == 0,
+                                id, valores[2] == 1));
+                    }
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        if (particion.archivo == null) {
+            throw new JsonParseException(p, "Partición sin archivo");
+        }
+        return particion;
+    }
+
+    private static int[] leerValores(JsonParser p, int cantidad) throws IOException {
+        int[] valores = new int[cantidad];
+        int i = 0;
+        while (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+            if (i < cantidad) {
+                valores[i++] = p.getIntValue();
+            }
+        }
+        return valores;
+    }
+
+    private static void leerEncabezado(JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT
+                || p.nextToken() != JsonToken.FIELD_NAME
+                || !"formato".equals(p.currentName())) {
+            throw new JsonParseException(p, "No es un archivo de campeonato particionado");
+        }
+        p.nextToken();
+        if (p.getIntValue() != FORMATO) {
+            throw new JsonParseException(p, "Versión de formato no soportada: " + p.getText());
+        }
+    }
+
+    private static void borrar(List<Path> archivos) {
+        for (Path archivo : archivos) {
+            try {
+                Files.deleteIfExists(archivo);
+            } catch (IOException ignorada) {
+                // Un archivo de partición huérfano no afecta al catálogo vigente
+            }
+        }
+    }
+}
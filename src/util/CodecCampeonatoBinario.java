@@ -0,0 +1,436 @@
+// Archivo: util/CodecCampeonatoBinario.java
+package util;
+
+import model.Campeonato;
+import model.Equipo;
+import model.Falta;
+import model.Gol;
+import model.Jugador;
+import model.Partido;
+import model.Tarjeta;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lee y escribe el Campeonato en un formato binario compacto, pensado para abrir rápido
+ * campeonatos archivados.
+ *
+ * <p>Estructura del archivo (enteros big-endian de 4 bytes salvo donde se indica):</p>
+ * <ol>
+ *     <li>Cabecera: {@link #MAGIA}, {@link #FORMATO}, versión del campeonato (8 bytes) y un índice con
+ *     la cantidad de registros y la posición de inicio de cada sección.</li>
+ *     <li>Diccionario: todas las cadenas distintas una sola vez; el resto del archivo las referencia
+ *     por su número (-1 para null).</li>
+ *     <li>Equipos, jugadores, partidos, goles, tarjetas y faltas como registros de ancho fijo.
+ *     Las referencias entre entidades son el número de registro; los eventos de cada partido
+ *     están contiguos y el partido guarda dónde empiezan y cuántos son.</li>
+ * </ol>
+ *
+ * <p>La lectura mapea el archivo en memoria con un {@link FileChannel} y recorre los registros
+ * directamente sobre el buffer; cada cadena del diccionario se decodifica una sola vez. Las posiciones
+ * son enteros de 4 bytes, así que el archivo no puede superar {@link #TAMANO_MAXIMO} bytes.</p>
+ */
+class CodecCampeonatoBinario {
+
+    static final int MAGIA = 0x43414D50; // "CAMP"
+    static final int FORMATO = 1;
+
+    /**
+     * Tamaño máximo del archivo: el mayor que se puede mapear de una vez y direccionar con posiciones de 4 bytes.
+     */
+    static final long TAMANO_MAXIMO = Integer.MAX_VALUE;
+
+    private static final int SECCIONES = 7;
+    private static final int CABECERA = 4 + 4 + 8 + SECCIONES * (4 + 4);
+
+    private static final int ANCHO_EQUIPO = 4 * 4;
+    private static final int ANCHO_JUGADOR = 5 * 4;
+    private static final int ANCHO_PARTIDO = 13 * 4;
+    private static final int ANCHO_GOL = 2 * 4;
+    private static final int ANCHO_TARJETA = 4 * 4;
+    private static final int ANCHO_FALTA = 5 * 4;
+
+    /**
+     * Escribe el campeonato en el archivo.
+     * @param campeonato El campeonato a escribir.
+     * @param archivo El archivo de destino.
+     * @throws IOException Si falla la escritura, el campeonato referencia entidades que no contiene
+     * o no cabe en {@link #TAMANO_MAXIMO} bytes.
+     */
+    void escribir(Campeonato campeonato, File archivo) throws IOException {
+        Diccionario cadenas = new Diccionario();
+        Map<Equipo, Integer> equipos = new HashMap<>();
+        Map<Jugador, Integer> jugadores = new HashMap<>();
+        List<Jugador> listaJugadores = new ArrayList<>();
+        int goles = 0, tarjetas = 0, faltas = 0;
+
+        // Primera pasada: numerar entidades y cadenas para conocer el tamaño de cada sección
+        for (Equipo equipo : campeonato.getEquipos()) {
+            equipos.put(equipo, equipos.size());
+            cadenas.agregar(equipo.getId(), equipo.getNombre(), equipo.getBarrio(), equipo.getNombreEntrenador());
+            for (Jugador jugador : equipo.getJugadores()) {
+                jugadores.put(jugador, listaJugadores.size());
+                listaJugadores.add(jugador);
+                cadenas.agregar(jugador.getId(), jugador.getNombreCompleto(), jugador.getPosicion());
+            }
+        }
+        for (Partido partido : campeonato.getPartidos()) {
+            cadenas.agregar(partido.getId(), partido.getEstadio(), partido.getArbitro());
+            for (Tarjeta tarjeta : partido.getTarjetas()) {
+                cadenas.agregar(tarjeta.getTipo(), tarjeta.getMotivo());
+            }
+            for (Falta falta : partido.getFaltas()) {
+                cadenas.agregar(falta.getZonaCampo(), falta.getTarjetaAsociada());
+            }
+            goles += partido.getGoles().size();
+            tarjetas += partido.getTarjetas().size();
+            faltas += partido.getFaltas().size();
+        }
+
+        int[] cantidades = {
+                cadenas.tamano(), equipos.size(), listaJugadores.size(), campeonato.getPartidos().size(),
+                goles, tarjetas, faltas
+        };
+        int[] anchos = {0, ANCHO_EQUIPO, ANCHO_JUGADOR, ANCHO_PARTIDO, ANCHO_GOL, ANCHO_TARJETA, ANCHO_FALTA};
+        int[] inicios = new int[SECCIONES];
+        long posicion = CABECERA;
+        for (int s = 0; s < SECCIONES; s++) {
+            inicios[s] = (int) Math.min(posicion, TAMANO_MAXIMO);
+            posicion += s == 0 ? cadenas.bytesSerializados() : (long) cantidades[s] * anchos[s];
+        }
+        if (posicion > TAMANO_MAXIMO) {
+            throw new IOException("El campeonato ocupa " + posicion + " bytes y el formato binario admite hasta "
+                    + TAMANO_MAXIMO + "; guárdelo en JSON");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(archivo), 1 << 16))) {
+            out.writeInt(MAGIA);
+            out.writeInt(FORMATO);
+            out.writeLong(campeonato.getVersion());
+            for (int s = 0; s < SECCIONES; s++) {
+                out.writeInt(cantidades[s]);
+                out.writeInt(inicios[s]);
+            }
+
+            cadenas.escribir(out);
+
+            for (Equipo equipo : campeonato.getEquipos()) {
+                out.writeInt(cadenas.de(equipo.getId()));
+                out.writeInt(cadenas.de(equipo.getNombre()));
+                out.writeInt(cadenas.de(equipo.getBarrio()));
+                out.writeInt(cadenas.de(equipo.getNombreEntrenador()));
+            }
+            for (Jugador jugador : listaJugadores) {
+                out.writeInt(cadenas.de(jugador.getId()));
+                out.writeInt(cadenas.de(jugador.getNombreCompleto()));
+                out.writeInt(cadenas.de(jugador.getPosicion()));
+                out.writeInt(jugador.getNumeroCamiseta());
+                out.writeInt(referencia(equipos, jugador.getEquipo()));
+            }
+
+            int primerGol = 0, primeraTarjeta = 0, primeraFalta = 0;
+            for (Partido partido : campeonato.getPartidos()) {
+                out.writeInt(cadenas.de(partido.getId()));
+                out.writeInt(referencia(equipos, partido.getEquipoLocal()));
+                out.writeInt(referencia(equipos, partido.getEquipoVisitante()));
+                out.writeInt(cadenas.de(partido.getEstadio()));
+                out.writeInt(cadenas.de(partido.getArbitro()));
+                out.writeInt(partido.getGolesLocal());
+                out.writeInt(partido.getGolesVisitante());
+                out.writeInt(primerGol);
+                out.writeInt(partido.getGoles().size());
+                out.writeInt(primeraTarjeta);
+                out.writeInt(partido.getTarjetas().size());
+                out.writeInt(primeraFalta);
+                out.writeInt(partido.getFaltas().size());
+                primerGol += partido.getGoles().size();
+                primeraTarjeta += partido.getTarjetas().size();
+                primeraFalta += partido.getFaltas().size();
+            }
+            for (Partido partido : campeonato.getPartidos()) {
+                for (Gol gol : partido.getGoles()) {
+                    out.writeInt(referencia(jugadores, gol.getJugador()));
+                    out.writeInt(gol.getMinuto());
+                }
+            }
+            for (Partido partido : campeonato.getPartidos()) {
+                for (Tarjeta tarjeta : partido.getTarjetas()) {
+                    out.writeInt(referencia(jugadores, tarjeta.getJugador()));
+                    out.writeInt(cadenas.de(tarjeta.getTipo()));
+                    out.writeInt(tarjeta.getMinuto());
+                    out.writeInt(cadenas.de(tarjeta.getMotivo()));
+                }
+            }
+            for (Partido partido : campeonato.getPartidos()) {
+                for (Falta falta : partido.getFaltas()) {
+                    out.writeInt(referencia(jugadores, falta.getJugadorQueCometio()));
+                    out.writeInt(referencia(jugadores, falta.getJugadorAfectado()));
+                    out.writeInt(falta.getMinuto());
+                    out.writeInt(cadenas.de(falta.getZonaCampo()));
+                    out.writeInt(cadenas.de(falta.getTarjetaAsociada()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Lee el campeonato del archivo mapeándolo en memoria.
+     * @param archivo El archivo a leer.
+     * @return El campeonato leído.
+     * @throws IOException Si el archivo no se puede leer, no es de este formato, está dañado o
+     * supera {@link #TAMANO_MAXIMO} bytes.
+     */
+    Campeonato leer(File archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo.toPath(), StandardOpenOption.READ)) {
+            if (canal.size() < CABECERA) {
+                throw new IOException("Archivo binario demasiado corto: " + archivo);
+            }
+            if (canal.size() > TAMANO_MAXIMO) {
+                throw new IOException("Archivo binario de " + canal.size() + " bytes; el formato admite hasta "
+                        + TAMANO_MAXIMO + ": " + archivo);
+            }
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            try {
+                return leer(buffer);
+            } catch (IndexOutOfBoundsException e) {
+                throw new IOException("Archivo binario dañado: " + archivo, e);
+            }
+        }
+    }
+
+    private Campeonato leer(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt(0) != MAGIA) {
+            throw new IOException("El archivo no es un campeonato binario");
+        }
+        if (buffer.getInt(4) != FORMATO) {
+            throw new IOException("Versión de formato binario no soportada: " + buffer.getInt(4));
+        }
+        long version = buffer.getLong(8);
+        int[] cantidades = new int[SECCIONES];
+        int[] inicios = new int[SECCIONES];
+        for (int s = 0; s < SECCIONES; s++) {
+            cantidades[s] = buffer.getInt(16 + s * 8);
+            inicios[s] = buffer.getInt(20 + s * 8);
+        }
+        int[] anchos = {4, ANCHO_EQUIPO, ANCHO_JUGADOR, ANCHO_PARTIDO, ANCHO_GOL, ANCHO_TARJETA, ANCHO_FALTA};
+        for (int s = 0; s < SECCIONES; s++) {
+            // Una cantidad negativa o una sección fuera del archivo no puede venir de escribir()
+            if (cantidades[s] < 0 || inicios[s] < CABECERA
+                    || inicios[s] + (long) cantidades[s] * anchos[s] > buffer.limit()) {
+                throw new IOException("Índice de secciones dañado en el archivo binario");
+            }
+        }
+
+        Cadenas cadenas = new Cadenas(buffer, inicios[0], cantidades[0]);
+
+        Equipo[] equipos = new Equipo[cantidades[1]];
+        List<Equipo> listaEquipos = new ArrayList<>(equipos.length);
+        for (int i = 0, p = inicios[1]; i < equipos.length; i++, p += ANCHO_EQUIPO) {
+            Equipo equipo = new Equipo();
+            equipo.setId(cadenas.en(p));
+            equipo.setNombre(cadenas.en(p + 4));
+            equipo.setBarrio(cadenas.en(p + 8));
+            equipo.setNombreEntrenador(cadenas.en(p + 12));
+            equipos[i] = equipo;
+            listaEquipos.add(equipo);
+        }
+
+        Jugador[] jugadores = new Jugador[cantidades[2]];
+        for (int i = 0, p = inicios[2]; i < jugadores.length; i++, p += ANCHO_JUGADOR) {
+            Jugador jugador = new Jugador();
+            jugador.setId(cadenas.en(p));
+            jugador.setNombreCompleto(cadenas.en(p + 4));
+            jugador.setPosicion(cadenas.en(p + 8));
+            jugador.setNumeroCamiseta(buffer.getInt(p + 12));
+            Equipo equipo = resolver(equipos, buffer.getInt(p + 16));
+            jugador.setEquipo(equipo);
+            if (equipo != null) {
+                equipo.getJugadores().add(jugador);
+            }
+            jugadores[i] = jugador;
+        }
+
+        List<Partido> listaPartidos = new ArrayList<>(cantidades[3]);
+        for (int i = 0, p = inicios[3]; i < cantidades[3]; i++, p += ANCHO_PARTIDO) {
+            Partido partido = new Partido();
+            partido.setId(cadenas.en(p));
+            partido.setEquipoLocal(resolver(equipos, buffer.getInt(p + 4)));
+            partido.setEquipoVisitante(resolver(equipos, buffer.getInt(p + 8)));
+            partido.setEstadio(cadenas.en(p + 12));
+            partido.setArbitro(cadenas.en(p + 16));
+            partido.setGolesLocal(buffer.getInt(p + 20));
+            partido.setGolesVisitante(buffer.getInt(p + 24));
+
+            List<Gol> goles = new ArrayList<>();
+            int g = inicios[4] + buffer.getInt(p + 28) * ANCHO_GOL;
+            for (int n = buffer.getInt(p + 32); n > 0; n--, g += ANCHO_GOL) {
+                Gol gol = new Gol();
+                gol.setJugador(resolver(jugadores, buffer.getInt(g)));
+                gol.setMinuto(buffer.getInt(g + 4));
+                goles.add(gol);
+            }
+            partido.setGoles(goles);
+            List<Tarjeta> tarjetas = new ArrayList<>();
+            int t = inicios[5] + buffer.getInt(p + 36) * ANCHO_TARJETA;
+            for (int n = buffer.getInt(p + 40); n > 0; n--, t += ANCHO_TARJETA) {
+                Tarjeta tarjeta = new Tarjeta();
+                tarjeta.setJugador(resolver(jugadores, buffer.getInt(t)));
+                tarjeta.setTipo(cadenas.en(t + 4));
+                tarjeta.setMinuto(buffer.getInt(t + 8));
+                tarjeta.setMotivo(cadenas.en(t + 12));
+                tarjetas.add(tarjeta);
+            }
+            partido.setTarjetas(tarjetas);
+            List<Falta> faltas = new ArrayList<>();
+            int f = inicios[6] + buffer.getInt(p + 44) * ANCHO_FALTA;
+            for (int n = buffer.getInt(p + 48); n > 0; n--, f += ANCHO_FALTA) {
+                Falta falta = new Falta();
+                falta.setJugadorQueCometio(resolver(jugadores, buffer.getInt(f)));
+                falta.setJugadorAfectado(resolver(jugadores, buffer.getInt(f + 4)));
+                falta.setMinuto(buffer.getInt(f + 8));
+                falta.setZonaCampo(cadenas.en(f + 12));
+                falta.setTarjetaAsociada(cadenas.en(f + 16));
+                faltas.add(falta);
+            }
+            partido.setFaltas(faltas);
+
+            if (partido.getEquipoLocal() != null) {
+                partido.getEquipoLocal().getPartidos().add(partido);
+            }
+            if (partido.getEquipoVisitante() != null) {
+                partido.getEquipoVisitante().getPartidos().add(partido);
+            }
+            listaPartidos.add(partido);
+        }
+
+        Campeonato campeonato = new Campeonato();
+        campeonato.setEquipos(listaEquipos);
+        campeonato.setPartidos(listaPartidos);
+        campeonato.setVersion(version);
+        return campeonato;
+    }
+
+    private static <T> int referencia(Map<T, Integer> numeros, T entidad) throws IOException {
+        if (entidad == null) {
+            return -1;
+        }
+        Integer numero = numeros.get(entidad);
+        if (numero == null) {
+            throw new IOException("Referencia a una entidad que no está en el campeonato: " + entidad);
+        }
+        return numero;
+    }
+
+    private static <T> T resolver(T[] entidades, int numero) throws IOException {
+        if (numero == -1) {
+            return null;
+        }
+        if (numero < 0 || numero >= entidades.length) {
+            throw new IOException("Referencia fuera de rango en el archivo binario: " + numero);
+        }
+        return entidades[numero];
+    }
+
+    /**
+     * Diccionario de cadenas en construcción: asigna un número a cada cadena distinta.
+     */
+    private static final class Diccionario {
+        private final Map<String, Integer> numeros = new HashMap<>();
+        private final List<byte[]> bytes = new ArrayList<>();
+        private long totalBytes;
+
+        void agregar(String... cadenas) {
+            for (String cadena : cadenas) {
+                if (cadena != null && !numeros.containsKey(cadena)) {
+                    numeros.put(cadena, bytes.size());
+                    byte[] codificada = cadena.getBytes(StandardCharsets.UTF_8);
+                    bytes.add(codificada);
+                    totalBytes += codificada.length;
+                }
+            }
+        }
+
+        int de(String cadena) {
+            return cadena != null ? numeros.get(cadena) : -1;
+        }
+
+        int tamano() {
+            return bytes.size();
+        }
+
+        /**
+         * Tabla de posiciones (n + 1 enteros) seguida de los bytes UTF-8 de todas las cadenas.
+         */
+        long bytesSerializados() {
+            return (bytes.size() + 1) * 4L + totalBytes;
+        }
+
+        void escribir(DataOutputStream out) throws IOException {
+            int desplazamiento = 0;
+            for (byte[] cadena : bytes) {
+                out.writeInt(desplazamiento);
+                desplazamiento += cadena.length;
+            }
+            out.writeInt(desplazamiento);
+            for (byte[] cadena : bytes) {
+                out.write(cadena);
+            }
+        }
+    }
+
+    /**
+     * Vista de lectura del diccionario sobre el buffer mapeado; decodifica cada cadena la primera vez que se pide.
+     */
+    private static final class Cadenas {
+        private final ByteBuffer buffer;
+        private final int tabla;
+        private final int datos;
+        private final String[] decodificadas;
+
+        Cadenas(ByteBuffer buffer, int inicio, int cantidad) {
+            this.buffer = buffer;
+            this.tabla = inicio;
+            this.datos = inicio + (cantidad + 1) * 4;
+            this.decodificadas = new String[cantidad];
+        }
+
+        /**
+         * @param posicion Posición en el buffer del número de cadena a leer.
+         */
+        String en(int posicion) throws IOException {
+            int numero = buffer.getInt(posicion);
+            if (numero == -1) {
+                return null;
+            }
+            if (numero < 0 || numero >= decodificadas.length) {
+                throw new IOException("Cadena fuera de rango en el archivo binario: " + numero);
+            }
+            String cadena = decodificadas[numero];
+            if (cadena == null) {
+                int desde = buffer.getInt(tabla + numero * 4);
+                int hasta = buffer.getInt(tabla + (numero + 1) * 4);
+                if (desde < 0 || hasta < desde) {
+                    throw new IOException("Diccionario dañado en el archivo binario");
+                }
+                byte[] bytes = new byte[hasta - desde];
+                buffer.get(datos + desde, bytes);
+                cadena = new String(bytes, StandardCharsets.UTF_8);
+                decodificadas[numero] = cadena;
+            }
+            return cadena;
+        }
+    }
+}
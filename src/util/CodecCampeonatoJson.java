@@ -0,0 +1,376 @@
+// Archivo: util/CodecCampeonatoJson.java
+package util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import model.Campeonato;
+import model.Equipo;
+import model.Falta;
+import model.Gol;
+import model.Jugador;
+import model.Partido;
+import model.Tarjeta;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lee y escribe el Campeonato en JSON con la API de streaming de Jackson.
+ *
+ * <p>El archivo tiene tres secciones planas, en este orden: "equipos", "jugadores" y "partidos".
+ * Las relaciones se guardan como IDs (el equipo de un jugador, los equipos de un partido, el jugador
+ * de cada evento), así que cada entidad aparece una sola vez y las referencias se resuelven
+ * en una única pasada al leer, sin construir un árbol intermedio.</p>
+ *
+ * <p>Tras "formato" se guarda la versión del campeonato ({@link Campeonato#getVersion()}), que indica
+ * qué cambios del diario ya están incluidos en el archivo.</p>
+ */
+class CodecCampeonatoJson {
+
+    /**
+     * Versión del formato, escrita como primer campo del archivo.
+     * Los archivos sin este campo son del formato anidado anterior.
+     */
+    static final int FORMATO = 2;
+
+    private final JsonFactory fabrica;
+    private final boolean legible;
+
+    /**
+     * @param fabrica La fábrica de Jackson para crear los generadores y analizadores.
+     * @param legible true para escribir el JSON indentado.
+     */
+    CodecCampeonatoJson(JsonFactory fabrica, boolean legible) {
+        this.fabrica = fabrica;
+        this.legible = legible;
+    }
+
+    /**
+     * Escribe el campeonato en el archivo.
+     * @param campeonato El campeonato a escribir.
+     * @param archivo El archivo de destino.
+     * @throws IOException Si falla la escritura.
+     */
+    void escribir(Campeonato campeonato, File archivo) throws IOException {
+        try (JsonGenerator gen = fabrica.createGenerator(archivo, JsonEncoding.UTF8)) {
+            if (legible) {
+                gen.useDefaultPrettyPrinter();
+            }
+            gen.writeStartObject();
+            gen.writeNumberField("formato", FORMATO);
+            gen.writeNumberField("version", campeonato.getVersion());
+            escribirCatalogo(gen, campeonato.getEquipos());
+
+            gen.writeArrayFieldStart("partidos");
+            for (Partido partido : campeonato.getPartidos()) {
+                escribirPartido(gen, partido);
+            }
+            gen.writeEndArray();
+
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Escribe las secciones "equipos" y "jugadores".
+     * @param gen El generador, dentro del objeto raíz.
+     * @param equipos Los equipos del campeonato, con sus plantillas.
+     */
+    void escribirCatalogo(JsonGenerator gen, List<Equipo> equipos) throws IOException {
+        gen.writeArrayFieldStart("equipos");
+        for (Equipo equipo : equipos) {
+            gen.writeStartObject();
+            gen.writeStringField("id", equipo.getId());
+            gen.writeStringField("nombre", equipo.getNombre());
+            gen.writeStringField("barrio", equipo.getBarrio());
+            gen.writeStringField("nombreEntrenador", equipo.getNombreEntrenador());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("jugadores");
+        for (Equipo equipo : equipos) {
+            for (Jugador jugador : equipo.getJugadores()) {
+                gen.writeStartObject();
+                gen.writeStringField("id", jugador.getId());
+                gen.writeStringField("nombreCompleto", jugador.getNombreCompleto());
+                gen.writeStringField("posicion", jugador.getPosicion());
+                gen.writeNumberField("numeroCamiseta", jugador.getNumeroCamiseta());
+                gen.writeStringField("equipo", equipo.getId());
+                gen.writeEndObject();
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Lee el campeonato del archivo.
+     * @param archivo El archivo a leer.
+     * @return El campeonato leído, o null si el archivo no está en este formato (p. ej. es del formato anidado anterior).
+     * @throws IOException Si el archivo no se puede leer o tiene referencias a entidades inexistentes.
+     */
+    Campeonato leer(File archivo) throws IOException {
+        try (JsonParser p = fabrica.createParser(archivo)) {
+            if (p.nextToken() != JsonToken.START_OBJECT
+                    || p.nextToken() != JsonToken.FIELD_NAME
+                    || !"formato".equals(p.currentName())) {
+                return null;
+            }
+            p.nextToken();
+            if (p.getIntValue() != FORMATO) {
+                throw new JsonParseException(p, "Versión de formato no soportada: " + p.getText());
+            }
+
+            Map<String, Equipo> equipos = new HashMap<>();
+            Map<String, Jugador> jugadores = new HashMap<>();
+            List<Equipo> listaEquipos = new ArrayList<>();
+            List<Partido> listaPartidos = new ArrayList<>();
+            long version = 0;
+
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String seccion = p.currentName();
+                p.nextToken();
+                switch (seccion) {
+                    case "version":
+                        version = p.getLongValue();
+                        break;
+                    case "equipos":
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            Equipo equipo = leerEquipo(p);
+                            equipos.put(equipo.getId(), equipo);
+                            listaEquipos.add(equipo);
+                        }
+                        break;
+                    case "jugadores":
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            Jugador jugador = leerJugador(p, equipos);
+                            jugadores.put(jugador.getId(), jugador);
+                        }
+                        break;
+                    case "partidos":
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            listaPartidos.add(leerPartido(p, equipos, jugadores));
+                        }
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+
+            Campeonato campeonato = new Campeonato();
+            campeonato.setEquipos(listaEquipos);
+            campeonato.setPartidos(listaPartidos);
+            campeonato.setVersion(version);
+            return campeonato;
+        }
+    }
+
+    void escribirPartido(JsonGenerator gen, Partido partido) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("id", partido.getId());
+        gen.writeStringField("equipoLocal", idDe(partido.getEquipoLocal()));
+        gen.writeStringField("equipoVisitante", idDe(partido.getEquipoVisitante()));
+        gen.writeStringField("estadio", partido.getEstadio());
+        gen.writeStringField("arbitro", partido.getArbitro());
+        gen.writeNumberField("golesLocal", partido.getGolesLocal());
+        gen.writeNumberField("golesVisitante", partido.getGolesVisitante());
+
+        gen.writeArrayFieldStart("goles");
+        for (Gol gol : partido.getGoles()) {
+            gen.writeStartObject();
+            gen.writeStringField("jugador", idDe(gol.getJugador()));
+            gen.writeNumberField("minuto", gol.getMinuto());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("tarjetas");
+        for (Tarjeta tarjeta : partido.getTarjetas()) {
+            gen.writeStartObject();
+            gen.writeStringField("jugador", idDe(tarjeta.getJugador()));
+            gen.writeStringField("tipo", tarjeta.getTipo());
+            gen.writeNumberField("minuto", tarjeta.getMinuto());
+            gen.writeStringField("motivo", tarjeta.getMotivo());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("faltas");
+        for (Falta falta : partido.getFaltas()) {
+            gen.writeStartObject();
+            gen.writeStringField("jugador", idDe(falta.getJugadorQueCometio()));
+            gen.writeStringField("afectado", idDe(falta.getJugadorAfectado()));
+            gen.writeNumberField("minuto", falta.getMinuto());
+            gen.writeStringField("zona", falta.getZonaCampo());
+            if (falta.getTarjetaAsociada() != null) {
+                gen.writeStringField("tarjeta", falta.getTarjetaAsociada());
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+    }
+
+    Equipo leerEquipo(JsonParser p) throws IOException {
+        Equipo equipo = new Equipo();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "id": equipo.setId(p.getValueAsString()); break;
+                case "nombre": equipo.setNombre(p.getValueAsString()); break;
+                case "barrio": equipo.setBarrio(p.getValueAsString()); break;
+                case "nombreEntrenador": equipo.setNombreEntrenador(p.getValueAsString()); break;
+                default: p.skipChildren();
+            }
+        }
+        return equipo;
+    }
+
+    Jugador leerJugador(JsonParser p, Map<String, Equipo> equipos) throws IOException {
+        Jugador jugador = new Jugador();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "id": jugador.setId(p.getValueAsString()); break;
+                case "nombreCompleto": jugador.setNombreCompleto(p.getValueAsString()); break;
+                case "posicion": jugador.setPosicion(p.getValueAsString()); break;
+                case "numeroCamiseta": jugador.setNumeroCamiseta(p.getIntValue()); break;
+                case "equipo":
+                    Equipo equipo = resolver(p, equipos, "equipo");
+                    jugador.setEquipo(equipo);
+                    equipo.getJugadores().add(jugador);
+                    break;
+                default: p.skipChildren();
+            }
+        }
+        return jugador;
+    }
+
+    Partido leerPartido(JsonParser p, Map<String, Equipo> equipos, Map<String, Jugador> jugadores) throws IOException {
+        Partido partido = new Partido();
+        List<Gol> goles = new ArrayList<>();
+        List<Tarjeta> tarjetas = new ArrayList<>();
+        List<Falta> faltas = new ArrayList<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "id": partido.setId(p.getValueAsString()); break;
+                case "equipoLocal": partido.setEquipoLocal(resolver(p, equipos, "equipo")); break;
+                case "equipoVisitante": partido.setEquipoVisitante(resolver(p, equipos, "equipo")); break;
+                case "estadio": partido.setEstadio(p.getValueAsString()); break;
+                case "arbitro": partido.setArbitro(p.getValueAsString()); break;
+                case "golesLocal": partido.setGolesLocal(p.getIntValue()); break;
+                case "golesVisitante": partido.setGolesVisitante(p.getIntValue()); break;
+                case "goles":
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        goles.add(leerGol(p, jugadores));
+                    }
+                    break;
+                case "tarjetas":
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        tarjetas.add(leerTarjeta(p, jugadores));
+                    }
+                    break;
+                case "faltas":
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        faltas.add(leerFalta(p, jugadores));
+                    }
+                    break;
+                default: p.skipChildren();
+            }
+        }
+        partido.setGoles(goles);
+        partido.setTarjetas(tarjetas);
+        partido.setFaltas(faltas);
+        if (partido.getEquipoLocal() != null) {
+            partido.getEquipoLocal().getPartidos().add(partido);
+        }
+        if (partido.getEquipoVisitante() != null) {
+            partido.getEquipoVisitante().getPartidos().add(partido);
+        }
+        return partido;
+    }
+
+    private Gol leerGol(JsonParser p, Map<String, Jugador> jugadores) throws IOException {
+        Gol gol = new Gol();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "jugador": gol.setJugador(resolver(p, jugadores, "jugador")); break;
+                case "minuto": gol.setMinuto(p.getIntValue()); break;
+                default: p.skipChildren();
+            }
+        }
+        return gol;
+    }
+
+    private Tarjeta leerTarjeta(JsonParser p, Map<String, Jugador> jugadores) throws IOException {
+        Tarjeta tarjeta = new Tarjeta();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "jugador": tarjeta.setJugador(resolver(p, jugadores, "jugador")); break;
+                case "tipo": tarjeta.setTipo(p.getValueAsString()); break;
+                case "minuto": tarjeta.setMinuto(p.getIntValue()); break;
+                case "motivo": tarjeta.setMotivo(p.getValueAsString()); break;
+                default: p.skipChildren();
+            }
+        }
+        return tarjeta;
+    }
+
+    private Falta leerFalta(JsonParser p, Map<String, Jugador> jugadores) throws IOException {
+        Falta falta = new Falta();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "jugador": falta.setJugadorQueCometio(resolver(p, jugadores, "jugador")); break;
+                case "afectado": falta.setJugadorAfectado(resolver(p, jugadores, "jugador")); break;
+                case "minuto": falta.setMinuto(p.getIntValue()); break;
+                case "zona": falta.setZonaCampo(p.getValueAsString()); break;
+                case "tarjeta": falta.setTarjetaAsociada(p.getValueAsString()); break;
+                default: p.skipChildren();
+            }
+        }
+        return falta;
+    }
+
+    /**
+     * Resuelve la referencia del token actual contra las entidades ya leídas.
+     * Como las secciones se escriben en orden, toda referencia válida apunta hacia atrás.
+     */
+    private static <T> T resolver(JsonParser p, Map<String, T> entidades, String tipo) throws IOException {
+        String id = p.getValueAsString();
+        if (id == null) {
+            return null;
+        }
+        T entidad = entidades.get(id);
+        if (entidad == null) {
+            throw new JsonParseException(p, "Referencia a " + tipo + " inexistente: " + id);
+        }
+        return entidad;
+    }
+
+    private static String idDe(Equipo equipo) {
+        return equipo != null ? equipo.getId() : null;
+    }
+
+    private static String idDe(Jugador jugador) {
+        return jugador != null ? jugador.getId() : null;
+    }
+}
@@ -0,0 +1,129 @@
+// Archivo: util/CopiaCampeonato.java
+package util;
+
+import model.Campeonato;
+import model.Equipo;
+import model.Falta;
+import model.Gol;
+import model.Jugador;
+import model.Partido;
+import model.Tarjeta;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copia independiente de los equipos, jugadores y partidos de un campeonato, para escribirla en un archivo
+ * sin retener el campeonato mientras tanto. Se toma con {@link Campeonato#conAccesoExclusivo}.
+ *
+ * <p>Las referencias entre entidades apuntan a las copias; las que apuntan a entidades que no están en el
+ * campeonato se conservan tal cual, para que el formato las trate igual que en el original.</p>
+ */
+final class CopiaCampeonato {
+
+    private final Map<Equipo, Equipo> equipos = new IdentityHashMap<>();
+    private final Map<Jugador, Jugador> jugadores = new IdentityHashMap<>();
+    private final List<Equipo> listaEquipos;
+
+    /**
+     * Copia los equipos con sus plantillas.
+     * @param originales Los equipos del campeonato.
+     */
+    CopiaCampeonato(List<Equipo> originales) {
+        listaEquipos = new ArrayList<>(originales.size());
+        for (Equipo original : originales) {
+            Equipo equipo = new Equipo();
+            equipo.setId(original.getId());
+            equipo.setNombre(original.getNombre());
+            equipo.setBarrio(original.getBarrio());
+            equipo.setNombreEntrenador(original.getNombreEntrenador());
+            equipos.put(original, equipo);
+            listaEquipos.add(equipo);
+        }
+        for (Equipo original : originales) {
+            List<Jugador> plantilla = equipos.get(original).getJugadores();
+            for (Jugador jugador : original.getJugadores()) {
+                Jugador copia = new Jugador();
+                copia.setId(jugador.getId());
+                copia.setNombreCompleto(jugador.getNombreCompleto());
+                copia.setPosicion(jugador.getPosicion());
+                copia.setNumeroCamiseta(jugador.getNumeroCamiseta());
+                copia.setEquipo(equipo(jugador.getEquipo()));
+                jugadores.put(jugador, copia);
+                plantilla.add(copia);
+            }
+        }
+    }
+
+    /**
+     * Copia el campeonato completo; se invoca con acceso exclusivo.
+     * @param campeonato El campeonato, con todos sus partidos cargados.
+     * @return Un campeonato nuevo con las copias y la misma versión.
+     */
+    static Campeonato copiar(Campeonato campeonato) {
+        CopiaCampeonato copia = new CopiaCampeonato(campeonato.getEquipos());
+        List<Partido> partidos = new ArrayList<>(campeonato.getPartidos().size());
+        for (Partido partido : campeonato.getPartidos()) {
+            partidos.add(copia.copiar(partido));
+        }
+        Campeonato resultado = new Campeonato();
+        resultado.setEquipos(copia.getEquipos());
+        resultado.setPartidos(partidos);
+        resultado.setVersion(campeonato.getVersion());
+        return resultado;
+    }
+
+    /**
+     * @return Las copias de los equipos, en el orden original.
+     */
+    List<Equipo> getEquipos() {
+        return listaEquipos;
+    }
+
+    /**
+     * Copia un partido con su marcador y sus eventos, referenciando a las copias de los equipos y jugadores.
+     * @param original Un partido del campeonato.
+     * @return La copia.
+     */
+    Partido copiar(Partido original) {
+        Partido partido = new Partido();
+        // Con el partido retenido, para que el marcador y los eventos copiados coincidan
+        synchronized (original) {
+            partido.setId(original.getId());
+            partido.setEquipoLocal(equipo(original.getEquipoLocal()));
+            partido.setEquipoVisitante(equipo(original.getEquipoVisitante()));
+            partido.setEstadio(original.getEstadio());
+            partido.setArbitro(original.getArbitro());
+            List<Gol> goles = new ArrayList<>(original.getGoles().size());
+            for (Gol gol : original.getGoles()) {
+                goles.add(new Gol(jugador(gol.getJugador()), gol.getMinuto()));
+            }
+            List<Tarjeta> tarjetas = new ArrayList<>(original.getTarjetas().size());
+            for (Tarjeta tarjeta : original.getTarjetas()) {
+                tarjetas.add(new Tarjeta(jugador(tarjeta.getJugador()), tarjeta.getTipo(), tarjeta.getMinuto(),
+                        tarjeta.getMotivo()));
+            }
+            List<Falta> faltas = new ArrayList<>(original.getFaltas().size());
+            for (Falta falta : original.getFaltas()) {
+                faltas.add(new Falta(jugador(falta.getJugadorQueCometio()), falta.getMinuto(), falta.getZonaCampo(),
+                        jugador(falta.getJugadorAfectado()), falta.getTarjetaAsociada()));
+            }
+            partido.setGoles(goles);
+            partido.setTarjetas(tarjetas);
+            partido.setFaltas(faltas);
+            partido.setGolesLocal(original.getGolesLocal());
+            partido.setGolesVisitante(original.getGolesVisitante());
+        }
+        return partido;
+    }
+
+    private Equipo equipo(Equipo original) {
+        return original == null ? null : equipos.getOrDefault(original, original);
+    }
+
+    private Jugador jugador(Jugador original) {
+        return original == null ? null : jugadores.getOrDefault(original, original);
+    }
+}
@@ -0,0 +1,759 @@
+// Archivo: util/DiarioCampeonato.java
+package util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import model.Campeonato;
+import model.Equipo;
+import model.Evento;
+import model.Falta;
+import model.Gol;
+import model.Jugador;
+import model.ObservadorCampeonato;
+import model.Partido;
+import model.Tarjeta;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Diario de cambios del Campeonato: cada cambio se añade como una línea al final de un archivo,
+ * en lugar de reescribir el campeonato completo con cada evento.
+ *
+ * <p>Cada línea es un arreglo JSON cuyo primer elemento es la versión del campeonato tras el cambio
+ * y el segundo el tipo de registro:</p>
+ * <ul>
+ *     <li>{@code [v,"E",id,nombre,barrio,entrenador]} equipo registrado</li>
+ *     <li>{@code [v,"J",equipo,id,nombre,posicion,camiseta]} jugador registrado</li>
+ *     <li>{@code [v,"P",id,local,visitante,estadio,arbitro]} partido creado</li>
+ *     <li>{@code [v,"G",partido,jugador,minuto]} gol</li>
+ *     <li>{@code [v,"T",partido,jugador,tipo,minuto,motivo]} tarjeta</li>
+ *     <li>{@code [v,"F",partido,comete,afectado,minuto,zona,tarjeta]} falta</li>
+ *     <li>{@code [v,"M",partido,golesLocal,golesVisitante]} marcador corregido con los setters del partido</li>
+ *     <li>{@code [v,"L",partido,[eventos]]} lote de {@link Campeonato#registrarEventos}; cada evento es
+ *     un arreglo como los anteriores sin versión ni partido, p. ej. {@code ["G",jugador,minuto]}</li>
+ *     <li>{@code [v,"R",partido,[eventos]]} eventos reemplazados con los setters del partido: todos los que
+ *     tiene después del cambio, con el formato del lote</li>
+ * </ul>
+ *
+ * <p>Las escrituras se agrupan: las líneas quedan en memoria y un hilo en segundo plano las lleva
+ * a disco cada {@link #INTERVALO_SINCRONIZACION_MS} ms, esperando al disco sin retener el diario, así que
+ * registrar un cambio nunca espera a una sincronización. Cada {@code registrosPorInstantanea} registros
+ * se guarda el campeonato completo con {@link JsonDataManager} y se vacía el diario; la instantánea
+ * se toma en ese mismo hilo de fondo. El campeonato solo se retiene mientras se copia: los cambios
+ * registrados mientras se escribe la copia quedan en el diario, que al terminar conserva solo esos.
+ * Al abrir, se carga la última instantánea y se vuelven a aplicar los registros posteriores a su versión.</p>
+ *
+ * <p>Si falla una escritura, lo que queda en el archivo ya no es confiable: el diario deja de escribir,
+ * avisa a quien se indicó con {@link #alFallar} y toma una instantánea en segundo plano. Los registros
+ * posteriores a la copia del campeonato van a un diario nuevo, que reemplaza al anterior cuando la
+ * instantánea está en el disco. Hasta entonces {@link #getError()} devuelve el error.</p>
+ */
+public class DiarioCampeonato implements ObservadorCampeonato, AutoCloseable {
+
+    /**
+     * Registros entre dos instantáneas si no se indica otra cantidad.
+     */
+    public static final int REGISTROS_POR_INSTANTANEA = 500;
+
+    /**
+     * Cada cuánto se llevan a disco las líneas pendientes.
+     */
+    static final long INTERVALO_SINCRONIZACION_MS = 200;
+
+    private static final ObjectMapper LECTOR = new ObjectMapper();
+
+    private final Campeonato campeonato;
+    private final JsonDataManager dataManager;
+    private final Path archivo;
+    private final int registrosPorInstantanea;
+    // Se reemplazan al recortar el diario tras una instantánea
+    private FileChannel canal;
+    private Writer escritor;
+    private JsonGenerator gen;
+    private final ScheduledExecutorService sincronizador;
+    // Una instantánea a la vez: cada una recorta el diario desde la posición marcada al copiar el campeonato
+    private final Object candadoInstantanea = new Object();
+    private long corte;
+    private int registrosEnCorte;
+    private int registrosDesdeInstantanea;
+    private boolean instantaneaPedida;
+    // Líneas que siguen en memoria, y líneas ya en el archivo que todavía no se llevaron al disco
+    private boolean pendiente;
+    private boolean sinSincronizar;
+    private boolean cerrado;
+    // Desde un error de escritura: el archivo actual no admite más registros, y los cambios no estarán a salvo
+    // hasta que una instantánea reemplace al diario
+    private boolean roto;
+    private IOException error;
+    // Mientras se reemplaza tras un error, el escritor del diario anterior y el archivo del nuevo
+    private Writer descartado;
+    private final Path reemplazo;
+    private volatile Consumer<IOException> alFallar;
+
+    private DiarioCampeonato(Campeonato campeonato, JsonDataManager dataManager, int registrosPorInstantanea) throws IOException {
+        this.campeonato = campeonato;
+        this.dataManager = dataManager;
+        this.archivo = rutaDiario(dataManager);
+        this.registrosPorInstantanea = registrosPorInstantanea;
+        this.reemplazo = archivo.resolveSibling(archivo.getFileName() + ".nuevo");
+        escribirEn(FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+        this.sincronizador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "diario-campeonato");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        this.sincronizador.scheduleWithFixedDelay(this::sincronizar,
+                INTERVALO_SINCRONIZACION_MS, INTERVALO_SINCRONIZACION_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abre el diario con {@link #REGISTROS_POR_INSTANTANEA} registros entre instantáneas.
+     * @see #abrir(JsonDataManager, int)
+     */
+    public static DiarioCampeonato abrir(JsonDataManager dataManager) throws IOException {
+        return abrir(dataManager, REGISTROS_POR_INSTANTANEA);
+    }
+
+    /**
+     * Carga la instantánea del campeonato, aplica los registros del diario que aún no incluye
+     * y deja el diario observando el campeonato para registrar los cambios siguientes.
+     *
+     * @param dataManager El gestor del archivo de instantánea; el diario es ese archivo con la extensión ".journal".
+     * @param registrosPorInstantanea Cantidad de registros tras la cual se guarda una instantánea nueva;
+     *                                0 para no tomarlas automáticamente (p. ej. si las toma {@link GuardadoAutomatico}).
+     * @return El diario abierto; el campeonato recuperado está en {@link #getCampeonato()}.
+     * @throws IOException Si el diario no se puede leer o abrir para escritura.
+     */
+    public static DiarioCampeonato abrir(JsonDataManager dataManager, int registrosPorInstantanea) throws IOException {
+        Campeonato campeonato = dataManager.load();
+        int aplicados = reproducir(campeonato, rutaDiario(dataManager));
+
+        DiarioCampeonato diario = new DiarioCampeonato(campeonato, dataManager, registrosPorInstantanea);
+        if (aplicados > 0) {
+            // Consolidar lo recuperado para no volver a reproducirlo en el próximo arranque
+            diario.tomarInstantanea();
+        }
+        campeonato.agregarObservador(diario);
+        return diario;
+    }
+
+    /**
+     * @return El campeonato que registra este diario.
+     */
+    public Campeonato getCampeonato() {
+        return campeonato;
+    }
+
+    /**
+     * Indica quién recibe los errores de escritura del diario. El aviso llega en el hilo que registró el
+     * cambio o en el del diario, mientras el campeonato actualiza sus estadísticas, así que debe ser breve.
+     * @param alFallar Quien recibe el error, o null para no avisar.
+     */
+    public void alFallar(Consumer<IOException> alFallar) {
+        this.alFallar = alFallar;
+    }
+
+    /**
+     * @return El error que dejó cambios fuera del diario, o null si todos están en el diario o en la
+     * última instantánea.
+     */
+    public synchronized IOException getError() {
+        return error;
+    }
+
+    @Override
+    public void equipoRegistrado(Equipo equipo) {
+        registrar("E", equipo.getId(), equipo.getNombre(), equipo.getBarrio(), equipo.getNombreEntrenador());
+    }
+
+    @Override
+    public void jugadorRegistrado(Jugador jugador) {
+        registrar("J", jugador.getEquipo().getId(), jugador.getId(), jugador.getNombreCompleto(),
+                jugador.getPosicion(), jugador.getNumeroCamiseta());
+    }
+
+    @Override
+    public void partidoCreado(Partido partido) {
+        registrar("P", partido.getId(), partido.getEquipoLocal().getId(), partido.getEquipoVisitante().getId(),
+                partido.getEstadio(), partido.getArbitro());
+    }
+
+    @Override
+    public void golRegistrado(Partido partido, Gol gol) {
+        registrar("G", partido.getId(), gol.getJugador().getId(), gol.getMinuto());
+    }
+
+    @Override
+    public void tarjetaRegistrada(Partido partido, Tarjeta tarjeta) {
+        registrar("T", partido.getId(), tarjeta.getJugador().getId(), tarjeta.getTipo(), tarjeta.getMinuto(),
+                tarjeta.getMotivo());
+    }
+
+    @Override
+    public void faltaRegistrada(Partido partido, Falta falta) {
+        registrar("F", partido.getId(), falta.getJugadorQueCometio().getId(), falta.getJugadorAfectado().getId(),
+                falta.getMinuto(), falta.getZonaCampo(), falta.getTarjetaAsociada());
+    }
+
+    @Override
+    public void marcadorCambiado(Partido partido, int golesLocal, int golesVisitante) {
+        registrar("M", partido.getId(), golesLocal, golesVisitante);
+    }
+
+    @Override
+    public void eventosRegistrados(Partido partido, List<Gol> goles, List<Tarjeta> tarjetas, List<Falta> faltas) {
+        // Un solo registro, para que al reproducirlo el lote se vuelva a aplicar entero o nada
+        registrar("L", partido.getId(), eventos(goles, tarjetas, faltas));
+    }
+
+    @Override
+    public void eventosReemplazados(Partido partido) {
+        // El aviso llega con el partido retenido, así que sus eventos no cambian mientras se leen
+        registrar("R", partido.getId(), eventos(partido.getGoles(), partido.getTarjetas(), partido.getFaltas()));
+    }
+
+    private static Object[] eventos(List<Gol> goles, List<Tarjeta> tarjetas, List<Falta> faltas) {
+        // Los eventos reemplazados con los setters no se validan: pueden no tener jugador
+        List<Object[]> eventos = new ArrayList<>();
+        for (Gol gol : goles) {
+            eventos.add(new Object[]{"G", id(gol.getJugador()), gol.getMinuto()});
+        }
+        for (Tarjeta tarjeta : tarjetas) {
+            eventos.add(new Object[]{"T", id(tarjeta.getJugador()), tarjeta.getTipo(), tarjeta.getMinuto(),
+                    tarjeta.getMotivo()});
+        }
+        for (Falta falta : faltas) {
+            eventos.add(new Object[]{"F", id(falta.getJugadorQueCometio()), id(falta.getJugadorAfectado()),
+                    falta.getMinuto(), falta.getZonaCampo(), falta.getTarjetaAsociada()});
+        }
+        return eventos.toArray();
+    }
+
+    private static String id(Jugador jugador) {
+        return jugador == null ? null : jugador.getId();
+    }
+
+    /**
+     * Guarda el campeonato completo y, si se guardó, quita del diario los registros que incluye.
+     * Espera a que terminen los cambios en curso y bloquea los nuevos solo mientras copia el campeonato,
+     * así que no debe invocarse desde un observador del campeonato.
+     * @throws IOException Si no se pudo guardar; el diario se conserva y los cambios siguen recuperables.
+     */
+    public void tomarInstantanea() throws IOException {
+        synchronized (candadoInstantanea) {
+            synchronized (this) {
+                instantaneaPedida = false;
+                registrosEnCorte = 0;
+            }
+            try {
+                // Al volver, la instantánea ya está en el disco: recién entonces se puede recortar el diario
+                dataManager.guardar(campeonato, this::marcarCorte);
+            } catch (IOException | UncheckedIOException e) {
+                synchronized (this) {
+                    // Los registros siguen pendientes de la próxima instantánea
+                    registrosDesdeInstantanea += registrosEnCorte;
+                }
+                throw e instanceof UncheckedIOException ? ((UncheckedIOException) e).getCause() : (IOException) e;
+            }
+            boolean reemplazando;
+            synchronized (this) {
+                reemplazando = descartado != null;
+            }
+            if (reemplazando) {
+                reemplazar();
+            } else {
+                recortar();
+            }
+        }
+    }
+
+    /**
+     * Marca hasta dónde llegan los registros incluidos en la copia del campeonato. Se invoca con el
+     * campeonato retenido, justo después de copiarlo, así que no hay registros a medio escribir.
+     */
+    private synchronized void marcarCorte() {
+        try {
+            if (error != null) {
+                empezarReemplazo();
+            } else {
+                vaciar();
+                corte = canal.size();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        registrosEnCorte = registrosDesdeInstantanea;
+        registrosDesdeInstantanea = 0;
+    }
+
+    /**
+     * Reemplaza el diario por uno con los registros posteriores al corte. Lo escrito hasta ahora se copia y se
+     * lleva al disco sin retener el diario; lo registrado mientras tanto se copia después, ya retenido, y el
+     * diario nuevo reemplaza al anterior, que desde entonces deja de recibir registros.
+     */
+    private void recortar() throws IOException {
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        long copiado;
+        synchronized (this) {
+            if (cerrado) {
+                return;
+            }
+            vaciar();
+            copiado = canal.size();
+        }
+        FileChannel nuevo = null;
+        Writer anterior;
+        try {
+            try (FileChannel origen = FileChannel.open(archivo, StandardOpenOption.READ);
+                 FileChannel destino = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                         StandardOpenOption.TRUNCATE_EXISTING)) {
+                copiar(origen, corte, copiado, destino);
+                destino.force(true);
+            }
+            nuevo = FileChannel.open(temporal, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            synchronized (this) {
+                if (cerrado) {
+                    nuevo.close();
+                    Files.deleteIfExists(temporal);
+                    return;
+                }
+                vaciar();
+                try (FileChannel origen = FileChannel.open(archivo, StandardOpenOption.READ)) {
+                    copiar(origen, copiado, canal.size(), nuevo);
+                }
+                Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                anterior = escritor;
+                escribirEn(nuevo);
+                // Lo copiado recién todavía no está en el disco: lo lleva el sincronizador
+                sinSincronizar = true;
+            }
+        } catch (IOException e) {
+            // El diario sigue completo: sus registros ya incluidos se omiten al reproducirlo
+            if (nuevo != null) {
+                nuevo.close();
+            }
+            Files.deleteIfExists(temporal);
+            throw e;
+        }
+        JsonDataManager.sincronizarDirectorio(archivo.toAbsolutePath().getParent());
+        anterior.close();
+    }
+
+    /**
+     * Tras un error, lo escrito en el diario no es confiable: los registros siguientes van a un diario nuevo,
+     * vacío, que empieza con la copia del campeonato. Si una instantánea anterior no llegó a guardarse,
+     * se vuelve a empezar, porque la copia nueva ya incluye lo que tenía.
+     */
+    private void empezarReemplazo() throws IOException {
+        FileChannel nuevo = FileChannel.open(reemplazo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        if (descartado == null) {
+            descartado = escritor;
+        } else {
+            cerrarEscritor(escritor);
+        }
+        escribirEn(nuevo);
+        pendiente = false;
+        sinSincronizar = false;
+        roto = false;
+    }
+
+    /**
+     * Con la instantánea ya en el disco, el diario nuevo reemplaza al que falló.
+     */
+    private void reemplazar() throws IOException {
+        Writer anterior;
+        synchronized (this) {
+            if (cerrado) {
+                return;
+            }
+            try {
+                vaciar();
+                Files.move(reemplazo, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                // La próxima instantánea vuelve a empezar el reemplazo
+                roto = true;
+                error = e;
+                throw e;
+            }
+            anterior = descartado;
+            descartado = null;
+            error = null;
+            sinSincronizar = true;
+        }
+        JsonDataManager.sincronizarDirectorio(archivo.toAbsolutePath().getParent());
+        cerrarEscritor(anterior);
+    }
+
+    private static void cerrarEscritor(Writer escritor) {
+        try {
+            escritor.close();
+        } catch (IOException e) {
+            // Ese archivo ya no se usa
+        }
+    }
+
+    private static void copiar(FileChannel origen, long desde, long hasta, FileChannel destino) throws IOException {
+        while (desde < hasta) {
+            desde += origen.transferTo(desde, hasta - desde, destino);
+        }
+    }
+
+    /**
+     * Empieza a escribir los registros siguientes al final del canal.
+     */
+    private void escribirEn(FileChannel canal) throws IOException {
+        this.canal = canal;
+        this.escritor = new BufferedWriter(Channels.newWriter(canal, StandardCharsets.UTF_8));
+        this.gen = new JsonFactory().createGenerator(escritor);
+        // El generador no debe vaciar el escritor en cada registro: eso lo decide el sincronizador
+        this.gen.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        this.gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Toma una última instantánea, si hubo cambios desde la anterior, y libera el archivo del diario.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (cerrado) {
+                return;
+            }
+        }
+        campeonato.quitarObservador(this);
+        sincronizador.shutdown();
+        try {
+            sincronizador.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean hayCambios;
+        synchronized (this) {
+            hayCambios = registrosDesdeInstantanea > 0;
+        }
+        if (hayCambios) {
+            instantaneaEnSegundoPlano();
+        }
+        synchronized (this) {
+            cerrarArchivo();
+        }
+    }
+
+    private void instantaneaEnSegundoPlano() {
+        try {
+            tomarInstantanea();
+        } catch (IOException e) {
+            System.err.println("Error al guardar la instantánea del campeonato: " + e.getMessage());
+        }
+    }
+
+    private void cerrarArchivo() {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        if (descartado != null) {
+            // No llegó a reemplazar al diario anterior: este conserva lo que se pudo escribir
+            cerrarEscritor(descartado);
+            cerrarEscritor(escritor);
+            try {
+                Files.deleteIfExists(reemplazo);
+            } catch (IOException e) {
+                System.err.println("Error al borrar el diario de reemplazo: " + e.getMessage());
+            }
+            return;
+        }
+        try {
+            gen.close();
+            escritor.close();
+        } catch (IOException e) {
+            System.err.println("Error al cerrar el diario del campeonato: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ruta del diario asociado al archivo de datos del gestor.
+     */
+    static Path rutaDiario(JsonDataManager dataManager) {
+        return Path.of(dataManager.getFilePath() + ".journal");
+    }
+
+    private void registrar(String tipo, Object... campos) {
+        IOException fallo = null;
+        synchronized (this) {
+            if (cerrado) {
+                return;
+            }
+            if (!roto) {
+                try {
+                    gen.writeStartArray();
+                    gen.writeNumber(campeonato.getVersion());
+                    gen.writeString(tipo);
+                    escribirCampos(campos);
+                    gen.writeEndArray();
+                    gen.writeRaw('\n');
+                    pendiente = true;
+                } catch (IOException e) {
+                    fallo = e;
+                    fallar(e);
+                }
+            }
+            // La instantánea necesita acceso exclusivo, que no se puede obtener desde el aviso de un cambio.
+            // Tras un error se pide siempre: solo ella deja a salvo los cambios que no llegaron al diario
+            registrosDesdeInstantanea++;
+            if ((error != null || registrosPorInstantanea > 0 && registrosDesdeInstantanea >= registrosPorInstantanea)
+                    && !instantaneaPedida) {
+                pedirInstantanea();
+            }
+        }
+        if (fallo != null) {
+            avisar(fallo);
+        }
+    }
+
+    private void pedirInstantanea() {
+        instantaneaPedida = true;
+        try {
+            sincronizador.execute(this::instantaneaEnSegundoPlano);
+        } catch (RejectedExecutionException e) {
+            // El diario se está cerrando y close() toma la última instantánea
+        }
+    }
+
+    /**
+     * Deja de escribir en el archivo actual: lo que siga en memoria puede estar a medio escribir.
+     * Se invoca con el diario retenido.
+     */
+    private void fallar(IOException e) {
+        System.err.println("Error al escribir en el diario del campeonato: " + e.getMessage());
+        roto = true;
+        error = e;
+        pendiente = false;
+        sinSincronizar = false;
+    }
+
+    private void avisar(IOException e) {
+        Consumer<IOException> aviso = alFallar;
+        if (aviso != null) {
+            aviso.accept(e);
+        }
+    }
+
+    private void escribirCampos(Object[] campos) throws IOException {
+        for (Object campo : campos) {
+            if (campo instanceof Integer) {
+                gen.writeNumber((Integer) campo);
+            } else if (campo instanceof Object[]) {
+                gen.writeStartArray();
+                escribirCampos((Object[]) campo);
+                gen.writeEndArray();
+            } else {
+                gen.writeString((String) campo);
+            }
+        }
+    }
+
+    /**
+     * Lleva las líneas pendientes al disco. Solo las pasa al archivo con el diario retenido; la espera
+     * al disco se hace después, fuera de él, para no frenar a {@link #registrar}, que se invoca
+     * mientras el campeonato actualiza sus estadísticas.
+     */
+    private void sincronizar() {
+        FileChannel actual = null;
+        try {
+            synchronized (this) {
+                if (cerrado || roto) {
+                    return;
+                }
+                actual = canal;
+                vaciar();
+                if (!sinSincronizar) {
+                    return;
+                }
+                sinSincronizar = false;
+            }
+            actual.force(false);
+        } catch (ClosedChannelException e) {
+            // El diario se recortó mientras tanto; el nuevo queda marcado para la próxima sincronización
+        } catch (IOException e) {
+            // Tras un fallo de sincronización no se sabe qué llegó al disco: reintentarla no lo asegura
+            synchronized (this) {
+                if (cerrado || actual != canal) {
+                    return;
+                }
+                fallar(e);
+                if (!instantaneaPedida) {
+                    pedirInstantanea();
+                }
+            }
+            avisar(e);
+        }
+    }
+
+    /**
+     * Pasa al archivo las líneas que siguen en memoria, sin esperar a que lleguen al disco.
+     */
+    private void vaciar() throws IOException {
+        if (!pendiente) {
+            return;
+        }
+        gen.flush();
+        escritor.flush();
+        pendiente = false;
+        sinSincronizar = true;
+    }
+
+    /**
+     * Aplica al campeonato los registros del diario con versión posterior a la suya.
+     * Una última línea incompleta (escritura interrumpida) se descarta.
+     *
+     * @return La cantidad de registros aplicados.
+     */
+    private static int reproducir(Campeonato campeonato, Path diario) throws IOException {
+        if (!Files.isRegularFile(diario)) {
+            // Sin diario, o uno que no es un archivo (p. ej. un dispositivo): no hay registros que reproducir
+            return 0;
+        }
+        int aplicados = 0;
+        try (BufferedReader lector = Files.newBufferedReader(diario, StandardCharsets.UTF_8)) {
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                if (linea.isBlank()) {
+                    continue;
+                }
+                JsonNode registro;
+                try {
+                    registro = LECTOR.readTree(linea);
+                } catch (IOException e) {
+                    System.err.println("Registro incompleto al final del diario, se descarta: " + linea);
+                    break;
+                }
+                long version = registro.get(0).asLong();
+                if (version <= campeonato.getVersion()) {
+                    continue;
+                }
+                if (!aplicar(campeonato, registro)) {
+                    System.err.println("Registro del diario no aplicable, se omite: " + linea);
+                }
+                campeonato.setVersion(version);
+                aplicados++;
+            }
+        }
+        return aplicados;
+    }
+
+    private static boolean aplicar(Campeonato campeonato, JsonNode r) {
+        switch (r.get(1).asText()) {
+            case "E":
+                return campeonato.registrarEquipo(texto(r, 2), texto(r, 3), texto(r, 4), texto(r, 5));
+            case "J":
+                return campeonato.registrarJugador(texto(r, 2), texto(r, 3), texto(r, 4), texto(r, 5), r.get(6).asInt());
+            case "P":
+                return campeonato.crearPartido(texto(r, 2), texto(r, 3), texto(r, 4), texto(r, 5), texto(r, 6));
+            case "G":
+                return campeonato.registrarGol(texto(r, 2), texto(r, 3), r.get(4).asInt());
+            case "T":
+                return campeonato.registrarTarjeta(texto(r, 2), texto(r, 3), texto(r, 4), r.get(5).asInt(), texto(r, 6));
+            case "F":
+                return campeonato.registrarFalta(texto(r, 2), texto(r, 3), texto(r, 4), r.get(5).asInt(), texto(r, 6), texto(r, 7));
+            case "M":
+                Partido partido = campeonato.buscarPartidoPorId(texto(r, 2));
+                if (partido == null) {
+                    return false;
+                }
+                partido.setGolesLocal(r.get(3).asInt());
+                partido.setGolesVisitante(r.get(4).asInt());
+                return true;
+            case "L":
+                List<Evento> eventos = new ArrayList<>();
+                for (JsonNode e : r.get(3)) {
+                    switch (e.get(0).asText()) {
+                        case "G":
+                            eventos.add(Evento.gol(texto(e, 1), e.get(2).asInt()));
+                            break;
+                        case "T":
+                            eventos.add(Evento.tarjeta(texto(e, 1), texto(e, 2), e.get(3).asInt(), texto(e, 4)));
+                            break;
+                        default:
+                            eventos.add(Evento.falta(texto(e, 1), texto(e, 2), e.get(3).asInt(), texto(e, 4), texto(e, 5)));
+                    }
+                }
+                return campeonato.registrarEventos(texto(r, 2), eventos);
+            case "R":
+                return reemplazar(campeonato, texto(r, 2), r.get(3));
+            default:
+                return false;
+        }
+    }
+
+    private static boolean reemplazar(Campeonato campeonato, String idPartido, JsonNode eventos) {
+        Partido partido = campeonato.buscarPartidoPorId(idPartido);
+        if (partido == null) {
+            return false;
+        }
+        List<Gol> goles = new ArrayList<>();
+        List<Tarjeta> tarjetas = new ArrayList<>();
+        List<Falta> faltas = new ArrayList<>();
+        for (JsonNode e : eventos) {
+            switch (e.get(0).asText()) {
+                case "G":
+                    goles.add(new Gol(jugador(campeonato, texto(e, 1)), e.get(2).asInt()));
+                    break;
+                case "T":
+                    tarjetas.add(new Tarjeta(jugador(campeonato, texto(e, 1)), texto(e, 2), e.get(3).asInt(), texto(e, 4)));
+                    break;
+                default:
+                    faltas.add(new Falta(jugador(campeonato, texto(e, 1)), e.get(3).asInt(), texto(e, 4),
+                            jugador(campeonato, texto(e, 2)), texto(e, 5)));
+            }
+        }
+        partido.setGoles(goles);
+        partido.setTarjetas(tarjetas);
+        partido.setFaltas(faltas);
+        return true;
+    }
+
+    /**
+     * Busca un jugador en las plantillas. Solo se usa al reproducir, antes de que nadie más use el campeonato.
+     */
+    private static Jugador jugador(Campeonato campeonato, String id) {
+        if (id == null) {
+            return null;
+        }
+        for (Equipo equipo : campeonato.getEquipos()) {
+            for (Jugador jugador : equipo.getJugadores()) {
+                if (id.equals(jugador.getId())) {
+                    return jugador;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String texto(JsonNode registro, int indice) {
+        JsonNode campo = registro.get(indice);
+        return campo == null || campo.isNull() ? null : campo.asText();
+    }
+}
@@ -0,0 +1,316 @@
+// Archivo: util/GeneradorCampeonato.java
+package util;
+
+import model.Campeonato;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Genera campeonatos sintéticos reproducibles para pruebas de carga y de escala.
+ *
+ * <p>El campeonato se construye solo con la API pública de {@link Campeonato}
+ * (registrarEquipo, registrarJugador, crearPartido, registrarGol, registrarTarjeta y registrarFalta),
+ * con un fixture de todos contra todos de una o más vueltas. La cantidad de goles, tarjetas y faltas
+ * de cada partido sigue una distribución de Poisson con la media configurada.</p>
+ *
+ * <p>Los eventos de cada partido se planifican en paralelo, en bloques, con un generador aleatorio propio
+ * derivado de la semilla y del número de partido; luego se registran en orden desde un solo hilo,
+ * para que también el orden de los eventos (y con él las versiones del campeonato) sea idéntico
+ * sea cual sea la cantidad de hilos.</p>
+ */
+public class GeneradorCampeonato {
+
+    private static final int TIPO_GOL = 0;
+    private static final int TIPO_TARJETA = 1;
+    private static final int TIPO_FALTA = 2;
+    // Cada evento planificado ocupa cuatro enteros: tipo, jugador, minuto y dato adicional
+    private static final int ANCHO_EVENTO = 4;
+    private static final int PARTIDOS_POR_BLOQUE = 4096;
+
+    private static final String[] POSICIONES = {"Arquero", "Defensa", "Mediocampista", "Delantero"};
+    private static final String[] ZONAS = {"Defensa", "Centro", "Ataque"};
+    private static final String[] MOTIVOS = {"Juego brusco", "Reclamo", "Mano", "Demora"};
+
+    private final long semilla;
+    private int equipos = 20;
+    private int jugadoresPorEquipo = 16;
+    private int vueltas = 2;
+    private double golesPorPartido = 2.7;
+    private double tarjetasPorPartido = 4.0;
+    private double faltasPorPartido = 24.0;
+    private double proporcionRojas = 0.08;
+    private double proporcionFaltasConTarjeta = 0.1;
+    private int hilos = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * @param semilla La semilla; la misma semilla y los mismos parámetros generan el mismo campeonato.
+     */
+    public GeneradorCampeonato(long semilla) {
+        this.semilla = semilla;
+    }
+
+    public int getEquipos() { return equipos; }
+    public void setEquipos(int equipos) {
+        if (equipos < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos 2 equipos.");
+        }
+        this.equipos = equipos;
+    }
+    public int getJugadoresPorEquipo() { return jugadoresPorEquipo; }
+    public void setJugadoresPorEquipo(int jugadoresPorEquipo) {
+        if (jugadoresPorEquipo < 1) {
+            throw new IllegalArgumentException("Cada equipo necesita al menos un jugador.");
+        }
+        this.jugadoresPorEquipo = jugadoresPorEquipo;
+    }
+    public int getVueltas() { return vueltas; }
+    public void setVueltas(int vueltas) {
+        if (vueltas < 0) {
+            throw new IllegalArgumentException("La cantidad de vueltas no puede ser negativa.");
+        }
+        this.vueltas = vueltas;
+    }
+    public double getGolesPorPartido() { return golesPorPartido; }
+    public void setGolesPorPartido(double golesPorPartido) { this.golesPorPartido = noNegativo(golesPorPartido); }
+    public double getTarjetasPorPartido() { return tarjetasPorPartido; }
+    public void setTarjetasPorPartido(double tarjetasPorPartido) { this.tarjetasPorPartido = noNegativo(tarjetasPorPartido); }
+    public double getFaltasPorPartido() { return faltasPorPartido; }
+    public void setFaltasPorPartido(double faltasPorPartido) { this.faltasPorPartido = noNegativo(faltasPorPartido); }
+    public double getProporcionRojas() { return proporcionRojas; }
+    public void setProporcionRojas(double proporcionRojas) { this.proporcionRojas = proporcion(proporcionRojas); }
+    public double getProporcionFaltasConTarjeta() { return proporcionFaltasConTarjeta; }
+    public void setProporcionFaltasConTarjeta(double proporcionFaltasConTarjeta) { this.proporcionFaltasConTarjeta = proporcion(proporcionFaltasConTarjeta); }
+    public int getHilos() { return hilos; }
+    public void setHilos(int hilos) {
+        if (hilos < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo.");
+        }
+        this.hilos = hilos;
+    }
+
+    /**
+     * @return La cantidad de partidos que tendrá el campeonato generado.
+     */
+    public long getPartidos() {
+        return (long) equipos * (equipos - 1) / 2 * vueltas;
+    }
+
+    /**
+     * Genera el campeonato completo.
+     * @return El campeonato generado.
+     */
+    public Campeonato generar() {
+        Campeonato campeonato = new Campeonato();
+        for (int e = 0; e < equipos; e++) {
+            campeonato.registrarEquipo(idEquipo(e), "Equipo " + e, "Barrio " + (e % 100), "Entrenador " + e);
+            for (int d = 1; d <= jugadoresPorEquipo; d++) {
+                campeonato.registrarJugador(idEquipo(e), idJugador(e, d), "Jugador " + e + "-" + d,
+                        POSICIONES[(d - 1) * POSICIONES.length / jugadoresPorEquipo], d);
+            }
+        }
+
+        int[][] cruces = fixture();
+        ForkJoinPool pool = hilos > 1 ? new ForkJoinPool(hilos) : null;
+        try {
+            for (int inicio = 0; inicio < cruces.length; inicio += PARTIDOS_POR_BLOQUE) {
+                int desde = inicio;
+                int hasta = Math.min(cruces.length, inicio + PARTIDOS_POR_BLOQUE);
+                int[][] planes = new int[hasta - desde][];
+                if (pool != null) {
+                    pool.submit(() -> IntStream.range(desde, hasta).parallel()
+                            .forEach(p -> planes[p - desde] = planificar(p))).join();
+                } else {
+                    for (int p = desde; p < hasta; p++) {
+                        planes[p - desde] = planificar(p);
+                    }
+                }
+                for (int p = desde; p < hasta; p++) {
+                    aplicar(campeonato, p, cruces[p][0], cruces[p][1], planes[p - desde]);
+                }
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        return campeonato;
+    }
+
+    /**
+     * Genera el campeonato y lo guarda con el gestor indicado.
+     * @param dataManager El gestor del archivo de destino; su extensión decide el formato.
+     * @return El campeonato generado.
+     * @throws IOException Si no se pudo guardar.
+     */
+    public Campeonato generarEn(JsonDataManager dataManager) throws IOException {
+        Campeonato campeonato = generar();
+        dataManager.guardar(campeonato);
+        return campeonato;
+    }
+
+    /**
+     * Genera un campeonato desde la línea de comandos.
+     * Uso: {@code GeneradorCampeonato archivo equipos [vueltas] [semilla]}.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Uso: GeneradorCampeonato archivo equipos [vueltas] [semilla]");
+            System.exit(1);
+        }
+        GeneradorCampeonato generador = new GeneradorCampeonato(args.length > 3 ? Long.parseLong(args[3]) : 1L);
+        generador.setEquipos(Integer.parseInt(args[1]));
+        if (args.length > 2) {
+            generador.setVueltas(Integer.parseInt(args[2]));
+        }
+        long inicio = System.nanoTime();
+        Campeonato campeonato;
+        try {
+            campeonato = generador.generarEn(new JsonDataManager(args[0], false));
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar el campeonato en " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        System.out.printf("%d partidos generados (%d cambios registrados) en %d ms%n",
+                campeonato.getPartidos().size(), campeonato.getVersion(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    static String idEquipo(int equipo) {
+        return "E" + equipo;
+    }
+
+    static String idJugador(int equipo, int dorsal) {
+        return "J" + equipo + "-" + dorsal;
+    }
+
+    /**
+     * Fixture de todos contra todos por el método del círculo: cada fecha cada equipo juega una vez
+     * (con cantidad impar de equipos, uno descansa). En las vueltas pares se invierte la localía.
+     *
+     * @return Pares {local, visitante} en orden de fecha.
+     */
+    private int[][] fixture() {
+        int[][] cruces = new int[Math.toIntExact(getPartidos())][];
+        int n = equipos % 2 == 0 ? equipos : equipos + 1;
+        int p = 0;
+        for (int vuelta = 0; vuelta < vueltas; vuelta++) {
+            for (int fecha = 0; fecha < n - 1; fecha++) {
+                for (int i = 0; i < n / 2; i++) {
+                    int a = i == 0 ? 0 : 1 + (fecha + i - 1) % (n - 1);
+                    int b = 1 + (fecha + n - 2 - i) % (n - 1);
+                    if (a >= equipos || b >= equipos) {
+                        continue; // descanso
+                    }
+                    boolean invertir = (vuelta + fecha + i) % 2 == 1;
+                    cruces[p++] = invertir ? new int[]{b, a} : new int[]{a, b};
+                }
+            }
+        }
+        return cruces;
+    }
+
+    /**
+     * Planifica los eventos de un partido. Solo depende de la semilla y del número de partido.
+     */
+    private int[] planificar(int partido) {
+        SplittableRandom random = new SplittableRandom(semilla ^ (partido * 0x9E3779B97F4A7C15L));
+        int goles = poisson(random, golesPorPartido);
+        int tarjetas = poisson(random, tarjetasPorPartido);
+        int faltas = poisson(random, faltasPorPartido);
+        int[] plan = new int[(goles + tarjetas + faltas) * ANCHO_EVENTO];
+        int i = 0;
+        for (int n = 0; n < goles; n++, i += ANCHO_EVENTO) {
+            plan[i] = TIPO_GOL;
+            plan[i + 1] = jugador(random);
+            plan[i + 2] = minuto(random);
+        }
+        for (int n = 0; n < tarjetas; n++, i += ANCHO_EVENTO) {
+            plan[i] = TIPO_TARJETA;
+            plan[i + 1] = jugador(random);
+            plan[i + 2] = minuto(random);
+            plan[i + 3] = random.nextDouble() < proporcionRojas ? 1 : 0;
+        }
+        for (int n = 0; n < faltas; n++, i += ANCHO_EVENTO) {
+            plan[i] = TIPO_FALTA;
+            plan[i + 1] = jugador(random);
+            plan[i + 2] = minuto(random);
+            // Dorsal del afectado (del equipo rival) y tarjeta asociada: 0 ninguna, 1 amarilla, 2 roja
+            int tarjeta = random.nextDouble() < proporcionFaltasConTarjeta
+                    ? (random.nextDouble() < proporcionRojas ? 2 : 1) : 0;
+            plan[i + 3] = random.nextInt(jugadoresPorEquipo) * 3 + tarjeta;
+        }
+        return plan;
+    }
+
+    private void aplicar(Campeonato campeonato, int partido, int local, int visitante, int[] plan) {
+        String id = "P" + partido;
+        campeonato.crearPartido(id, idEquipo(local), idEquipo(visitante), "Estadio " + local, "Arbitro " + (partido % 50));
+        for (int i = 0; i < plan.length; i += ANCHO_EVENTO) {
+            // El jugador se codifica como lado * jugadoresPorEquipo + índice; lado 0 es el local
+            boolean esLocal = plan[i + 1] < jugadoresPorEquipo;
+            String jugador = idJugador(esLocal ? local : visitante, 1 + plan[i + 1] % jugadoresPorEquipo);
+            int minuto = plan[i + 2];
+            switch (plan[i]) {
+                case TIPO_GOL:
+                    campeonato.registrarGol(id, jugador, minuto);
+                    break;
+                case TIPO_TARJETA:
+                    campeonato.registrarTarjeta(id, jugador, plan[i + 3] == 1 ? "Roja" : "Amarilla", minuto,
+                            MOTIVOS[minuto % MOTIVOS.length]);
+                    break;
+                default:
+                    String afectado = idJugador(esLocal ? visitante : local, 1 + plan[i + 3] / 3);
+                    int tarjeta = plan[i + 3] % 3;
+                    campeonato.registrarFalta(id, jugador, afectado, minuto, ZONAS[minuto % ZONAS.length],
+                            tarjeta == 0 ? null : tarjeta == 1 ? "Amarilla" : "Roja");
+            }
+        }
+    }
+
+    private int jugador(SplittableRandom random) {
+        return random.nextInt(2 * jugadoresPorEquipo);
+    }
+
+    private static int minuto(SplittableRandom random) {
+        return 1 + random.nextInt(90);
+    }
+
+    /**
+     * Muestra de una distribución de Poisson: método de Knuth para medias pequeñas
+     * y aproximación normal para medias grandes, donde Knuth pierde precisión.
+     */
+    private static int poisson(SplittableRandom random, double media) {
+        if (media <= 0) {
+            return 0;
+        }
+        if (media > 30) {
+            double normal = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+            return (int) Math.max(0, Math.round(media + Math.sqrt(media) * normal));
+        }
+        double limite = Math.exp(-media);
+        double producto = random.nextDouble();
+        int n = 0;
+        while (producto > limite) {
+            producto *= random.nextDouble();
+            n++;
+        }
+        return n;
+    }
+
+    private static double noNegativo(double media) {
+        if (media < 0) {
+            throw new IllegalArgumentException("La media no puede ser negativa: " + media);
+        }
+        return media;
+    }
+
+    private static double proporcion(double valor) {
+        if (valor < 0 || valor > 1) {
+            throw new IllegalArgumentException("La proporción debe estar entre 0 y 1: " + valor);
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,201 @@
+// Archivo: util/GuardadoAutomatico.java
+package util;
+
+import model.Campeonato;
+import model.Equipo;
+import model.Falta;
+import model.Gol;
+import model.Jugador;
+import model.ObservadorCampeonato;
+import model.Partido;
+import model.Tarjeta;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Guarda el campeonato en segundo plano, agrupando ráfagas de cambios en un solo guardado.
+ *
+ * <p>Cada cambio registrado en el campeonato lo marca como pendiente. Un hilo de fondo lo guarda
+ * cada {@code segundos} segundos si hay cambios pendientes, o antes si se acumulan {@code cambios}
+ * cambios. Al cerrar se guardan los cambios que falten. El resultado de cada guardado (duración o error)
+ * se informa a un {@link Informe}, en el hilo de fondo.</p>
+ *
+ * <p>Con un {@link DiarioCampeonato} el guardado es una instantánea del diario, que además lo vacía;
+ * en ese caso el diario debe abrirse sin instantáneas automáticas.</p>
+ */
+public class GuardadoAutomatico implements ObservadorCampeonato, AutoCloseable {
+
+    /**
+     * Recibe el resultado de cada guardado.
+     */
+    public interface Informe {
+        /**
+         * @param version La versión del campeonato guardada.
+         * @param milisegundos Lo que tardó el guardado.
+         */
+        void guardado(long version, long milisegundos);
+
+        /**
+         * @param error El error; los cambios siguen pendientes y se reintentarán en el próximo guardado.
+         */
+        void falloAlGuardar(IOException error);
+    }
+
+    @FunctionalInterface
+    private interface Guardado {
+        void guardar() throws IOException;
+    }
+
+    private final Campeonato campeonato;
+    private final Guardado guardado;
+    private final int cambiosPorGuardado;
+    private final Informe informe;
+    private final ScheduledExecutorService hilo;
+    private final AtomicInteger pendientes = new AtomicInteger();
+    private final AtomicBoolean guardadoPedido = new AtomicBoolean();
+
+    /**
+     * Guarda el campeonato completo con el gestor de datos, que lo retiene solo mientras lo copia
+     * (ver {@link JsonDataManager#guardar(Campeonato)}).
+     *
+     * @param campeonato El campeonato a observar.
+     * @param dataManager El gestor con el que se guarda.
+     * @param segundos Intervalo máximo entre un cambio y su guardado.
+     * @param cambios Cantidad de cambios pendientes que adelanta el guardado.
+     * @param informe Quien recibe el resultado de cada guardado.
+     */
+    public GuardadoAutomatico(Campeonato campeonato, JsonDataManager dataManager, int segundos, int cambios, Informe informe) {
+        this(campeonato, () -> dataManager.guardar(campeonato), segundos, cambios, informe);
+    }
+
+    /**
+     * Guarda tomando instantáneas del diario, que además lo vacían.
+     *
+     * @param diario El diario abierto del campeonato, sin instantáneas automáticas.
+     * @param segundos Intervalo máximo entre un cambio y su guardado.
+     * @param cambios Cantidad de cambios pendientes que adelanta el guardado.
+     * @param informe Quien recibe el resultado de cada guardado.
+     */
+    public GuardadoAutomatico(DiarioCampeonato diario, int segundos, int cambios, Informe informe) {
+        this(diario.getCampeonato(), diario::tomarInstantanea, segundos, cambios, informe);
+    }
+
+    private GuardadoAutomatico(Campeonato campeonato, Guardado guardado, int segundos, int cambios, Informe informe) {
+        if (segundos <= 0 || cambios <= 0) {
+            throw new IllegalArgumentException("El intervalo y la cantidad de cambios deben ser positivos.");
+        }
+        this.campeonato = campeonato;
+        this.guardado = guardado;
+        this.cambiosPorGuardado = cambios;
+        this.informe = informe;
+        this.hilo = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "guardado-automatico");
+            t.setDaemon(true);
+            return t;
+        });
+        this.hilo.scheduleWithFixedDelay(this::guardarSiHayCambios, segundos, segundos, TimeUnit.SECONDS);
+        campeonato.agregarObservador(this);
+    }
+
+    /**
+     * @return La cantidad de cambios todavía sin guardar.
+     */
+    public int getPendientes() {
+        return pendientes.get();
+    }
+
+    @Override
+    public void equipoRegistrado(Equipo equipo) {
+        cambio();
+    }
+
+    @Override
+    public void jugadorRegistrado(Jugador jugador) {
+        cambio();
+    }
+
+    @Override
+    public void partidoCreado(Partido partido) {
+        cambio();
+    }
+
+    @Override
+    public void golRegistrado(Partido partido, Gol gol) {
+        cambio();
+    }
+
+    @Override
+    public void tarjetaRegistrada(Partido partido, Tarjeta tarjeta) {
+        cambio();
+    }
+
+    @Override
+    public void faltaRegistrada(Partido partido, Falta falta) {
+        cambio();
+    }
+
+    @Override
+    public void marcadorCambiado(Partido partido, int golesLocal, int golesVisitante) {
+        cambio();
+    }
+
+    @Override
+    public void eventosReemplazados(Partido partido) {
+        cambio();
+    }
+
+    @Override
+    public void eventosRegistrados(Partido partido, List<Gol> goles, List<Tarjeta> tarjetas, List<Falta> faltas) {
+        // Un lote es un único cambio
+        cambio();
+    }
+
+    /**
+     * Deja de observar el campeonato y guarda los cambios pendientes antes de volver.
+     */
+    @Override
+    public void close() {
+        campeonato.quitarObservador(this);
+        hilo.shutdown();
+        try {
+            hilo.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        guardarSiHayCambios();
+    }
+
+    private void cambio() {
+        // Solo se cuenta: el guardado necesita acceso exclusivo y se hace en el hilo de fondo
+        if (pendientes.incrementAndGet() >= cambiosPorGuardado && guardadoPedido.compareAndSet(false, true)) {
+            try {
+                hilo.execute(this::guardarSiHayCambios);
+            } catch (RejectedExecutionException e) {
+                // Se está cerrando y close() guarda lo pendiente
+            }
+        }
+    }
+
+    private synchronized void guardarSiHayCambios() {
+        guardadoPedido.set(false);
+        int cambios = pendientes.getAndSet(0);
+        if (cambios == 0) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        try {
+            guardado.guardar();
+            informe.guardado(campeonato.getVersion(), (System.nanoTime() - inicio) / 1_000_000);
+        } catch (IOException e) {
+            pendientes.addAndGet(cambios);
+            informe.falloAlGuardar(e);
+        }
+    }
+}
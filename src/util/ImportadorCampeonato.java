@@ -0,0 +1,522 @@
+// Archivo: util/ImportadorCampeonato.java
+package util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import model.Campeonato;
+import model.Evento;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Importa equipos, jugadores, partidos y eventos desde archivos planos, registrándolos con la API
+ * pública de {@link Campeonato} a medida que se leen.
+ *
+ * <p>Cada línea es un registro. En CSV el primer campo es el tipo y los siguientes van en este orden
+ * (los mismos que los parámetros de los métodos de registro); los campos pueden ir entre comillas dobles,
+ * con {@code ""} para una comilla, pero no pueden ocupar varias líneas:</p>
+ * <ul>
+ *     <li>{@code E,id,nombre,barrio,entrenador}</li>
+ *     <li>{@code J,equipo,id,nombre,posicion,camiseta}</li>
+ *     <li>{@code P,id,local,visitante,estadio,arbitro}</li>
+ *     <li>{@code G,partido,jugador,minuto}</li>
+ *     <li>{@code T,partido,jugador,tarjeta,minuto,motivo}</li>
+ *     <li>{@code F,partido,jugador,afectado,minuto,zona,tarjeta} (la tarjeta puede quedar vacía)</li>
+ * </ul>
+ * <p>En JSON Lines cada línea es un objeto con el campo {@code "tipo"} y los demás con esos mismos nombres,
+ * p. ej. {@code {"tipo":"G","partido":"P1","jugador":"J7","minuto":12}}. Las líneas vacías, las que
+ * empiezan con {@code #} y una cabecera CSV que empiece con {@code tipo} se ignoran.</p>
+ *
+ * <p>El archivo se lee por bloques de {@link #FILAS_POR_BLOQUE} líneas que se analizan en paralelo; los
+ * registros se aplican en el orden del archivo desde el hilo que importa, y nunca hay más de dos bloques
+ * por hilo en memoria. Los eventos consecutivos de un mismo partido se registran juntos con
+ * {@link Campeonato#registrarEventos}; si el lote se rechaza se registran de a uno para saber qué filas fallan.
+ * Las filas que no se pueden analizar o que el campeonato rechaza se informan en el {@link Resultado}
+ * y no detienen la importación.</p>
+ */
+public class ImportadorCampeonato {
+
+    /**
+     * Formatos de archivo soportados.
+     */
+    public enum Formato { CSV, JSONL }
+
+    /**
+     * Líneas que se analizan juntas en un mismo hilo.
+     */
+    public static final int FILAS_POR_BLOQUE = 2048;
+
+    /**
+     * Errores que se conservan con su detalle; los siguientes solo se cuentan.
+     */
+    public static final int MAXIMO_ERRORES_GUARDADOS = 1000;
+
+    private static final String TIPOS = "EJPGTF";
+    private static final int EQUIPO = 0;
+    private static final int JUGADOR = 1;
+    private static final int PARTIDO = 2;
+    private static final int GOL = 3;
+    private static final int TARJETA = 4;
+    private static final int FALTA = 5;
+    // Nombres de los campos de cada tipo, en el orden de las columnas CSV
+    private static final String[][] CAMPOS = {
+            {"id", "nombre", "barrio", "entrenador"},
+            {"equipo", "id", "nombre", "posicion", "camiseta"},
+            {"id", "local", "visitante", "estadio", "arbitro"},
+            {"partido", "jugador", "minuto"},
+            {"partido", "jugador", "tarjeta", "minuto", "motivo"},
+            {"partido", "jugador", "afectado", "minuto", "zona", "tarjeta"}
+    };
+    // Columna numérica de cada tipo, o -1
+    private static final int[] CAMPO_ENTERO = {-1, 4, -1, 2, 3, 3};
+    private static final JsonFactory FABRICA = new JsonFactory();
+
+    private final Campeonato campeonato;
+    private int hilos = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Una fila ya analizada, lista para aplicar.
+     */
+    private static final class Registro {
+        final long linea;
+        int tipo = -1;
+        String[] valores;
+        int entero;
+        String error;
+
+        Registro(long linea) {
+            this.linea = linea;
+        }
+    }
+
+    /**
+     * Una fila que no se pudo importar.
+     */
+    public static final class ErrorFila {
+        private final long linea;
+        private final String mensaje;
+
+        ErrorFila(long linea, String mensaje) {
+            this.linea = linea;
+            this.mensaje = mensaje;
+        }
+
+        /** El número de línea en el archivo, desde 1. */
+        public long getLinea() { return linea; }
+        public String getMensaje() { return mensaje; }
+
+        @Override
+        public String toString() {
+            return "línea " + linea + ": " + mensaje;
+        }
+    }
+
+    /**
+     * Resumen de una importación.
+     */
+    public static final class Resultado {
+        private long filas;
+        private long aplicadas;
+        private long errores;
+        private long nanos;
+        private final List<ErrorFila> erroresGuardados = new ArrayList<>();
+
+        /** Las filas con un registro, sin contar las ignoradas. */
+        public long getFilas() { return filas; }
+        public long getAplicadas() { return aplicadas; }
+        public long getErrores() { return errores; }
+        /** Los primeros {@link #MAXIMO_ERRORES_GUARDADOS} errores, en orden de línea. */
+        public List<ErrorFila> getErroresGuardados() { return Collections.unmodifiableList(erroresGuardados); }
+        public long getMilisegundos() { return nanos / 1_000_000; }
+
+        /**
+         * @return Las filas procesadas por segundo.
+         */
+        public double getFilasPorSegundo() {
+            return nanos > 0 ? filas * 1e9 / nanos : 0;
+        }
+
+        void error(long linea, String mensaje) {
+            errores++;
+            if (erroresGuardados.size() < MAXIMO_ERRORES_GUARDADOS) {
+                erroresGuardados.add(new ErrorFila(linea, mensaje));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d filas, %d aplicadas, %d con errores en %d ms (%.0f filas/s)",
+                    filas, aplicadas, errores, getMilisegundos(), getFilasPorSegundo());
+        }
+    }
+
+    /**
+     * @param campeonato El campeonato en el que se registran los datos importados.
+     */
+    public ImportadorCampeonato(Campeonato campeonato) {
+        this.campeonato = campeonato;
+    }
+
+    public int getHilos() { return hilos; }
+    public void setHilos(int hilos) {
+        if (hilos < 1) {
+            throw new IllegalArgumentException("Se necesita al menos 1 hilo.");
+        }
+        this.hilos = hilos;
+    }
+
+    /**
+     * @param archivo Un archivo a importar.
+     * @return {@link Formato#JSONL} si la extensión es ".jsonl" o ".ndjson"; si no, {@link Formato#CSV}.
+     */
+    public static Formato formatoDe(Path archivo) {
+        String nombre = archivo.getFileName().toString().toLowerCase(Locale.ROOT);
+        return nombre.endsWith(".jsonl") || nombre.endsWith(".ndjson") ? Formato.JSONL : Formato.CSV;
+    }
+
+    /**
+     * Importa un archivo en UTF-8; el formato lo decide su extensión ({@link #formatoDe(Path)}).
+     * @param archivo El archivo a importar.
+     * @return El resultado de la importación.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    public Resultado importar(Path archivo) throws IOException {
+        try (Reader lector = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            return importar(lector, formatoDe(archivo));
+        }
+    }
+
+    /**
+     * Importa los registros del lector hasta su final.
+     * @param lector El lector; no se cierra.
+     * @param formato El formato de los registros.
+     * @return El resultado de la importación.
+     * @throws IOException Si falla la lectura.
+     */
+    public Resultado importar(Reader lector, Formato formato) throws IOException {
+        long inicio = System.nanoTime();
+        Resultado resultado = new Resultado();
+        BufferedReader lineas = lector instanceof BufferedReader ? (BufferedReader) lector : new BufferedReader(lector);
+        ExecutorService analizadores = hilos > 1 ? Executors.newFixedThreadPool(hilos, hiloAnalizador()) : null;
+        ArrayDeque<Future<Registro[]>> enCurso = new ArrayDeque<>();
+        try {
+            long numero = 0;
+            boolean fin = false;
+            while (!fin) {
+                List<String> bloque = new ArrayList<>(FILAS_POR_BLOQUE);
+                long primera = numero + 1;
+                String linea;
+                while (bloque.size() < FILAS_POR_BLOQUE && (linea = lineas.readLine()) != null) {
+                    bloque.add(linea);
+                    numero++;
+                }
+                fin = bloque.size() < FILAS_POR_BLOQUE;
+                if (bloque.isEmpty()) {
+                    break;
+                }
+                if (analizadores == null) {
+                    aplicar(analizar(bloque, primera, formato), resultado);
+                    continue;
+                }
+                enCurso.add(analizadores.submit(() -> analizar(bloque, primera, formato)));
+                // Se aplica el bloque más antiguo cuando ya hay suficientes analizándose
+                if (enCurso.size() >= 2 * hilos) {
+                    aplicar(esperar(enCurso.poll()), resultado);
+                }
+            }
+            while (!enCurso.isEmpty()) {
+                aplicar(esperar(enCurso.poll()), resultado);
+            }
+        } finally {
+            if (analizadores != null) {
+                analizadores.shutdownNow();
+            }
+        }
+        resultado.nanos = System.nanoTime() - inicio;
+        return resultado;
+    }
+
+    /**
+     * Importa archivos desde la línea de comandos y guarda el campeonato.
+     * Uso: {@code ImportadorCampeonato datos archivo...}; el formato de cada archivo lo decide su extensión.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: ImportadorCampeonato datos archivo...");
+            System.exit(1);
+        }
+        JsonDataManager dataManager = new JsonDataManager(args[0], false);
+        Campeonato campeonato = dataManager.load();
+        ImportadorCampeonato importador = new ImportadorCampeonato(campeonato);
+        for (int i = 1; i < args.length; i++) {
+            Resultado resultado = importador.importar(Path.of(args[i]));
+            System.out.println(args[i] + ": " + resultado);
+            for (ErrorFila error : resultado.getErroresGuardados()) {
+                System.err.println("  " + error);
+            }
+        }
+        if (!dataManager.save(campeonato)) {
+            System.exit(1);
+        }
+    }
+
+    private static Registro[] esperar(Future<Registro[]> bloque) throws IOException {
+        try {
+            return bloque.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Importación interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Error al analizar el archivo", e.getCause());
+        }
+    }
+
+    private static ThreadFactory hiloAnalizador() {
+        AtomicInteger contador = new AtomicInteger();
+        return r -> {
+            Thread hilo = new Thread(r, "importador-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+    }
+
+    private static Registro[] analizar(List<String> bloque, long primera, Formato formato) {
+        Registro[] registros = new Registro[bloque.size()];
+        for (int i = 0; i < registros.length; i++) {
+            String linea = bloque.get(i);
+            if (linea.isBlank() || linea.startsWith("#")) {
+                continue;
+            }
+            Registro registro = new Registro(primera + i);
+            try {
+                if (formato == Formato.CSV) {
+                    analizarCsv(linea, registro);
+                } else {
+                    analizarJson(linea, registro);
+                }
+            } catch (IOException | RuntimeException e) {
+                registro.error = "Fila mal formada: " + e.getMessage();
+            }
+            registros[i] = registro;
+        }
+        return registros;
+    }
+
+    private static void analizarCsv(String linea, Registro registro) {
+        List<String> campos = separarCsv(linea);
+        String tipo = campos.get(0).trim();
+        if (registro.linea == 1 && tipo.equalsIgnoreCase("tipo")) {
+            registro.tipo = -2; // cabecera
+            return;
+        }
+        if (!asignarTipo(tipo, registro)) {
+            return;
+        }
+        String[] nombres = CAMPOS[registro.tipo];
+        int recibidos = campos.size() - 1;
+        // La tarjeta de una falta es opcional
+        int minimo = registro.tipo == FALTA ? nombres.length - 1 : nombres.length;
+        if (recibidos < minimo || recibidos > nombres.length) {
+            registro.error = "Se esperaban " + nombres.length + " campos para el tipo " + tipo + " y hay " + recibidos;
+            return;
+        }
+        registro.valores = new String[nombres.length];
+        for (int i = 0; i < recibidos; i++) {
+            String valor = campos.get(i + 1);
+            registro.valores[i] = valor.isEmpty() ? null : valor;
+        }
+        convertirEntero(registro);
+    }
+
+    /**
+     * Separa una línea CSV en campos, respetando las comillas dobles.
+     */
+    private static List<String> separarCsv(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"') {
+                    if (i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                        actual.append('"');
+                        i++;
+                    } else {
+                        entreComillas = false;
+                    }
+                } else {
+                    actual.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        if (entreComillas) {
+            throw new IllegalArgumentException("comillas sin cerrar");
+        }
+        campos.add(actual.toString());
+        return campos;
+    }
+
+    private static void analizarJson(String linea, Registro registro) throws IOException {
+        Map<String, String> campos = new HashMap<>();
+        try (JsonParser p = FABRICA.createParser(linea)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("se esperaba un objeto");
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String nombre = p.currentName();
+                JsonToken valor = p.nextToken();
+                if (valor.isStructStart()) {
+                    p.skipChildren();
+                } else if (valor != JsonToken.VALUE_NULL) {
+                    campos.put(nombre, p.getValueAsString());
+                }
+            }
+        }
+        String tipo = campos.get("tipo");
+        if (!asignarTipo(tipo, registro)) {
+            return;
+        }
+        String[] nombres = CAMPOS[registro.tipo];
+        registro.valores = new String[nombres.length];
+        for (int i = 0; i < nombres.length; i++) {
+            registro.valores[i] = campos.get(nombres[i]);
+        }
+        convertirEntero(registro);
+    }
+
+    private static boolean asignarTipo(String tipo, Registro registro) {
+        int indice = tipo != null && tipo.length() == 1 ? TIPOS.indexOf(Character.toUpperCase(tipo.charAt(0))) : -1;
+        if (indice < 0) {
+            registro.error = "Tipo de registro desconocido: " + tipo;
+            return false;
+        }
+        registro.tipo = indice;
+        return true;
+    }
+
+    private static void convertirEntero(Registro registro) {
+        int columna = CAMPO_ENTERO[registro.tipo];
+        if (columna < 0) {
+            return;
+        }
+        String valor = registro.valores[columna];
+        try {
+            registro.entero = Integer.parseInt(valor != null ? valor.trim() : "");
+        } catch (NumberFormatException e) {
+            registro.error = "El campo " + CAMPOS[registro.tipo][columna] + " no es un número: " + valor;
+        }
+    }
+
+    /**
+     * Aplica los registros de un bloque en orden, agrupando los eventos consecutivos de un mismo partido.
+     */
+    private void aplicar(Registro[] registros, Resultado resultado) {
+        List<Registro> lote = new ArrayList<>();
+        for (Registro registro : registros) {
+            if (registro == null || registro.tipo == -2) {
+                continue;
+            }
+            resultado.filas++;
+            if (registro.error != null) {
+                // Primero los eventos anteriores, para informar los errores en orden de línea
+                aplicarLote(lote, resultado);
+                resultado.error(registro.linea, registro.error);
+                continue;
+            }
+            if (registro.tipo >= GOL && registro.valores[0] != null) {
+                if (!lote.isEmpty() && !registro.valores[0].equals(lote.get(0).valores[0])) {
+                    aplicarLote(lote, resultado);
+                }
+                lote.add(registro);
+                continue;
+            }
+            aplicarLote(lote, resultado);
+            contar(aplicarUno(registro), registro, resultado);
+        }
+        aplicarLote(lote, resultado);
+    }
+
+    private void aplicarLote(List<Registro> lote, Resultado resultado) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        List<Evento> eventos = new ArrayList<>(lote.size());
+        for (Registro registro : lote) {
+            eventos.add(evento(registro));
+        }
+        if (lote.size() > 1 && campeonato.registrarEventos(lote.get(0).valores[0], eventos)) {
+            resultado.aplicadas += lote.size();
+        } else {
+            // Con un evento inválido el lote no se aplica: se reintenta de a uno para ubicar las filas con error
+            for (Registro registro : lote) {
+                contar(aplicarUno(registro), registro, resultado);
+            }
+        }
+        lote.clear();
+    }
+
+    private boolean aplicarUno(Registro r) {
+        String[] v = r.valores;
+        switch (r.tipo) {
+            case EQUIPO:
+                return campeonato.registrarEquipo(v[0], v[1], v[2], v[3]);
+            case JUGADOR:
+                return campeonato.registrarJugador(v[0], v[1], v[2], v[3], r.entero);
+            case PARTIDO:
+                return campeonato.crearPartido(v[0], v[1], v[2], v[3], v[4]);
+            case GOL:
+                return campeonato.registrarGol(v[0], v[1], r.entero);
+            case TARJETA:
+                return campeonato.registrarTarjeta(v[0], v[1], v[2], r.entero, v[4]);
+            default: // FALTA
+                return campeonato.registrarFalta(v[0], v[1], v[2], r.entero, v[4], v[5]);
+        }
+    }
+
+    private static Evento evento(Registro r) {
+        String[] v = r.valores;
+        switch (r.tipo) {
+            case GOL:
+                return Evento.gol(v[1], r.entero);
+            case TARJETA:
+                return Evento.tarjeta(v[1], v[2], r.entero, v[4]);
+            default:
+                return Evento.falta(v[1], v[2], r.entero, v[4], v[5]);
+        }
+    }
+
+    private static void contar(boolean aplicado, Registro registro, Resultado resultado) {
+        if (aplicado) {
+            resultado.aplicadas++;
+        } else {
+            resultado.error(registro.linea, "El campeonato rechazó el registro (ID repetido o inexistente, o datos inválidos)");
+        }
+    }
+}
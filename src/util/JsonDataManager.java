@@ -4,45 +4,266 @@ package util;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import model.Campeonato; // Importar la clase Campeonato
+import model.Metricas;
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Gestiona la persistencia de los datos del Campeonato en formato JSON utilizando la librería Jackson.
+ * Los datos se escriben en el formato plano de {@link CodecCampeonatoJson}; los archivos del formato
+ * anidado anterior se siguen pudiendo cargar.
+ * Si la ruta termina en {@link #EXTENSION_BINARIA} se usa en cambio el formato binario de
+ * {@link CodecCampeonatoBinario}, más compacto y rápido de abrir.
+ * Si termina en {@link #EXTENSION_PARTICIONADA} la ruta es un directorio de {@link AlmacenParticionado}:
+ * al cargarlo solo se lee el catálogo y los partidos se cargan por particiones a medida que se usan.
  */
 public class JsonDataManager {
+    /**
+     * Extensión de los archivos que se guardan y cargan en formato binario.
+     */
+    public static final String EXTENSION_BINARIA = ".camp";
+
+    /**
+     * Extensión de los directorios que se guardan y cargan por particiones.
+     */
+    public static final String EXTENSION_PARTICIONADA = ".liga";
+
+    /**
+     * Partidos por partición, si no se configura otra cantidad. Los partidos se agrupan en el orden en que
+     * se crearon, que en un fixture generado por fechas deja cada fecha en una misma partición.
+     */
+    public static final int PARTIDOS_POR_PARTICION = 256;
+
+    // Llamadas, errores y duración de guardar y cargar; ver Metricas. save() se cuenta como guardar.
+    private static final Metricas.Operacion METRICA_GUARDAR = Metricas.operacion("JsonDataManager.guardar");
+    private static final Metricas.Operacion METRICA_CARGAR = Metricas.operacion("JsonDataManager.load");
+
     private final ObjectMapper objectMapper;
+    private final CodecCampeonatoJson codec;
+    private final CodecCampeonatoBinario codecBinario;
     private final String filePath;
+    private final boolean legible;
+    private int partidosPorParticion = PARTIDOS_POR_PARTICION;
+    // Almacén del último campeonato cargado o guardado por particiones
+    private AlmacenParticionado almacen;
+    // Un guardado a la vez: si no, la copia de un guardado anterior podría escribirse después de una más nueva
+    private final Object candadoGuardado = new Object();
 
     /**
-     * Constructor para JsonDataManager.
+     * Constructor para JsonDataManager. El JSON se escribe indentado.
      *
      * @param filePath La ruta del archivo donde se guardarán/cargarán los datos JSON.
      */
     public JsonDataManager(String filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Constructor para JsonDataManager.
+     *
+     * @param filePath La ruta del archivo donde se guardarán/cargarán los datos.
+     * @param legible true para escribir el JSON indentado; false lo escribe compacto, más rápido de guardar y cargar.
+     *                No afecta al formato binario.
+     */
+    public JsonDataManager(String filePath, boolean legible) {
         this.objectMapper = new ObjectMapper();
         // Registrar el módulo para soportar tipos de Java 8 Date/Time API (como LocalDateTime)
-        // Habilitar el "pretty printing" para que el JSON sea legible
-        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        // Habilitar el "pretty printing" si se pidió JSON legible
+        this.objectMapper.configure(SerializationFeature.INDENT_OUTPUT, legible);
         // Deshabilitar la escritura de fechas como timestamps, para usar formato ISO 8601
 
+        this.codec = new CodecCampeonatoJson(objectMapper.getFactory(), legible);
+        this.codecBinario = new CodecCampeonatoBinario();
         this.filePath = filePath;
+        this.legible = legible;
+    }
+
+    /**
+     * Convierte un archivo de campeonato entre formatos; el formato de cada archivo lo decide su extensión.
+     *
+     * @param origen La ruta del archivo a leer.
+     * @param destino La ruta del archivo a escribir.
+     * @return true si el archivo se convirtió, false si no se pudo leer el origen o escribir el destino.
+     */
+    public static boolean convertir(String origen, String destino) {
+        Campeonato campeonato;
+        try {
+            campeonato = new JsonDataManager(origen).read();
+        } catch (IOException e) {
+            System.err.println("Error al leer " + origen + ": " + e.getMessage());
+            return false;
+        }
+        return new JsonDataManager(destino).save(campeonato);
+    }
+
+    /**
+     * @return true si este gestor usa el formato binario.
+     */
+    public boolean isBinario() {
+        return filePath.endsWith(EXTENSION_BINARIA);
+    }
+
+    /**
+     * @return true si este gestor usa el formato por particiones.
+     */
+    public boolean isParticionado() {
+        return filePath.endsWith(EXTENSION_PARTICIONADA);
+    }
+
+    /**
+     * Cambia la cantidad de partidos por partición con que se guardan los campeonatos nuevos.
+     * Solo afecta al formato por particiones.
+     *
+     * @param partidosPorParticion La cantidad de partidos; debe ser positiva.
+     * @throws IllegalArgumentException Si la cantidad no es positiva.
+     */
+    public void setPartidosPorParticion(int partidosPorParticion) {
+        if (partidosPorParticion <= 0) {
+            throw new IllegalArgumentException("La cantidad de partidos por partición debe ser positiva");
+        }
+        this.partidosPorParticion = partidosPorParticion;
     }
 
     /**
      * Guarda el objeto Campeonato actual en un archivo JSON.
+     * Los errores se informan por la salida de errores; para tratarlos, usar {@link #guardar(Campeonato)}.
      *
      * @param campeonato El objeto Campeonato a guardar.
+     * @return true si los datos se guardaron, false si hubo un error.
      */
-    public void save(Campeonato campeonato) {
+    public boolean save(Campeonato campeonato) {
         try {
-            objectMapper.writeValue(new File(filePath), campeonato);
+            guardar(campeonato);
             System.out.println("Datos del campeonato guardados en: " + filePath);
+            return true;
         } catch (IOException e) {
             System.err.println("Error al guardar los datos del campeonato: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Guarda el campeonato en el archivo.
+     * Se escribe primero en un archivo temporal que luego reemplaza al original, así que una
+     * interrupción a mitad de la escritura nunca deja el archivo de datos a medias. Al volver, el
+     * archivo nuevo ya está en el disco, aunque después se corte la luz.
+     * En el formato por particiones solo se reescriben las particiones con cambios desde que se cargó
+     * o guardó por última vez con este gestor.
+     *
+     * <p>El campeonato solo se retiene ({@link Campeonato#conAccesoExclusivo}) mientras se copia lo que hay
+     * que escribir; la copia se escribe después, mientras otros hilos siguen registrando cambios. Por eso
+     * no debe invocarse desde un observador del campeonato.</p>
+     *
+     * @param campeonato El campeonato a guardar.
+     * @throws IOException Si no se pudo escribir el archivo; el archivo anterior queda intacto.
+     */
+    public void guardar(Campeonato campeonato) throws IOException {
+        guardar(campeonato, null);
+    }
+
+    /**
+     * Como {@link #guardar(Campeonato)}, ejecutando una acción con el campeonato retenido, justo después de copiarlo.
+     * @param alCopiar La acción (p. ej. marcar hasta dónde llega la copia en un diario), o null.
+     */
+    void guardar(Campeonato campeonato, Runnable alCopiar) throws IOException {
+        long inicio = METRICA_GUARDAR.iniciar();
+        boolean exito = false;
+        try {
+            escribir(campeonato, alCopiar);
+            exito = true;
+        } finally {
+            METRICA_GUARDAR.terminar(inicio, exito);
+        }
+    }
+
+    private void escribir(Campeonato campeonato, Runnable alCopiar) throws IOException {
+        synchronized (candadoGuardado) {
+            if (isParticionado()) {
+                if (almacen == null || almacen.getCampeonato() != campeonato) {
+                    almacen = AlmacenParticionado.crear(objectMapper.getFactory(), legible, Path.of(filePath),
+                            partidosPorParticion, campeonato);
+                }
+                almacen.guardar(alCopiar);
+                return;
+            }
+            Campeonato copia = campeonato.conAccesoExclusivo(() -> {
+                Campeonato copiado = CopiaCampeonato.copiar(campeonato);
+                if (alCopiar != null) {
+                    alCopiar.run();
+                }
+                return copiado;
+            });
+            Path destino = Path.of(filePath).toAbsolutePath();
+            Path temporal = destino.resolveSibling(destino.getFileName() + ".tmp");
+            if (isBinario()) {
+                codecBinario.escribir(copia, temporal.toFile());
+            } else {
+                codec.escribir(copia, temporal.toFile());
+            }
+            reemplazar(temporal, destino);
         }
     }
 
+    /**
+     * Reemplaza el destino por el archivo temporal de modo que sobreviva a un corte de luz: primero lleva
+     * el temporal al disco, luego lo renombra y por último lleva al disco el directorio con el nombre nuevo.
+     *
+     * @param temporal El archivo ya escrito y cerrado.
+     * @param destino El archivo a reemplazar, en el mismo directorio.
+     * @throws IOException Si no se pudo; el destino queda como estaba o ya reemplazado, nunca a medias.
+     */
+    static void reemplazar(Path temporal, Path destino) throws IOException {
+        sincronizar(temporal);
+        try {
+            Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+        sincronizarDirectorio(destino.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Espera a que el contenido del archivo esté en el disco.
+     * @param archivo Un archivo ya escrito y cerrado.
+     * @throws IOException Si no se pudo abrir o sincronizar.
+     */
+    static void sincronizar(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.force(true);
+        }
+    }
+
+    /**
+     * Espera a que las entradas del directorio (p. ej. un archivo recién renombrado) estén en el disco.
+     * @param directorio El directorio.
+     * @throws IOException Si no se pudo sincronizar.
+     */
+    static void sincronizarDirectorio(Path directorio) throws IOException {
+        FileChannel canal;
+        try {
+            canal = FileChannel.open(directorio, StandardOpenOption.READ);
+        } catch (IOException e) {
+            // Algunos sistemas (p. ej. Windows) no abren directorios; ahí el renombrado ya queda en el disco
+            return;
+        }
+        try (canal) {
+            canal.force(true);
+        }
+    }
+
+    /**
+     * @return La ruta del archivo de datos.
+     */
+    public String getFilePath() {
+        return filePath;
+    }
+
     /**
      * Carga los datos del Campeonato desde un archivo JSON.
      *
@@ -51,23 +272,38 @@ public class JsonDataManager {
     public Campeonato load() {
         File file = new File(filePath);
         if (file.exists()) {
+            long inicio = METRICA_CARGAR.iniciar();
+            boolean exito = false;
             try {
-                Campeonato loadedCampeonato = objectMapper.readValue(file, Campeonato.class);
+                Campeonato loadedCampeonato = read();
+                exito = true;
                 System.out.println("Datos del campeonato cargados desde: " + filePath);
-                // Jackson suele manejar bien las referencias bidireccionales y los objetos anidados
-                // si los constructores y setters son adecuados.
-                // Sin embargo, para relaciones complejas como las listas de Jugadores en Equipo
-                // y Partidos en Equipo, es crucial que Jackson pueda reconstruir el grafo de objetos.
-                // Esto generalmente funciona bien si no hay ciclos de referencia complejos que Jackson no pueda resolver.
-                // Si se encuentran problemas de deserialización (ej. NullPointerException en objetos anidados),
-                // podría ser necesario un post-procesamiento para reestablecer referencias manualmente.
                 return loadedCampeonato;
             } catch (IOException e) {
                 System.err.println("Error al cargar los datos del campeonato: " + e.getMessage() + ". Se creará un nuevo campeonato.");
+            } finally {
+                METRICA_CARGAR.terminar(inicio, exito);
             }
         } else {
             System.out.println("Archivo de datos no encontrado. Se creará un nuevo campeonato.");
         }
         return new Campeonato(); // Retorna un nuevo campeonato si no se puede cargar o el archivo no existe
     }
+
+    private Campeonato read() throws IOException {
+        File file = new File(filePath);
+        if (isParticionado()) {
+            almacen = AlmacenParticionado.abrir(objectMapper.getFactory(), legible, file.toPath(), partidosPorParticion);
+            return almacen.getCampeonato();
+        }
+        if (isBinario()) {
+            return codecBinario.leer(file);
+        }
+        Campeonato campeonato = codec.leer(file);
+        if (campeonato == null) {
+            // Formato anidado anterior: Jackson reconstruye el grafo a partir de los @JsonIdentityInfo
+            campeonato = objectMapper.readValue(file, Campeonato.class);
+        }
+        return campeonato;
+    }
 }
@@ -0,0 +1,408 @@
+// Archivo: util/ServidorCampeonato.java
+package util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import model.Campeonato;
+import model.Equipo;
+import model.Falta;
+import model.Gol;
+import model.Jugador;
+import model.Partido;
+import model.Tarjeta;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor HTTP de solo lectura que publica el campeonato en JSON, sin interfaz gráfica.
+ *
+ * <p>Rutas (todas GET):</p>
+ * <ul>
+ *     <li>{@code /tabla} la tabla de posiciones ({@link Campeonato#getTablaDePosiciones()})</li>
+ *     <li>{@code /equipos/{id}} los datos y estadísticas de un equipo</li>
+ *     <li>{@code /jugadores} la tabla de jugadores ({@link Campeonato#getTablaJugadores()})</li>
+ *     <li>{@code /jugadores/{id}} las estadísticas de un jugador</li>
+ *     <li>{@code /partidos/{id}} un partido con sus eventos</li>
+ * </ul>
+ *
+ * <p>Cada respuesta se serializa una sola vez por versión del campeonato ({@link Campeonato#getModificaciones()})
+ * y se guarda; mientras no se registre ningún cambio las peticiones siguientes reciben los mismos bytes.
+ * La versión y el cuerpo se leen con {@link Campeonato#conAccesoExclusivo}, así que todo lo que incluye
+ * una respuesta es de la versión de su ETag.
+ * La respuesta lleva un {@code ETag} con la versión, y una petición con {@code If-None-Match} igual
+ * recibe un 304 sin cuerpo, así que los clientes que consultan periódicamente casi no cuestan nada
+ * entre un evento y el siguiente.</p>
+ *
+ * <p>Cada petición se atiende en un hilo virtual si la JVM los ofrece (Java 21 o posterior);
+ * si no, en un grupo de hilos que crece según la demanda.</p>
+ */
+public class ServidorCampeonato implements AutoCloseable {
+
+    /**
+     * Puerto si no se indica otro.
+     */
+    public static final int PUERTO_POR_DEFECTO = 8080;
+
+    /**
+     * Respuestas guardadas como máximo; al superarse se descartan todas.
+     */
+    static final int MAXIMO_RESPUESTAS_GUARDADAS = 10_000;
+
+    private static final JsonFactory FABRICA = new JsonFactory();
+    private static final String[] COLUMNAS_TABLA = {"nombre", "puntos", "ganados", "empatados", "perdidos",
+            "golesAFavor", "golesEnContra", "tarjetas", "faltas"};
+    private static final String[] COLUMNAS_JUGADORES = {"id", "nombre", "equipo", "goles", "tarjetas", "faltas",
+            "partidosJugados"};
+
+    /**
+     * Una respuesta ya serializada para una versión del campeonato.
+     */
+    private static final class Respuesta {
+        final long version;
+        final int estado;
+        final String etag;
+        final byte[] cuerpo;
+
+        Respuesta(long version, int estado, String etag, byte[] cuerpo) {
+            this.version = version;
+            this.estado = estado;
+            this.etag = etag;
+            this.cuerpo = cuerpo;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Escritura {
+        /**
+         * Escribe el cuerpo JSON de la respuesta.
+         * @return false si el recurso no existe.
+         */
+        boolean escribir(JsonGenerator gen) throws IOException;
+    }
+
+    private final Campeonato campeonato;
+    private final HttpServer servidor;
+    private final ExecutorService hilos;
+    private final Map<String, Respuesta> respuestas = new ConcurrentHashMap<>();
+    // Distingue las versiones de un arranque a otro, por si se sirve un campeonato distinto con la misma versión
+    private final String arranque = Long.toHexString(System.currentTimeMillis());
+
+    /**
+     * Crea el servidor; empieza a atender con {@link #iniciar()}.
+     *
+     * @param campeonato El campeonato a publicar.
+     * @param puerto El puerto; 0 para uno libre cualquiera (ver {@link #getPuerto()}).
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    public ServidorCampeonato(Campeonato campeonato, int puerto) throws IOException {
+        this.campeonato = campeonato;
+        this.servidor = HttpServer.create(new InetSocketAddress(puerto), 0);
+        this.hilos = crearHilos();
+        this.servidor.setExecutor(hilos);
+        this.servidor.createContext("/", this::atender);
+    }
+
+    /**
+     * Empieza a atender peticiones.
+     */
+    public void iniciar() {
+        servidor.start();
+    }
+
+    /**
+     * @return El puerto en el que escucha el servidor.
+     */
+    public int getPuerto() {
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * Deja de atender peticiones, esperando como mucho un segundo a las que están en curso.
+     */
+    @Override
+    public void close() {
+        servidor.stop(1);
+        hilos.shutdown();
+        try {
+            hilos.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Publica un archivo de campeonato.
+     * Uso: {@code ServidorCampeonato [puerto] [datos]}; por defecto el puerto {@link #PUERTO_POR_DEFECTO} y
+     * el archivo de la aplicación. Los cambios pendientes del diario del archivo se recuperan al arrancar.
+     */
+    public static void main(String[] args) throws IOException {
+        int puerto = args.length > 0 ? Integer.parseInt(args[0]) : PUERTO_POR_DEFECTO;
+        String datos = args.length > 1 ? args[1] : "campeonato_data.json";
+        DiarioCampeonato diario = DiarioCampeonato.abrir(new JsonDataManager(datos, false));
+        ServidorCampeonato servidor = new ServidorCampeonato(diario.getCampeonato(), puerto);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servidor.close();
+            diario.close();
+        }));
+        servidor.iniciar();
+        System.out.println("Campeonato publicado en http://localhost:" + servidor.getPuerto() + "/tabla");
+    }
+
+    /**
+     * Un hilo virtual por petición si la JVM los ofrece; se busca por reflexión para seguir compilando
+     * con Java 17.
+     */
+    private static ExecutorService crearHilos() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger contador = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread hilo = new Thread(r, "servidor-campeonato-" + contador.incrementAndGet());
+                hilo.setDaemon(true);
+                return hilo;
+            });
+        }
+    }
+
+    private void atender(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            String metodo = intercambio.getRequestMethod();
+            if (!"GET".equals(metodo) && !"HEAD".equals(metodo)) {
+                intercambio.getResponseHeaders().set("Allow", "GET, HEAD");
+                intercambio.sendResponseHeaders(405, -1);
+                return;
+            }
+            Respuesta respuesta = respuesta(intercambio.getRequestURI().getRawPath());
+            intercambio.getResponseHeaders().set("Cache-Control", "no-cache");
+            if (respuesta.etag != null) {
+                intercambio.getResponseHeaders().set("ETag", respuesta.etag);
+                String pedida = intercambio.getRequestHeaders().getFirst("If-None-Match");
+                if (pedida != null && (pedida.equals(respuesta.etag) || pedida.equals("*"))) {
+                    intercambio.sendResponseHeaders(304, -1);
+                    return;
+                }
+            }
+            intercambio.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            if ("HEAD".equals(metodo)) {
+                intercambio.sendResponseHeaders(respuesta.estado, -1);
+                return;
+            }
+            intercambio.sendResponseHeaders(respuesta.estado, respuesta.cuerpo.length);
+            try (OutputStream cuerpo = intercambio.getResponseBody()) {
+                cuerpo.write(respuesta.cuerpo);
+            }
+        }
+    }
+
+    /**
+     * Devuelve la respuesta guardada para la ruta si es de la versión actual; si no, la serializa y la guarda.
+     * Se serializa sin que nadie registre cambios, con la versión leída en ese mismo momento: un cuerpo
+     * armado con varias consultas no mezcla datos de versiones distintas bajo un mismo ETag.
+     */
+    private Respuesta respuesta(String ruta) {
+        Respuesta guardada = respuestas.get(ruta);
+        if (guardada != null && guardada.version == campeonato.getModificaciones()) {
+            return guardada;
+        }
+        Respuesta nueva = campeonato.conAccesoExclusivo(() -> serializar(ruta, campeonato.getModificaciones()));
+        if (nueva.estado == 200) {
+            if (respuestas.size() >= MAXIMO_RESPUESTAS_GUARDADAS) {
+                respuestas.clear();
+            }
+            respuestas.put(ruta, nueva);
+        }
+        return nueva;
+    }
+
+    private Respuesta serializar(String ruta, long version) {
+        String[] partes = ruta.replaceAll("^/+|/+$", "").split("/");
+        String recurso = partes[0];
+        String id = partes.length == 2 ? URLDecoder.decode(partes[1], StandardCharsets.UTF_8) : null;
+        Escritura escritura = null;
+        if (partes.length == 1) {
+            if ("tabla".equals(recurso)) {
+                escritura = gen -> escribirFilas(gen, campeonato.getTablaDePosiciones(), COLUMNAS_TABLA);
+            } else if ("jugadores".equals(recurso)) {
+                escritura = gen -> escribirFilas(gen, campeonato.getTablaJugadores(), COLUMNAS_JUGADORES);
+            }
+        } else if (id != null) {
+            if ("equipos".equals(recurso)) {
+                escritura = gen -> escribirEquipo(gen, id);
+            } else if ("jugadores".equals(recurso)) {
+                escritura = gen -> escribirJugador(gen, id);
+            } else if ("partidos".equals(recurso)) {
+                escritura = gen -> escribirPartido(gen, id);
+            }
+        }
+        if (escritura == null) {
+            return error(404, "Ruta desconocida: " + ruta);
+        }
+        byte[] cuerpo = json(escritura);
+        if (cuerpo == null) {
+            return error(404, "No existe: " + ruta);
+        }
+        return new Respuesta(version, 200, "\"" + arranque + "-" + version + "\"", cuerpo);
+    }
+
+    private static Respuesta error(int estado, String mensaje) {
+        byte[] cuerpo = json(gen -> {
+            gen.writeStartObject();
+            gen.writeStringField("error", mensaje);
+            gen.writeEndObject();
+            return true;
+        });
+        return new Respuesta(-1, estado, null, cuerpo);
+    }
+
+    /**
+     * @return El JSON escrito, o null si el recurso no existe.
+     */
+    private static byte[] json(Escritura escritura) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (JsonGenerator gen = FABRICA.createGenerator(bytes, JsonEncoding.UTF8)) {
+            if (!escritura.escribir(gen)) {
+                return null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static boolean escribirFilas(JsonGenerator gen, List<Object[]> filas, String[] columnas) throws IOException {
+        gen.writeStartArray();
+        for (Object[] fila : filas) {
+            gen.writeStartObject();
+            for (int i = 0; i < columnas.length && i < fila.length; i++) {
+                escribirValor(gen, columnas[i], fila[i]);
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        return true;
+    }
+
+    private static void escribirValor(JsonGenerator gen, String campo, Object valor) throws IOException {
+        if (valor instanceof Integer) {
+            gen.writeNumberField(campo, (Integer) valor);
+        } else {
+            gen.writeStringField(campo, valor != null ? valor.toString() : null);
+        }
+    }
+
+    private boolean escribirEquipo(JsonGenerator gen, String id) throws IOException {
+        Equipo equipo = campeonato.buscarEquipoPorId(id);
+        Object[] estadisticas = campeonato.getEstadisticasEquipo(id);
+        if (equipo == null || estadisticas == null) {
+            return false;
+        }
+        gen.writeStartObject();
+        gen.writeStringField("id", equipo.getId());
+        gen.writeStringField("barrio", equipo.getBarrio());
+        gen.writeStringField("entrenador", equipo.getNombreEntrenador());
+        for (int i = 0; i < COLUMNAS_TABLA.length && i < estadisticas.length; i++) {
+            escribirValor(gen, COLUMNAS_TABLA[i], estadisticas[i]);
+        }
+        gen.writeArrayFieldStart("jugadores");
+        for (Jugador jugador : equipo.getJugadores()) {
+            gen.writeStartObject();
+            gen.writeStringField("id", jugador.getId());
+            gen.writeStringField("nombre", jugador.getNombreCompleto());
+            gen.writeStringField("posicion", jugador.getPosicion());
+            gen.writeNumberField("camiseta", jugador.getNumeroCamiseta());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+        return true;
+    }
+
+    private boolean escribirJugador(JsonGenerator gen, String id) throws IOException {
+        Object[] estadisticas = campeonato.getEstadisticasJugador(id);
+        if (estadisticas == null) {
+            return false;
+        }
+        gen.writeStartObject();
+        for (int i = 0; i < COLUMNAS_JUGADORES.length && i < estadisticas.length; i++) {
+            escribirValor(gen, COLUMNAS_JUGADORES[i], estadisticas[i]);
+        }
+        gen.writeEndObject();
+        return true;
+    }
+
+    private boolean escribirPartido(JsonGenerator gen, String id) throws IOException {
+        Partido partido = campeonato.buscarPartidoPorId(id);
+        if (partido == null) {
+            return false;
+        }
+        // Con el monitor del partido, el marcador y los eventos se leen de un mismo momento
+        synchronized (partido) {
+            Equipo ganador = partido.calcularGanador();
+            gen.writeStartObject();
+            gen.writeStringField("id", partido.getId());
+            gen.writeStringField("local", nombreDe(partido.getEquipoLocal()));
+            gen.writeStringField("visitante", nombreDe(partido.getEquipoVisitante()));
+            gen.writeStringField("estadio", partido.getEstadio());
+            gen.writeStringField("arbitro", partido.getArbitro());
+            gen.writeNumberField("golesLocal", partido.getGolesLocal());
+            gen.writeNumberField("golesVisitante", partido.getGolesVisitante());
+            gen.writeStringField("ganador", ganador != null ? ganador.getNombre() : "Empate");
+            gen.writeArrayFieldStart("goles");
+            for (Gol gol : partido.getGoles()) {
+                gen.writeStartObject();
+                gen.writeStringField("jugador", idDe(gol.getJugador()));
+                gen.writeNumberField("minuto", gol.getMinuto());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeArrayFieldStart("tarjetas");
+            for (Tarjeta tarjeta : partido.getTarjetas()) {
+                gen.writeStartObject();
+                gen.writeStringField("jugador", idDe(tarjeta.getJugador()));
+                gen.writeStringField("tipo", tarjeta.getTipo());
+                gen.writeNumberField("minuto", tarjeta.getMinuto());
+                gen.writeStringField("motivo", tarjeta.getMotivo());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeArrayFieldStart("faltas");
+            for (Falta falta : partido.getFaltas()) {
+                gen.writeStartObject();
+                gen.writeStringField("jugador", idDe(falta.getJugadorQueCometio()));
+                gen.writeStringField("afectado", idDe(falta.getJugadorAfectado()));
+                gen.writeNumberField("minuto", falta.getMinuto());
+                gen.writeStringField("zona", falta.getZonaCampo());
+                gen.writeStringField("tarjeta", falta.getTarjetaAsociada());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        return true;
+    }
+
+    private static String nombreDe(Equipo equipo) {
+        return equipo != null ? equipo.getNombre() : null;
+    }
+
+    private static String idDe(Jugador jugador) {
+        return jugador != null ? jugador.getId() : null;
+    }
+}
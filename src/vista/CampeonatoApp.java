@@ -2,6 +2,8 @@
 package vista;
 
 import model.*; // Import all model classes
+import util.DiarioCampeonato;
+import util.GuardadoAutomatico;
 import util.JsonDataManager; // Import JsonDataManager
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -9,7 +11,9 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.WindowAdapter; // For saving on close
 import java.awt.event.WindowEvent; // For saving on close
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -17,25 +21,37 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class CampeonatoApp extends JFrame {
     private Campeonato campeonato;
     private JsonDataManager dataManager; // Instancia del gestor de datos
+    private DiarioCampeonato diario; // Registra cada cambio; null si no se pudo abrir
+    private GuardadoAutomatico guardadoAutomatico; // Guarda en segundo plano los cambios acumulados
+    private JLabel estadoLabel; // Área de estado: resultado del último guardado
+
+    // Un guardado como máximo cada tantos segundos, o antes si se acumulan tantos cambios
+    private static final int SEGUNDOS_ENTRE_GUARDADOS = 10;
+    private static final int CAMBIOS_POR_GUARDADO = 200;
 
     // --- Componentes del Panel de Equipos ---
-    private DefaultTableModel equipoTableModel;
+    private ModeloTablaEquipos equipoTableModel;
     private JTable equipoTable;
     private JTextField equipoIdField, equipoNombreField, equipoBarrioField, equipoEntrenadorField;
 
     // --- Componentes del Panel de Jugadores ---
-    private DefaultTableModel jugadorTableModel;
+    private ModeloTablaJugadores jugadorTableModel;
     private JTable jugadorTable;
     private JTextField jugadorIdField, jugadorNombreCompletoField, jugadorPosicionField, jugadorNumeroCamisetaField;
     private JComboBox<Equipo> jugadorEquipoComboBox;
 
     // --- Componentes del Panel de Partidos ---
-    private DefaultTableModel partidoTableModel;
+    private ModeloTablaPartidos partidoTableModel;
     private JTable partidoTable;
     private JTextField partidoIdField, partidoEstadioField, partidoArbitroField, partidoFechaHoraField;
     private JComboBox<Equipo> partidoEquipoLocalComboBox, partidoEquipoVisitanteComboBox;
@@ -48,6 +64,22 @@ public class CampeonatoApp extends JFrame {
             golesAFavorLabel, golesEnContraLabel, puntosLabel, totalTarjetasLabel, totalFaltasLabel;
     private JComboBox<Jugador> estadisticasJugadorComboBox;
     private JLabel golesJugadorLabel, tarjetasJugadorLabel, faltasJugadorLabel, partidosJugadosJugadorLabel;
+    // Modificaciones del campeonato que ya muestra el panel de estadísticas; -1 si todavía no muestra nada
+    private long estadisticasMostradas = -1;
+    private JProgressBar progresoEstadisticas;
+
+    // Los cálculos del panel de estadísticas se hacen fuera del hilo de Swing, de a uno y en orden.
+    // Cada pedido nuevo cancela al anterior del mismo tipo, cuyo resultado ya no se muestra.
+    private final ExecutorService calculosEstadisticas = Executors.newSingleThreadExecutor(r -> {
+        Thread hilo = new Thread(r, "estadisticas");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+    private SwingWorker<?, ?> calculoTabla, calculoEquipo, calculoJugador, calculoListaJugadores;
+    private int calculosEnCurso;
+    // El progreso solo se muestra si un cálculo tarda más que esto
+    private static final int MILISEGUNDOS_ANTES_DE_PROGRESO = 200;
+    private final Timer mostrarProgreso = new Timer(MILISEGUNDOS_ANTES_DE_PROGRESO, e -> progresoEstadisticas.setVisible(true));
 
 
     public CampeonatoApp() {
@@ -55,7 +87,32 @@ public class CampeonatoApp extends JFrame {
 
         // Inicializar el gestor de datos y cargar el campeonato
         dataManager = new JsonDataManager("campeonato_data.json");
-        campeonato = dataManager.load();
+        estadoLabel = new JLabel(" ");
+        estadoLabel.setBorder(BorderFactory.createEmptyBorder(2, 10, 2, 10));
+        GuardadoAutomatico.Informe informe = new GuardadoAutomatico.Informe() {
+            @Override
+            public void guardado(long version, long milisegundos) {
+                mostrarEstado("Guardado (versión " + version + ") en " + milisegundos + " ms a las "
+                        + LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss")), false);
+            }
+
+            @Override
+            public void falloAlGuardar(IOException error) {
+                mostrarEstado("Error al guardar: " + error.getMessage() + ". Se reintentará.", true);
+            }
+        };
+        try {
+            // Sin instantáneas automáticas del diario: las toma el guardado automático
+            diario = DiarioCampeonato.abrir(dataManager, 0);
+            campeonato = diario.getCampeonato();
+            diario.alFallar(error -> mostrarEstado("Error al escribir el diario: " + error.getMessage()
+                    + ". Se guardará el campeonato completo.", true));
+            guardadoAutomatico = new GuardadoAutomatico(diario, SEGUNDOS_ENTRE_GUARDADOS, CAMBIOS_POR_GUARDADO, informe);
+        } catch (IOException e) {
+            campeonato = dataManager.load();
+            guardadoAutomatico = new GuardadoAutomatico(campeonato, dataManager, SEGUNDOS_ENTRE_GUARDADOS, CAMBIOS_POR_GUARDADO, informe);
+            mostrarEstado("No se pudo abrir el diario: " + e.getMessage() + ". Solo se guardará periódicamente.", true);
+        }
 
         setSize(1000, 700);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -65,7 +122,12 @@ public class CampeonatoApp extends JFrame {
         addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosing(WindowEvent e) {
-                dataManager.save(campeonato);
+                calculosEstadisticas.shutdownNow();
+                // Solo quedan por guardar los cambios pendientes
+                guardadoAutomatico.close();
+                if (diario != null) {
+                    diario.close();
+                }
                 super.windowClosing(e);
             }
         });
@@ -79,18 +141,24 @@ public class CampeonatoApp extends JFrame {
         tabbedPane.addTab("Estadísticas", createEstadisticasPanel());
 
         add(tabbedPane);
+        add(estadoLabel, BorderLayout.SOUTH);
 
         // Actualizaciones iniciales para todas las tablas/comboboxes
-        updateEquipoTable();
+        // (las tablas de equipos, jugadores y partidos se actualizan solas con cada cambio)
         updateJugadorEquipoComboBox(); // Para el Panel de Jugadores
-        updateJugadorTable();
         updatePartidoEquipoComboBoxes(); // Para el Panel de Partidos
-        updatePartidoTable();
         updateAllStats(); // Para el Panel de Estadísticas
 
         setVisible(true);
     }
 
+    private void mostrarEstado(String mensaje, boolean esError) {
+        SwingUtilities.invokeLater(() -> {
+            estadoLabel.setForeground(esError ? Color.RED : Color.DARK_GRAY);
+            estadoLabel.setText(mensaje);
+        });
+    }
+
     // --- Creación y Lógica del Panel de Equipos ---
     private JPanel createEquipoPanel() {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
@@ -120,8 +188,7 @@ public class CampeonatoApp extends JFrame {
 
         panel.add(formPanel, BorderLayout.NORTH);
 
-        String[] columnNames = {"ID", "Nombre", "Barrio", "Entrenador"};
-        equipoTableModel = new DefaultTableModel(columnNames, 0);
+        equipoTableModel = new ModeloTablaEquipos(campeonato);
         equipoTable = new JTable(equipoTableModel);
         equipoTable.setFillsViewportHeight(true);
         JScrollPane scrollPane = new JScrollPane(equipoTable);
@@ -142,15 +209,15 @@ public class CampeonatoApp extends JFrame {
         }
 
         try {
-            Equipo nuevoEquipo = new Equipo(id, nombre, barrio, entrenador);
-            campeonato.registrarEquipo(id, nombre, barrio, entrenador);
+            if (!campeonato.registrarEquipo(id, nombre, barrio, entrenador)) {
+                JOptionPane.showMessageDialog(this, "Ya existe un equipo con el ID " + id + " o el nombre " + nombre + ".", "Error de Registro", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
             JOptionPane.showMessageDialog(this, "Equipo registrado exitosamente.", "Éxito", JOptionPane.INFORMATION_MESSAGE);
             clearEquipoFields();
-            updateEquipoTable();
             updateJugadorEquipoComboBox(); // Actualizar el ComboBox de equipos en el panel de jugadores
             updatePartidoEquipoComboBoxes(); // Actualizar los ComboBoxes de equipos en el panel de partidos
             updateAllStats(); // Actualizar todas las estadísticas ya que la lista de equipos ha cambiado
-            dataManager.save(campeonato); // Guardar cambios
         } catch (IllegalArgumentException ex) {
             JOptionPane.showMessageDialog(this, ex.getMessage(), "Error de Registro", JOptionPane.ERROR_MESSAGE);
         }
@@ -163,13 +230,6 @@ public class CampeonatoApp extends JFrame {
         equipoEntrenadorField.setText("");
     }
 
-    private void updateEquipoTable() {
-        equipoTableModel.setRowCount(0); // Limpiar la tabla
-        for (Equipo equipo : campeonato.getEquipos()) {
-            equipoTableModel.addRow(new Object[]{equipo.getId(), equipo.getNombre(), equipo.getBarrio(), equipo.getNombreEntrenador()});
-        }
-    }
-
     // --- Creación y Lógica del Panel de Jugadores ---
     private JPanel createJugadorPanel() {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
@@ -202,8 +262,7 @@ public class CampeonatoApp extends JFrame {
 
         panel.add(formPanel, BorderLayout.NORTH);
 
-        String[] columnNames = {"ID", "Nombre Completo", "Posición", "Número Camiseta", "Equipo"};
-        jugadorTableModel = new DefaultTableModel(columnNames, 0);
+        jugadorTableModel = new ModeloTablaJugadores(campeonato);
         jugadorTable = new JTable(jugadorTableModel);
         jugadorTable.setFillsViewportHeight(true);
         JScrollPane scrollPane = new JScrollPane(jugadorTable);
@@ -226,21 +285,13 @@ public class CampeonatoApp extends JFrame {
 
         try {
             int numeroCamiseta = Integer.parseInt(numeroCamisetaStr);
-            Jugador nuevoJugador = new Jugador(id, nombreCompleto, posicion, numeroCamiseta, equipoSeleccionado);
-
-            // Verificar si el jugador ya existe por ID en el equipo seleccionado
-            boolean jugadorExiste = equipoSeleccionado.getJugadores().stream().anyMatch(j -> j.getId().equals(id));
-            if (jugadorExiste) {
-                JOptionPane.showMessageDialog(this, "Ya existe un jugador con el ID " + id + " en este equipo.", "Error de Registro", JOptionPane.ERROR_MESSAGE);
+            if (!campeonato.registrarJugador(equipoSeleccionado.getId(), id, nombreCompleto, posicion, numeroCamiseta)) {
+                JOptionPane.showMessageDialog(this, "Ya existe un jugador con el ID " + id + ".", "Error de Registro", JOptionPane.ERROR_MESSAGE);
                 return;
             }
-
-            equipoSeleccionado.getJugadores().add(nuevoJugador);
             JOptionPane.showMessageDialog(this, "Jugador registrado exitosamente.", "Éxito", JOptionPane.INFORMATION_MESSAGE);
             clearJugadorFields();
-            updateJugadorTable();
             updateAllStats(); // Actualizar todas las estadísticas ya que la lista de jugadores ha cambiado
-            dataManager.save(campeonato); // Guardar cambios
         } catch (NumberFormatException ex) {
             JOptionPane.showMessageDialog(this, "El número de camiseta debe ser un número válido.", "Error de Formato", JOptionPane.ERROR_MESSAGE);
         } catch (Exception ex) {
@@ -258,20 +309,11 @@ public class CampeonatoApp extends JFrame {
 
     private void updateJugadorEquipoComboBox() {
         jugadorEquipoComboBox.removeAllItems();
-        for (Equipo equipo : campeonato.getEquipos()) {
+        for (Equipo equipo : copiarEquipos()) {
             jugadorEquipoComboBox.addItem(equipo);
         }
     }
 
-    private void updateJugadorTable() {
-        jugadorTableModel.setRowCount(0); // Limpiar la tabla
-        for (Equipo equipo : campeonato.getEquipos()) {
-            for (Jugador jugador : equipo.getJugadores()) {
-                jugadorTableModel.addRow(new Object[]{jugador.getId(), jugador.getNombreCompleto(), jugador.getPosicion(), jugador.getNumeroCamiseta(), jugador.getEquipo().getNombre()});
-            }
-        }
-    }
-
     // --- Creación y Lógica del Panel de Partidos ---
     private JPanel createPartidoPanel() {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
@@ -307,8 +349,7 @@ public class CampeonatoApp extends JFrame {
 
         panel.add(formPanel, BorderLayout.NORTH);
 
-        String[] columnNames = {"ID", "Local", "Visitante", "Estadio", "Goles Local", "Goles Visitante", "Fecha/Hora"};
-        partidoTableModel = new DefaultTableModel(columnNames, 0);
+        partidoTableModel = new ModeloTablaPartidos(campeonato);
         partidoTable = new JTable(partidoTableModel);
         partidoTable.setFillsViewportHeight(true);
         JScrollPane scrollPane = new JScrollPane(partidoTable);
@@ -358,9 +399,7 @@ public class CampeonatoApp extends JFrame {
             campeonato.crearPartido(id, equipoLocal.getId(), equipoVisitante.getId(), estadio, arbitro);
             JOptionPane.showMessageDialog(this, "Partido creado exitosamente.", "Éxito", JOptionPane.INFORMATION_MESSAGE);
             clearPartidoFields();
-            updatePartidoTable();
             updateAllStats(); // Actualizar todas las estadísticas ya que la lista de partidos ha cambiado
-            dataManager.save(campeonato); // Guardar cambios
         } catch (DateTimeParseException ex) {
             JOptionPane.showMessageDialog(this, "Formato de fecha y hora inválido. UsebeginPath-MM-dd HH:mm", "Error de Formato", JOptionPane.ERROR_MESSAGE);
         } catch (IllegalArgumentException ex) {
@@ -380,24 +419,34 @@ public class CampeonatoApp extends JFrame {
     private void updatePartidoEquipoComboBoxes() {
         partidoEquipoLocalComboBox.removeAllItems();
         partidoEquipoVisitanteComboBox.removeAllItems();
-        for (Equipo equipo : campeonato.getEquipos()) {
+        for (Equipo equipo : copiarEquipos()) {
             partidoEquipoLocalComboBox.addItem(equipo);
             partidoEquipoVisitanteComboBox.addItem(equipo);
         }
     }
 
-    private void updatePartidoTable() {
-        partidoTableModel.setRowCount(0); // Limpiar la tabla
-        for (Partido partido : campeonato.getPartidos()) {
-            partidoTableModel.addRow(new Object[]{
-                    partido.getId(),
-                    partido.getEquipoLocal() != null ? partido.getEquipoLocal().getNombre() : "N/A",
-                    partido.getEquipoVisitante() != null ? partido.getEquipoVisitante().getNombre() : "N/A",
-                    partido.getEstadio(),
-                    partido.getGolesLocal(),
-                    partido.getGolesVisitante(),
-            });
-        }
+    /**
+     * Copia la lista de equipos con acceso exclusivo, para no recorrerla mientras otro hilo registra uno.
+     */
+    private List<Equipo> copiarEquipos() {
+        return campeonato.conAccesoExclusivo(() -> new ArrayList<>(campeonato.getEquipos()));
+    }
+
+    /**
+     * Copia las plantillas de los dos equipos del partido con acceso exclusivo, como
+     * {@link ModeloTablaJugadores}, para no leer las listas mientras otro hilo registra un jugador.
+     */
+    private List<Jugador> copiarJugadoresDe(Partido partido) {
+        return campeonato.conAccesoExclusivo(() -> {
+            List<Jugador> jugadores = new ArrayList<>();
+            if (partido.getEquipoLocal() != null) {
+                jugadores.addAll(partido.getEquipoLocal().getJugadores());
+            }
+            if (partido.getEquipoVisitante() != null) {
+                jugadores.addAll(partido.getEquipoVisitante().getJugadores());
+            }
+            return jugadores;
+        });
     }
 
     private Partido getSelectedPartido() {
@@ -406,11 +455,7 @@ public class CampeonatoApp extends JFrame {
             JOptionPane.showMessageDialog(this, "Por favor, seleccione un partido de la tabla.", "Ningún Partido Seleccionado", JOptionPane.WARNING_MESSAGE);
             return null;
         }
-        String partidoId = (String) partidoTableModel.getValueAt(selectedRow, 0);
-        return campeonato.getPartidos().stream()
-                .filter(p -> p.getId().equals(partidoId))
-                .findFirst()
-                .orElse(null);
+        return partidoTableModel.partidoEn(selectedRow);
     }
 
     private void openRegistrarGolDialog() {
@@ -418,14 +463,7 @@ public class CampeonatoApp extends JFrame {
         if (selectedPartido == null) return;
 
         // Obtener todos los jugadores de ambos equipos del partido
-        List<Jugador> jugadoresEnPartido = new ArrayList<>();
-        if (selectedPartido.getEquipoLocal() != null) {
-            jugadoresEnPartido.addAll(selectedPartido.getEquipoLocal().getJugadores());
-        }
-        if (selectedPartido.getEquipoVisitante() != null) {
-            jugadoresEnPartido.addAll(selectedPartido.getEquipoVisitante().getJugadores());
-        }
-
+        List<Jugador> jugadoresEnPartido = copiarJugadoresDe(selectedPartido);
 
         if (jugadoresEnPartido.isEmpty()) {
             JOptionPane.showMessageDialog(this, "No hay jugadores registrados para este partido.", "Error", JOptionPane.ERROR_MESSAGE);
@@ -456,9 +494,7 @@ public class CampeonatoApp extends JFrame {
 
                 campeonato.registrarGol(selectedPartido.getId(), jugador.getId(), minuto);
                 JOptionPane.showMessageDialog(this, "Gol registrado exitosamente.", "Éxito", JOptionPane.INFORMATION_MESSAGE);
-                updatePartidoTable();
                 updateAllStats(); // Notificar cambio en estadísticas
-                dataManager.save(campeonato); // Guardar cambios
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "El minuto debe ser un número válido.", "Error de Formato", JOptionPane.ERROR_MESSAGE);
             } catch (IllegalArgumentException ex) {
@@ -471,13 +507,7 @@ public class CampeonatoApp extends JFrame {
         Partido selectedPartido = getSelectedPartido();
         if (selectedPartido == null) return;
 
-        List<Jugador> jugadoresEnPartido = new ArrayList<>();
-        if (selectedPartido.getEquipoLocal() != null) {
-            jugadoresEnPartido.addAll(selectedPartido.getEquipoLocal().getJugadores());
-        }
-        if (selectedPartido.getEquipoVisitante() != null) {
-            jugadoresEnPartido.addAll(selectedPartido.getEquipoVisitante().getJugadores());
-        }
+        List<Jugador> jugadoresEnPartido = copiarJugadoresDe(selectedPartido);
 
         if (jugadoresEnPartido.isEmpty()) {
             JOptionPane.showMessageDialog(this, "No hay jugadores registrados para este partido.", "Error", JOptionPane.ERROR_MESSAGE);
@@ -517,9 +547,7 @@ public class CampeonatoApp extends JFrame {
 
                 campeonato.registrarTarjeta(selectedPartido.getId(), jugador.getId(), tipo, minuto, motivo);
                 JOptionPane.showMessageDialog(this, "Tarjeta registrada exitosamente.", "Éxito", JOptionPane.INFORMATION_MESSAGE);
-                updatePartidoTable();
                 updateAllStats(); // Notificar cambio en estadísticas
-                dataManager.save(campeonato); // Guardar cambios
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "El minuto debe ser un número válido.", "Error de Formato", JOptionPane.ERROR_MESSAGE);
             } catch (IllegalArgumentException ex) {
@@ -532,13 +560,7 @@ public class CampeonatoApp extends JFrame {
         Partido selectedPartido = getSelectedPartido();
         if (selectedPartido == null) return;
 
-        List<Jugador> jugadoresEnPartido = new ArrayList<>();
-        if (selectedPartido.getEquipoLocal() != null) {
-            jugadoresEnPartido.addAll(selectedPartido.getEquipoLocal().getJugadores());
-        }
-        if (selectedPartido.getEquipoVisitante() != null) {
-            jugadoresEnPartido.addAll(selectedPartido.getEquipoVisitante().getJugadores());
-        }
+        List<Jugador> jugadoresEnPartido = copiarJugadoresDe(selectedPartido);
 
         if (jugadoresEnPartido.isEmpty()) {
             JOptionPane.showMessageDialog(this, "No hay jugadores registrados para este partido.", "Error", JOptionPane.ERROR_MESSAGE);
@@ -586,9 +608,7 @@ public class CampeonatoApp extends JFrame {
 
                 campeonato.registrarFalta(selectedPartido.getId(), jugadorComete.getId(), jugadorAfectado.getId(), minuto, zonaCampo, tarjetaAsociada);
                 JOptionPane.showMessageDialog(this, "Falta registrada exitosamente.", "Éxito", JOptionPane.INFORMATION_MESSAGE);
-                updatePartidoTable();
                 updateAllStats(); // Notificar cambio en estadísticas
-                dataManager.save(campeonato); // Guardar cambios
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "El minuto debe ser un número válido.", "Error de Formato", JOptionPane.ERROR_MESSAGE);
             } catch (IllegalArgumentException ex) {
@@ -694,54 +714,125 @@ public class CampeonatoApp extends JFrame {
 
         panel.add(statsTabbedPane, BorderLayout.CENTER);
 
+        progresoEstadisticas = new JProgressBar();
+        progresoEstadisticas.setIndeterminate(true);
+        progresoEstadisticas.setString("Calculando estadísticas...");
+        progresoEstadisticas.setStringPainted(true);
+        progresoEstadisticas.setVisible(false);
+        mostrarProgreso.setRepeats(false);
+        panel.add(progresoEstadisticas, BorderLayout.SOUTH);
+
         return panel;
     }
 
+    /**
+     * Ejecuta un cálculo en el hilo de estadísticas y muestra su resultado en el hilo de Swing.
+     *
+     * @param anterior El cálculo anterior del mismo tipo, que se cancela; puede ser null.
+     * @param calculo El cálculo; no debe tocar componentes de Swing.
+     * @param mostrar Muestra el resultado; solo se invoca si el cálculo no se canceló.
+     * @return El cálculo en curso, para cancelarlo si llega otro pedido.
+     */
+    private <T> SwingWorker<T, Void> calcular(SwingWorker<?, ?> anterior, Callable<T> calculo, Consumer<T> mostrar) {
+        if (anterior != null) {
+            anterior.cancel(true);
+        }
+        SwingWorker<T, Void> worker = new SwingWorker<>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return calculo.call();
+            }
+
+            @Override
+            protected void done() {
+                // También se invoca al cancelarlo, aunque todavía no hubiera empezado
+                if (--calculosEnCurso == 0) {
+                    mostrarProgreso.stop();
+                    progresoEstadisticas.setVisible(false);
+                }
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    mostrar.accept(get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    mostrarEstado("Error al calcular las estadísticas: " + e.getCause().getMessage(), true);
+                }
+            }
+        };
+        if (calculosEnCurso++ == 0) {
+            mostrarProgreso.restart();
+        }
+        calculosEstadisticas.execute(worker);
+        return worker;
+    }
+
     private void updateEstadisticasEquipoComboBox() {
         estadisticasEquipoComboBox.removeAllItems();
-        for (Equipo equipo : campeonato.getEquipos()) {
+        for (Equipo equipo : copiarEquipos()) {
             estadisticasEquipoComboBox.addItem(equipo);
         }
         displayEquipoStats();
     }
 
     private void updateEstadisticasJugadorComboBox() {
-        estadisticasJugadorComboBox.removeAllItems();
-        // Recopilar todos los jugadores de todos los equipos
-        List<Jugador> allPlayers = new ArrayList<>();
-        for (Equipo equipo : campeonato.getEquipos()) {
-            if (equipo != null && equipo.getJugadores() != null) { // Added null checks
-                allPlayers.addAll(equipo.getJugadores());
+        calculoListaJugadores = calcular(calculoListaJugadores, () -> {
+            // Recopilar todos los jugadores de todos los equipos, copiando las plantillas con acceso exclusivo
+            List<Jugador> allPlayers = campeonato.conAccesoExclusivo(() -> {
+                List<Jugador> copia = new ArrayList<>();
+                for (Equipo equipo : campeonato.getEquipos()) {
+                    if (equipo != null && equipo.getJugadores() != null) { // Added null checks
+                        copia.addAll(equipo.getJugadores());
+                    }
+                }
+                return copia;
+            });
+            // Ordenar jugadores por nombre para una mejor visualización
+            allPlayers.sort(Comparator.comparing(Jugador::getNombreCompleto, Comparator.nullsLast(String::compareTo))); // Handle null names
+            return allPlayers.toArray(new Jugador[0]);
+        }, jugadores -> {
+            Object seleccionado = estadisticasJugadorComboBox.getSelectedItem();
+            // Un modelo nuevo de una vez, en vez de un aviso por cada jugador agregado
+            estadisticasJugadorComboBox.setModel(new DefaultComboBoxModel<>(jugadores));
+            if (seleccionado != null) {
+                estadisticasJugadorComboBox.setSelectedItem(seleccionado);
             }
-        }
-        // Ordenar jugadores por nombre para una mejor visualización
-        allPlayers.sort(Comparator.comparing(Jugador::getNombreCompleto, Comparator.nullsLast(String::compareTo))); // Handle null names
-
-        for (Jugador jugador : allPlayers) {
-            estadisticasJugadorComboBox.addItem(jugador);
-        }
-        displayJugadorStats();
+            displayJugadorStats();
+        });
     }
 
     private void updateTablaPosiciones() {
-        tablaPosicionesModel.setRowCount(0); // Limpiar la tabla
-        List<Object[]> tabla = campeonato.getTablaDePosiciones();
-        for (Object[] row : tabla) {
-            tablaPosicionesModel.addRow(row);
-        }
+        calculoTabla = calcular(calculoTabla, campeonato::getTablaDePosiciones, tabla -> {
+            tablaPosicionesModel.setRowCount(0); // Limpiar la tabla
+            for (Object[] row : tabla) {
+                tablaPosicionesModel.addRow(row);
+            }
+        });
     }
 
     private void displayEquipoStats() {
         Equipo selectedEquipo = (Equipo) estadisticasEquipoComboBox.getSelectedItem();
-        if (selectedEquipo != null) {
-            partidosGanadosLabel.setText(String.valueOf(selectedEquipo.calcularPartidosGanados()));
-            partidosEmpatadosLabel.setText(String.valueOf(selectedEquipo.calculaPartidosEmpatados()));
-            partidosPerdidosLabel.setText(String.valueOf(selectedEquipo.calculaPartidosPerdidos()));
-            golesAFavorLabel.setText(String.valueOf(selectedEquipo.calculaGolesAFavor()));
-            golesEnContraLabel.setText(String.valueOf(selectedEquipo.calculaGolesEnContra()));
-            puntosLabel.setText(String.valueOf(selectedEquipo.calculaPuntos()));
-            totalTarjetasLabel.setText(String.valueOf(selectedEquipo.calculaTotalTarjetas()));
-            totalFaltasLabel.setText(String.valueOf(selectedEquipo.contarFaltas()));
+        if (selectedEquipo == null) {
+            mostrarEstadisticasEquipo(null);
+            return;
+        }
+        // La fila del equipo en la tabla de posiciones, en vez de recorrer sus partidos
+        calculoEquipo = calcular(calculoEquipo, () -> campeonato.getEstadisticasEquipo(selectedEquipo.getId()),
+                this::mostrarEstadisticasEquipo);
+    }
+
+    private void mostrarEstadisticasEquipo(Object[] estadisticas) {
+        if (estadisticas != null) {
+            puntosLabel.setText(String.valueOf(estadisticas[1]));
+            partidosGanadosLabel.setText(String.valueOf(estadisticas[2]));
+            partidosEmpatadosLabel.setText(String.valueOf(estadisticas[3]));
+            partidosPerdidosLabel.setText(String.valueOf(estadisticas[4]));
+            golesAFavorLabel.setText(String.valueOf(estadisticas[5]));
+            golesEnContraLabel.setText(String.valueOf(estadisticas[6]));
+            totalTarjetasLabel.setText(String.valueOf(estadisticas[7]));
+            totalFaltasLabel.setText(String.valueOf(estadisticas[8]));
         } else {
             partidosGanadosLabel.setText("N/A");
             partidosEmpatadosLabel.setText("N/A");
@@ -756,11 +847,21 @@ public class CampeonatoApp extends JFrame {
 
     private void displayJugadorStats() {
         Jugador selectedJugador = (Jugador) estadisticasJugadorComboBox.getSelectedItem();
-        if (selectedJugador != null) {
-            golesJugadorLabel.setText(String.valueOf(campeonato.calculaGolesJugador(selectedJugador.getId())));
-            tarjetasJugadorLabel.setText(String.valueOf(campeonato.calculaTarjetasJugador(selectedJugador.getId())));
-            faltasJugadorLabel.setText(String.valueOf(campeonato.calculaFaltasJugador(selectedJugador.getId())));
-            partidosJugadosJugadorLabel.setText(String.valueOf(campeonato.calculaPartidosJugadosJugador(selectedJugador.getId())));
+        if (selectedJugador == null) {
+            mostrarEstadisticasJugador(null);
+            return;
+        }
+        calculoJugador = calcular(calculoJugador, () -> campeonato.getEstadisticasJugador(selectedJugador.getId()),
+                this::mostrarEstadisticasJugador);
+    }
+
+    private void mostrarEstadisticasJugador(Object[] estadisticas) {
+        // Mismo formato que las filas de Campeonato.getTablaJugadores()
+        if (estadisticas != null) {
+            golesJugadorLabel.setText(String.valueOf(estadisticas[3]));
+            tarjetasJugadorLabel.setText(String.valueOf(estadisticas[4]));
+            faltasJugadorLabel.setText(String.valueOf(estadisticas[5]));
+            partidosJugadosJugadorLabel.setText(String.valueOf(estadisticas[6]));
         } else {
             golesJugadorLabel.setText("N/A");
             tarjetasJugadorLabel.setText("N/A");
@@ -770,6 +871,11 @@ public class CampeonatoApp extends JFrame {
     }
 
     private void updateAllStats() {
+        long modificaciones = campeonato.getModificaciones();
+        if (modificaciones == estadisticasMostradas) {
+            return; // Nada cambió desde la última actualización
+        }
+        estadisticasMostradas = modificaciones;
         updateTablaPosiciones();
         updateEstadisticasEquipoComboBox();
         updateEstadisticasJugadorComboBox();
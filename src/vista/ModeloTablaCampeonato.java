@@ -0,0 +1,60 @@
+// Archivo: vista/ModeloTablaCampeonato.java
+package vista;
+
+import model.Campeonato;
+import model.ObservadorCampeonato;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Modelo de tabla que ve una copia de las listas del campeonato, tomada con
+ * {@link Campeonato#conAccesoExclusivo} al actualizarse, y avisa a la tabla únicamente de las filas
+ * agregadas o modificadas.
+ *
+ * <p>Los avisos del campeonato pueden llegar desde cualquier hilo; el modelo se actualiza después en el
+ * hilo de Swing, y todos los avisos que llegan antes de esa actualización se atienden juntos. Hasta
+ * entonces la tabla sigue viendo la copia anterior.</p>
+ */
+abstract class ModeloTablaCampeonato extends AbstractTableModel implements ObservadorCampeonato {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final Campeonato campeonato;
+    private final String[] columnas;
+    private final AtomicBoolean actualizacionPendiente = new AtomicBoolean();
+
+    protected ModeloTablaCampeonato(Campeonato campeonato, String... columnas) {
+        this.campeonato = campeonato;
+        this.columnas = columnas;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnas.length;
+    }
+
+    @Override
+    public String getColumnName(int columna) {
+        return columnas[columna];
+    }
+
+    /**
+     * Programa una actualización en el hilo de Swing si no hay una pendiente.
+     */
+    protected final void pedirActualizacion() {
+        if (actualizacionPendiente.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                // Los avisos que lleguen durante la actualización programan otra
+                actualizacionPendiente.set(false);
+                actualizar();
+            });
+        }
+    }
+
+    /**
+     * Compara lo que ve la tabla con el campeonato y avisa de las diferencias. Se ejecuta en el hilo de Swing.
+     */
+    abstract void actualizar();
+}
@@ -0,0 +1,65 @@
+// Archivo: vista/ModeloTablaEquipos.java
+package vista;
+
+import model.Campeonato;
+import model.Equipo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Los equipos del campeonato, en el orden de {@link Campeonato#getEquipos()}.
+ */
+class ModeloTablaEquipos extends ModeloTablaCampeonato {
+
+    private static final long serialVersionUID = 1L;
+
+    // Filas que ve la tabla
+    private List<Equipo> equipos;
+
+    ModeloTablaEquipos(Campeonato campeonato) {
+        super(campeonato, "ID", "Nombre", "Barrio", "Entrenador");
+        this.equipos = copiarEquipos();
+        campeonato.agregarObservador(this);
+    }
+
+    @Override
+    public int getRowCount() {
+        return equipos.size();
+    }
+
+    @Override
+    public Object getValueAt(int fila, int columna) {
+        Equipo equipo = equipos.get(fila);
+        switch (columna) {
+            case 0: return equipo.getId();
+            case 1: return equipo.getNombre();
+            case 2: return equipo.getBarrio();
+            case 3: return equipo.getNombreEntrenador();
+            default: return null;
+        }
+    }
+
+    @Override
+    public void equipoRegistrado(Equipo equipo) {
+        pedirActualizacion();
+    }
+
+    @Override
+    void actualizar() {
+        List<Equipo> actuales = copiarEquipos();
+        int filas = equipos.size();
+        int total = actuales.size();
+        equipos = actuales;
+        if (total > filas) {
+            fireTableRowsInserted(filas, total - 1);
+        } else if (total < filas) {
+            // La lista se reemplazó: no se puede saber qué filas cambiaron
+            fireTableDataChanged();
+        }
+    }
+
+    private List<Equipo> copiarEquipos() {
+        return campeonato.conAccesoExclusivo(() -> new ArrayList<>(campeonato.getEquipos()));
+    }
+}
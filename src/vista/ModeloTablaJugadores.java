@@ -0,0 +1,123 @@
+// Archivo: vista/ModeloTablaJugadores.java
+package vista;
+
+import model.Campeonato;
+import model.Equipo;
+import model.Jugador;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Los jugadores de todas las plantillas, equipo por equipo en el orden de {@link Campeonato#getEquipos()}.
+ * Cada fila se busca en la copia de la plantilla de su equipo a partir de la primera fila de cada equipo,
+ * así que no se arma una lista con todos los jugadores.
+ */
+class ModeloTablaJugadores extends ModeloTablaCampeonato {
+
+    private static final long serialVersionUID = 1L;
+
+    // Equipos que ve la tabla con sus plantillas, y su primera fila; inicio[equiposVistos] es la cantidad de filas
+    private int equiposVistos;
+    private int[] inicio = new int[1];
+    private List<Equipo> equipos = List.of();
+    private List<List<Jugador>> plantillas = List.of();
+
+    ModeloTablaJugadores(Campeonato campeonato) {
+        super(campeonato, "ID", "Nombre Completo", "Posición", "Número Camiseta", "Equipo");
+        copiarPlantillas();
+        reconstruir();
+        campeonato.agregarObservador(this);
+    }
+
+    @Override
+    public int getRowCount() {
+        return inicio[equiposVistos];
+    }
+
+    @Override
+    public Object getValueAt(int fila, int columna) {
+        // El último equipo cuya primera fila no supera a la buscada (los equipos sin jugadores comparten inicio)
+        int i = Arrays.binarySearch(inicio, 0, equiposVistos + 1, fila);
+        int equipo = i >= 0 ? i : -i - 2;
+        while (equipo + 1 < equiposVistos && inicio[equipo + 1] == fila) {
+            equipo++;
+        }
+        Equipo e = equipos.get(equipo);
+        Jugador jugador = plantillas.get(equipo).get(fila - inicio[equipo]);
+        switch (columna) {
+            case 0: return jugador.getId();
+            case 1: return jugador.getNombreCompleto();
+            case 2: return jugador.getPosicion();
+            case 3: return jugador.getNumeroCamiseta();
+            case 4: return e.getNombre();
+            default: return null;
+        }
+    }
+
+    @Override
+    public void equipoRegistrado(Equipo equipo) {
+        pedirActualizacion();
+    }
+
+    @Override
+    public void jugadorRegistrado(Jugador jugador) {
+        pedirActualizacion();
+    }
+
+    @Override
+    void actualizar() {
+        copiarPlantillas();
+        if (equipos.size() < equiposVistos) {
+            reconstruir();
+            fireTableDataChanged();
+            return;
+        }
+        for (int equipo = 0; equipo < equipos.size(); equipo++) {
+            if (equipo == equiposVistos) {
+                // Un equipo nuevo empieza sin filas, tras el último
+                inicio = Arrays.copyOf(inicio, Math.max(inicio.length, equipo + 2));
+                inicio[equipo + 1] = inicio[equipo];
+                equiposVistos++;
+            }
+            int anteriores = inicio[equipo + 1] - inicio[equipo];
+            int actuales = plantillas.get(equipo).size();
+            if (actuales < anteriores) {
+                reconstruir();
+                fireTableDataChanged();
+                return;
+            }
+            if (actuales > anteriores) {
+                int agregadas = actuales - anteriores;
+                for (int siguiente = equipo + 1; siguiente <= equiposVistos; siguiente++) {
+                    inicio[siguiente] += agregadas;
+                }
+                int desde = inicio[equipo] + anteriores;
+                fireTableRowsInserted(desde, desde + agregadas - 1);
+            }
+        }
+    }
+
+    private void reconstruir() {
+        inicio = new int[equipos.size() + 1];
+        for (int equipo = 0; equipo < equipos.size(); equipo++) {
+            inicio[equipo + 1] = inicio[equipo] + plantillas.get(equipo).size();
+        }
+        equiposVistos = equipos.size();
+    }
+
+    // Copia los equipos y sus plantillas de una vez, para que coincidan entre sí
+    private void copiarPlantillas() {
+        campeonato.conAccesoExclusivo(() -> {
+            List<Equipo> actuales = new ArrayList<>(campeonato.getEquipos());
+            List<List<Jugador>> copias = new ArrayList<>(actuales.size());
+            for (Equipo equipo : actuales) {
+                copias.add(new ArrayList<>(equipo.getJugadores()));
+            }
+            equipos = actuales;
+            plantillas = copias;
+            return null;
+        });
+    }
+}
@@ -0,0 +1,118 @@
+// Archivo: vista/ModeloTablaPartidos.java
+package vista;
+
+import model.Campeonato;
+import model.Gol;
+import model.Partido;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Los partidos del campeonato, en el orden de {@link Campeonato#getPartidos()}. Un gol o un cambio de marcador
+ * solo vuelve a pintar la fila de su partido.
+ */
+class ModeloTablaPartidos extends ModeloTablaCampeonato {
+
+    private static final long serialVersionUID = 1L;
+
+    // Filas que ve la tabla, y la fila de cada partido
+    private List<Partido> partidos = List.of();
+    private final Map<Partido, Integer> filaDePartido = new IdentityHashMap<>();
+    // Partidos con goles nuevos o marcador corregido desde la última actualización
+    private final Set<Partido> modificados = ConcurrentHashMap.newKeySet();
+
+    ModeloTablaPartidos(Campeonato campeonato) {
+        super(campeonato, "ID", "Local", "Visitante", "Estadio", "Goles Local", "Goles Visitante", "Fecha/Hora");
+        reconstruir(copiarPartidos());
+        campeonato.agregarObservador(this);
+    }
+
+    /**
+     * @param fila Una fila de la tabla.
+     * @return El partido de esa fila.
+     */
+    Partido partidoEn(int fila) {
+        return partidos.get(fila);
+    }
+
+    @Override
+    public int getRowCount() {
+        return partidos.size();
+    }
+
+    @Override
+    public Object getValueAt(int fila, int columna) {
+        Partido partido = partidoEn(fila);
+        switch (columna) {
+            case 0: return partido.getId();
+            case 1: return partido.getEquipoLocal() != null ? partido.getEquipoLocal().getNombre() : "N/A";
+            case 2: return partido.getEquipoVisitante() != null ? partido.getEquipoVisitante().getNombre() : "N/A";
+            case 3: return partido.getEstadio();
+            case 4: return partido.getGolesLocal();
+            case 5: return partido.getGolesVisitante();
+            default: return null;
+        }
+    }
+
+    @Override
+    public void partidoCreado(Partido partido) {
+        pedirActualizacion();
+    }
+
+    @Override
+    public void golRegistrado(Partido partido, Gol gol) {
+        modificados.add(partido);
+        pedirActualizacion();
+    }
+
+    @Override
+    public void marcadorCambiado(Partido partido, int golesLocal, int golesVisitante) {
+        modificados.add(partido);
+        pedirActualizacion();
+    }
+
+    @Override
+    void actualizar() {
+        List<Partido> actuales = copiarPartidos();
+        int filas = partidos.size();
+        int total = actuales.size();
+        if (total < filas || (filas > 0 && !Integer.valueOf(filas - 1).equals(filaDePartido.get(actuales.get(filas - 1))))) {
+            // La lista se reemplazó o se insertaron partidos en medio
+            modificados.clear();
+            reconstruir(actuales);
+            fireTableDataChanged();
+            return;
+        }
+        partidos = actuales;
+        if (total > filas) {
+            for (int fila = filas; fila < total; fila++) {
+                filaDePartido.put(actuales.get(fila), fila);
+            }
+            fireTableRowsInserted(filas, total - 1);
+        }
+        for (Partido partido : modificados) {
+            modificados.remove(partido);
+            Integer fila = filaDePartido.get(partido);
+            if (fila != null) {
+                fireTableRowsUpdated(fila, fila);
+            }
+        }
+    }
+
+    private void reconstruir(List<Partido> actuales) {
+        filaDePartido.clear();
+        for (int fila = 0; fila < actuales.size(); fila++) {
+            filaDePartido.put(actuales.get(fila), fila);
+        }
+        partidos = actuales;
+    }
+
+    private List<Partido> copiarPartidos() {
+        return campeonato.conAccesoExclusivo(() -> new ArrayList<>(campeonato.getPartidos()));
+    }
+}
@@ -1,15 +1,31 @@
 package test;
 
 import model.Campeonato;
+import model.CriterioDesempate;
 import model.Equipo;
+import model.Evento;
+import model.Falta;
+import model.Gol;
+import model.HistogramasMinutos;
 import model.Jugador;
 import model.Partido;
+import model.ReglasSuspension;
+import model.Tarjeta;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import util.GeneradorCampeonato;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 class CampeonatoTest {
@@ -554,4 +570,453 @@ class CampeonatoTest {
         assertNull(campeonato.buscarPartidoPorId(null), "Should return null for null ID");
         assertNull(campeonato.buscarPartidoPorId(""), "Should return null for empty ID");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test buscar* - Índices se reconstruyen tras setEquipos/setPartidos")
+    void testBuscar_IndicesTrasReemplazarListas() {
+        assertEquals(equipoA, campeonato.buscarEquipoPorId("E001"));
+
+        Equipo equipoD = new Equipo("E004", "Equipo Delta", "Barrio Oeste", "Entrenador D");
+        Partido partido3 = new Partido("P003", equipoB, equipoD, "Estadio", "Arbitro", LocalDateTime.now());
+        campeonato.setEquipos(new java.util.ArrayList<>(List.of(equipoB, equipoD)));
+        campeonato.setPartidos(new java.util.ArrayList<>(List.of(partido3)));
+
+        assertNull(campeonato.buscarEquipoPorId("E001"), "Old teams should no longer be indexed");
+        assertEquals(equipoD, campeonato.buscarEquipoPorId("E004"));
+        assertEquals(equipoD, campeonato.buscarEquipoPorNombre("EQUIPO DELTA"));
+        assertNull(campeonato.buscarPartidoPorId("P001"), "Old matches should no longer be indexed");
+        assertEquals(partido3, campeonato.buscarPartidoPorId("P003"));
+    }
+
+    @Test
+    @DisplayName("Test buscar* - Índices se reconstruyen tras set() o quitar y añadir en las listas")
+    void testBuscar_IndicesTrasModificarListasSinCambiarTamano() {
+        assertEquals(equipoA, campeonato.buscarEquipoPorId("E001"));
+        assertEquals(partido1, campeonato.buscarPartidoPorId("P001"));
+
+        Equipo equipoD = new Equipo("E004", "Equipo Delta", "Barrio Oeste", "Entrenador D");
+        campeonato.getEquipos().set(2, equipoD);
+        assertNull(campeonato.buscarEquipoPorId("E003"), "A replaced team should no longer be indexed");
+        assertEquals(equipoD, campeonato.buscarEquipoPorId("E004"));
+        assertEquals(equipoD, campeonato.buscarEquipoPorNombre("Equipo Delta"));
+
+        Partido partido3 = new Partido("P003", equipoB, equipoD, "Estadio", "Arbitro", LocalDateTime.now());
+        campeonato.getPartidos().remove(partido1);
+        campeonato.getPartidos().add(partido3);
+        assertNull(campeonato.buscarPartidoPorId("P001"), "A removed match should no longer be indexed");
+        assertEquals(partido3, campeonato.buscarPartidoPorId("P003"));
+    }
+
+    @Test
+    @DisplayName("Test índices - Estadísticas correctas con jugadores añadidos a mano y equipos reordenados")
+    void testIndices_PlantillasModificadasYReordenadas() {
+        campeonato.registrarGol("P001", "J001", 10);
+        Jugador jugador3A = new Jugador("J005", "Jugador 3A", "Mediocampista", 5, equipoA);
+        equipoA.getJugadores().add(jugador3A); // Sin pasar por registrarJugador
+
+        assertTrue(campeonato.registrarGol("P001", "J005", 20), "A player added straight to the roster should still score");
+        assertTrue(campeonato.registrarFalta("P001", "J003", "J005", 30, "Centro", null));
+        assertEquals(1, campeonato.calculaGolesJugador("J005"));
+        assertEquals(2, campeonato.calculaPartidosJugadosJugador("J005"));
+
+        campeonato.setEquipos(new java.util.ArrayList<>(List.of(equipoC, equipoB, equipoA)));
+
+        assertEquals(1, campeonato.calculaGolesJugador("J001"), "Stats should follow the player after ordinals are rebuilt");
+        assertEquals(1, campeonato.calculaGolesJugador("J005"));
+        assertEquals(1, campeonato.calculaFaltasJugador("J003"));
+        assertEquals(0, campeonato.getPuntosEquipo("E002"));
+        assertEquals(1, campeonato.contarFaltasEquipo("E002"));
+        assertFalse(campeonato.registrarJugador("E003", "J005", "Duplicado", "Defensa", 4), "The indexed player id should stay taken");
+    }
+
+    @Test
+    @DisplayName("Test getTablaDePosiciones - Se actualiza con cada evento")
+    void testGetTablaDePosiciones_Incremental() {
+        campeonato.registrarGol("P001", "J003", 10); // Beta gana a Alpha 0-1
+        campeonato.registrarTarjeta("P001", "J001", "Amarilla", 20, "Falta");
+        campeonato.registrarFalta("P001", "J001", "J003", 30, "Centro", null);
+
+        List<Object[]> tabla = campeonato.getTablaDePosiciones();
+        assertEquals(3, tabla.size());
+        assertArrayEquals(new Object[]{"Equipo Beta", 3, 1, 0, 0, 1, 0, 0, 0}, tabla.get(0));
+        assertArrayEquals(new Object[]{"Equipo Gamma", 1, 0, 1, 0, 0, 0, 0, 0}, tabla.get(1));
+        assertArrayEquals(new Object[]{"Equipo Alpha", 1, 0, 1, 1, 0, 1, 1, 1}, tabla.get(2));
+
+        partido1.setGolesLocal(3); // Alpha remonta 3-1
+        tabla = campeonato.getTablaDePosiciones();
+        assertEquals("Equipo Alpha", tabla.get(0)[0]);
+        assertEquals(4, tabla.get(0)[1]);
+        assertEquals(equipoA.calculaPuntos(), campeonato.getPuntosEquipo("E001"), "Incremental points should match the full scan");
+    }
+
+    @Test
+    @DisplayName("Test getTablaDePosiciones(desde, hasta) - Tramos y posición sin ordenar toda la tabla")
+    void testGetTablaDePosiciones_Tramos() {
+        campeonato.registrarGol("P001", "J003", 10); // Beta gana a Alpha 0-1
+
+        assertEquals(1, campeonato.getPosicionEquipo("E002"));
+        assertEquals(3, campeonato.getPosicionEquipo("E001"));
+        assertEquals(0, campeonato.getPosicionEquipo("E999"));
+        assertEquals(1, campeonato.getPrimerosDeLaTabla(1).size());
+        assertArrayEquals(new Object[]{"Equipo Beta", 3, 1, 0, 0, 1, 0, 0, 0}, campeonato.getPrimerosDeLaTabla(1).get(0));
+        assertEquals(2, campeonato.getTablaDePosiciones(2, 10).size(), "Positions past the table should be ignored");
+        assertTrue(campeonato.getTablaDePosiciones(4, 10).isEmpty());
+        assertTrue(campeonato.getTablaAlrededorDe("E999", 1).isEmpty());
+
+        List<Object[]> zona = campeonato.getTablaAlrededorDe("E003", 1);
+        assertEquals(3, zona.size());
+        assertEquals("Equipo Gamma", zona.get(1)[0]);
+
+        // Los tramos siguen al orden completo tras remontadas, cambios directos y equipos nuevos
+        campeonato.registrarGol("P001", "J001", 20);
+        campeonato.registrarGol("P001", "J001", 30);
+        partido2.setGolesVisitante(partido2.getGolesVisitante() + 4);
+        campeonato.registrarEquipo("E004", "Equipo Delta", "Barrio Oeste", "Entrenador D");
+        List<Object[]> tabla = campeonato.getTablaDePosiciones();
+        List<Object[]> tramo = campeonato.getTablaDePosiciones(1, tabla.size());
+        assertEquals(tabla.size(), tramo.size());
+        for (int i = 0; i < tabla.size(); i++) {
+            assertArrayEquals(tabla.get(i), tramo.get(i), "Row " + (i + 1) + " should match the full table");
+        }
+        assertEquals("Equipo Delta", tabla.get(campeonato.getPosicionEquipo("E004") - 1)[0]);
+    }
+
+    @Test
+    @DisplayName("Test desempatarPor - Enfrentamientos directos, diferencia de goles y juego limpio")
+    void testDesempatarPor() {
+        assertTrue(campeonato.crearPartido("P003", "E002", "E003", "Estadio Norte", "Árbitro Tres"));
+        assertTrue(campeonato.crearPartido("P004", "E002", "E003", "Estadio Sur", "Árbitro Cuatro"));
+        campeonato.registrarGol("P001", "J001", 10); // Alpha 1-0 Beta; Alpha empata 0-0 con Gamma
+        campeonato.buscarPartidoPorId("P003").setGolesLocal(4); // Beta 4-0 Gamma; Beta empata 0-0 con Gamma
+        // Alpha y Beta con 4 puntos: por defecto gana Beta por goles a favor
+        assertEquals(List.of(CriterioDesempate.GOLES_A_FAVOR, CriterioDesempate.GOLES_EN_CONTRA), campeonato.criteriosDesempate());
+        assertEquals("Equipo Beta", campeonato.getTablaDePosiciones().get(0)[0]);
+
+        campeonato.desempatarPor(CriterioDesempate.ENFRENTAMIENTOS_DIRECTOS, CriterioDesempate.DIFERENCIA_DE_GOLES,
+                CriterioDesempate.JUEGO_LIMPIO);
+        assertEquals("Equipo Alpha", campeonato.getTablaDePosiciones().get(0)[0], "Alpha won the head-to-head match");
+        assertEquals("Equipo Beta", campeonato.getTablaDePosiciones().get(1)[0]);
+        assertEquals(1, campeonato.getPosicionEquipo("E001"));
+        assertEquals("Equipo Alpha", campeonato.getTablaDePosiciones(1, 1).get(0)[0]);
+
+        campeonato.desempatarPor(CriterioDesempate.JUEGO_LIMPIO);
+        campeonato.registrarTarjeta("P001", "J001", "Amarilla", 20, "Reclamo");
+        assertEquals("Equipo Beta", campeonato.getTablaDePosiciones().get(0)[0], "Beta has fewer cards");
+
+        // Un cambio en el enfrentamiento vuelve a desempatar
+        campeonato.desempatarPor(CriterioDesempate.ENFRENTAMIENTOS_DIRECTOS);
+        assertEquals(1, campeonato.getPosicionEquipo("E001"));
+        partido1.setGolesVisitante(1); // Alpha 1-1 Beta: 2 y 5 puntos
+        assertEquals(1, campeonato.getPosicionEquipo("E002"));
+        assertEquals(2, campeonato.getPosicionEquipo("E001"), "Tied with Gamma, also head to head: registration order");
+        assertThrows(IllegalArgumentException.class, () -> campeonato.desempatarPor((CriterioDesempate) null));
+    }
+
+    @Test
+    @DisplayName("Test desempatarPor - Un grupo empatado solo se vuelve a desempatar si cambian sus equipos")
+    void testDesempatarPor_GrupoResuelto() {
+        Campeonato liga = new Campeonato();
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(liga.registrarEquipo("T" + i, "Equipo " + i, "Barrio", "Entrenador"));
+            assertTrue(liga.registrarJugador("T" + i, "J" + i, "Jugador " + i, "Delantero", i));
+        }
+        assertTrue(liga.crearPartido("M1", "T1", "T2", "Estadio", "Árbitro"));
+        assertTrue(liga.crearPartido("M2", "T3", "T4", "Estadio", "Árbitro"));
+        assertTrue(liga.crearPartido("M3", "T4", "T3", "Estadio", "Árbitro"));
+        liga.desempatarPor(CriterioDesempate.ENFRENTAMIENTOS_DIRECTOS);
+        liga.registrarGol("M2", "J3", 10);
+        liga.registrarGol("M3", "J4", 10);
+        // T3 y T4 con 3 puntos y un 1-0 cada uno: orden de registro
+        assertEquals(1, liga.getPosicionEquipo("T3"));
+        assertEquals(2, liga.getPosicionEquipo("T4"));
+
+        liga.registrarGol("M1", "J1", 20);
+        liga.registrarGol("M1", "J2", 25);
+        liga.registrarTarjeta("M1", "J2", "Amarilla", 30, "Reclamo");
+        assertEquals(1, liga.getPosicionEquipo("T3"), "Events of other teams keep the resolved group");
+
+        liga.registrarGol("M3", "J4", 40);
+        assertEquals(1, liga.getPosicionEquipo("T4"), "T4 now leads the head-to-head goal difference");
+        assertEquals(2, liga.getPosicionEquipo("T3"));
+        assertEquals("Equipo 4", liga.getTablaDePosiciones().get(0)[0]);
+    }
+
+    @Test
+    @DisplayName("Test getJugadoresHabilitados - Suspensiones por roja y por acumulación de amarillas")
+    void testSuspensiones() {
+        assertTrue(campeonato.crearPartido("P003", "E001", "E002", "Estadio Norte", "Árbitro Tres"));
+        assertTrue(campeonato.crearPartido("P004", "E001", "E003", "Estadio Sur", "Árbitro Cuatro"));
+        // Calendario de Alpha: P001, P002, P003, P004
+        campeonato.aplicarReglasSuspension(new ReglasSuspension(2, 1, 1));
+        campeonato.registrarTarjeta("P001", "J001", "Roja", 30, "Agresión");
+        campeonato.registrarTarjeta("P001", "J002", "Amarilla", 10, "Reclamo");
+        assertEquals(1, campeonato.getAmarillasAcumuladas("J002"));
+
+        assertTrue(campeonato.estaSuspendido("J001", "P002"), "A red card bans the next match");
+        assertFalse(campeonato.estaSuspendido("J001", "P003"));
+        assertEquals(List.of(jugador2A), campeonato.getJugadoresHabilitados("P002"), "Gamma has no players");
+        assertEquals(4, campeonato.getJugadoresHabilitados("P003").size());
+
+        campeonato.registrarTarjeta("P002", "J002", "Amarilla", 15, "Falta");
+        assertEquals(0, campeonato.getAmarillasAcumuladas("J002"), "The count restarts after a ban");
+        assertTrue(campeonato.estaSuspendido("J002", "P003"), "Two yellows ban the next match");
+        campeonato.registrarTarjeta("P002", "J002", "roja", 80, "Agresión");
+        assertTrue(campeonato.estaSuspendido("J002", "P004"), "Bans are served one after another");
+        assertFalse(campeonato.estaSuspendido("J003", "P003"));
+
+        // Tras reconstruir los índices las suspensiones son las mismas; con otras reglas se recalculan
+        campeonato.getEquipos().add(new Equipo("E004", "Equipo Delta", "Barrio Oeste", "Entrenador D"));
+        assertTrue(campeonato.estaSuspendido("J002", "P004"));
+        campeonato.aplicarReglasSuspension(ReglasSuspension.POR_DEFECTO);
+        assertEquals(2, campeonato.getAmarillasAcumuladas("J002"));
+        assertTrue(campeonato.estaSuspendido("J002", "P003"), "Only the red card bans with five yellows required");
+        assertFalse(campeonato.estaSuspendido("J002", "P004"));
+        assertTrue(campeonato.getJugadoresHabilitados("P999").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test setTarjetas/setFaltas/setGoles - Reemplazar los eventos de un partido registrado rehace las estadísticas")
+    void testReemplazarEventos_RehaceEstadisticas() {
+        assertTrue(campeonato.crearPartido("P003", "E001", "E002", "Estadio Norte", "Árbitro Tres"));
+        campeonato.aplicarReglasSuspension(new ReglasSuspension(2, 1, 1));
+        campeonato.registrarGol("P001", "J001", 10);
+        campeonato.registrarTarjeta("P001", "J001", "Roja", 30, "Agresión");
+        campeonato.registrarFalta("P001", "J001", "J003", 40, "Centro", null);
+        assertTrue(campeonato.estaSuspendido("J001", "P002"));
+        long version = campeonato.getVersion();
+        int puntosAlpha = campeonato.getPuntosEquipo("E001");
+
+        partido1.setTarjetas(List.of(new Tarjeta(jugador1B, "Roja", 35, "Agresión")));
+        partido1.setFaltas(List.of(new Falta(jugador1B, 50, "Área", jugador2A, null),
+                new Falta(jugador2B, 60, "Centro", jugador1A, null)));
+        partido1.setGoles(List.of(new Gol(jugador1B, 20)));
+        assertEquals(version + 3, campeonato.getVersion(), "Each replacement should be a change of the championship");
+
+        assertEquals(0, campeonato.calculaGolesJugador("J001"));
+        assertEquals(1, campeonato.calculaGolesJugador("J003"));
+        assertEquals(0, campeonato.calculaTarjetasJugador("J001"));
+        assertEquals(1, campeonato.calculaTarjetasJugador("J003"));
+        assertEquals(0, campeonato.calculaFaltasJugador("J001"));
+        assertEquals(1, campeonato.calculaFaltasJugador("J004"));
+        assertFalse(campeonato.estaSuspendido("J001", "P002"), "The replaced red card should no longer ban");
+        assertTrue(campeonato.estaSuspendido("J003", "P003"), "The new red card should ban Beta's next match");
+
+        for (Object[] fila : campeonato.getTablaDePosiciones()) {
+            if ("Equipo Alpha".equals(fila[0])) {
+                assertEquals(puntosAlpha, fila[1], "setGoles does not change the score");
+                assertEquals(0, fila[7]);
+                assertEquals(0, fila[8]);
+            } else if ("Equipo Beta".equals(fila[0])) {
+                assertEquals(1, fila[7], "Cards in the standings should come from the new events");
+                assertEquals(2, fila[8], "Fouls in the standings should come from the new events");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test getTablaJugadores - Estadísticas de todos los jugadores en una pasada")
+    void testGetTablaJugadores() {
+        campeonato.registrarGol("P001", "J001", 10);
+        campeonato.registrarGol("P002", "J001", 20);
+        campeonato.registrarTarjeta("P001", "J003", "Amarilla", 30, "Reclamo");
+        campeonato.registrarFalta("P001", "J003", "J002", 40, "Defensa", null);
+
+        List<Object[]> tabla = campeonato.getTablaJugadores();
+        assertEquals(4, tabla.size(), "Every rostered player should have a row");
+        assertArrayEquals(new Object[]{"J001", "Jugador 1A", "Equipo Alpha", 2, 0, 0, 2}, tabla.get(0));
+        assertArrayEquals(new Object[]{"J003", "Jugador 1B", "Equipo Beta", 0, 1, 1, 1}, tabla.get(2));
+    }
+
+    @Test
+    @DisplayName("Test getMaximosGoleadores - Ranking incremental con desempate por ID")
+    void testGetMaximosGoleadores() {
+        campeonato.registrarGol("P001", "J003", 10);
+        campeonato.registrarGol("P001", "J001", 20);
+        campeonato.registrarGol("P002", "J002", 30);
+        campeonato.registrarGol("P002", "J001", 40);
+        campeonato.registrarTarjeta("P001", "J004", "Amarilla", 50, "Reclamo");
+
+        List<Object[]> goleadores = campeonato.getMaximosGoleadores(2);
+        assertEquals(2, goleadores.size());
+        assertArrayEquals(new Object[]{"J001", "Jugador 1A", "Equipo Alpha", 2}, goleadores.get(0));
+        assertEquals("J002", goleadores.get(1)[0], "Ties should be broken by player id");
+        assertEquals(3, campeonato.getMaximosGoleadores(20).size(), "Only players with goals are ranked");
+
+        campeonato.registrarGol("P001", "J003", 60);
+        campeonato.registrarGol("P001", "J003", 70);
+        assertEquals("J003", campeonato.getMaximosGoleadores(1).get(0)[0]);
+        assertArrayEquals(new Object[]{"J004", "Jugador 2B", "Equipo Beta", 1}, campeonato.getJugadoresConMasTarjetas(5).get(0));
+        assertTrue(campeonato.getJugadoresConMasFaltas(5).isEmpty());
+
+        // Tras reconstruir los índices (lista modificada directamente) el ranking es el mismo
+        campeonato.getEquipos().add(new Equipo("E004", "Equipo Delta", "Barrio Oeste", "Entrenador D"));
+        assertEquals("J003", campeonato.getMaximosGoleadores(1).get(0)[0]);
+        assertEquals(3, campeonato.getMaximosGoleadores(1).get(0)[3]);
+    }
+
+    @Test
+    @DisplayName("Test getHistogramaEquipo - Eventos por tramo de 15 minutos por equipo, jugador y campeonato")
+    void testHistogramasMinutos() {
+        assertEquals(0, HistogramasMinutos.intervalo(15));
+        assertEquals(1, HistogramasMinutos.intervalo(16));
+        assertEquals(HistogramasMinutos.INTERVALOS - 1, HistogramasMinutos.intervalo(95), "Added time goes to the last bucket");
+        assertEquals("91+", HistogramasMinutos.etiqueta(HistogramasMinutos.INTERVALOS - 1));
+
+        campeonato.registrarGol("P001", "J001", 10);
+        campeonato.registrarGol("P001", "J001", 93);
+        campeonato.registrarTarjeta("P001", "J003", "Amarilla", 20, "Reclamo");
+        assertTrue(campeonato.registrarEventos("P001", List.of(
+                Evento.gol("J002", 50),
+                Evento.falta("J001", "J003", 47, "Centro", null))));
+
+        int[][] alpha = campeonato.getHistogramaEquipo("E001");
+        assertArrayEquals(new int[]{1, 0, 0, 1, 0, 0, 1}, alpha[0], "Goals by 15-minute bucket");
+        assertArrayEquals(new int[]{0, 0, 0, 1, 0, 0, 0}, alpha[2], "Fouls by 15-minute bucket");
+        assertArrayEquals(new int[]{0, 1, 0, 0, 0, 0, 0}, campeonato.getHistogramaEquipo("E002")[1]);
+        assertArrayEquals(new int[]{1, 0, 0, 0, 0, 0, 1}, campeonato.getHistogramaJugador("J001")[0]);
+        assertEquals(3, java.util.Arrays.stream(campeonato.getHistogramaCampeonato()[0]).sum());
+        assertNull(campeonato.getHistogramaEquipo("E999"));
+
+        // Las distribuciones se combinan sumándolas, y se reconstruyen igual tras reindexar
+        int[][] combinada = new int[HistogramasMinutos.CAMPOS][HistogramasMinutos.INTERVALOS];
+        HistogramasMinutos.sumar(combinada, alpha);
+        HistogramasMinutos.sumar(combinada, campeonato.getHistogramaEquipo("E002"));
+        HistogramasMinutos.sumar(combinada, campeonato.getHistogramaEquipo("E003"));
+        campeonato.getEquipos().add(new Equipo("E004", "Equipo Delta", "Barrio Oeste", "Entrenador D"));
+        assertArrayEquals(combinada, campeonato.getHistogramaCampeonato());
+        assertArrayEquals(alpha, campeonato.getHistogramaEquipo("E001"));
+    }
+
+    @Test
+    @DisplayName("Test getTablaDePosiciones - Se reutiliza hasta el siguiente cambio")
+    void testGetTablaDePosiciones_Memorizada() {
+        List<Object[]> tabla = campeonato.getTablaDePosiciones();
+        long modificaciones = campeonato.getModificaciones();
+        assertSame(tabla, campeonato.getTablaDePosiciones(), "No change, the same result should be served");
+        assertSame(campeonato.getTablaJugadores(), campeonato.getTablaJugadores());
+        assertThrows(UnsupportedOperationException.class, () -> tabla.remove(0));
+
+        campeonato.registrarGol("P001", "J001", 10);
+        assertTrue(campeonato.getModificaciones() > modificaciones);
+        assertNotSame(tabla, campeonato.getTablaDePosiciones());
+        assertEquals("Equipo Alpha", campeonato.getTablaDePosiciones().get(0)[0]);
+
+        List<Object[]> antes = campeonato.getTablaDePosiciones();
+        partido1.setGolesLocal(0); // Cambio directo en el partido, sin pasar por el campeonato
+        assertNotSame(antes, campeonato.getTablaDePosiciones(), "A direct score change must not serve a stale table");
+
+        List<Object[]> jugadores = campeonato.getTablaJugadores();
+        equipoC.getJugadores().add(new Jugador("J005", "Jugador 1C", "Arquero", 1, equipoC));
+        assertEquals(jugadores.size() + 1, campeonato.getTablaJugadores().size(), "Roster edits should be picked up");
+
+        List<Object[]> conJ005 = campeonato.getTablaJugadores();
+        equipoC.getJugadores().set(0, new Jugador("J006", "Jugador 2C", "Arquero", 12, equipoC));
+        List<Object[]> conJ006 = campeonato.getTablaJugadores();
+        assertEquals(conJ005.size(), conJ006.size());
+        assertTrue(conJ006.stream().anyMatch(fila -> "J006".equals(fila[0])),
+                "Replacing a player without changing the roster size should be picked up too");
+    }
+
+    @Test
+    @DisplayName("Test registrarEventos - Lote válido aplicado de una vez; lote con un evento inválido no aplica nada")
+    void testRegistrarEventos_TodoONada() {
+        long version = campeonato.getVersion();
+        assertFalse(campeonato.registrarEventos("P001", List.of(
+                Evento.gol("J001", 10),
+                Evento.tarjeta("J003", "Amarilla", 20, "Reclamo"),
+                Evento.falta("J001", "J002", 30, "Centro", null))), "Foul between teammates should reject the batch");
+        assertFalse(campeonato.registrarEventos("P001", List.of(Evento.gol("J001", 10), Evento.gol("J999", 12))));
+        assertEquals(version, campeonato.getVersion(), "Rejected batch should not change the version");
+        assertEquals(0, partido1.getGolesLocal());
+        assertTrue(partido1.getTarjetas().isEmpty());
+
+        List<Integer> avisos = new ArrayList<>();
+        campeonato.agregarObservador(new model.ObservadorCampeonato() {
+            @Override
+            public void eventosRegistrados(Partido partido, List<model.Gol> goles, List<model.Tarjeta> tarjetas,
+                                           List<model.Falta> faltas) {
+                avisos.add(goles.size() + tarjetas.size() + faltas.size());
+            }
+        });
+        assertTrue(campeonato.registrarEventos("P001", List.of(
+                Evento.gol("J001", 10),
+                Evento.gol("J003", 15),
+                Evento.gol("J002", 70),
+                Evento.tarjeta("J003", "Amarilla", 20, "Reclamo"),
+                Evento.falta("J004", "J001", 30, "Centro", "Amarilla"))));
+        assertEquals(version + 1, campeonato.getVersion(), "A batch should increment the version once");
+        assertEquals(List.of(5), avisos, "Observers should get a single notification");
+        assertEquals(2, partido1.getGolesLocal());
+        assertEquals(1, partido1.getGolesVisitante());
+        assertEquals(4, campeonato.getPuntosEquipo("E001"), "P001 becomes a win, P002 is still a draw");
+        assertEquals(1, campeonato.calculaGolesJugador("J002"));
+        assertEquals(1, campeonato.calculaTarjetasJugador("J003"));
+        assertEquals(1, campeonato.calculaFaltasJugador("J004"));
+        assertEquals(1, campeonato.contarFaltasEquipo("E002"));
+    }
+
+    @Test
+    @DisplayName("Test concurrencia - Goles en partidos distintos desde varios hilos, sin lecturas a medias")
+    void testRegistrarGol_Concurrente() throws Exception {
+        GeneradorCampeonato generador = new GeneradorCampeonato(7L);
+        generador.setEquipos(8);
+        generador.setVueltas(1);
+        generador.setGolesPorPartido(0);
+        generador.setTarjetasPorPartido(0);
+        generador.setFaltasPorPartido(0);
+        Campeonato concurrente = generador.generar();
+        List<Partido> partidos = concurrente.getPartidos();
+
+        int hilos = 4;
+        int golesPorHilo = 2000;
+        AtomicBoolean terminado = new AtomicBoolean();
+        AtomicInteger lecturasInconsistentes = new AtomicInteger();
+        Thread lector = new Thread(() -> {
+            while (!terminado.get()) {
+                int favor = 0;
+                int contra = 0;
+                for (Object[] fila : concurrente.getTablaDePosiciones()) {
+                    favor += (Integer) fila[5];
+                    contra += (Integer) fila[6];
+                }
+                if (favor != contra) {
+                    lecturasInconsistentes.incrementAndGet();
+                }
+            }
+        });
+        lector.start();
+
+        ExecutorService pool = Executors.newFixedThreadPool(hilos);
+        List<Future<?>> tareas = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            int hilo = h;
+            tareas.add(pool.submit(() -> {
+                for (int i = 0; i < golesPorHilo; i++) {
+                    // Cada hilo anota en sus propios partidos, como una mesa de control por cancha
+                    Partido partido = partidos.get(hilo + hilos * (i % (partidos.size() / hilos)));
+                    Jugador jugador = partido.getEquipoLocal().getJugadores().get(i % 11);
+                    assertTrue(concurrente.registrarGol(partido.getId(), jugador.getId(), 1 + i % 90));
+                }
+            }));
+        }
+        for (Future<?> tarea : tareas) {
+            tarea.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        terminado.set(true);
+        lector.join();
+
+        int golesEnPartidos = 0;
+        for (Partido partido : partidos) {
+            assertEquals(partido.getGoles().size(), partido.getGolesLocal() + partido.getGolesVisitante());
+            golesEnPartidos += partido.getGoles().size();
+        }
+        assertEquals(hilos * golesPorHilo, golesEnPartidos, "No goal should be lost");
+        int golesEnTabla = 0;
+        for (Object[] fila : concurrente.getTablaDePosiciones()) {
+            golesEnTabla += (Integer) fila[5];
+        }
+        assertEquals(golesEnPartidos, golesEnTabla, "Standings should count every goal");
+        assertEquals(0, lecturasInconsistentes.get(), "Readers should never see goals for without the matching goals against");
+    }
+}
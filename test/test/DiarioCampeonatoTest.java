@@ -0,0 +1,298 @@
+package test;
+
+import model.Campeonato;
+import model.Evento;
+import model.Partido;
+import model.Tarjeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.DiarioCampeonato;
+import util.GuardadoAutomatico;
+import util.JsonDataManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class DiarioCampeonatoTest {
+
+    private Path archivo;
+    private Path diario;
+    private JsonDataManager dataManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        archivo = Files.createTempFile("campeonato", ".json");
+        Files.delete(archivo);
+        diario = Path.of(archivo + ".journal");
+        dataManager = new JsonDataManager(archivo.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(archivo);
+        Files.deleteIfExists(diario);
+        Files.deleteIfExists(Path.of(diario + ".nuevo"));
+    }
+
+    @Test
+    @DisplayName("Test abrir - Reaplica los registros posteriores a la instantánea y descarta una línea incompleta")
+    void testAbrir_ReproduceDiario() throws IOException {
+        Campeonato instantanea = new Campeonato();
+        instantanea.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+        dataManager.save(instantanea);
+        assertEquals(1, instantanea.getVersion());
+
+        Files.write(diario, String.join("\n",
+                "[1,\"E\",\"E001\",\"Equipo Alpha\",\"Barrio Norte\",\"Entrenador A\"]",
+                "[2,\"E\",\"E002\",\"Equipo Beta\",\"Barrio Sur\",\"Entrenador B\"]",
+                "[3,\"J\",\"E001\",\"J001\",\"Jugador 1A\",\"Delantero\",10]",
+                "[4,\"J\",\"E002\",\"J003\",\"Jugador 1B\",\"Delantero\",9]",
+                "[5,\"P\",\"P001\",\"E001\",\"E002\",\"Estadio\",\"Arbitro\"]",
+                "[6,\"G\",\"P001\",\"J001\",10]",
+                "[7,\"F\",\"P001\",\"J003\",\"J001\",30,\"Centro\",null]",
+                "[8,\"G\",\"P001\",\"J0").getBytes(StandardCharsets.UTF_8));
+
+        try (DiarioCampeonato abierto = DiarioCampeonato.abrir(dataManager)) {
+            Campeonato campeonato = abierto.getCampeonato();
+            assertEquals(7, campeonato.getVersion(), "Version should match the last complete record");
+            assertEquals(2, campeonato.getEquipos().size(), "The team already in the snapshot should not be duplicated");
+            assertEquals(1, campeonato.calculaGolesJugador("J001"));
+            assertEquals(1, campeonato.calculaFaltasJugador("J003"));
+            assertEquals(3, campeonato.getPuntosEquipo("E001"));
+            assertEquals(0, Files.size(diario), "Recovered records should be consolidated into a new snapshot");
+        }
+    }
+
+    @Test
+    @DisplayName("Test close - Los cambios registrados sobreviven a reabrir el diario")
+    void testClose_ConservaCambios() throws IOException {
+        try (DiarioCampeonato abierto = DiarioCampeonato.abrir(dataManager)) {
+            Campeonato campeonato = abierto.getCampeonato();
+            campeonato.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+            campeonato.registrarEquipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+            campeonato.registrarJugador("E002", "J003", "Jugador 1B", "Delantero", 9);
+            campeonato.crearPartido("P001", "E001", "E002", "Estadio", "Arbitro");
+            campeonato.registrarGol("P001", "J003", 15);
+        }
+
+        try (DiarioCampeonato reabierto = DiarioCampeonato.abrir(dataManager)) {
+            Campeonato campeonato = reabierto.getCampeonato();
+            assertEquals(5, campeonato.getVersion());
+            assertEquals(1, campeonato.calculaGolesJugador("J003"));
+            assertEquals(3, campeonato.getPuntosEquipo("E002"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test diario - Un lote de eventos se guarda como un solo registro y se reproduce entero")
+    void testRegistrarEventos_UnSoloRegistro() throws IOException, InterruptedException {
+        List<String> lineas;
+        try (DiarioCampeonato abierto = DiarioCampeonato.abrir(dataManager, 0)) {
+            Campeonato campeonato = abierto.getCampeonato();
+            campeonato.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+            campeonato.registrarEquipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+            campeonato.registrarJugador("E001", "J001", "Jugador 1A", "Delantero", 10);
+            campeonato.registrarJugador("E002", "J003", "Jugador 1B", "Delantero", 9);
+            campeonato.crearPartido("P001", "E001", "E002", "Estadio", "Arbitro");
+            assertTrue(campeonato.registrarEventos("P001", List.of(
+                    Evento.gol("J001", 10),
+                    Evento.tarjeta("J003", "Roja", 20, "Agresión"),
+                    Evento.falta("J003", "J001", 20, "Área", null))));
+            // El diario llega a disco en segundo plano
+            long limite = System.currentTimeMillis() + 5000;
+            do {
+                TimeUnit.MILLISECONDS.sleep(50);
+                lineas = Files.readAllLines(diario, StandardCharsets.UTF_8);
+            } while (lineas.size() < 6 && System.currentTimeMillis() < limite);
+        }
+        assertEquals(6, lineas.size(), "The batch should be journaled as one record");
+
+        // Sin instantánea, reabrir reproduce el diario completo
+        Files.deleteIfExists(archivo);
+        Files.write(diario, lineas, StandardCharsets.UTF_8);
+        try (DiarioCampeonato reabierto = DiarioCampeonato.abrir(dataManager, 0)) {
+            Campeonato campeonato = reabierto.getCampeonato();
+            assertEquals(6, campeonato.getVersion());
+            assertEquals(1, campeonato.calculaGolesJugador("J001"));
+            assertEquals(1, campeonato.calculaTarjetasJugador("J003"));
+            assertEquals(1, campeonato.calculaFaltasJugador("J003"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test tomarInstantanea - Los cambios registrados mientras se guarda quedan en el diario")
+    void testTomarInstantanea_CambiosDuranteElGuardado() throws IOException, InterruptedException {
+        Path copia = Path.of(archivo + ".copia.json");
+        Path copiaDiario = Path.of(copia + ".journal");
+        int goles = 2000;
+        try {
+            try (DiarioCampeonato abierto = DiarioCampeonato.abrir(dataManager, 0)) {
+                Campeonato campeonato = abierto.getCampeonato();
+                campeonato.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+                campeonato.registrarEquipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+                campeonato.registrarJugador("E001", "J001", "Jugador 1A", "Delantero", 10);
+                campeonato.crearPartido("P001", "E001", "E002", "Estadio", "Arbitro");
+                Thread goleador = new Thread(() -> {
+                    for (int i = 0; i < goles; i++) {
+                        campeonato.registrarGol("P001", "J001", 1 + i % 90);
+                    }
+                });
+                goleador.start();
+                for (int i = 0; i < 5; i++) {
+                    abierto.tomarInstantanea();
+                }
+                goleador.join();
+                // Copia de la instantánea y el diario antes de cerrar, como si el proceso se interrumpiera aquí
+                TimeUnit.MILLISECONDS.sleep(500);
+                Files.copy(archivo, copia);
+                Files.copy(diario, copiaDiario);
+            }
+            try (DiarioCampeonato reabierto = DiarioCampeonato.abrir(new JsonDataManager(copia.toString()), 0)) {
+                assertEquals(goles, reabierto.getCampeonato().calculaGolesJugador("J001"),
+                        "Goals registered while a snapshot was being written should survive in the journal");
+            }
+        } finally {
+            Files.deleteIfExists(copia);
+            Files.deleteIfExists(copiaDiario);
+        }
+    }
+
+    @Test
+    @DisplayName("Test guardado automático - Al alcanzar el umbral de cambios toma una instantánea y vacía el diario")
+    void testGuardadoAutomatico_UmbralDeCambios() throws IOException, InterruptedException {
+        CountDownLatch guardados = new CountDownLatch(1);
+        try (DiarioCampeonato abierto = DiarioCampeonato.abrir(dataManager, 0);
+             GuardadoAutomatico guardado = new GuardadoAutomatico(abierto, 3600, 3, new GuardadoAutomatico.Informe() {
+                 @Override
+                 public void guardado(long version, long milisegundos) {
+                     guardados.countDown();
+                 }
+
+                 @Override
+                 public void falloAlGuardar(IOException error) {
+                     fail("Autosave should not fail: " + error);
+                 }
+             })) {
+            Campeonato campeonato = abierto.getCampeonato();
+            campeonato.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+            campeonato.registrarEquipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+            campeonato.crearPartido("P001", "E001", "E002", "Estadio", "Arbitro");
+
+            assertTrue(guardados.await(10, TimeUnit.SECONDS), "Reaching the change threshold should trigger a save");
+            assertEquals(0, guardado.getPendientes());
+            assertEquals(0, Files.size(diario), "The snapshot should truncate the journal");
+            assertEquals(3, dataManager.load().getVersion());
+        }
+    }
+
+    @Test
+    @DisplayName("Test diario - Un marcador corregido con los setters se registra y se reproduce")
+    void testMarcadorCambiado_SeReproduce() throws IOException, InterruptedException {
+        List<String> lineas;
+        try (DiarioCampeonato abierto = DiarioCampeonato.abrir(dataManager, 0)) {
+            Campeonato campeonato = abierto.getCampeonato();
+            campeonato.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+            campeonato.registrarEquipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+            campeonato.crearPartido("P001", "E001", "E002", "Estadio", "Arbitro");
+            Partido partido = campeonato.buscarPartidoPorId("P001");
+            partido.setGolesVisitante(2);
+            partido.setGolesVisitante(2); // Sin cambio: no se registra
+            assertEquals(4, campeonato.getVersion(), "A score correction is a change of the championship");
+            long limite = System.currentTimeMillis() + 5000;
+            do {
+                TimeUnit.MILLISECONDS.sleep(50);
+                lineas = Files.readAllLines(diario, StandardCharsets.UTF_8);
+            } while (lineas.size() < 4 && System.currentTimeMillis() < limite);
+        }
+        assertEquals("[4,\"M\",\"P001\",0,2]", lineas.get(3).trim());
+
+        Files.deleteIfExists(archivo);
+        Files.write(diario, lineas, StandardCharsets.UTF_8);
+        try (DiarioCampeonato reabierto = DiarioCampeonato.abrir(dataManager, 0)) {
+            Campeonato campeonato = reabierto.getCampeonato();
+            assertEquals(4, campeonato.getVersion());
+            assertEquals(2, campeonato.buscarPartidoPorId("P001").getGolesVisitante());
+            assertEquals(3, campeonato.getPuntosEquipo("E002"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test diario - Los eventos reemplazados con los setters se registran y se reproducen")
+    void testEventosReemplazados_SeReproducen() throws IOException, InterruptedException {
+        List<String> lineas;
+        try (DiarioCampeonato abierto = DiarioCampeonato.abrir(dataManager, 0)) {
+            Campeonato campeonato = abierto.getCampeonato();
+            campeonato.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+            campeonato.registrarEquipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+            campeonato.registrarJugador("E001", "J001", "Jugador 1A", "Delantero", 10);
+            campeonato.registrarJugador("E002", "J003", "Jugador 1B", "Delantero", 9);
+            campeonato.crearPartido("P001", "E001", "E002", "Estadio", "Arbitro");
+            campeonato.registrarTarjeta("P001", "J001", "Amarilla", 10, "Reclamo");
+            Partido partido = campeonato.buscarPartidoPorId("P001");
+            partido.setTarjetas(List.of(new Tarjeta(partido.getEquipoVisitante().getJugadores().get(0), "Roja", 20, "Agresión")));
+            long limite = System.currentTimeMillis() + 5000;
+            do {
+                TimeUnit.MILLISECONDS.sleep(50);
+                lineas = Files.readAllLines(diario, StandardCharsets.UTF_8);
+            } while (lineas.size() < 7 && System.currentTimeMillis() < limite);
+        }
+        assertEquals("[7,\"R\",\"P001\",[[\"T\",\"J003\",\"Roja\",20,\"Agresión\"]]]", lineas.get(6).trim());
+
+        Files.deleteIfExists(archivo);
+        Files.write(diario, lineas, StandardCharsets.UTF_8);
+        try (DiarioCampeonato reabierto = DiarioCampeonato.abrir(dataManager, 0)) {
+            Campeonato campeonato = reabierto.getCampeonato();
+            assertEquals(7, campeonato.getVersion());
+            assertEquals(0, campeonato.calculaTarjetasJugador("J001"));
+            assertEquals(1, campeonato.calculaTarjetasJugador("J003"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test diario - Un error de escritura se informa y una instantánea reemplaza al diario")
+    void testError_InformaYRecupera() throws IOException, InterruptedException {
+        Path lleno = Path.of("/dev/full");
+        assumeTrue(Files.isWritable(lleno), "Needs a device that fails every write");
+        Files.createSymbolicLink(diario, lleno);
+        BlockingQueue<IOException> errores = new ArrayBlockingQueue<>(10);
+        try (DiarioCampeonato abierto = DiarioCampeonato.abrir(dataManager, 0)) {
+            abierto.alFallar(errores::offer);
+            Campeonato campeonato = abierto.getCampeonato();
+            campeonato.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+
+            assertNotNull(errores.poll(10, TimeUnit.SECONDS), "The write error should be reported");
+            long limite = System.currentTimeMillis() + 10000;
+            while (abierto.getError() != null && System.currentTimeMillis() < limite) {
+                TimeUnit.MILLISECONDS.sleep(50);
+            }
+            assertNull(abierto.getError(), "A snapshot should recover the journal");
+            assertFalse(Files.isSymbolicLink(diario), "The failed journal should be replaced");
+            assertEquals(1, dataManager.load().getEquipos().size(), "The snapshot should hold the unjournaled change");
+
+            campeonato.registrarEquipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+            limite = System.currentTimeMillis() + 5000;
+            while (Files.size(diario) == 0 && System.currentTimeMillis() < limite) {
+                TimeUnit.MILLISECONDS.sleep(50);
+            }
+            assertTrue(Files.isRegularFile(diario, LinkOption.NOFOLLOW_LINKS));
+            assertTrue(Files.size(diario) > 0, "Later changes should reach the new journal");
+            assertTrue(errores.isEmpty(), "Only the first error should be reported");
+        }
+        try (DiarioCampeonato reabierto = DiarioCampeonato.abrir(dataManager, 0)) {
+            assertEquals(2, reabierto.getCampeonato().getEquipos().size());
+        }
+    }
+}
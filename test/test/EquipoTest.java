@@ -242,10 +242,12 @@ class EquipoTest {
     @DisplayName("Test calculaTotalTarjetas - Equipo con tarjetas")
     void testCalculaTotalTarjetas_WithCards() {
         // Assume partido1 has a list of cards
-        partido1.getTarjetas().add(new Tarjeta(jugadorA1, "Amarilla", 10, "Falta")); // J A1
-        partido1.getTarjetas().add(new Tarjeta(jugadorB1, "Roja", 20, "Expulsion")); // J B1
-        partido2.getTarjetas().add(new Tarjeta(jugadorA2, "Amarilla", 30, "Mano")); // J A2
-        partido2.getTarjetas().add(new Tarjeta(jugadorA1, "Amarilla", 40, "Perder tiempo")); // J A1
+        partido1.setTarjetas(List.of(
+                new Tarjeta(jugadorA1, "Amarilla", 10, "Falta"), // J A1
+                new Tarjeta(jugadorB1, "Roja", 20, "Expulsion"))); // J B1
+        partido2.setTarjetas(List.of(
+                new Tarjeta(jugadorA2, "Amarilla", 30, "Mano"), // J A2
+                new Tarjeta(jugadorA1, "Amarilla", 40, "Perder tiempo"))); // J A1
 
         assertEquals(3, equipoA.calculaTotalTarjetas(), "Equipo A should have 3 total cards");
         assertEquals(1, equipoB.calculaTotalTarjetas(), "Equipo B should have 1 total card");
@@ -262,10 +264,12 @@ class EquipoTest {
     @Test
     @DisplayName("Test contarFaltas - Equipo con faltas")
     void testContarFaltas_WithFouls() {
-        partido1.getFaltas().add(new Falta(jugadorA1, 15, "Defensa", jugadorB1, null)); // JA1 commits
-        partido1.getFaltas().add(new Falta(jugadorA2, 25, "Medio", jugadorB2, null)); // JA2 commits
-        partido2.getFaltas().add(new Falta(jugadorA1, 35, "Ataque", new Jugador("JC1", "Jugador C1", "Defensa", 5, equipoC), null)); // JA1 commits
-        partido1.getFaltas().add(new Falta(jugadorB1, 5, "Centro", jugadorA1, null)); // JB1 commits
+        partido1.setFaltas(List.of(
+                new Falta(jugadorA1, 15, "Defensa", jugadorB1, null), // JA1 commits
+                new Falta(jugadorA2, 25, "Medio", jugadorB2, null), // JA2 commits
+                new Falta(jugadorB1, 5, "Centro", jugadorA1, null))); // JB1 commits
+        partido2.setFaltas(List.of(
+                new Falta(jugadorA1, 35, "Ataque", new Jugador("JC1", "Jugador C1", "Defensa", 5, equipoC), null))); // JA1 commits
 
         assertEquals(3, equipoA.contarFaltas(), "Equipo A should have 3 total fouls committed");
         assertEquals(1, equipoB.contarFaltas(), "Equipo B should have 1 total foul committed");
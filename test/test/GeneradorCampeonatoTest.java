@@ -0,0 +1,57 @@
+package test;
+
+import model.Campeonato;
+import model.Partido;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.GeneradorCampeonato;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneradorCampeonatoTest {
+
+    private static GeneradorCampeonato generador(int hilos) {
+        GeneradorCampeonato generador = new GeneradorCampeonato(42L);
+        generador.setEquipos(9);
+        generador.setJugadoresPorEquipo(11);
+        generador.setVueltas(2);
+        generador.setHilos(hilos);
+        return generador;
+    }
+
+    @Test
+    @DisplayName("Test generar - Todos contra todos: cada par de equipos se enfrenta una vez por vuelta")
+    void testGenerar_Fixture() {
+        Campeonato campeonato = generador(1).generar();
+
+        assertEquals(9, campeonato.getEquipos().size());
+        assertEquals(11, campeonato.getEquipos().get(0).getJugadores().size());
+        assertEquals(72, campeonato.getPartidos().size(), "9 teams, 2 rounds: 9*8/2*2 matches");
+        Set<String> cruces = new HashSet<>();
+        for (Partido partido : campeonato.getPartidos()) {
+            assertNotEquals(partido.getEquipoLocal(), partido.getEquipoVisitante());
+            assertTrue(cruces.add(partido.getEquipoLocal().getId() + "-" + partido.getEquipoVisitante().getId()),
+                    "Each ordered home/away pairing should appear once across both rounds");
+        }
+        assertTrue(campeonato.getVersion() > 72 * 20, "Default densities should produce roughly 30 events per match");
+    }
+
+    @Test
+    @DisplayName("Test generar - Misma semilla da el mismo campeonato con cualquier cantidad de hilos")
+    void testGenerar_Reproducible() {
+        Campeonato secuencial = generador(1).generar();
+        Campeonato paralelo = generador(4).generar();
+
+        assertEquals(secuencial.getVersion(), paralelo.getVersion());
+        List<Object[]> tablaSecuencial = secuencial.getTablaDePosiciones();
+        List<Object[]> tablaParalelo = paralelo.getTablaDePosiciones();
+        for (int i = 0; i < tablaSecuencial.size(); i++) {
+            assertArrayEquals(tablaSecuencial.get(i), tablaParalelo.get(i), "Standings row " + i + " should match");
+        }
+        assertEquals(secuencial.getTablaJugadores().size(), paralelo.getTablaJugadores().size());
+    }
+}
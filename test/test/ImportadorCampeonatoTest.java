@@ -0,0 +1,99 @@
+package test;
+
+import model.Campeonato;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.ImportadorCampeonato;
+import util.ImportadorCampeonato.Formato;
+import util.ImportadorCampeonato.Resultado;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportadorCampeonatoTest {
+
+    private static final String CSV = String.join("\n",
+            "tipo,campo1,campo2,campo3,campo4,campo5,campo6",
+            "E,E001,Equipo Alpha,Barrio Norte,Entrenador A",
+            "E,E002,\"Equipo \"\"Beta\"\"\",Barrio Sur,Entrenador B",
+            "J,E001,J001,Jugador 1A,Delantero,10",
+            "J,E002,J003,Jugador 1B,Delantero,9",
+            "J,E002,J004,Jugador 2B,Defensa,diez",
+            "P,P001,E001,E002,Estadio,Arbitro",
+            "",
+            "# eventos",
+            "G,P001,J001,10",
+            "G,P001,J999,12",
+            "T,P001,J003,Amarilla,20,\"Reclamo, insistente\"",
+            "F,P001,J003,J001,30,Centro,",
+            "X,P001");
+
+    @Test
+    @DisplayName("Test importar CSV - Aplica las filas válidas e informa cada fila con error")
+    void testImportar_CsvConErrores() throws IOException {
+        Campeonato campeonato = new Campeonato();
+        Resultado resultado = new ImportadorCampeonato(campeonato).importar(new StringReader(CSV), Formato.CSV);
+
+        assertEquals(11, resultado.getFilas(), "Header, blank and comment lines should be skipped");
+        assertEquals(8, resultado.getAplicadas());
+        assertEquals(3, resultado.getErrores());
+        assertEquals(6, resultado.getErroresGuardados().get(0).getLinea(), "Non-numeric shirt number");
+        assertEquals(11, resultado.getErroresGuardados().get(1).getLinea(), "Unknown player");
+        assertEquals(14, resultado.getErroresGuardados().get(2).getLinea(), "Unknown record type");
+
+        assertEquals("Equipo \"Beta\"", campeonato.buscarEquipoPorId("E002").getNombre());
+        assertEquals("Reclamo, insistente", campeonato.buscarPartidoPorId("P001").getTarjetas().get(0).getMotivo());
+        assertNull(campeonato.buscarPartidoPorId("P001").getFaltas().get(0).getTarjetaAsociada());
+        assertEquals(3, campeonato.getPuntosEquipo("E001"));
+    }
+
+    @Test
+    @DisplayName("Test importar JSONL - Los campos se leen por nombre")
+    void testImportar_Jsonl() throws IOException {
+        String jsonl = String.join("\n",
+                "{\"tipo\":\"E\",\"id\":\"E001\",\"nombre\":\"Alpha\",\"barrio\":\"Norte\",\"entrenador\":\"A\"}",
+                "{\"tipo\":\"E\",\"id\":\"E002\",\"nombre\":\"Beta\",\"barrio\":\"Sur\",\"entrenador\":\"B\"}",
+                "{\"tipo\":\"J\",\"equipo\":\"E001\",\"id\":\"J001\",\"nombre\":\"Uno\",\"posicion\":\"Delantero\",\"camiseta\":10}",
+                "{\"tipo\":\"P\",\"id\":\"P001\",\"local\":\"E001\",\"visitante\":\"E002\",\"estadio\":\"X\",\"arbitro\":\"Y\"}",
+                "{\"minuto\":10,\"jugador\":\"J001\",\"partido\":\"P001\",\"tipo\":\"G\"}",
+                "{\"tipo\":\"G\",\"partido\":\"P001\"");
+        Campeonato campeonato = new Campeonato();
+        Resultado resultado = new ImportadorCampeonato(campeonato).importar(new StringReader(jsonl), Formato.JSONL);
+
+        assertEquals(5, resultado.getAplicadas());
+        assertEquals(1, resultado.getErrores(), "Truncated last line should be reported");
+        assertEquals(1, campeonato.calculaGolesJugador("J001"));
+    }
+
+    @Test
+    @DisplayName("Test importar - El análisis en paralelo aplica las filas en el orden del archivo")
+    void testImportar_ParaleloMismoResultado() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        csv.append("E,E1,Uno,B,A\nE,E2,Dos,B,A\nJ,E1,J1,Uno,Delantero,9\nJ,E2,J2,Dos,Delantero,9\n");
+        for (int p = 0; p < 1500; p++) {
+            csv.append("P,P").append(p).append(",E1,E2,Estadio,Arbitro\n");
+            for (int g = 0; g < 4; g++) {
+                csv.append("G,P").append(p).append(",J").append(1 + (p + g) % 2).append(',').append(10 + g).append('\n');
+            }
+            // Un gol en el partido anterior: solo es válido si ese partido ya se creó
+            csv.append("G,P").append(p + 1).append(",J1,90\n");
+        }
+        Campeonato secuencial = new Campeonato();
+        ImportadorCampeonato uno = new ImportadorCampeonato(secuencial);
+        uno.setHilos(1);
+        Resultado esperado = uno.importar(new StringReader(csv.toString()), Formato.CSV);
+
+        Campeonato paralelo = new Campeonato();
+        ImportadorCampeonato varios = new ImportadorCampeonato(paralelo);
+        varios.setHilos(4);
+        Resultado resultado = varios.importar(new StringReader(csv.toString()), Formato.CSV);
+
+        assertEquals(esperado.getAplicadas(), resultado.getAplicadas());
+        assertEquals(1500, resultado.getErrores(), "Goals for matches not yet created should fail");
+        assertEquals(secuencial.getVersion(), paralelo.getVersion());
+        assertEquals(secuencial.calculaGolesJugador("J1"), paralelo.calculaGolesJugador("J1"));
+        assertTrue(resultado.getFilasPorSegundo() > 0);
+    }
+}
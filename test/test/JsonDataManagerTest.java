@@ -0,0 +1,242 @@
+package test;
+
+import model.Campeonato;
+import model.Equipo;
+import model.Jugador;
+import model.Partido;
+import model.ReglasSuspension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.GeneradorCampeonato;
+import util.JsonDataManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonDataManagerTest {
+
+    private Path archivo;
+    private Campeonato campeonato;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        archivo = Files.createTempFile("campeonato", ".json");
+        campeonato = new Campeonato();
+        campeonato.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+        campeonato.registrarEquipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+        Equipo alpha = campeonato.buscarEquipoPorId("E001");
+        Equipo beta = campeonato.buscarEquipoPorId("E002");
+        alpha.getJugadores().add(new Jugador("J001", "Jugador 1A", "Delantero", 10, alpha));
+        beta.getJugadores().add(new Jugador("J003", "Jugador 1B", "Delantero", 9, beta));
+        campeonato.crearPartido("P001", "E001", "E002", "Estadio", "Arbitro");
+        campeonato.registrarGol("P001", "J001", 10);
+        campeonato.registrarTarjeta("P001", "J003", "Amarilla", 20, "Reclamo");
+        campeonato.registrarFalta("P001", "J003", "J001", 30, "Centro", "Amarilla");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(archivo);
+    }
+
+    @Test
+    @DisplayName("Test save/load - Ida y vuelta conserva entidades, referencias y eventos")
+    void testSaveLoad_RoundTrip() {
+        JsonDataManager dataManager = new JsonDataManager(archivo.toString());
+        dataManager.save(campeonato);
+        verificarCargado(dataManager.load());
+    }
+
+    @Test
+    @DisplayName("Test save/load - El formato binario conserva entidades, referencias y eventos")
+    void testSaveLoad_Binario() throws IOException {
+        Path binario = Path.of(archivo + JsonDataManager.EXTENSION_BINARIA);
+        try {
+            JsonDataManager dataManager = new JsonDataManager(binario.toString());
+            assertTrue(dataManager.isBinario());
+            assertTrue(dataManager.save(campeonato));
+            assertTrue(Files.size(binario) < Files.size(guardarJson(false)), "Binary snapshot should be smaller than compact JSON");
+            verificarCargado(dataManager.load());
+        } finally {
+            Files.deleteIfExists(binario);
+        }
+    }
+
+    @Test
+    @DisplayName("Test save - Referencia a un equipo ajeno en binario falla con IOException")
+    void testSave_BinarioReferenciaAjena() throws IOException {
+        Path binario = Path.of(archivo + JsonDataManager.EXTENSION_BINARIA);
+        try {
+            Equipo ajeno = new Equipo();
+            Equipo alpha = campeonato.buscarEquipoPorId("E001");
+            alpha.getJugadores().add(new Jugador("J009", "Jugador Ajeno", "Defensa", 4, ajeno));
+            JsonDataManager dataManager = new JsonDataManager(binario.toString());
+            assertThrows(IOException.class, () -> dataManager.guardar(campeonato),
+                    "A reference outside the championship should surface as IOException");
+            assertFalse(dataManager.save(campeonato), "save should report the failure instead of throwing");
+        } finally {
+            Files.deleteIfExists(binario);
+        }
+    }
+
+    @Test
+    @DisplayName("Test convertir - De JSON a binario y de vuelta a JSON")
+    void testConvertir_IdaYVuelta() throws IOException {
+        Path binario = Path.of(archivo + JsonDataManager.EXTENSION_BINARIA);
+        Path json = Path.of(archivo + ".copia.json");
+        try {
+            guardarJson(true);
+            assertTrue(JsonDataManager.convertir(archivo.toString(), binario.toString()));
+            assertTrue(JsonDataManager.convertir(binario.toString(), json.toString()));
+            verificarCargado(new JsonDataManager(json.toString()).load());
+        } finally {
+            Files.deleteIfExists(binario);
+            Files.deleteIfExists(json);
+        }
+    }
+
+    @Test
+    @DisplayName("Test particionado - Tabla desde los resúmenes y particiones cargadas bajo demanda")
+    void testParticionado_CargaBajoDemanda() throws IOException {
+        GeneradorCampeonato generador = new GeneradorCampeonato(3L);
+        generador.setEquipos(8);
+        Campeonato original = generador.generar();
+        Path directorio = Path.of(archivo + JsonDataManager.EXTENSION_PARTICIONADA);
+        try {
+            JsonDataManager dataManager = new JsonDataManager(directorio.toString(), false);
+            dataManager.setPartidosPorParticion(10);
+            assertTrue(dataManager.isParticionado());
+            assertTrue(dataManager.save(original));
+
+            Campeonato cargado = dataManager.load();
+            int particiones = (original.getPartidos().size() + 9) / 10;
+            assertEquals(particiones, cargado.contarParticionesPendientes());
+            assertTableEquals(original.getTablaDePosiciones(), cargado.getTablaDePosiciones());
+            assertTableEquals(original.getTablaJugadores(), cargado.getTablaJugadores());
+            assertEquals(particiones, cargado.contarParticionesPendientes(), "Standings should not load any partition");
+
+            String idPartido = original.getPartidos().get(25).getId();
+            assertNotNull(cargado.buscarPartidoPorId(idPartido));
+            assertEquals(particiones - 1, cargado.contarParticionesPendientes(), "Lookup should load a single partition");
+            assertFalse(cargado.crearPartido(original.getPartidos().get(0).getId(), "E0", "E1", "Estadio", "Arbitro"),
+                    "Ids of unloaded matches should still be taken");
+            Jugador goleador = cargado.buscarPartidoPorId(idPartido).getEquipoLocal().getJugadores().get(0);
+            assertTrue(cargado.registrarGol(idPartido, goleador.getId(), 90));
+            dataManager.guardar(cargado);
+
+            Campeonato reabierto = new JsonDataManager(directorio.toString()).load();
+            assertTableEquals(cargado.getTablaDePosiciones(), reabierto.getTablaDePosiciones());
+            assertEquals(cargado.calculaGolesJugador(goleador.getId()), reabierto.calculaGolesJugador(goleador.getId()));
+            List<String> ids = new ArrayList<>();
+            reabierto.getPartidos().forEach(partido -> ids.add(partido.getId()));
+            List<String> esperados = new ArrayList<>();
+            original.getPartidos().forEach(partido -> esperados.add(partido.getId()));
+            assertEquals(esperados, ids, "Loading every partition should restore the original order");
+            assertEquals(0, reabierto.contarParticionesPendientes());
+        } finally {
+            try (Stream<Path> archivos = Files.walk(directorio)) {
+                archivos.sorted(Comparator.reverseOrder()).forEach(ruta -> ruta.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test particionado - Suspensiones en el orden del calendario, sin cargar otras particiones")
+    void testParticionado_Suspensiones() throws IOException {
+        Campeonato liga = new Campeonato();
+        liga.registrarEquipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+        liga.registrarEquipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+        liga.registrarJugador("E001", "J001", "Jugador 1A", "Delantero", 10);
+        liga.registrarJugador("E002", "J003", "Jugador 1B", "Delantero", 9);
+        for (int i = 1; i <= 4; i++) {
+            liga.crearPartido("P" + i, i % 2 == 1 ? "E001" : "E002", i % 2 == 1 ? "E002" : "E001", "Estadio", "Arbitro");
+        }
+        ReglasSuspension reglas = new ReglasSuspension(2, 1, 1);
+        liga.aplicarReglasSuspension(reglas);
+        // La amarilla de P3 se registra antes que la de P1: la segunda del calendario es la de P3
+        liga.registrarTarjeta("P3", "J001", "Amarilla", 10, "Reclamo");
+        liga.registrarTarjeta("P1", "J001", "Amarilla", 20, "Reclamo");
+        assertFalse(liga.estaSuspendido("J001", "P2"), "The first yellow in schedule order is P1's");
+        assertTrue(liga.estaSuspendido("J001", "P4"), "The second yellow (P3) bans the next match");
+        assertEquals(0, liga.getAmarillasAcumuladas("J001"));
+
+        Path json = Path.of(archivo + ".suspensiones.json");
+        Path directorio = Path.of(archivo + JsonDataManager.EXTENSION_PARTICIONADA);
+        try {
+            JsonDataManager dataManager = new JsonDataManager(json.toString());
+            assertTrue(dataManager.save(liga));
+            Campeonato recargado = dataManager.load();
+            recargado.aplicarReglasSuspension(reglas);
+            for (int i = 1; i <= 4; i++) {
+                assertEquals(liga.estaSuspendido("J001", "P" + i), recargado.estaSuspendido("J001", "P" + i),
+                        "Replay after reload should match the live result for P" + i);
+            }
+
+            JsonDataManager particionado = new JsonDataManager(directorio.toString());
+            particionado.setPartidosPorParticion(1);
+            assertTrue(particionado.save(liga));
+            Campeonato perezoso = new JsonDataManager(directorio.toString()).load();
+            perezoso.aplicarReglasSuspension(reglas);
+            assertEquals(4, perezoso.contarParticionesPendientes());
+            assertTrue(perezoso.estaSuspendido("J001", "P4"));
+            assertEquals(0, perezoso.getAmarillasAcumuladas("J001"));
+            assertEquals(3, perezoso.contarParticionesPendientes(), "Only the queried match should be loaded");
+            assertFalse(perezoso.estaSuspendido("J001", "P2"));
+            assertEquals(2, perezoso.getJugadoresHabilitados("P2").size());
+            assertEquals(2, perezoso.contarParticionesPendientes());
+            perezoso.registrarTarjeta("P2", "J003", "Roja", 30, "Agresión");
+            assertTrue(perezoso.estaSuspendido("J003", "P3"), "Live cards use the reserved schedule positions");
+        } finally {
+            Files.deleteIfExists(json);
+            if (Files.exists(directorio)) {
+                try (Stream<Path> archivos = Files.walk(directorio)) {
+                    archivos.sorted(Comparator.reverseOrder()).forEach(ruta -> ruta.toFile().delete());
+                }
+            }
+        }
+    }
+
+    private static void assertTableEquals(List<Object[]> esperada, List<Object[]> actual) {
+        assertEquals(esperada.size(), actual.size());
+        for (int i = 0; i < esperada.size(); i++) {
+            assertArrayEquals(esperada.get(i), actual.get(i), "Row " + i + " should match");
+        }
+    }
+
+    private Path guardarJson(boolean legible) {
+        new JsonDataManager(archivo.toString(), legible).save(campeonato);
+        return archivo;
+    }
+
+    private void verificarCargado(Campeonato cargado) {
+        assertEquals(campeonato.getVersion(), cargado.getVersion(), "Snapshot should keep the championship version");
+        assertEquals(2, cargado.getEquipos().size());
+        Partido partido = cargado.buscarPartidoPorId("P001");
+        assertNotNull(partido);
+        assertSame(cargado.buscarEquipoPorId("E001"), partido.getEquipoLocal(), "References should resolve to the loaded team");
+        assertSame(partido.getEquipoLocal(), partido.getGoles().get(0).getJugador().getEquipo());
+        assertEquals(1, partido.getGolesLocal());
+        assertEquals("Amarilla", partido.getFaltas().get(0).getTarjetaAsociada());
+        assertEquals(1, cargado.calculaGolesJugador("J001"));
+        assertEquals(1, cargado.calculaTarjetasJugador("J003"));
+        assertEquals(3, cargado.getPuntosEquipo("E001"));
+    }
+
+    @Test
+    @DisplayName("Test load - Archivo inexistente crea un campeonato vacío")
+    void testLoad_ArchivoInexistente() throws IOException {
+        Files.delete(archivo);
+        Campeonato cargado = new JsonDataManager(archivo.toString()).load();
+        assertTrue(cargado.getEquipos().isEmpty());
+        assertTrue(cargado.getPartidos().isEmpty());
+    }
+}
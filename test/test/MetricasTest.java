@@ -0,0 +1,71 @@
+package test;
+
+import model.Campeonato;
+import model.Metricas;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricasTest {
+
+    @Test
+    @DisplayName("Test métricas - Cuenta llamadas y errores (false) y se publica en JMX")
+    void testMetricas_LlamadasYErrores() throws Exception {
+        Campeonato campeonato = new Campeonato();
+        Metricas.Operacion operacion = Metricas.operacion("Campeonato.registrarEquipo");
+        long llamadas = operacion.getLlamadas();
+        long errores = operacion.getErrores();
+        assertFalse(Metricas.isActivas(), "Metrics are off by default");
+
+        Metricas.setActivas(true);
+        try {
+            assertTrue(campeonato.registrarEquipo("E001", "Alpha", "Norte", "A"));
+            assertFalse(campeonato.registrarEquipo("E001", "Alpha", "Norte", "A"), "Duplicate id");
+        } finally {
+            Metricas.setActivas(false);
+        }
+
+        assertEquals(llamadas + 2, operacion.getLlamadas());
+        assertEquals(errores + 1, operacion.getErrores(), "A false return should count as an error");
+        assertTrue(operacion.getMaxMicros() > 0);
+        assertTrue(campeonato.registrarEquipo("E002", "Beta", "Sur", "B"));
+        assertEquals(llamadas + 2, operacion.getLlamadas(), "Disabled metrics should not count calls");
+
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nombre = new ObjectName("campeonato:type=Operacion,name=" + ObjectName.quote("Campeonato.registrarEquipo"));
+        assertEquals(operacion.getLlamadas(), servidor.getAttribute(nombre, "Llamadas"));
+        assertTrue(servidor.isRegistered(new ObjectName("campeonato:type=Metricas")));
+    }
+
+    @Test
+    @DisplayName("Test métricas - Percentiles en el límite de su intervalo del histograma")
+    void testMetricas_Percentiles() {
+        Metricas.Operacion operacion = Metricas.operacion("MetricasTest.percentiles");
+        operacion.reiniciar();
+        // 99 llamadas de 1 ms y una de 100 ms
+        for (int i = 0; i < 99; i++) {
+            operacion.registrar(1_000_000, true);
+        }
+        operacion.registrar(100_000_000, false);
+
+        long limite = Metricas.Operacion.limiteSuperior(Metricas.Operacion.intervalo(1_000_000));
+        assertTrue(limite >= 1_000_000 && limite < 1_000_000 * 1.125, "The bucket bound is within the histogram error");
+        assertEquals(100, operacion.getLlamadas());
+        assertEquals(1, operacion.getErrores());
+        assertEquals(limite, operacion.percentilNanos(0.50), "p50 is the bound of the 1 ms bucket");
+        assertEquals(limite, operacion.percentilNanos(0.99), "p99 is the 99th of 100 calls");
+        assertEquals(100_000_000, operacion.percentilNanos(1.0), "The top bucket is capped by the exact max");
+        assertEquals(100_000.0, operacion.getMaxMicros());
+        assertEquals(1990.0, operacion.getMediaMicros());
+
+        assertFalse(Metricas.isActivas());
+        assertEquals(-1, operacion.iniciar(), "Disabled metrics should not read the clock");
+        operacion.terminar(operacion.iniciar(), true);
+        assertEquals(100, operacion.getLlamadas());
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 class PartidoTest {
@@ -176,9 +178,10 @@ class PartidoTest {
     void testCalcularFaltasEquipo_SuccessLocalTeam() {
         // Asegúrate de que los jugadores tengan sus equipos asociados para que getJugadorQueCometio().getEquipo() funcione.
         // Esto ya se hace en setUp, pero es una buena verificación conceptual.
-        partido.getFaltas().add(new Falta(jugadorLocal1, 10, "Defensa", jugadorVisitante1, null)); // Local commits
-        partido.getFaltas().add(new Falta(jugadorLocal2, 20, "Medio", jugadorVisitante2, null)); // Local commits
-        partido.getFaltas().add(new Falta(jugadorVisitante1, 30, "Ataque", jugadorLocal1, null)); // Visitor commits
+        partido.setFaltas(List.of(
+                new Falta(jugadorLocal1, 10, "Defensa", jugadorVisitante1, null), // Local commits
+                new Falta(jugadorLocal2, 20, "Medio", jugadorVisitante2, null), // Local commits
+                new Falta(jugadorVisitante1, 30, "Ataque", jugadorLocal1, null))); // Visitor commits
 
         assertEquals(2, partido.calcularFaltasEquipo(equipoLocal.getId()), "Local team should have 2 fouls");
     }
@@ -186,9 +189,10 @@ class PartidoTest {
     @Test
     @DisplayName("Test calcularFaltasEquipo - Exito para equipo visitante")
     void testCalcularFaltasEquipo_SuccessVisitorTeam() {
-        partido.getFaltas().add(new Falta(jugadorLocal1, 10, "Defensa", jugadorVisitante1, null)); // Local commits
-        partido.getFaltas().add(new Falta(jugadorVisitante1, 30, "Ataque", jugadorLocal1, null)); // Visitor commits
-        partido.getFaltas().add(new Falta(jugadorVisitante2, 40, "Centro", jugadorLocal2, null)); // Visitor commits
+        partido.setFaltas(List.of(
+                new Falta(jugadorLocal1, 10, "Defensa", jugadorVisitante1, null), // Local commits
+                new Falta(jugadorVisitante1, 30, "Ataque", jugadorLocal1, null), // Visitor commits
+                new Falta(jugadorVisitante2, 40, "Centro", jugadorLocal2, null))); // Visitor commits
 
         assertEquals(2, partido.calcularFaltasEquipo(equipoVisitante.getId()), "Visitor team should have 2 fouls");
     }
@@ -216,9 +220,10 @@ class PartidoTest {
     @Test
     @DisplayName("Test calcularTarjetasEquipo - Exito para equipo local")
     void testCalcularTarjetasEquipo_SuccessLocalTeam() {
-        partido.getTarjetas().add(new Tarjeta(jugadorLocal1, "Amarilla", 10, "Falta")); // Local gets card
-        partido.getTarjetas().add(new Tarjeta(jugadorLocal2, "Roja", 20, "Juego brusco")); // Local gets card
-        partido.getTarjetas().add(new Tarjeta(jugadorVisitante1, "Amarilla", 30, "Simulacion")); // Visitor gets card
+        partido.setTarjetas(List.of(
+                new Tarjeta(jugadorLocal1, "Amarilla", 10, "Falta"), // Local gets card
+                new Tarjeta(jugadorLocal2, "Roja", 20, "Juego brusco"), // Local gets card
+                new Tarjeta(jugadorVisitante1, "Amarilla", 30, "Simulacion"))); // Visitor gets card
 
         assertEquals(2, partido.calcularTarjetasEquipo(equipoLocal.getId()), "Local team should have 2 cards");
     }
@@ -226,13 +231,63 @@ class PartidoTest {
     @Test
     @DisplayName("Test calcularTarjetasEquipo - Exito para equipo visitante")
     void testCalcularTarjetasEquipo_SuccessVisitorTeam() {
-        partido.getTarjetas().add(new Tarjeta(jugadorLocal1, "Amarilla", 10, "Falta")); // Local gets card
-        partido.getTarjetas().add(new Tarjeta(jugadorVisitante1, "Amarilla", 30, "Simulacion")); // Visitor gets card
-        partido.getTarjetas().add(new Tarjeta(jugadorVisitante2, "Roja", 40, "Agresion")); // Visitor gets card
+        partido.setTarjetas(List.of(
+                new Tarjeta(jugadorLocal1, "Amarilla", 10, "Falta"), // Local gets card
+                new Tarjeta(jugadorVisitante1, "Amarilla", 30, "Simulacion"), // Visitor gets card
+                new Tarjeta(jugadorVisitante2, "Roja", 40, "Agresion"))); // Visitor gets card
 
         assertEquals(2, partido.calcularTarjetasEquipo(equipoVisitante.getId()), "Visitor team should have 2 cards");
     }
 
+    @Test
+    @DisplayName("Test eventos - Las listas conservan los datos de cada evento guardado por columnas")
+    void testEventos_VistasConservanDatos() {
+        partido.setTarjetas(List.of(
+                new Tarjeta(jugadorLocal1, "amarilla", 10, "Falta"),
+                new Tarjeta(jugadorVisitante1, "Roja", 30, "Agresion")));
+        partido.setFaltas(List.of(
+                new Falta(jugadorVisitante1, 29, "Centro", jugadorLocal1, "Roja"),
+                new Falta(jugadorLocal2, 50, "Centro", jugadorVisitante2, null)));
+
+        Tarjeta tarjeta = partido.getTarjetas().get(0);
+        assertSame(jugadorLocal1, tarjeta.getJugador());
+        assertEquals("amarilla", tarjeta.getTipo(), "Non-canonical card types should be kept verbatim");
+        assertEquals("Falta", tarjeta.getMotivo());
+        assertEquals("Roja", partido.getTarjetas().get(1).getTipo());
+        Falta falta = partido.getFaltas().get(1);
+        assertSame(jugadorVisitante2, falta.getJugadorAfectado());
+        assertEquals("Centro", falta.getZonaCampo());
+        assertNull(falta.getTarjetaAsociada());
+        assertEquals(1, partido.calcularFaltasEquipo(equipoVisitante.getId()));
+    }
+
+    @Test
+    @DisplayName("Test eventos - Las listas de eventos son de solo lectura")
+    void testEventos_VistasSoloLectura() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> partido.getGoles().add(new Gol(jugadorLocal1, 10)),
+                "Adding through the view would skip the score and the championship");
+        assertThrows(UnsupportedOperationException.class,
+                () -> partido.getTarjetas().add(new Tarjeta(jugadorLocal1, "Amarilla", 10, "Falta")));
+        assertThrows(UnsupportedOperationException.class,
+                () -> partido.getFaltas().add(new Falta(jugadorLocal1, 10, "Defensa", jugadorVisitante1, null)));
+        assertEquals(0, partido.getGolesLocal());
+        assertTrue(partido.getGoles().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test eventos - Cambiar un equipo del partido recalcula a qué lado pertenece cada evento")
+    void testEventos_CambioDeEquipo() {
+        Equipo otro = new Equipo("EO01", "Los Otros", "Zona Norte", "Coach Otro");
+        Jugador jugadorOtro = new Jugador("JO1", "Otro Jugador", "Defensa", 2, otro);
+        partido.setTarjetas(List.of(new Tarjeta(jugadorOtro, "Amarilla", 10, "Falta")));
+        assertEquals(0, partido.calcularTarjetasEquipo(equipoVisitante.getId()));
+
+        partido.setEquipoVisitante(otro);
+
+        assertEquals(1, partido.calcularTarjetasEquipo(otro.getId()), "The card should count once its team plays the match");
+    }
+
     @Test
     @DisplayName("Test calcularTarjetasEquipo - Equipo sin tarjetas")
     void testCalcularTarjetasEquipo_NoCards() {
@@ -413,4 +468,39 @@ class PartidoTest {
         Partido partido3 = new Partido("P002", equipoLocal, equipoVisitante, "Estadio", "Arbitro", LocalDateTime.now());
         assertNotEquals(partido.hashCode(), partido3.hashCode(), "Hash codes should not be equal for matches with different IDs");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test diccionarios - Sin lugar para otro jugador se rechaza el gol, y reemplazar los eventos lo libera")
+    void testDiccionarios_SinLugarParaJugadores() {
+        List<Gol> goles = new ArrayList<>();
+        for (int i = 0; i < Short.MAX_VALUE; i++) {
+            goles.add(new Gol(new Jugador("X" + i, "Jugador " + i, "Defensa", 1, null), 1));
+        }
+        partido.setGoles(goles);
+        assertFalse(partido.registrarGol(jugadorLocal1, 10), "A full player dictionary should reject the goal");
+        assertEquals(Short.MAX_VALUE, partido.getGoles().size());
+        assertEquals(0, partido.getGolesLocal());
+
+        goles.add(new Gol(jugadorLocal1, 10));
+        assertThrows(IllegalArgumentException.class, () -> partido.setGoles(goles));
+        assertEquals(Short.MAX_VALUE, partido.getGoles().size(), "A rejected replacement should leave the match unchanged");
+
+        partido.setGoles(List.of());
+        assertTrue(partido.registrarGol(jugadorLocal1, 10), "Replacing the events should free the dictionary");
+    }
+
+    @Test
+    @DisplayName("Test diccionarios - Los textos repetidos se reutilizan aunque haya muchos distintos")
+    void testDiccionarios_TextosRepetidos() {
+        List<Tarjeta> tarjetas = new ArrayList<>();
+        for (int i = 0; i < Short.MAX_VALUE - 1; i++) {
+            tarjetas.add(new Tarjeta(jugadorLocal1, "Amarilla", 1, "Motivo " + i));
+        }
+        partido.setTarjetas(tarjetas);
+        assertTrue(partido.registrarTarjetaPorIdJugador(jugadorVisitante1, "Amarilla", 10, "Motivo 30000"),
+                "A repeated text should be reused even past the first entries of the dictionary");
+        assertFalse(partido.registrarTarjetaPorIdJugador(jugadorVisitante1, "Amarilla", 11, "Motivo nuevo"),
+                "A full text dictionary should reject a new text");
+        assertEquals("Motivo 30000", partido.getTarjetas().get(Short.MAX_VALUE - 1).getMotivo());
+    }
+}
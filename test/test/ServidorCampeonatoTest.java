@@ -0,0 +1,126 @@
+package test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import model.Campeonato;
+import model.Equipo;
+import model.Jugador;
+import model.Partido;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.ServidorCampeonato;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServidorCampeonatoTest {
+
+    private Campeonato campeonato;
+    private ServidorCampeonato servidor;
+    private final HttpClient cliente = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        campeonato = new Campeonato();
+        Equipo equipoA = new Equipo("E001", "Equipo Alpha", "Barrio Norte", "Entrenador A");
+        Equipo equipoB = new Equipo("E002", "Equipo Beta", "Barrio Sur", "Entrenador B");
+        equipoA.getJugadores().add(new Jugador("J001", "Jugador 1A", "Delantero", 10, equipoA));
+        equipoB.getJugadores().add(new Jugador("J003", "Jugador 1B", "Delantero", 9, equipoB));
+        campeonato.getEquipos().add(equipoA);
+        campeonato.getEquipos().add(equipoB);
+        campeonato.getPartidos().add(new Partido("P001", equipoA, equipoB, "Estadio", "Arbitro", LocalDateTime.now()));
+
+        servidor = new ServidorCampeonato(campeonato, 0);
+        servidor.iniciar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        servidor.close();
+    }
+
+    private HttpResponse<String> get(String ruta, String etag) throws IOException, InterruptedException {
+        HttpRequest.Builder peticion = HttpRequest.newBuilder(URI.create("http://localhost:" + servidor.getPuerto() + ruta));
+        if (etag != null) {
+            peticion.header("If-None-Match", etag);
+        }
+        return cliente.send(peticion.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Test servidor - Publica la tabla, equipos, jugadores y partidos en JSON")
+    void testServidor_Rutas() throws Exception {
+        assertTrue(campeonato.registrarGol("P001", "J001", 10));
+
+        HttpResponse<String> tabla = get("/tabla", null);
+        assertEquals(200, tabla.statusCode());
+        assertTrue(tabla.body().startsWith("[{\"nombre\":\"Equipo Alpha\",\"puntos\":3"), tabla.body());
+
+        assertTrue(get("/equipos/E002", null).body().contains("\"perdidos\":1"));
+        assertTrue(get("/jugadores/J001", null).body().contains("\"goles\":1"));
+        assertTrue(get("/jugadores", null).body().contains("\"id\":\"J003\""));
+        assertTrue(get("/partidos/P001", null).body().contains("\"goles\":[{\"jugador\":\"J001\",\"minuto\":10}]"));
+
+        assertEquals(404, get("/jugadores/J999", null).statusCode(), "Unknown player");
+        assertEquals(404, get("/goles", null).statusCode(), "Unknown route");
+    }
+
+    @Test
+    @DisplayName("Test servidor - If-None-Match responde 304 hasta el siguiente evento")
+    void testServidor_ETag() throws Exception {
+        HttpResponse<String> primera = get("/tabla", null);
+        String etag = primera.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> repetida = get("/tabla", etag);
+        assertEquals(304, repetida.statusCode(), "Nothing changed, the cached response is still valid");
+
+        assertTrue(campeonato.registrarGol("P001", "J003", 20));
+        HttpResponse<String> nueva = get("/tabla", etag);
+        assertEquals(200, nueva.statusCode(), "A new event must invalidate the cached response");
+        assertNotEquals(etag, nueva.headers().firstValue("ETag").orElseThrow());
+        assertTrue(nueva.body().startsWith("[{\"nombre\":\"Equipo Beta\",\"puntos\":3"), nueva.body());
+    }
+
+    @Test
+    @DisplayName("Test servidor - Con eventos en curso, cada cuerpo es el de la versión de su ETag")
+    void testServidor_CuerpoDeLaVersion() throws Exception {
+        String etagInicial = get("/tabla", null).headers().firstValue("ETag").orElseThrow();
+        long base = version(etagInicial);
+        int goles = 300;
+        Thread goleador = new Thread(() -> {
+            for (int i = 0; i < goles; i++) {
+                campeonato.registrarGol("P001", i % 2 == 0 ? "J001" : "J003", 1 + i % 90);
+            }
+        });
+        goleador.start();
+        ObjectMapper lector = new ObjectMapper();
+        Map<String, String> cuerpos = new HashMap<>();
+        do {
+            HttpResponse<String> tabla = get("/tabla", null);
+            String etag = tabla.headers().firstValue("ETag").orElseThrow();
+            int golesEnTabla = 0;
+            for (JsonNode fila : lector.readTree(tabla.body())) {
+                golesEnTabla += fila.get("golesAFavor").asInt();
+            }
+            // Cada gol es un cambio, así que la versión cuenta los goles registrados
+            assertEquals(version(etag) - base, golesEnTabla, "The body should hold exactly the goals of its ETag's version");
+            String anterior = cuerpos.putIfAbsent(etag, tabla.body());
+            assertTrue(anterior == null || anterior.equals(tabla.body()), "One ETag should always serve the same body");
+        } while (goleador.isAlive());
+        goleador.join();
+    }
+
+    private static long version(String etag) {
+        return Long.parseLong(etag.substring(etag.lastIndexOf('-') + 1, etag.length() - 1));
+    }
+}